@@ -3,6 +3,8 @@ plugins {
 	id("org.springframework.boot") version "3.4.10"
 	id("io.spring.dependency-management") version "1.1.7"
 	jacoco
+	id("me.champeau.jmh") version "0.7.2"
+	id("org.graalvm.buildtools.native") version "0.10.6" apply false
 }
 
 group = "com.example"
@@ -15,11 +17,45 @@ java {
 	}
 }
 
+// 부하 테스트 하네스 (src/loadTest, ./gradlew loadTest)
+val loadTest: SourceSet by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output
+	runtimeClasspath += sourceSets.main.get().output
+}
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
 repositories {
 	mavenCentral()
 }
 
+// JVM AOT 처리 (./gradlew bootJar -Paot) - 빈 정의를 빌드 시 코드로 생성해 bootJar 에 포함
+// 실행 시 -Dspring.aot.enabled=true 로 사용하며, 조건부 빈은 fast-start 프로필 기준으로 고정된다.
+// 네이티브 이미지 (./gradlew nativeCompile -Pnative, GraalVM 21+) - AOT 처리 포함, build/native/nativeCompile/grouple
+if (project.hasProperty("native")) {
+	apply(plugin = "org.graalvm.buildtools.native")
+	configure<org.graalvm.buildtools.gradle.dsl.GraalVMExtension> {
+		binaries.named("main") {
+			imageName = "grouple"
+			// JfrConfig 의 요청 시 기록과 grouple.* 커스텀 이벤트
+			buildArgs.addAll("--enable-monitoring=jfr,heapdump", "-H:+ReportExceptionStackTraces")
+		}
+		// MySQL 드라이버, Hibernate 등 라이브러리 메타데이터 (graalvm-reachability-metadata)
+		metadataRepository {
+			enabled = true
+		}
+	}
+} else if (project.hasProperty("aot")) {
+	apply(plugin = "org.springframework.boot.aot")
+}
+if (project.hasProperty("aot") || project.hasProperty("native")) {
+	tasks.named<org.springframework.boot.gradle.tasks.aot.ProcessAot>("processAot") {
+		args("--spring.profiles.active=fast-start")
+	}
+}
+
 dependencies {
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-security")
 	implementation("org.springframework.boot:spring-boot-starter-thymeleaf")
@@ -31,6 +67,7 @@ dependencies {
 	implementation("io.github.cdimascio:java-dotenv:5.2.2")
     implementation("io.jsonwebtoken:jjwt-api:0.11.5")
 	implementation("com.mysql:mysql-connector-j")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.11.5")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.11.5")
@@ -45,6 +82,10 @@ dependencies {
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testImplementation("org.springframework.security:spring-security-test")
 	testImplementation("com.h2database:h2")
+
+	jmh("org.springframework:spring-test")
+
+	"loadTestImplementation"("org.hdrhistogram:HdrHistogram:2.2.2")
 }
 
 jacoco {
@@ -56,6 +97,73 @@ tasks.withType<Test> {
 	finalizedBy(tasks.jacocoTestReport)
 }
 
+// 마이크로벤치마크 (src/jmh/java, ./gradlew jmh)
+jmh {
+	jmhVersion = "1.37"
+	// 회귀 추적용 결과 파일 (build/results/jmh/results.json)
+	resultFormat = "JSON"
+	// 특정 벤치마크만 실행: ./gradlew jmh -Pjmh.includes=PageSerializationBenchmark
+	(project.findProperty("jmh.includes") as String?)?.let { includes.set(listOf(it)) }
+}
+
+// 로컬 DB 에 앱을 띄워 시나리오 혼합 부하 실행 후 기준선(load-test/baseline.json)과 비교
+// 옵션은 -PloadTest.<이름>=값 (vus, warmup, duration, mix, target, failOnRegression, updateBaseline ...)
+tasks.register<JavaExec>("loadTest") {
+	description = "Runs the REST API load test and compares it with the stored baseline."
+	group = "verification"
+	classpath = loadTest.runtimeClasspath
+	mainClass = "com.example.grouple.loadtest.LoadTestRunner"
+	workingDir = projectDir
+	systemProperties(project.properties
+		.filterKeys { it.startsWith("loadTest.") }
+		.mapValues { it.value.toString() })
+}
+
+// 성능 검증용 대용량 데이터 적재 (빈 스키마 대상, -Pdatagen.<이름>=값)
+tasks.register<JavaExec>("generateData") {
+	description = "Bulk-loads deterministic, production-sized data into the configured database."
+	group = "application"
+	classpath = loadTest.runtimeClasspath
+	mainClass = "com.example.grouple.loadtest.datagen.DataGenerator"
+	workingDir = projectDir
+	maxHeapSize = "2g"
+	systemProperties(project.properties
+		.filterKeys { it.startsWith("datagen.") }
+		.mapValues { it.value.toString() })
+}
+
+// 기동 모드별 첫 요청까지 걸리는 시간 측정 (jar / cds / lazy / aot, -Pstartup.<이름>=값)
+// aot 모드는 -Paot 로 만든 jar 가 필요 (./gradlew startupBenchmark -Paot)
+tasks.register<JavaExec>("startupBenchmark") {
+	description = "Measures time to first request for each startup mode (plain, CDS, lazy init, AOT + CDS)."
+	group = "verification"
+	dependsOn(tasks.bootJar)
+	classpath = loadTest.runtimeClasspath
+	mainClass = "com.example.grouple.loadtest.startup.StartupBenchmark"
+	workingDir = projectDir
+	systemProperties(project.properties
+		.filterKeys { it.startsWith("startup.") }
+		.mapValues { it.value.toString() })
+	doFirst {
+		if (!project.hasProperty("startup.jar")) {
+			systemProperty("startup.jar", tasks.bootJar.get().archiveFile.get().asFile.absolutePath)
+		}
+	}
+}
+
+// 네이티브 실행 파일 스모크 테스트 - 부하 테스트 시나리오를 짧게 실행해 오류가 없는지 확인하고
+// JVM(jar)과 기동 시간/RSS 비교 (./gradlew nativeCompile bootJar -Pnative 후 실행, -Pnative.<이름>=값)
+tasks.register<JavaExec>("nativeSmokeTest") {
+	description = "Runs the load-test scenarios against the native executable and compares it with the JVM."
+	group = "verification"
+	classpath = loadTest.runtimeClasspath
+	mainClass = "com.example.grouple.loadtest.NativeSmokeTest"
+	workingDir = projectDir
+	systemProperties(project.properties
+		.filterKeys { it.startsWith("native.") }
+		.mapValues { it.value.toString() })
+}
+
 tasks.jacocoTestReport {
 	dependsOn(tasks.test)
 	reports {
@@ -0,0 +1,96 @@
+package com.example.grouple;
+
+import com.example.grouple.entity.Document;
+import com.example.grouple.entity.Organization;
+import com.example.grouple.entity.Receipt;
+import com.example.grouple.entity.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Date;
+
+/**
+ * 벤치마크 공용 샘플 데이터 (DB 없이 엔티티를 직접 구성)
+ */
+public final class BenchmarkFixtures {
+
+    public static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private BenchmarkFixtures() {
+    }
+
+    // 운영과 같은 HS256 키 길이 (256bit)
+    public static SecretKey signingKey() {
+        byte[] bytes = new byte[32];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 7 + 1);
+        }
+        return Keys.hmacShaKeyFor(bytes);
+    }
+
+    // JwtProvider.generateToken 과 같은 클레임 구성
+    public static String token(SecretKey key, User user) {
+        return Jwts.builder()
+                .setSubject(user.getUsername())
+                .claim("id", user.getId())
+                .setIssuedAt(Date.from(NOW))
+                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000L))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    public static User user() {
+        User user = new User();
+        user.setId(7);
+        user.setUsername("bench-user");
+        user.setEmail("bench@example.com");
+        return user;
+    }
+
+    public static Organization organization(User owner) {
+        Organization org = new Organization();
+        org.setId(3);
+        org.setName("벤치마크 동아리");
+        org.setDescription("JMH 측정용 조직");
+        org.setCategory("study");
+        org.setImage("https://cdn.example.com/orgs/3.png");
+        org.setCode("ABC123");
+        org.setOwner(owner);
+        org.setCreatedAt(NOW);
+        org.setUpdatedAt(NOW);
+        return org;
+    }
+
+    public static Document document(Organization org, User user) {
+        Document doc = new Document();
+        doc.setId(11);
+        doc.setTitle("회의록");
+        doc.setDescription("정기 회의록");
+        doc.setName("minutes.pdf");
+        doc.setType("application/pdf");
+        doc.setSize(120_000);
+        doc.setOrganization(org);
+        doc.setUser(user);
+        doc.setCreatedAt(NOW);
+        doc.setUpdatedAt(NOW);
+        return doc;
+    }
+
+    public static Receipt receipt(Organization org, User user) {
+        Receipt receipt = new Receipt();
+        receipt.setId(21);
+        receipt.setType("EXPENSE");
+        receipt.setAmount(45_000);
+        receipt.setCategory("food");
+        receipt.setDescription("회식");
+        receipt.setDate(LocalDate.of(2026, 1, 1));
+        receipt.setImage("https://cdn.example.com/receipts/21.png");
+        receipt.setOrganization(org);
+        receipt.setUser(user);
+        return receipt;
+    }
+}
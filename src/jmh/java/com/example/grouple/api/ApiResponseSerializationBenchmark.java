@@ -0,0 +1,74 @@
+package com.example.grouple.api;
+
+import com.example.grouple.BenchmarkFixtures;
+import com.example.grouple.dto.organization.response.OrgListResponse;
+import com.example.grouple.entity.Organization;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiResponse 봉투 JSON 직렬화 비용 (단건 / 20건 목록 / 오류)
+ * 매퍼 설정은 Spring Boot 기본값(ISO-8601 날짜)에 맞춘다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    private ObjectMapper mapper;
+    private ApiResponse<OrgListResponse> single;
+    private ApiResponse<PageResponse<OrgListResponse>> list;
+    private ApiResponse<Object> error;
+
+    @Setup
+    public void setUp() {
+        mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        Organization organization = BenchmarkFixtures.organization(BenchmarkFixtures.user());
+        OrgListResponse item = OrgListResponse.from(organization);
+        List<OrgListResponse> items = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            items.add(item);
+        }
+        single = ApiResponse.success(item);
+        list = ApiResponse.success(PageResponse.of(new PageImpl<>(items, PageRequest.of(0, 20), 200)));
+        error = ApiResponse.error(404, "Organization not found");
+    }
+
+    @Benchmark
+    public byte[] single() throws Exception {
+        return mapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] list() throws Exception {
+        return mapper.writeValueAsBytes(list);
+    }
+
+    @Benchmark
+    public byte[] error() throws Exception {
+        return mapper.writeValueAsBytes(error);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.grouple.api;
+
+import com.example.grouple.dto.announcement.response.AnnouncementCreateResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 응답 직렬화 비용: PageImpl 그대로(이전) vs PageResponse(이후)
+ * 페이지당 바이트 수는 Setup 에서 한 번 계산해 출력한다.
+ * ./gradlew jmh -Pjmh.includes=PageSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    @Param({"10", "50"})
+    public int pageSize;
+
+    private ObjectMapper mapper;
+    private ApiResponse<Page<AnnouncementCreateResponse>> legacy;
+    private ApiResponse<PageResponse<AnnouncementCreateResponse>> envelope;
+
+    @Setup
+    public void setUp() throws Exception {
+        mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        List<AnnouncementCreateResponse> items = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            items.add(AnnouncementCreateResponse.builder()
+                    .id(i)
+                    .title("announcement " + i)
+                    .description("description of announcement " + i)
+                    .createdAt(Instant.parse("2026-01-01T00:00:00Z").plusSeconds(i))
+                    .star(i % 3 == 0)
+                    .userId(7)
+                    .organizationId(3)
+                    .build());
+        }
+        Page<AnnouncementCreateResponse> page = new PageImpl<>(items,
+                PageRequest.of(2, pageSize, Sort.by(Sort.Direction.DESC, "createdAt")), pageSize * 20L);
+        legacy = ApiResponse.success(page);
+        envelope = ApiResponse.success(PageResponse.of(page));
+
+        System.out.printf("%n# bytes per page (size=%d): PageImpl=%d, PageResponse=%d%n",
+                pageSize, mapper.writeValueAsBytes(legacy).length, mapper.writeValueAsBytes(envelope).length);
+    }
+
+    @Benchmark
+    public byte[] pageImpl() throws Exception {
+        return mapper.writeValueAsBytes(legacy);
+    }
+
+    @Benchmark
+    public byte[] pageResponse() throws Exception {
+        return mapper.writeValueAsBytes(envelope);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.grouple.config;
+
+import com.example.grouple.api.ApiResponse;
+import com.example.grouple.common.ErrorCode;
+import com.example.grouple.common.NotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.persistence.EntityNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 404 오류 경로 처리량: 예외 생성/전파 + GlobalExceptionHandler + JSON 직렬화
+ * - legacy    : 스택 트레이스를 가진 EntityNotFoundException + 매번 새 ApiResponse (변경 전 방식)
+ * - domain    : 스택 없는 NotFoundException(ErrorCode) + 미리 만든 응답
+ * - domainDetail : 스택 없음, 메시지가 달라 응답은 새로 생성
+ * depth 는 예외가 던져지는 지점의 호출 깊이 (Spring MVC + 필터 체인은 100 프레임 이상)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    @Param({"10", "150"})
+    public int depth;
+
+    private GlobalExceptionHandler handler;
+    private ObjectMapper mapper;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler();
+        mapper = JsonMapper.builder().findAndAddModules().build();
+    }
+
+    @Benchmark
+    public byte[] legacy() throws Exception {
+        try {
+            throwAt(depth, () -> new EntityNotFoundException("Document not found"));
+            return null;
+        } catch (EntityNotFoundException e) {
+            ResponseEntity<ApiResponse<Void>> response = ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(HttpStatus.NOT_FOUND.value(), e.getMessage()));
+            return mapper.writeValueAsBytes(response.getBody());
+        }
+    }
+
+    @Benchmark
+    public byte[] domain() throws Exception {
+        try {
+            throwAt(depth, () -> new NotFoundException(ErrorCode.DOCUMENT_NOT_FOUND));
+            return null;
+        } catch (NotFoundException e) {
+            return mapper.writeValueAsBytes(handler.handleNotFound(e).getBody());
+        }
+    }
+
+    @Benchmark
+    public byte[] domainDetail() throws Exception {
+        try {
+            throwAt(depth, () -> new NotFoundException("해당 조직에 속하지 않는 항목입니다."));
+            return null;
+        } catch (NotFoundException e) {
+            return mapper.writeValueAsBytes(handler.handleNotFound(e).getBody());
+        }
+    }
+
+    private interface ExceptionFactory {
+        RuntimeException create();
+    }
+
+    // 인라인되지 않도록 재귀로 실제 프레임을 쌓는다
+    private static void throwAt(int remaining, ExceptionFactory factory) {
+        if (remaining <= 0) {
+            throw factory.create();
+        }
+        throwAt(remaining - 1, factory);
+    }
+}
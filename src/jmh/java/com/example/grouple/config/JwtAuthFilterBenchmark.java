@@ -0,0 +1,74 @@
+package com.example.grouple.config;
+
+import com.example.grouple.BenchmarkFixtures;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증이 필요한 모든 요청이 거치는 JwtAuthFilter 비용
+ * - validToken   : Bearer 토큰 파싱 + SecurityContext 설정
+ * - invalidToken : 서명 불일치로 401 응답 작성
+ * 공개 경로 매처(MvcRequestMatcher)는 서블릿 컨텍스트가 필요하므로 제외한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthFilterBenchmark {
+
+    private static final FilterChain NOOP_CHAIN = (req, res) -> { };
+
+    private SecurityConfig.JwtAuthFilter filter;
+    private String validHeader;
+    private String invalidHeader;
+
+    @Setup
+    public void setUp() {
+        SecretKey key = BenchmarkFixtures.signingKey();
+        filter = new SecurityConfig.JwtAuthFilter(key);
+        String token = BenchmarkFixtures.token(key, BenchmarkFixtures.user());
+        validHeader = "Bearer " + token;
+        // 마지막 서명 문자를 바꿔 검증 실패 유도
+        char last = token.charAt(token.length() - 1);
+        invalidHeader = "Bearer " + token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+    }
+
+    @Benchmark
+    public Object validToken() throws Exception {
+        return filter(validHeader).getStatus();
+    }
+
+    @Benchmark
+    public Object invalidToken() throws Exception {
+        return filter(invalidHeader).getStatus();
+    }
+
+    private MockHttpServletResponse filter(String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/organizations/3/documents");
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, NOOP_CHAIN);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
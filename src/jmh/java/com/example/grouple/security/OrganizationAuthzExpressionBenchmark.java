@@ -0,0 +1,83 @@
+package com.example.grouple.security;
+
+import com.example.grouple.repository.OrganizationRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 @PreAuthorize 에 쓰이는 @organizationAuthz SpEL 평가 비용
+ * 저장소는 항상 true 를 돌려주는 프록시로 대체해 DB 왕복을 제외하고 측정한다.
+ * - cachedExpression  : 파싱된 식 재사용 (Spring Security 의 실제 동작)
+ * - parseAndEvaluate  : 매번 파싱
+ * - directCall        : SpEL 없이 같은 메서드 호출 (기준값)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrganizationAuthzExpressionBenchmark {
+
+    private static final String EXPRESSION =
+            "@organizationAuthz.canReadOrg(#orgId) || @organizationAuthz.canManageOrg(#orgId)";
+
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private OrganizationAuthz authz;
+    private Expression expression;
+    private StandardEvaluationContext context;
+
+    @Setup
+    public void setUp() {
+        OrganizationRepository repository = (OrganizationRepository) Proxy.newProxyInstance(
+                OrganizationRepository.class.getClassLoader(),
+                new Class<?>[]{OrganizationRepository.class},
+                (proxy, method, args) -> method.getName().startsWith("exists") ? Boolean.TRUE : null);
+        authz = new OrganizationAuthz(repository);
+        expression = parser.parseExpression(EXPRESSION);
+        context = new StandardEvaluationContext();
+        context.setBeanResolver((ctx, beanName) -> authz);
+        context.setVariable("orgId", 3);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new AuthPrincipal(7, "bench-user"), null, List.of()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Boolean cachedExpression() {
+        return expression.getValue(context, Boolean.class);
+    }
+
+    @Benchmark
+    public Boolean parseAndEvaluate() {
+        return parser.parseExpression(EXPRESSION).getValue(context, Boolean.class);
+    }
+
+    @Benchmark
+    public boolean directCall() {
+        return authz.canReadOrg(3) || authz.canManageOrg(3);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.grouple.service;
+
+import com.example.grouple.BenchmarkFixtures;
+import com.example.grouple.dto.document.response.DocumentReadDetailResponse;
+import com.example.grouple.dto.organization.response.OrgListResponse;
+import com.example.grouple.dto.receipt.response.ReceiptDetailResponse;
+import com.example.grouple.entity.Document;
+import com.example.grouple.entity.Organization;
+import com.example.grouple.entity.Receipt;
+import com.example.grouple.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록/상세 응답에서 엔티티 -> DTO 변환 비용 (건당)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private DocumentService documentService;
+    private Organization organization;
+    private Document document;
+    private Receipt receipt;
+
+    @Setup
+    public void setUp() {
+        // toResponse 는 저장소를 사용하지 않는다
+        documentService = new DocumentService(null, null, null, null);
+        User user = BenchmarkFixtures.user();
+        organization = BenchmarkFixtures.organization(user);
+        document = BenchmarkFixtures.document(organization, user);
+        receipt = BenchmarkFixtures.receipt(organization, user);
+    }
+
+    @Benchmark
+    public OrgListResponse orgListResponse() {
+        return OrgListResponse.from(organization);
+    }
+
+    @Benchmark
+    public DocumentReadDetailResponse documentResponse() {
+        return documentService.toResponse(document);
+    }
+
+    @Benchmark
+    public ReceiptDetailResponse receiptDetailResponse() {
+        return ReceiptDetailResponse.from(receipt);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.grouple.service;
+
+import com.example.grouple.BenchmarkFixtures;
+import com.example.grouple.entity.User;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인/토큰 재발급 경로의 JWT 생성, 파싱 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtProviderBenchmark {
+
+    private JwtProvider jwtProvider;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider(BenchmarkFixtures.signingKey());
+        user = BenchmarkFixtures.user();
+        token = jwtProvider.generateToken(user, 3_600_000L);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtProvider.generateToken(user, 3_600_000L);
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtProvider.parseClaims(token);
+    }
+}
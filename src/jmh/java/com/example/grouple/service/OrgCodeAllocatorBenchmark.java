@@ -0,0 +1,64 @@
+package com.example.grouple.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조직 코드 발급 처리량 (블록 크기별, 단일/경합 스레드)
+ * 블록 예약 한 번에 DB 왕복 2ms 를 가정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class OrgCodeAllocatorBenchmark {
+
+    private static final long RESERVE_LATENCY_MILLIS = 2;
+
+    @Param({"1", "64", "1024"})
+    public int blockSize;
+
+    private OrgCodeAllocator allocator;
+
+    // 반복마다 카운터를 새로 시작 (코드 공간 소진 방지)
+    @Setup(Level.Iteration)
+    public void setUp() {
+        AtomicLong next = new AtomicLong();
+        allocator = new OrgCodeAllocator(size -> {
+            try {
+                Thread.sleep(RESERVE_LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return next.getAndAdd(size);
+        }, blockSize);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String singleThread() {
+        return allocator.next();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String contended() {
+        return allocator.next();
+    }
+}
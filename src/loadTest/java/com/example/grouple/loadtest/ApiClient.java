@@ -0,0 +1,126 @@
+package com.example.grouple.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트용 HTTP 클라이언트
+ * 요청 본문은 통합 테스트와 같은 요청 DTO 를 그대로 직렬화해서 보낸다.
+ * metrics 가 있으면 엔드포인트(경로 템플릿) 단위로 지연 시간을 기록한다.
+ */
+final class ApiClient {
+
+    static final ObjectMapper JSON = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    record Response(int status, JsonNode body) {
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+
+        JsonNode data() {
+            return body.path("data");
+        }
+    }
+
+    private final HttpClient http;
+    private final URI base;
+    private final EndpointMetrics metrics;
+
+    ApiClient(URI base, EndpointMetrics metrics) {
+        this.base = base;
+        this.metrics = metrics;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * @param endpoint 집계 키 (예: "GET /organizations/{orgId}/receipts")
+     * @param path     실제 경로 (쿼리 포함)
+     */
+    Response get(String endpoint, String path, String token) {
+        return send(endpoint, request(path, token).GET());
+    }
+
+    Response post(String endpoint, String path, String token, Object body) {
+        return send(endpoint, request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(serialize(body))));
+    }
+
+    /**
+     * 성공 응답이 아니면 예외 (시드 단계처럼 실패하면 진행할 수 없는 경우)
+     */
+    static Response require(Response response, String what) {
+        if (!response.ok()) {
+            throw new IllegalStateException(what + " failed: HTTP " + response.status() + " " + response.body());
+        }
+        return response;
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(base.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private Response send(String endpoint, HttpRequest.Builder builder) {
+        long start = System.nanoTime();
+        int status;
+        byte[] body;
+        try {
+            HttpResponse<byte[]> response = http.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            status = response.statusCode();
+            body = response.body();
+        } catch (IOException e) {
+            status = 0; // 연결 실패/타임아웃은 오류로 집계
+            body = new byte[0];
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = 0;
+            body = new byte[0];
+        }
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        if (metrics != null) {
+            metrics.record(endpoint, elapsedMicros, status >= 200 && status < 400);
+        }
+        return new Response(status, parse(body));
+    }
+
+    private static byte[] serialize(Object body) {
+        try {
+            return JSON.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("cannot serialize request body", e);
+        }
+    }
+
+    private static JsonNode parse(byte[] body) {
+        if (body.length == 0) {
+            return JSON.missingNode();
+        }
+        try {
+            return JSON.readTree(body);
+        } catch (IOException e) {
+            return JSON.missingNode();
+        }
+    }
+}
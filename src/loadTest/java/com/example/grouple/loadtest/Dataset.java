@@ -0,0 +1,19 @@
+package com.example.grouple.loadtest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 시드 단계에서 만든 사용자/조직 정보 (부하 단계에서 요청 대상 선택에 사용)
+ *
+ * @param calendarStart 일정이 분포된 첫 달의 1일
+ * @param calendarMonths 일정이 분포된 개월 수
+ */
+record Dataset(List<Org> orgs, List<Credential> applicants, LocalDate calendarStart, int calendarMonths) {
+
+    record Credential(String username, String password, String token) {
+    }
+
+    record Org(Integer id, Credential owner, List<Credential> members, int announcements, int receipts) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.grouple.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 지연 시간(마이크로초) 히스토그램과 오류 수
+ * 워밍업 구간은 reset() 으로 버린다.
+ */
+final class EndpointMetrics {
+
+    record Snapshot(Histogram histogram, long errors) {
+    }
+
+    private static final class Entry {
+        final Recorder recorder = new Recorder(3);
+        final LongAdder errors = new LongAdder();
+        Histogram accumulated = new Histogram(3);
+    }
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long micros, boolean success) {
+        Entry entry = entries.computeIfAbsent(endpoint, k -> new Entry());
+        entry.recorder.recordValue(Math.max(1, micros));
+        if (!success) {
+            entry.errors.increment();
+        }
+    }
+
+    void reset() {
+        for (Entry entry : entries.values()) {
+            entry.recorder.getIntervalHistogram();
+            entry.errors.reset();
+            entry.accumulated = new Histogram(3);
+        }
+    }
+
+    // 측정 구간 전체 (이름순)
+    Map<String, Snapshot> snapshot() {
+        Map<String, Snapshot> result = new TreeMap<>();
+        entries.forEach((endpoint, entry) -> {
+            entry.accumulated.add(entry.recorder.getIntervalHistogram());
+            result.put(endpoint, new Snapshot(entry.accumulated.copy(), entry.errors.sum()));
+        });
+        return result;
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.grouple.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 닫힌 모델 부하 발생기
+ * 가상 사용자마다 스레드 하나가 가중치에 따라 시나리오를 골라 쉬지 않고 실행한다.
+ * 워밍업 구간의 기록은 버리고 측정 구간만 집계한다.
+ */
+final class LoadDriver {
+
+    private final ApiClient client;
+    private final EndpointMetrics metrics;
+    private final Dataset dataset;
+    private final LoadTestConfig config;
+    private final Scenario[] scenarios;
+    private final int[] cumulativeWeights;
+    private final Map<Scenario, LongAdder> completed = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, LongAdder> failed = new EnumMap<>(Scenario.class);
+    private volatile boolean running = true;
+    private Map<String, EndpointMetrics.Snapshot> histograms = Map.of();
+
+    LoadDriver(ApiClient client, EndpointMetrics metrics, Dataset dataset, LoadTestConfig config) {
+        this.client = client;
+        this.metrics = metrics;
+        this.dataset = dataset;
+        this.config = config;
+        this.scenarios = config.mix().keySet().toArray(new Scenario[0]);
+        this.cumulativeWeights = new int[scenarios.length];
+        int sum = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            sum += config.mix().get(scenarios[i]);
+            cumulativeWeights[i] = sum;
+            completed.put(scenarios[i], new LongAdder());
+            failed.put(scenarios[i], new LongAdder());
+        }
+    }
+
+    LoadTestResult run(String target) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(config.virtualUsers());
+        CountDownLatch done = new CountDownLatch(config.virtualUsers());
+        AtomicInteger joinCursor = new AtomicInteger();
+        for (int i = 0; i < config.virtualUsers(); i++) {
+            VirtualUser user = new VirtualUser(i, client, dataset, config.seed(), joinCursor);
+            pool.execute(() -> {
+                try {
+                    loop(user);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        Thread.sleep(config.warmup().toMillis());
+        metrics.reset();
+        completed.values().forEach(LongAdder::reset);
+        failed.values().forEach(LongAdder::reset);
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+
+        Thread.sleep(config.duration().toMillis());
+        histograms = metrics.snapshot();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        running = false;
+        done.await(30, TimeUnit.SECONDS);
+        pool.shutdownNow();
+
+        return toResult(startedAt, target, seconds, histograms);
+    }
+
+    // 측정 구간의 엔드포인트별 히스토그램 (run 이후)
+    Map<String, EndpointMetrics.Snapshot> histograms() {
+        return histograms;
+    }
+
+    private void loop(VirtualUser user) {
+        while (running) {
+            Scenario scenario = pick(user.random());
+            boolean ok;
+            try {
+                ok = scenario.run(user);
+            } catch (RuntimeException e) {
+                ok = false;
+            }
+            (ok ? completed : failed).get(scenario).increment();
+        }
+    }
+
+    private Scenario pick(Random random) {
+        int r = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (r < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+    private LoadTestResult toResult(Instant startedAt, String target, double seconds,
+                                    Map<String, EndpointMetrics.Snapshot> snapshot) {
+        List<LoadTestResult.Endpoint> endpoints = new ArrayList<>();
+        long total = 0;
+        for (Map.Entry<String, EndpointMetrics.Snapshot> entry : snapshot.entrySet()) {
+            Histogram h = entry.getValue().histogram();
+            total += h.getTotalCount();
+            endpoints.add(new LoadTestResult.Endpoint(entry.getKey(), h.getTotalCount(), entry.getValue().errors(),
+                    round(h.getTotalCount() / seconds),
+                    millis(h.getMean()),
+                    millis(h.getValueAtPercentile(50)),
+                    millis(h.getValueAtPercentile(90)),
+                    millis(h.getValueAtPercentile(99)),
+                    millis(h.getValueAtPercentile(99.9)),
+                    millis(h.getMaxValue())));
+        }
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        config.mix().forEach((s, w) -> mix.put(s.key(), w));
+        Map<String, LoadTestResult.ScenarioCount> scenarioCounts = new LinkedHashMap<>();
+        for (Scenario s : scenarios) {
+            scenarioCounts.put(s.key(), new LoadTestResult.ScenarioCount(completed.get(s).sum(), failed.get(s).sum()));
+        }
+        return new LoadTestResult(startedAt, target, config.virtualUsers(), round(seconds), mix, scenarioCounts,
+                round(total / seconds), endpoints);
+    }
+
+    private static double millis(double micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
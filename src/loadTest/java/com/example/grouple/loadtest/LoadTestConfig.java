@@ -0,0 +1,86 @@
+package com.example.grouple.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadTest.*, Gradle 에서는 -PloadTest.* 로 전달)
+ *
+ * @param target           대상 서버 (null 이면 애플리케이션을 로컬에서 직접 기동)
+ * @param virtualUsers     동시 가상 사용자 수 (닫힌 모델: 응답을 받으면 바로 다음 요청)
+ * @param seed             시드 데이터/시나리오 선택용 난수 시드 (같은 값이면 같은 요청 순서)
+ * @param tolerance        기준선 대비 허용 변화율 (0.10 = 10%)
+ */
+public record LoadTestConfig(
+        URI target,
+        int virtualUsers,
+        Duration warmup,
+        Duration duration,
+        Map<Scenario, Integer> mix,
+        long seed,
+        int seedThreads,
+        int orgs,
+        int membersPerOrg,
+        int applicants,
+        int announcementsPerOrg,
+        int receiptsPerOrg,
+        int schedulesPerOrg,
+        Path reportDir,
+        Path baseline,
+        double tolerance,
+        boolean failOnRegression,
+        boolean updateBaseline
+) {
+
+    static final String DEFAULT_MIX = "login:10,announcements:30,ledger:25,calendar:25,join:10";
+
+    public static LoadTestConfig fromSystemProperties() {
+        String target = prop("target", "");
+        return new LoadTestConfig(
+                target.isBlank() ? null : URI.create(target),
+                Integer.parseInt(prop("vus", "32")),
+                Duration.parse(prop("warmup", "PT15S")),
+                Duration.parse(prop("duration", "PT60S")),
+                parseMix(prop("mix", DEFAULT_MIX)),
+                Long.parseLong(prop("seed", "42")),
+                Integer.parseInt(prop("seedThreads", "8")),
+                Integer.parseInt(prop("orgs", "20")),
+                Integer.parseInt(prop("membersPerOrg", "30")),
+                Integer.parseInt(prop("applicants", "200")),
+                Integer.parseInt(prop("announcementsPerOrg", "100")),
+                Integer.parseInt(prop("receiptsPerOrg", "300")),
+                Integer.parseInt(prop("schedulesPerOrg", "60")),
+                Path.of(prop("reportDir", "build/reports/load-test")),
+                Path.of(prop("baseline", "load-test/baseline.json")),
+                Double.parseDouble(prop("tolerance", "0.10")),
+                Boolean.parseBoolean(prop("failOnRegression", "false")),
+                Boolean.parseBoolean(prop("updateBaseline", "false"))
+        );
+    }
+
+    // "login:10,ledger:25" → 시나리오별 가중치
+    static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (String part : value.split(",")) {
+            String[] kv = part.trim().split(":");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("invalid mix entry: " + part);
+            }
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight > 0) {
+                mix.put(Scenario.byKey(kv[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("mix must contain at least one scenario");
+        }
+        return mix;
+    }
+
+    private static String prop(String key, String defaultValue) {
+        return System.getProperty("loadTest." + key, defaultValue);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.grouple.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 결과 파일 작성과 기준선 비교
+ * - result.json            : 엔드포인트별 처리량/백분위
+ * - histograms/*.hgrm      : HdrHistogram 백분위 분포 (ms, HistogramLogAnalyzer 등으로 시각화)
+ * - comparison.md          : 기준선 대비 처리량/p99 변화
+ */
+final class LoadTestReport {
+
+    private final LoadTestConfig config;
+
+    LoadTestReport(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * @return 허용 범위를 넘는 회귀가 있으면 true
+     */
+    boolean write(LoadTestResult result, Map<String, EndpointMetrics.Snapshot> histograms) throws IOException {
+        Path dir = config.reportDir();
+        Files.createDirectories(dir.resolve("histograms"));
+        Path resultFile = dir.resolve("result.json");
+        ApiClient.JSON.writerWithDefaultPrettyPrinter().writeValue(resultFile.toFile(), result);
+
+        for (Map.Entry<String, EndpointMetrics.Snapshot> entry : histograms.entrySet()) {
+            Path file = dir.resolve("histograms").resolve(slug(entry.getKey()) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+                Histogram h = entry.getValue().histogram();
+                h.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+
+        boolean regressed = false;
+        StringBuilder md = new StringBuilder("# Load test comparison\n\n");
+        if (Files.exists(config.baseline())) {
+            LoadTestResult baseline = ApiClient.JSON.readValue(config.baseline().toFile(), LoadTestResult.class);
+            md.append("baseline: `").append(config.baseline()).append("` (").append(baseline.startedAt()).append(")\n\n");
+            md.append("| endpoint | rps | Δ rps | p99 ms | Δ p99 | errors | |\n");
+            md.append("|---|---:|---:|---:|---:|---:|---|\n");
+            for (LoadTestResult.Endpoint current : result.endpoints()) {
+                LoadTestResult.Endpoint base = baseline.endpoint(current.endpoint());
+                String rpsDelta = base == null ? "new" : percent(current.throughput(), base.throughput());
+                String p99Delta = base == null ? "new" : percent(current.p99Ms(), base.p99Ms());
+                boolean worse = base != null
+                        && (current.throughput() < base.throughput() * (1 - config.tolerance())
+                        || current.p99Ms() > base.p99Ms() * (1 + config.tolerance()));
+                regressed |= worse;
+                md.append(String.format(Locale.ROOT, "| `%s` | %.1f | %s | %.2f | %s | %d | %s |%n",
+                        current.endpoint(), current.throughput(), rpsDelta, current.p99Ms(), p99Delta,
+                        current.errors(), worse ? "REGRESSION" : ""));
+            }
+            md.append(String.format(Locale.ROOT, "%ntolerance: %.0f%%%n", config.tolerance() * 100));
+        } else {
+            md.append("no baseline at `").append(config.baseline())
+                    .append("`; record one with -PloadTest.updateBaseline=true\n");
+        }
+        Files.writeString(dir.resolve("comparison.md"), md.toString());
+        System.out.println(md);
+
+        if (config.updateBaseline()) {
+            Path parent = config.baseline().toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Files.copy(resultFile, config.baseline(), StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("baseline updated: " + config.baseline());
+        }
+        return regressed;
+    }
+
+    private static String percent(double current, double base) {
+        if (base == 0) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%+.1f%%", (current - base) / base * 100);
+    }
+
+    // "GET /organizations/{orgId}/receipts" → "GET_organizations_orgId_receipts"
+    private static String slug(String endpoint) {
+        return endpoint.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("_+$", "");
+    }
+}
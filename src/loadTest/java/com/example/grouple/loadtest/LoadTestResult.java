@@ -0,0 +1,32 @@
+package com.example.grouple.loadtest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 측정 결과 (result.json / 기준선 파일 형식)
+ * 지연 시간 단위는 ms, 처리량은 초당 요청 수.
+ */
+record LoadTestResult(
+        Instant startedAt,
+        String target,
+        int virtualUsers,
+        double durationSeconds,
+        Map<String, Integer> mix,
+        Map<String, ScenarioCount> scenarios,
+        double throughput,
+        List<Endpoint> endpoints
+) {
+
+    record ScenarioCount(long completed, long failed) {
+    }
+
+    record Endpoint(String endpoint, long count, long errors, double throughput,
+                    double meanMs, double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+    }
+
+    Endpoint endpoint(String name) {
+        return endpoints.stream().filter(e -> e.endpoint().equals(name)).findFirst().orElse(null);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.grouple.loadtest;
+
+import com.example.grouple.GroupleApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * REST API 부하 테스트 진입점 (./gradlew loadTest)
+ * 1. loadTest.target 이 없으면 loadtest 프로필로 애플리케이션을 로컬 DB 에 대해 기동
+ * 2. 공개 API 로 시드 데이터 생성 (Seeder)
+ * 3. 워밍업 후 측정 구간 동안 시나리오 혼합 실행 (LoadDriver)
+ * 4. 결과/히스토그램 작성, 기준선 비교 (LoadTestReport)
+ * 회귀가 있고 loadTest.failOnRegression=true 이면 종료 코드 1
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        ConfigurableApplicationContext app = null;
+        URI target = config.target();
+        int exitCode = 0;
+        try {
+            if (target == null) {
+                if (System.getenv("DB_URL") == null && !Files.exists(Path.of(".env"))) {
+                    System.err.println("DB_URL (or .env) is required to boot the application against a local database;"
+                            + " or point -PloadTest.target at a running server");
+                    System.exit(2);
+                }
+                app = new SpringApplicationBuilder(GroupleApplication.class)
+                        .profiles("loadtest")
+                        .properties("server.port=0")
+                        .run(args);
+                target = URI.create("http://localhost:" + app.getEnvironment().getProperty("local.server.port"));
+            }
+            System.out.println("load test target: " + target);
+
+            long seedStart = System.nanoTime();
+            Dataset dataset = new Seeder(new ApiClient(target, null), config).seed();
+            System.out.printf("seeded %d orgs, %d applicants in %.1fs%n", dataset.orgs().size(),
+                    dataset.applicants().size(), (System.nanoTime() - seedStart) / 1e9);
+
+            EndpointMetrics metrics = new EndpointMetrics();
+            LoadDriver driver = new LoadDriver(new ApiClient(target, metrics), metrics, dataset, config);
+            LoadTestResult result = driver.run(target.toString());
+            System.out.printf("throughput %.1f req/s over %.0fs with %d virtual users%n",
+                    result.throughput(), result.durationSeconds(), result.virtualUsers());
+
+            boolean regressed = new LoadTestReport(config).write(result, driver.histograms());
+            if (regressed && config.failOnRegression()) {
+                exitCode = 1;
+            }
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+        }
+        System.exit(exitCode);
+    }
+}
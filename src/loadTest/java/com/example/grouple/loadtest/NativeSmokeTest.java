@@ -0,0 +1,189 @@
+package com.example.grouple.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 네이티브 실행 파일 스모크 테스트 (./gradlew nativeSmokeTest)
+ * 1. 네이티브 실행 파일(과 비교용 JVM jar)을 로컬 DB 에 대해 띄워 /actuator/health 200 까지 시간 측정
+ * 2. 작은 규모로 시드 후 모든 시나리오를 짧게 실행 (부하 테스트와 같은 API 호출)
+ * 3. 기동 직후/부하 후 RSS 와 최대 RSS 기록 (Linux /proc)
+ * 네이티브에서 시나리오 오류가 하나라도 있으면 종료 코드 1 - 리플렉션 메타데이터 누락은 대부분 여기서 드러난다.
+ * 결과는 build/reports/native/comparison.md
+ */
+public final class NativeSmokeTest {
+
+    private record Target(String name, List<String> command) {
+    }
+
+    private record Measurement(String name, long firstRequestMs, OptionalLong rssAfterStartKb,
+                               OptionalLong rssAfterLoadKb, OptionalLong peakRssKb, double throughput,
+                               long errors) {
+    }
+
+    private static final String DEFAULT_JWT_KEY = "bmF0aXZlLXNtb2tlLXRlc3Qtand0LWtleS1ub3QtZm9yLXByb2R1Y3Rpb24=";
+
+    private final Path binary = Path.of(prop("binary", "build/native/nativeCompile/grouple")).toAbsolutePath();
+    private final Path jar = Path.of(prop("jar", "build/libs/grouple-0.0.1-SNAPSHOT.jar")).toAbsolutePath();
+    private final boolean compareJvm = Boolean.parseBoolean(prop("compareJvm", "true"));
+    private final Duration timeout = Duration.parse(prop("timeout", "PT120S"));
+    private final Path reportDir = Path.of(prop("reportDir", "build/reports/native"));
+    private final LoadTestConfig config = new LoadTestConfig(
+            null,
+            Integer.parseInt(prop("vus", "4")),
+            Duration.ZERO,
+            Duration.parse(prop("duration", "PT20S")),
+            LoadTestConfig.parseMix(LoadTestConfig.DEFAULT_MIX),
+            42, 4,
+            3, 5, 20, 10, 20, 10,
+            reportDir, reportDir.resolve("baseline.json"), 0.10, false, false);
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    private NativeSmokeTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (System.getenv("DB_URL") == null && !Files.exists(Path.of(".env"))) {
+            System.err.println("DB_URL (or .env) is required to boot the application against a local database");
+            System.exit(2);
+        }
+        System.exit(new NativeSmokeTest().run());
+    }
+
+    private int run() throws Exception {
+        if (!Files.isExecutable(binary)) {
+            System.err.println("native executable not found: " + binary + " (./gradlew nativeCompile -Pnative)");
+            return 2;
+        }
+        List<Target> targets = new ArrayList<>();
+        // 네이티브 이미지는 fast-start 프로필로 AOT 처리되므로 같은 프로필로 실행 (이미지 기능은 지원하지 않음)
+        targets.add(new Target("native", List.of(binary.toString(), "--spring.profiles.active=fast-start",
+                "--app.storage.images.enabled=false")));
+        if (compareJvm && Files.exists(jar)) {
+            String java = ProcessHandle.current().info().command().orElse("java");
+            targets.add(new Target("jvm", List.of(java, "-jar", jar.toString())));
+        }
+
+        List<Measurement> measurements = new ArrayList<>();
+        for (Target target : targets) {
+            Measurement measurement = measure(target);
+            measurements.add(measurement);
+            System.out.printf(Locale.ROOT, "%-6s first request %d ms, %.1f req/s, %d errors%n", target.name(),
+                    measurement.firstRequestMs(), measurement.throughput(), measurement.errors());
+        }
+
+        StringBuilder md = new StringBuilder("# Native image smoke test\n\n");
+        md.append(String.format(Locale.ROOT, "scenarios: %s, %d virtual users, %s%n%n",
+                LoadTestConfig.DEFAULT_MIX, config.virtualUsers(), config.duration()));
+        md.append("| runtime | first request ms | RSS after start MB | RSS after load MB | peak RSS MB | req/s | errors |\n");
+        md.append("|---|---:|---:|---:|---:|---:|---:|\n");
+        for (Measurement m : measurements) {
+            md.append(String.format(Locale.ROOT, "| %s | %d | %s | %s | %s | %.1f | %d |%n", m.name(),
+                    m.firstRequestMs(), mb(m.rssAfterStartKb()), mb(m.rssAfterLoadKb()), mb(m.peakRssKb()),
+                    m.throughput(), m.errors()));
+        }
+        Files.createDirectories(reportDir);
+        Files.writeString(reportDir.resolve("comparison.md"), md, StandardCharsets.UTF_8);
+        System.out.println();
+        System.out.print(md);
+
+        return measurements.get(0).errors() == 0 ? 0 : 1;
+    }
+
+    private Measurement measure(Target target) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(target.command());
+        command.add("--server.port=" + port);
+        Files.createDirectories(reportDir);
+        ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(reportDir.resolve(target.name() + ".log").toFile());
+        Map<String, String> env = builder.environment();
+        env.putIfAbsent("JWT_SECRET_KEY", DEFAULT_JWT_KEY);
+        env.putIfAbsent("API_DOCS_ENABLED", "false");
+
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            URI base = URI.create("http://localhost:" + port);
+            long firstRequestMs = awaitHealthy(process, base, start, target.name());
+            OptionalLong rssAfterStart = rssKb(process.pid(), "VmRSS");
+
+            Dataset dataset = new Seeder(new ApiClient(base, null), config).seed();
+            EndpointMetrics metrics = new EndpointMetrics();
+            LoadDriver driver = new LoadDriver(new ApiClient(base, metrics), metrics, dataset, config);
+            LoadTestResult result = driver.run(base.toString());
+            long errors = result.endpoints().stream().mapToLong(LoadTestResult.Endpoint::errors).sum()
+                    + result.scenarios().values().stream().mapToLong(LoadTestResult.ScenarioCount::failed).sum();
+            return new Measurement(target.name(), firstRequestMs, rssAfterStart, rssKb(process.pid(), "VmRSS"),
+                    rssKb(process.pid(), "VmHWM"), result.throughput(), errors);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private long awaitHealthy(Process process, URI base, long start, String name) throws Exception {
+        HttpRequest health = HttpRequest.newBuilder(base.resolve("/actuator/health"))
+                .timeout(Duration.ofSeconds(1)).GET().build();
+        long deadline = start + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with " + process.exitValue() + ", see "
+                        + reportDir.resolve(name + ".log"));
+            }
+            try {
+                if (http.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                }
+            } catch (IOException e) {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException(name + " did not answer within " + timeout);
+    }
+
+    // /proc/{pid}/status 의 VmRSS(현재) / VmHWM(최대), Linux 외에는 없음
+    private static OptionalLong rssKb(long pid, String field) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", Long.toString(pid), "status"))) {
+                if (line.startsWith(field + ":")) {
+                    return OptionalLong.of(Long.parseLong(line.replaceAll("[^0-9]", "")));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // /proc 없음
+        }
+        return OptionalLong.empty();
+    }
+
+    private static String mb(OptionalLong kb) {
+        return kb.isPresent() ? String.format(Locale.ROOT, "%.1f", kb.getAsLong() / 1024.0) : "n/a";
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String prop(String key, String defaultValue) {
+        return System.getProperty("native." + key, defaultValue);
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.grouple.loadtest;
+
+import com.example.grouple.dto.auth.request.LoginRequest;
+import com.example.grouple.dto.joinrequest.request.JoinRequestCreateRequest;
+import com.example.grouple.dto.joinrequest.request.JoinRequestDecisionRequest;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * 가상 사용자 한 번의 행동 단위 (요청 1~2건)
+ * 경로/본문은 통합 테스트(src/test/.../integration)의 요청 형태를 따른다.
+ */
+enum Scenario {
+
+    LOGIN("login") {
+        @Override
+        boolean run(VirtualUser user) {
+            LoginRequest login = new LoginRequest();
+            login.setUsername(user.self().username());
+            login.setPassword(user.self().password());
+            return user.client().post("POST /auth/login", "/auth/login", null, login).ok();
+        }
+    },
+
+    // 공지 목록 → 첫 공지 상세
+    ANNOUNCEMENTS("announcements") {
+        @Override
+        boolean run(VirtualUser user) {
+            int page = user.random().nextInt(pages(user.org().announcements()));
+            var list = user.client().get("GET /organizations/{orgId}/announcements",
+                    "/organizations/" + user.org().id() + "/announcements?page=" + page + "&size=" + PAGE_SIZE,
+                    user.self().token());
+            var first = list.data().path("items").path(0).path("id");
+            if (!list.ok() || first.isMissingNode()) {
+                return list.ok();
+            }
+            return user.client().get("GET /organizations/{orgId}/announcements/{announcementId}",
+                    "/organizations/" + user.org().id() + "/announcements/" + first.asInt(),
+                    user.self().token()).ok();
+        }
+    },
+
+    // 장부(영수증) 페이지 이동
+    LEDGER("ledger") {
+        @Override
+        boolean run(VirtualUser user) {
+            int page = user.random().nextInt(pages(user.org().receipts()));
+            return user.client().get("GET /organizations/{orgId}/receipts",
+                    "/organizations/" + user.org().id() + "/receipts?page=" + page + "&size=" + PAGE_SIZE
+                            + "&sort=date,DESC",
+                    user.self().token()).ok();
+        }
+    },
+
+    // 월 단위 달력 (반복 일정 전개 포함)
+    CALENDAR("calendar") {
+        @Override
+        boolean run(VirtualUser user) {
+            LocalDateTime from = user.dataset().calendarStart()
+                    .plusMonths(user.random().nextInt(user.dataset().calendarMonths()))
+                    .atStartOfDay();
+            return user.client().get("GET /organizations/{orgId}/schedules/occurrences",
+                    "/organizations/" + user.org().id() + "/schedules/occurrences?from=" + from
+                            + "&to=" + from.plusMonths(1),
+                    user.self().token()).ok();
+        }
+    },
+
+    // 아직 가입하지 않은 신청자가 가입 요청 → 조직장이 승인
+    JOIN("join") {
+        @Override
+        boolean run(VirtualUser user) {
+            Dataset.Credential applicant = user.nextApplicant();
+            Dataset.Org org = user.joinTarget();
+            if (applicant == null) {
+                return false; // 신청자 x 조직 조합을 모두 사용함 (-PloadTest.applicants 로 늘림)
+            }
+            JoinRequestCreateRequest join = new JoinRequestCreateRequest();
+            join.setMessage("가입 신청합니다");
+            var created = user.client().post("POST /organizations/{orgId}/join-requests",
+                    "/organizations/" + org.id() + "/join-requests", applicant.token(), join);
+            if (!created.ok()) {
+                return false;
+            }
+            JoinRequestDecisionRequest approve = new JoinRequestDecisionRequest();
+            approve.setReason("환영합니다");
+            return user.client().post("POST /organizations/{orgId}/join-requests/{reqId}/approve",
+                    "/organizations/" + org.id() + "/join-requests/" + created.data().path("id").asInt() + "/approve",
+                    org.owner().token(), approve).ok();
+        }
+    };
+
+    static final int PAGE_SIZE = 20;
+
+    private final String key;
+
+    Scenario(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    /**
+     * @return 시나리오가 끝까지 성공했는지 여부
+     */
+    abstract boolean run(VirtualUser user);
+
+    static Scenario byKey(String key) {
+        return Arrays.stream(values())
+                .filter(s -> s.key.equalsIgnoreCase(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("unknown scenario: " + key));
+    }
+
+    private static int pages(int rows) {
+        return Math.max(1, (rows + PAGE_SIZE - 1) / PAGE_SIZE);
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.grouple.loadtest;
+
+import com.example.grouple.dto.announcement.request.AnnouncementCreateRequest;
+import com.example.grouple.dto.auth.request.LoginRequest;
+import com.example.grouple.dto.auth.request.RegisterRequest;
+import com.example.grouple.dto.joinrequest.request.JoinRequestCreateRequest;
+import com.example.grouple.dto.joinrequest.request.JoinRequestDecisionRequest;
+import com.example.grouple.dto.organization.request.OrgCreateRequest;
+import com.example.grouple.dto.receipt.request.ReceiptCreateRequest;
+import com.example.grouple.dto.schedule.request.ScheduleCreateRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.example.grouple.loadtest.ApiClient.require;
+
+/**
+ * 공개 API 로 부하 테스트 데이터를 만든다 (원격 대상에도 같은 방식으로 적용 가능).
+ * 조직마다 독립된 난수(seed + 조직 번호)를 써서 병렬로 만들어도 내용이 같다.
+ * 사용자 이름에는 실행 ID 를 붙여 같은 DB 에 반복 실행해도 충돌하지 않게 한다.
+ */
+final class Seeder {
+
+    static final String PASSWORD = "Password1!";
+    static final int CALENDAR_MONTHS = 6;
+
+    private static final String[] CATEGORIES = {"식비", "교통", "비품", "회비", "대관료", "행사"};
+    private static final String[] TITLES = {"정기 모임 안내", "회비 납부 안내", "MT 일정 공지", "스터디 자료 공유", "신입 회원 환영회"};
+
+    private final ApiClient client;
+    private final LoadTestConfig config;
+    private final String runId = Long.toString(System.currentTimeMillis() % 1_000_000_000L, 36);
+    private final LocalDate calendarStart = LocalDate.now().withDayOfMonth(1).plusMonths(1);
+
+    Seeder(ApiClient client, LoadTestConfig config) {
+        this.client = client;
+        this.config = config;
+    }
+
+    Dataset seed() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(config.seedThreads());
+        try {
+            List<Future<Dataset.Org>> orgs = new ArrayList<>();
+            for (int i = 0; i < config.orgs(); i++) {
+                int index = i;
+                orgs.add(pool.submit(() -> seedOrg(index)));
+            }
+            List<Future<Dataset.Credential>> applicants = new ArrayList<>();
+            for (int i = 0; i < config.applicants(); i++) {
+                String username = "lt" + runId + "a" + i;
+                applicants.add(pool.submit(() -> registerAndLogin(username)));
+            }
+            List<Dataset.Org> seededOrgs = new ArrayList<>();
+            for (Future<Dataset.Org> org : orgs) {
+                seededOrgs.add(org.get());
+            }
+            List<Dataset.Credential> seededApplicants = new ArrayList<>();
+            for (Future<Dataset.Credential> applicant : applicants) {
+                seededApplicants.add(applicant.get());
+            }
+            return new Dataset(seededOrgs, seededApplicants, calendarStart, CALENDAR_MONTHS);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Dataset.Org seedOrg(int index) {
+        Random random = new Random(config.seed() * 31 + index);
+        Dataset.Credential owner = registerAndLogin("lt" + runId + "o" + index);
+
+        OrgCreateRequest create = new OrgCreateRequest();
+        create.setName("부하테스트 조직 " + runId + "-" + index);
+        create.setDescription("부하 테스트용 조직");
+        create.setCategory(CATEGORIES[index % CATEGORIES.length]);
+        create.setImage_url("https://cdn.example.com/orgs/loadtest.png"); // organizations.image 는 NOT NULL
+        Integer orgId = require(client.post("seed", "/organizations", owner.token(), create), "create org")
+                .data().path("id").asInt();
+
+        List<Dataset.Credential> members = new ArrayList<>();
+        for (int m = 0; m < config.membersPerOrg(); m++) {
+            Dataset.Credential member = registerAndLogin("lt" + runId + "o" + index + "m" + m);
+            joinAndApprove(orgId, owner, member);
+            members.add(member);
+        }
+
+        for (int a = 0; a < config.announcementsPerOrg(); a++) {
+            AnnouncementCreateRequest announcement = new AnnouncementCreateRequest();
+            announcement.setTitle(TITLES[random.nextInt(TITLES.length)] + " #" + a);
+            announcement.setDescription("이번 주 활동 관련 공지입니다. 확인 부탁드립니다. (" + a + ")");
+            require(client.post("seed", "/organizations/" + orgId + "/announcements", owner.token(), announcement),
+                    "create announcement");
+        }
+
+        LocalDate today = LocalDate.now();
+        for (int r = 0; r < config.receiptsPerOrg(); r++) {
+            ReceiptCreateRequest receipt = new ReceiptCreateRequest(
+                    random.nextInt(4) == 0 ? "CASH" : "CARD",
+                    1_000 * (1 + random.nextInt(200)),
+                    CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    today.minusDays(random.nextInt(365)),
+                    null,
+                    "영수증 " + r);
+            require(client.post("seed", "/organizations/" + orgId + "/receipts", owner.token(), receipt),
+                    "create receipt");
+        }
+
+        for (int s = 0; s < config.schedulesPerOrg(); s++) {
+            LocalDateTime start = calendarStart.atTime(10 + random.nextInt(10), 0)
+                    .plusDays(random.nextInt(CALENDAR_MONTHS * 30));
+            ScheduleCreateRequest schedule = new ScheduleCreateRequest();
+            schedule.setTitle(TITLES[random.nextInt(TITLES.length)]);
+            schedule.setDescription("일정 " + s);
+            schedule.setStartTime(start);
+            schedule.setEndTime(start.plusHours(1 + random.nextInt(3)));
+            if (s % 5 == 0) {
+                schedule.setRecurrenceRule("FREQ=WEEKLY;COUNT=12");
+            }
+            require(client.post("seed", "/organizations/" + orgId + "/schedules", owner.token(), schedule),
+                    "create schedule");
+        }
+
+        return new Dataset.Org(orgId, owner, members, config.announcementsPerOrg(), config.receiptsPerOrg());
+    }
+
+    private void joinAndApprove(Integer orgId, Dataset.Credential owner, Dataset.Credential member) {
+        JoinRequestCreateRequest join = new JoinRequestCreateRequest();
+        join.setMessage("가입 신청합니다");
+        int requestId = require(client.post("seed", "/organizations/" + orgId + "/join-requests", member.token(), join),
+                "create join request").data().path("id").asInt();
+        JoinRequestDecisionRequest approve = new JoinRequestDecisionRequest();
+        approve.setReason("환영합니다");
+        require(client.post("seed", "/organizations/" + orgId + "/join-requests/" + requestId + "/approve",
+                owner.token(), approve), "approve join request");
+    }
+
+    private Dataset.Credential registerAndLogin(String username) {
+        RegisterRequest register = new RegisterRequest();
+        register.setUsername(username);
+        register.setPassword(PASSWORD);
+        register.setPasswordConfirm(PASSWORD);
+        register.setEmail(username + "@loadtest.example.com");
+        register.setPhone("010-0000-0000");
+        require(client.post("seed", "/auth/register", null, register), "register " + username);
+        return new Dataset.Credential(username, PASSWORD, login(client, username, PASSWORD, "seed"));
+    }
+
+    static String login(ApiClient client, String username, String password, String endpoint) {
+        LoginRequest login = new LoginRequest();
+        login.setUsername(username);
+        login.setPassword(password);
+        return require(client.post(endpoint, "/auth/login", null, login), "login " + username)
+                .data().path("accessToken").asText();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.grouple.loadtest;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가상 사용자 한 명의 상태 (스레드 하나가 전담)
+ * 조직과 회원은 번호 순으로 고르게 배정한다.
+ */
+final class VirtualUser {
+
+    private final ApiClient client;
+    private final Dataset dataset;
+    private final Dataset.Org org;
+    private final Dataset.Credential self;
+    private final Random random;
+    private final AtomicInteger joinCursor;
+    private Dataset.Org joinTarget;
+
+    VirtualUser(int index, ApiClient client, Dataset dataset, long seed, AtomicInteger joinCursor) {
+        this.client = client;
+        this.dataset = dataset;
+        this.org = dataset.orgs().get(index % dataset.orgs().size());
+        int slot = index / dataset.orgs().size();
+        this.self = org.members().isEmpty()
+                ? org.owner()
+                : org.members().get(slot % org.members().size());
+        this.random = new Random(seed * 1_000_003L + index);
+        this.joinCursor = joinCursor;
+    }
+
+    ApiClient client() {
+        return client;
+    }
+
+    Dataset dataset() {
+        return dataset;
+    }
+
+    Dataset.Org org() {
+        return org;
+    }
+
+    Dataset.Credential self() {
+        return self;
+    }
+
+    Random random() {
+        return random;
+    }
+
+    /**
+     * 신청자 x 조직 조합을 하나씩 소비 (같은 조합은 다시 쓰지 않음)
+     * @return 남은 조합이 없으면 null
+     */
+    Dataset.Credential nextApplicant() {
+        int applicants = dataset.applicants().size();
+        int k = joinCursor.getAndIncrement();
+        if (applicants == 0 || k >= applicants * dataset.orgs().size()) {
+            return null;
+        }
+        joinTarget = dataset.orgs().get(k / applicants);
+        return dataset.applicants().get(k % applicants);
+    }
+
+    Dataset.Org joinTarget() {
+        return joinTarget;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.grouple.loadtest.datagen;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 배치 JDBC 적재 (행 번호 구간을 스레드 수만큼 나눠 병렬로 INSERT)
+ * 각 스레드는 자기 커넥션에서 batchSize 행마다 executeBatch + commit 한다.
+ * MySQL 에서는 빈 스키마 적재 전제로 세션의 FK/유니크 검사를 끄고,
+ * rewriteBatchedStatements 로 배치를 다중 행 INSERT 로 보낸다 (application-datagen.yml).
+ */
+final class BatchInserter {
+
+    /**
+     * 행 번호 row 의 값을 ps 에 채움 (같은 row 에는 항상 같은 값)
+     */
+    @FunctionalInterface
+    interface RowWriter {
+        void write(PreparedStatement ps, long row) throws SQLException;
+    }
+
+    private final DataSource dataSource;
+    private final int batchSize;
+    private final int threads;
+    private final boolean mysql;
+
+    BatchInserter(DataSource dataSource, int batchSize, int threads) throws SQLException {
+        this.dataSource = dataSource;
+        this.batchSize = batchSize;
+        this.threads = threads;
+        try (Connection c = dataSource.getConnection()) {
+            this.mysql = c.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+        }
+    }
+
+    /**
+     * @return 적재한 행 수
+     */
+    long insert(String table, String sql, long rows, RowWriter writer) throws Exception {
+        long start = System.nanoTime();
+        int workers = (int) Math.max(1, Math.min(threads, rows / batchSize + 1));
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            long chunk = (rows + workers - 1) / workers;
+            for (int w = 0; w < workers; w++) {
+                long from = w * chunk;
+                long to = Math.min(rows, from + chunk);
+                if (from < to) {
+                    futures.add(pool.submit(() -> insertRange(sql, from, to, writer)));
+                }
+            }
+            long written = 0;
+            for (Future<Long> f : futures) {
+                written += f.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf(Locale.ROOT, "%-14s %,12d rows %8.1fs %,12.0f rows/s%n",
+                    table, written, seconds, written / Math.max(seconds, 1e-9));
+            return written;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    void execute(String sql) throws SQLException {
+        try (Connection c = dataSource.getConnection()) {
+            try (Statement st = c.createStatement()) {
+                prepareSession(st);
+                st.execute(sql);
+            } finally {
+                restoreSession(c);
+            }
+        }
+    }
+
+    private long insertRange(String sql, long from, long to, RowWriter writer) throws SQLException {
+        try (Connection c = dataSource.getConnection()) {
+            boolean autoCommit = c.getAutoCommit();
+            c.setAutoCommit(false);
+            try (Statement st = c.createStatement()) {
+                prepareSession(st);
+            }
+            try (PreparedStatement ps = c.prepareStatement(sql)) {
+                int pending = 0;
+                for (long row = from; row < to; row++) {
+                    writer.write(ps, row);
+                    ps.addBatch();
+                    if (++pending == batchSize) {
+                        ps.executeBatch();
+                        c.commit();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    ps.executeBatch();
+                    c.commit();
+                }
+            } catch (SQLException e) {
+                c.rollback();
+                throw e;
+            } finally {
+                restoreSession(c);
+                c.setAutoCommit(autoCommit);
+            }
+            return to - from;
+        }
+    }
+
+    private void prepareSession(Statement st) throws SQLException {
+        if (mysql) {
+            st.execute("SET foreign_key_checks = 0, unique_checks = 0");
+        }
+    }
+
+    // 풀로 돌아가는 커넥션의 세션 설정 복구
+    private void restoreSession(Connection c) throws SQLException {
+        if (mysql) {
+            try (Statement st = c.createStatement()) {
+                st.execute("SET foreign_key_checks = 1, unique_checks = 1");
+            }
+        }
+    }
+}
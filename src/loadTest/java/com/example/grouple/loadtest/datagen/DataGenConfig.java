@@ -0,0 +1,43 @@
+package com.example.grouple.loadtest.datagen;
+
+/**
+ * 대용량 데이터 생성 설정 (시스템 프로퍼티 datagen.*, Gradle 에서는 -Pdatagen.*)
+ *
+ * @param membershipsPerUser 사용자당 평균 가입 조직 수 (전체 회원 행 = users * membershipsPerUser)
+ * @param zipfExponent       조직 크기/활동량 분포 지수 (클수록 상위 조직에 집중)
+ * @param truncate           기존 데이터가 있으면 비우고 생성 (false 면 빈 스키마에서만 실행)
+ */
+public record DataGenConfig(
+        long seed,
+        int users,
+        int orgs,
+        double membershipsPerUser,
+        double zipfExponent,
+        long announcements,
+        long receipts,
+        long schedules,
+        int batchSize,
+        int threads,
+        boolean truncate
+) {
+
+    public static DataGenConfig fromSystemProperties() {
+        return new DataGenConfig(
+                Long.parseLong(prop("seed", "42")),
+                Integer.parseInt(prop("users", "50000")),
+                Integer.parseInt(prop("orgs", "10000")),
+                Double.parseDouble(prop("membershipsPerUser", "3")),
+                Double.parseDouble(prop("zipfExponent", "1.1")),
+                Long.parseLong(prop("announcements", "300000")),
+                Long.parseLong(prop("receipts", "3000000")),
+                Long.parseLong(prop("schedules", "1000000")),
+                Integer.parseInt(prop("batchSize", "5000")),
+                Integer.parseInt(prop("threads", "4")),
+                Boolean.parseBoolean(prop("truncate", "false"))
+        );
+    }
+
+    private static String prop(String key, String defaultValue) {
+        return System.getProperty("datagen." + key, defaultValue);
+    }
+}
@@ -0,0 +1,322 @@
+package com.example.grouple.loadtest.datagen;
+
+import com.example.grouple.GroupleApplication;
+import com.example.grouple.service.OrgCodeAllocator;
+import com.example.grouple.service.RecurrenceRule;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 성능 검증용 대용량 데이터 생성기 (./gradlew generateData)
+ * - datagen 프로필로 애플리케이션 컨텍스트만 띄워(웹 서버 없음) 스키마와 DataSource 를 그대로 사용
+ * - 서비스/JPA 를 거치지 않고 배치 JDBC 로 적재, ID 는 1부터 직접 부여해 FK 를 다시 읽지 않음
+ * - 조직 크기와 조직별 공지/영수증/일정 수는 Zipf 분포 (소수 대형 조직 + 다수 소형 조직)
+ * - 모든 값은 seed 와 행 번호로만 결정되므로 스레드 수와 관계없이 같은 데이터가 나온다
+ * 모든 사용자의 비밀번호는 PASSWORD 로 같다 (부하 테스트에서 임의 사용자로 로그인 가능).
+ */
+public final class DataGenerator {
+
+    public static final String PASSWORD = "Password1!";
+
+    // 재현성을 위해 현재 시각 대신 고정 기준 시점 사용
+    static final LocalDate ANCHOR_DATE = LocalDate.of(2026, 1, 1);
+    static final Instant ANCHOR = Instant.parse("2026-01-01T00:00:00Z");
+
+    private static final String[] TRUNCATE_ORDER = {
+            "schedule_overrides", "schedules", "receipts", "documents", "announcements",
+            "join_requests", "members", "organizations", "users", "org_code_sequence"
+    };
+
+    private final DataGenConfig config;
+    private final JdbcTemplate jdbc;
+    private final BatchInserter inserter;
+    private final OrgCodeAllocator codeAllocator;
+    private final String passwordHash;
+
+    private Zipf zipf;
+    private int[] orgByRank;
+    // 조직 ID(1부터) 기준 배열, 0번은 사용하지 않음
+    private int[] ownerOf;
+    private String[] codeOf;
+    private int[] memberStart;
+    private int[] memberUser;
+
+    DataGenerator(DataGenConfig config, DataSource dataSource, OrgCodeAllocator codeAllocator,
+                  PasswordEncoder passwordEncoder) throws Exception {
+        this.config = config;
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.inserter = new BatchInserter(dataSource, config.batchSize(), config.threads());
+        this.codeAllocator = codeAllocator;
+        this.passwordHash = passwordEncoder.encode(PASSWORD);
+    }
+
+    public static void main(String[] args) throws Exception {
+        DataGenConfig config = DataGenConfig.fromSystemProperties();
+        try (ConfigurableApplicationContext ctx = new SpringApplicationBuilder(GroupleApplication.class)
+                .profiles("datagen")
+                .web(WebApplicationType.NONE)
+                .run(args)) {
+            new DataGenerator(config, ctx.getBean(DataSource.class), ctx.getBean(OrgCodeAllocator.class),
+                    ctx.getBean(PasswordEncoder.class)).run();
+        }
+        System.exit(0);
+    }
+
+    void run() throws Exception {
+        prepareSchema();
+        long start = System.nanoTime();
+        plan();
+
+        long rows = 0;
+        rows += insertUsers();
+        rows += insertOrganizations();
+        rows += insertMembers();
+        rows += insertAnnouncements();
+        rows += insertReceipts();
+        rows += insertSchedules();
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf(Locale.ROOT, "total          %,12d rows %8.1fs %,12.0f rows/s (seed=%d, password=%s)%n",
+                rows, seconds, rows / seconds, config.seed(), PASSWORD);
+    }
+
+    private void prepareSchema() throws Exception {
+        Long existing = jdbc.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        if (existing != null && existing > 0) {
+            if (!config.truncate()) {
+                throw new IllegalStateException("users table is not empty (" + existing
+                        + " rows); run against a fresh schema or pass -Pdatagen.truncate=true");
+            }
+            for (String table : TRUNCATE_ORDER) {
+                inserter.execute("TRUNCATE TABLE " + table);
+            }
+        }
+    }
+
+    // 조직 순위, 소유자, 코드, 회원 구성 (적재 전에 메모리에서 결정)
+    private void plan() {
+        int orgs = config.orgs();
+        int users = config.users();
+        Zipf zipf = new Zipf(orgs, config.zipfExponent());
+
+        // 순위 → 조직 ID (대형 조직이 ID 앞쪽에 몰리지 않도록 섞음)
+        orgByRank = new int[orgs];
+        for (int i = 0; i < orgs; i++) {
+            orgByRank[i] = i + 1;
+        }
+        SplittableRandom shuffle = new SplittableRandom(config.seed());
+        for (int i = orgs - 1; i > 0; i--) {
+            int j = shuffle.nextInt(i + 1);
+            int tmp = orgByRank[i];
+            orgByRank[i] = orgByRank[j];
+            orgByRank[j] = tmp;
+        }
+        int[] rankOf = new int[orgs + 1];
+        for (int rank = 0; rank < orgs; rank++) {
+            rankOf[orgByRank[rank]] = rank;
+        }
+
+        ownerOf = new int[orgs + 1];
+        codeOf = new String[orgs + 1];
+        long targetMemberships = Math.round(users * config.membershipsPerUser());
+        int[] sizes = new int[orgs + 1];
+        long total = 0;
+        for (int org = 1; org <= orgs; org++) {
+            ownerOf[org] = 1 + rowRandom(Salt.OWNER, org).nextInt(users);
+            codeOf[org] = codeAllocator.next();
+            long size = Math.round(targetMemberships * zipf.weight(rankOf[org]));
+            sizes[org] = (int) Math.max(1, Math.min(users - 1, size));
+            total += sizes[org];
+        }
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("too many memberships: " + total);
+        }
+
+        memberStart = new int[orgs + 2];
+        memberUser = new int[(int) total];
+        int cursor = 0;
+        for (int org = 1; org <= orgs; org++) {
+            memberStart[org] = cursor;
+            SplittableRandom random = rowRandom(Salt.MEMBERS, org);
+            Set<Integer> chosen = new HashSet<>(sizes[org] * 2);
+            while (chosen.size() < sizes[org]) {
+                int user = 1 + random.nextInt(users);
+                if (user != ownerOf[org] && chosen.add(user)) {
+                    memberUser[cursor++] = user;
+                }
+            }
+        }
+        memberStart[orgs + 1] = cursor;
+        System.out.printf(Locale.ROOT, "plan: %,d users, %,d orgs, %,d memberships (largest org %,d members)%n",
+                users, orgs, total, sizes[orgByRank[0]]);
+
+        this.zipf = zipf;
+    }
+
+    private long insertUsers() throws Exception {
+        return inserter.insert("users",
+                "INSERT INTO users (id, username, password, email, phone, image, created_at, updated_at, deleted_at)"
+                        + " VALUES (?, ?, ?, ?, ?, NULL, ?, ?, NULL)",
+                config.users(), (ps, row) -> {
+                    SplittableRandom r = rowRandom(Salt.USER, row);
+                    int id = (int) row + 1;
+                    Timestamp created = Timestamp.from(ANCHOR.minus(Duration.ofMinutes(r.nextInt(2 * 365 * 24 * 60))));
+                    ps.setInt(1, id);
+                    ps.setString(2, "user" + id);
+                    ps.setString(3, passwordHash);
+                    ps.setString(4, "user" + id + "@example.com");
+                    ps.setString(5, String.format(Locale.ROOT, "010-%04d-%04d", r.nextInt(10_000), r.nextInt(10_000)));
+                    ps.setTimestamp(6, created);
+                    ps.setTimestamp(7, created);
+                });
+    }
+
+    private long insertOrganizations() throws Exception {
+        return inserter.insert("organizations",
+                "INSERT INTO organizations (id, name, description, image, category, code, owner_id,"
+                        + " created_at, updated_at, deleted_at, content_version)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, NULL, 0)",
+                config.orgs(), (ps, row) -> {
+                    int id = (int) row + 1;
+                    SplittableRandom r = rowRandom(Salt.ORG, id);
+                    Timestamp created = Timestamp.from(ANCHOR.minus(Duration.ofMinutes(r.nextInt(365 * 24 * 60))));
+                    ps.setInt(1, id);
+                    ps.setString(2, KoreanText.orgName(r, id));
+                    ps.setString(3, KoreanText.orgDescription(r));
+                    ps.setString(4, "https://cdn.example.com/orgs/" + id + ".png");
+                    ps.setString(5, KoreanText.pick(r, KoreanText.ORG_CATEGORIES));
+                    ps.setString(6, codeOf[id]);
+                    ps.setInt(7, ownerOf[id]);
+                    ps.setTimestamp(8, created);
+                    ps.setTimestamp(9, created);
+                });
+    }
+
+    private long insertMembers() throws Exception {
+        return inserter.insert("members",
+                "INSERT INTO members (user_id, organization_id, role, joined_at) VALUES (?, ?, 'MEMBER', ?)",
+                memberUser.length, (ps, row) -> {
+                    int index = (int) row;
+                    SplittableRandom r = rowRandom(Salt.MEMBER_ROW, row);
+                    ps.setInt(1, memberUser[index]);
+                    ps.setInt(2, orgOfMemberIndex(index));
+                    ps.setTimestamp(3, Timestamp.from(ANCHOR.minus(Duration.ofMinutes(r.nextInt(365 * 24 * 60)))));
+                });
+    }
+
+    private long insertAnnouncements() throws Exception {
+        return inserter.insert("announcements",
+                "INSERT INTO announcements (id, title, description, star, user_id, organization_id, created_at, updated_at)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                config.announcements(), (ps, row) -> {
+                    SplittableRandom r = rowRandom(Salt.ANNOUNCEMENT, row);
+                    int org = orgByRank[zipf.sample(r)];
+                    Timestamp created = Timestamp.from(ANCHOR.minus(Duration.ofMinutes(r.nextInt(365 * 24 * 60))));
+                    ps.setLong(1, row + 1);
+                    ps.setString(2, KoreanText.announcementTitle(r));
+                    ps.setString(3, KoreanText.paragraph(r, 2, 6));
+                    ps.setBoolean(4, r.nextInt(20) == 0);
+                    ps.setInt(5, ownerOf[org]);
+                    ps.setInt(6, org);
+                    ps.setTimestamp(7, created);
+                    ps.setTimestamp(8, created);
+                });
+    }
+
+    private long insertReceipts() throws Exception {
+        return inserter.insert("receipts",
+                "INSERT INTO receipts (id, type, amount, category, description, date, image, user_id, organization_id)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                config.receipts(), (ps, row) -> {
+                    SplittableRandom r = rowRandom(Salt.RECEIPT, row);
+                    int org = orgByRank[zipf.sample(r)];
+                    ps.setLong(1, row + 1);
+                    ps.setString(2, r.nextInt(4) == 0 ? "CASH" : "CARD");
+                    ps.setInt(3, 100 * (10 + r.nextInt(3_000)));
+                    ps.setString(4, KoreanText.pick(r, KoreanText.RECEIPT_CATEGORIES));
+                    ps.setString(5, KoreanText.receiptDescription(r));
+                    ps.setDate(6, Date.valueOf(ANCHOR_DATE.minusDays(r.nextInt(730))));
+                    ps.setString(7, r.nextInt(3) == 0 ? null : "https://cdn.example.com/receipts/" + (row + 1) + ".jpg");
+                    ps.setInt(8, author(org, r, 70));
+                    ps.setInt(9, org);
+                });
+    }
+
+    private long insertSchedules() throws Exception {
+        return inserter.insert("schedules",
+                "INSERT INTO schedules (id, title, description, start_time, end_time, recurrence_rule, series_end_time,"
+                        + " user_id, organization_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                config.schedules(), (ps, row) -> {
+                    SplittableRandom r = rowRandom(Salt.SCHEDULE, row);
+                    int org = orgByRank[zipf.sample(r)];
+                    // 기준 시점 앞뒤 1년, 09~21시 30분 단위 시작
+                    LocalDateTime start = ANCHOR_DATE.minusDays(365).plusDays(r.nextInt(730))
+                            .atTime(9 + r.nextInt(12), r.nextBoolean() ? 0 : 30);
+                    Duration duration = Duration.ofMinutes(30L * (2 + r.nextInt(6)));
+                    String rule = null;
+                    LocalDateTime seriesEnd = null;
+                    if (r.nextInt(100) < 15) {
+                        rule = "FREQ=WEEKLY;COUNT=" + (4 + r.nextInt(23));
+                        seriesEnd = RecurrenceRule.parse(rule).seriesEnd(start, duration);
+                    }
+                    ps.setLong(1, row + 1);
+                    ps.setString(2, KoreanText.scheduleTitle(r));
+                    ps.setString(3, KoreanText.paragraph(r, 1, 2));
+                    ps.setTimestamp(4, Timestamp.valueOf(start));
+                    ps.setTimestamp(5, Timestamp.valueOf(start.plus(duration)));
+                    ps.setString(6, rule);
+                    ps.setTimestamp(7, seriesEnd != null ? Timestamp.valueOf(seriesEnd) : null);
+                    ps.setInt(8, author(org, r, 50));
+                    ps.setInt(9, org);
+                });
+    }
+
+    // ownerPercent% 확률로 소유자, 나머지는 조직 회원 중 한 명
+    private int author(int org, SplittableRandom r, int ownerPercent) {
+        int from = memberStart[org];
+        int size = memberStart[org + 1] - from;
+        if (size == 0 || r.nextInt(100) < ownerPercent) {
+            return ownerOf[org];
+        }
+        return memberUser[from + r.nextInt(size)];
+    }
+
+    // memberStart 는 조직 ID 순으로 증가하므로 이진 탐색
+    private int orgOfMemberIndex(int index) {
+        int lo = 1;
+        int hi = config.orgs();
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (memberStart[mid] <= index) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    private enum Salt { OWNER, MEMBERS, USER, ORG, MEMBER_ROW, ANNOUNCEMENT, RECEIPT, SCHEDULE }
+
+    // (seed, 테이블, 행 번호) 로만 결정되는 난수
+    private SplittableRandom rowRandom(Salt salt, long row) {
+        return new SplittableRandom(config.seed() * 0x9E3779B97F4A7C15L
+                + (salt.ordinal() + 1L) * 0xC2B2AE3D27D4EB4FL
+                + row * 0x165667B19E3779F9L);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.grouple.loadtest.datagen;
+
+import java.util.SplittableRandom;
+
+/**
+ * 그럴듯한 한국어 문구 생성 (동아리/모임 도메인)
+ * 같은 난수 상태에서는 항상 같은 문구가 나온다.
+ */
+final class KoreanText {
+
+    static final String[] ORG_CATEGORIES = {"스터디", "운동", "취미", "음악", "봉사", "친목", "창업", "여행"};
+    static final String[] RECEIPT_CATEGORIES = {"식비", "교통비", "비품", "대관료", "회식", "간식", "인쇄", "행사"};
+
+    private static final String[] REGIONS = {"서울", "부산", "대구", "인천", "광주", "대전", "울산", "수원", "전주", "제주", "성남", "청주"};
+    private static final String[] TOPICS = {"독서", "등산", "사진", "코딩", "밴드", "축구", "요리", "영어회화", "보드게임", "러닝", "클라이밍", "재테크"};
+    private static final String[] KINDS = {"동아리", "모임", "스터디", "소모임", "클럽", "연합"};
+    private static final String[] SHOPS = {"편의점", "카페", "문구점", "분식집", "마트", "고깃집", "치킨집", "인쇄소", "다이소", "빵집"};
+    private static final String[] ITEMS = {"음료", "간식", "A4 용지", "현수막", "다과", "저녁 식사", "택시비", "대관", "기념품", "상품권"};
+    private static final String[] ANNOUNCEMENT_TOPICS = {"정기 모임", "회비 납부", "MT", "신입 회원 환영회", "스터디 자료", "장소 변경", "운영진 선출", "연말 행사"};
+    private static final String[] SCHEDULE_TITLES = {"정기 모임", "스터디", "운영진 회의", "번개 모임", "발표회", "워크숍", "봉사 활동", "뒤풀이"};
+    private static final String[] SENTENCES = {
+            "이번 주 활동 관련 공지입니다.",
+            "참석 여부를 댓글로 남겨 주세요.",
+            "장소는 지난번과 동일합니다.",
+            "회비는 모임 당일까지 납부 부탁드립니다.",
+            "처음 오시는 분들도 편하게 참여하셔도 됩니다.",
+            "자료는 문서함에 올려 두었습니다.",
+            "시간 변경이 있을 경우 다시 안내드리겠습니다.",
+            "궁금한 점은 운영진에게 문의해 주세요.",
+            "지난 모임 후기도 함께 공유합니다.",
+            "날씨에 따라 일정이 조정될 수 있습니다."
+    };
+
+    private KoreanText() {
+    }
+
+    static String orgName(SplittableRandom r, int orgId) {
+        return pick(r, REGIONS) + " " + pick(r, TOPICS) + " " + pick(r, KINDS) + " " + orgId;
+    }
+
+    static String orgDescription(SplittableRandom r) {
+        return paragraph(r, 1, 3);
+    }
+
+    static String announcementTitle(SplittableRandom r) {
+        return (1 + r.nextInt(12)) + "월 " + pick(r, ANNOUNCEMENT_TOPICS) + " 안내";
+    }
+
+    static String paragraph(SplittableRandom r, int minSentences, int maxSentences) {
+        int n = minSentences + r.nextInt(maxSentences - minSentences + 1);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(pick(r, SENTENCES));
+        }
+        return sb.toString();
+    }
+
+    static String receiptDescription(SplittableRandom r) {
+        return pick(r, SHOPS) + "에서 " + pick(r, ITEMS) + " 구매";
+    }
+
+    static String scheduleTitle(SplittableRandom r) {
+        return pick(r, TOPICS) + " " + pick(r, SCHEDULE_TITLES);
+    }
+
+    static String pick(SplittableRandom r, String[] values) {
+        return values[r.nextInt(values.length)];
+    }
+}
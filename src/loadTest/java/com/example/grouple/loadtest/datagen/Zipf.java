@@ -0,0 +1,52 @@
+package com.example.grouple.loadtest.datagen;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zipf 분포 (순위 k 의 가중치 ∝ 1 / k^s, k = 1..n)
+ * 누적 분포를 미리 계산해 두고 이진 탐색으로 표본을 뽑는다.
+ */
+final class Zipf {
+
+    private final double[] cdf;
+
+    Zipf(int n, double exponent) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+        cdf = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cdf[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cdf[k] /= sum;
+        }
+    }
+
+    int size() {
+        return cdf.length;
+    }
+
+    // 순위 rank(0부터)의 확률
+    double weight(int rank) {
+        return rank == 0 ? cdf[0] : cdf[rank] - cdf[rank - 1];
+    }
+
+    // 0부터 시작하는 순위
+    int sample(SplittableRandom random) {
+        double u = random.nextDouble();
+        int lo = 0;
+        int hi = cdf.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cdf[mid] < u) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
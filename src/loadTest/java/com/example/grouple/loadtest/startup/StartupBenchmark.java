@@ -0,0 +1,241 @@
+package com.example.grouple.loadtest.startup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 기동 모드별 첫 요청까지 걸리는 시간 (./gradlew startupBenchmark)
+ * 프로세스 시작부터 /actuator/health 가 200 을 돌려줄 때까지를 모드마다 runs 번 측정한다.
+ * - jar  : java -jar (기본 Dockerfile 과 같음)
+ * - cds  : 압축 해제한 jar + AppCDS 아카이브
+ * - lazy : fast-start 프로필 (Thymeleaf 제외, OpenAPI 지연 초기화, 리포지토리 deferred)
+ * - aot  : AOT 빈 정의 + AppCDS + fast-start 프로필 (Dockerfile fast 타깃과 같음, -Paot 로 만든 jar 필요)
+ * 앱은 로컬 DB(.env 또는 DB_URL)에 대해 뜨며, 결과는 build/reports/startup/result.md
+ */
+public final class StartupBenchmark {
+
+    private record Mode(String name, boolean cds, boolean fastStart, boolean aot) {
+    }
+
+    private record Run(long firstRequestMs, double startedSeconds) {
+    }
+
+    private static final List<Mode> MODES = List.of(
+            new Mode("jar", false, false, false),
+            new Mode("cds", true, false, false),
+            new Mode("lazy", false, true, false),
+            new Mode("aot", true, true, true));
+
+    // "Started GroupleApplication in 3.21 seconds (process running for 3.65)"
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in ([0-9.]+) seconds");
+    private static final String AOT_INITIALIZER =
+            "BOOT-INF/classes/com/example/grouple/GroupleApplication__ApplicationContextInitializer.class";
+
+    private final String java = ProcessHandle.current().info().command().orElse("java");
+    private final Path jar = Path.of(prop("jar", "build/libs/grouple-0.0.1-SNAPSHOT.jar")).toAbsolutePath();
+    private final Path workDir = Path.of(prop("workDir", "build/startup")).toAbsolutePath();
+    private final Path reportDir = Path.of(prop("reportDir", "build/reports/startup"));
+    private final int runs = Integer.parseInt(prop("runs", "5"));
+    private final Duration timeout = Duration.parse(prop("timeout", "PT120S"));
+    private final List<String> modeNames = Arrays.asList(prop("modes", "jar,cds,lazy,aot").split(","));
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (System.getenv("DB_URL") == null && !Files.exists(Path.of(".env"))) {
+            System.err.println("DB_URL (or .env) is required to boot the application against a local database");
+            System.exit(2);
+        }
+        new StartupBenchmark().run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        boolean aotJar;
+        try (JarFile file = new JarFile(jar.toFile())) {
+            aotJar = file.getEntry(AOT_INITIALIZER) != null;
+        }
+        Path extracted = extract();
+
+        StringBuilder md = new StringBuilder("# Startup benchmark\n\n");
+        md.append(String.format(Locale.ROOT, "jar: `%s`, runs: %d, java: `%s`%n%n", jar.getFileName(), runs,
+                Runtime.version()));
+        md.append("| mode | first request p50 ms | min | max | Spring started p50 s |\n");
+        md.append("|---|---:|---:|---:|---:|\n");
+        for (Mode mode : MODES) {
+            if (!modeNames.contains(mode.name())) {
+                continue;
+            }
+            if (mode.aot() && !aotJar) {
+                System.out.println("skip aot: jar has no AOT classes (run with -Paot)");
+                continue;
+            }
+            List<String> command = command(mode, extracted);
+            if (mode.cds()) {
+                train(mode, command);
+            }
+            List<Run> results = new ArrayList<>();
+            for (int i = 1; i <= runs; i++) {
+                Run result = measure(mode, command, i);
+                results.add(result);
+                System.out.printf(Locale.ROOT, "%-5s #%d first request %d ms (started in %.2fs)%n",
+                        mode.name(), i, result.firstRequestMs(), result.startedSeconds());
+            }
+            results.sort(Comparator.comparingLong(Run::firstRequestMs));
+            double startedMedian = results.stream().mapToDouble(Run::startedSeconds).sorted()
+                    .skip(results.size() / 2).findFirst().orElse(Double.NaN);
+            md.append(String.format(Locale.ROOT, "| %s | %d | %d | %d | %.2f |%n", mode.name(),
+                    results.get(results.size() / 2).firstRequestMs(), results.get(0).firstRequestMs(),
+                    results.get(results.size() - 1).firstRequestMs(), startedMedian));
+        }
+
+        Files.createDirectories(reportDir);
+        Files.writeString(reportDir.resolve("result.md"), md, StandardCharsets.UTF_8);
+        System.out.println();
+        System.out.print(md);
+    }
+
+    // CDS 는 압축 해제한 레이아웃(app.jar + lib/)에서만 동작
+    private Path extract() throws Exception {
+        Path target = workDir.resolve("app");
+        if (Files.exists(target)) {
+            try (Stream<Path> files = Files.walk(target)) {
+                for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+        Files.createDirectories(workDir);
+        exec(List.of(java, "-Djarmode=tools", "-jar", jar.toString(), "extract", "--destination", target.toString()),
+                workDir.resolve("extract.log"));
+        return target.resolve(jar.getFileName());
+    }
+
+    // 학습 실행 - 컨텍스트 refresh 직후 종료하면서 로드한 클래스를 아카이브에 기록
+    private void train(Mode mode, List<String> command) throws Exception {
+        List<String> training = new ArrayList<>(command);
+        training.set(training.indexOf("-XX:SharedArchiveFile=" + archive(mode)),
+                "-XX:ArchiveClassesAtExit=" + archive(mode));
+        training.add(1, "-Dspring.context.exit=onRefresh");
+        training.add("--server.port=0");
+        Files.deleteIfExists(archive(mode));
+        exec(training, workDir.resolve(mode.name() + "-training.log"));
+    }
+
+    private Run measure(Mode mode, List<String> command, int attempt) throws Exception {
+        int port = freePort();
+        List<String> args = new ArrayList<>(command);
+        args.add("--server.port=" + port);
+        HttpRequest health = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health"))
+                .timeout(Duration.ofSeconds(1)).GET().build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(args).redirectErrorStream(true).start();
+        double[] started = {Double.NaN};
+        Thread reader = Thread.ofVirtual().start(() -> copyLog(process, workDir.resolve(
+                mode.name() + "-" + attempt + ".log"), started));
+        try {
+            long deadline = start + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode.name() + " exited with " + process.exitValue()
+                            + ", see " + workDir.resolve(mode.name() + "-" + attempt + ".log"));
+                }
+                try {
+                    if (http.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                        process.destroy();
+                        process.waitFor(30, TimeUnit.SECONDS);
+                        reader.join(Duration.ofSeconds(5));
+                        return new Run(elapsed, started[0]);
+                    }
+                } catch (IOException e) {
+                    // 아직 포트가 열리지 않음
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException(mode.name() + " did not answer within " + timeout);
+        } finally {
+            process.destroyForcibly();
+        }
+    }
+
+    private List<String> command(Mode mode, Path extracted) {
+        List<String> command = new ArrayList<>(List.of(java));
+        if (mode.cds()) {
+            command.add("-XX:SharedArchiveFile=" + archive(mode));
+        }
+        if (mode.aot()) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        if (mode.fastStart()) {
+            command.add("-Dspring.profiles.active=fast-start");
+        }
+        command.add("-jar");
+        command.add(mode.cds() || mode.fastStart() ? extracted.toString() : jar.toString());
+        return command;
+    }
+
+    private Path archive(Mode mode) {
+        return workDir.resolve(mode.name() + ".jsa");
+    }
+
+    private static void exec(List<String> command, Path log) throws Exception {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(log.toFile()).start();
+        int exit = process.waitFor();
+        if (exit != 0) {
+            throw new IllegalStateException(String.join(" ", command) + " exited with " + exit + ", see " + log);
+        }
+    }
+
+    private static void copyLog(Process process, Path log, double[] started) {
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(Files.newBufferedWriter(log))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                out.println(line);
+                Matcher matcher = STARTED.matcher(line);
+                if (matcher.find()) {
+                    started[0] = Double.parseDouble(matcher.group(1));
+                }
+            }
+        } catch (IOException e) {
+            // 프로세스 종료
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String prop(String key, String defaultValue) {
+        return System.getProperty("startup." + key, defaultValue);
+    }
+}
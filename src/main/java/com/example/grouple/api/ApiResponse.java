@@ -1,12 +1,25 @@
 package com.example.grouple.api;
 
+import com.example.grouple.common.ErrorCode;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 @Getter
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ApiResponse<T> {
 
+    // 기본 메시지 오류 응답은 불변이므로 코드별로 하나만 만든다
+    private static final Map<ErrorCode, ApiResponse<Void>> ERRORS = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode code : ErrorCode.values()) {
+            ERRORS.put(code, error(code, code.getMessage()));
+        }
+    }
+
     private final String status;
     private final String message;
     private final T data;
@@ -28,7 +41,18 @@ public class ApiResponse<T> {
     public static <T> ApiResponse<T> error(int code, String message) {
         return new ApiResponse<>("error", null, null, new ErrorDetail(code, message));
     }
+    public static ApiResponse<Void> error(ErrorCode code) {
+        return ERRORS.get(code);
+    }
+    public static ApiResponse<Void> error(ErrorCode code, String message) {
+        return new ApiResponse<>("error", null, null,
+                new ErrorDetail(code.getStatus().value(), message, code.name()));
+    }
 
-    public record ErrorDetail(int code, String message) {
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ErrorDetail(int code, String message, String errorCode) {
+        public ErrorDetail(int code, String message) {
+            this(code, message, null);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.example.grouple.api;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * 목록 응답 공통 페이징 형식
+ * PageImpl 을 그대로 직렬화하면 pageable/sort 등 불필요한 메타 정보가 반복되므로 필요한 값만 담는다.
+ * 필드 구성을 바꿀 때는 CURRENT_VERSION 을 올려 클라이언트가 형식을 구분할 수 있게 한다.
+ * @param version 페이징 형식 버전
+ * @param page 0 부터 시작하는 페이지 번호
+ */
+@JsonPropertyOrder({"version", "items", "page", "size", "totalElements", "totalPages"})
+public record PageResponse<T>(int version, List<T> items, int page, int size, long totalElements, int totalPages) {
+
+    public static final int CURRENT_VERSION = 1;
+
+    public static <T> PageResponse<T> of(Page<T> page) {
+        return new PageResponse<>(CURRENT_VERSION, page.getContent(), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages());
+    }
+}
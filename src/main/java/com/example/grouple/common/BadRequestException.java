@@ -1,7 +1,11 @@
 package com.example.grouple.common;
 
-public class BadRequestException extends RuntimeException {
+public class BadRequestException extends DomainException {
     public BadRequestException(String msg) {
-        super(msg);
+        super(ErrorCode.BAD_REQUEST, msg);
+    }
+
+    public BadRequestException(ErrorCode errorCode) {
+        super(errorCode, null);
     }
 }
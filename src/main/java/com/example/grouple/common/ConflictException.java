@@ -1,7 +1,11 @@
 package com.example.grouple.common;
 
-public class ConflictException extends RuntimeException {
+public class ConflictException extends DomainException {
     public ConflictException(String msg) {
-        super(msg);
+        super(ErrorCode.CONFLICT, msg);
     }
-}
\ No newline at end of file
+
+    public ConflictException(ErrorCode errorCode) {
+        super(errorCode, null);
+    }
+}
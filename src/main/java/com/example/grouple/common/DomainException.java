@@ -0,0 +1,26 @@
+package com.example.grouple.common;
+
+import lombok.Getter;
+
+/**
+ * 도메인 오류 (HTTP 상태 + ErrorCode 로 응답)
+ * 클라이언트 요청으로 흔하게 발생하는 정상 흐름이라 스택 트레이스와 suppressed 목록을 만들지 않는다.
+ * 원인 예외가 필요한 오류는 이 타입을 쓰지 않는다.
+ */
+@Getter
+public abstract class DomainException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    protected DomainException(ErrorCode errorCode, String message) {
+        super(message != null ? message : errorCode.getMessage(), null, false, false);
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * 메시지가 ErrorCode 기본값이면 미리 만든 응답을 재사용할 수 있다.
+     */
+    public boolean hasDefaultMessage() {
+        return errorCode.getMessage().equals(getMessage());
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.grouple.common;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * API 오류 코드 (응답의 error.errorCode, 클라이언트 분기용이므로 이름을 바꾸지 않는다)
+ */
+@Getter
+public enum ErrorCode {
+    BAD_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
+    FILE_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "파일 크기 제한을 초과했습니다."),
+    INVALID_IMAGE(HttpStatus.BAD_REQUEST, "지원하지 않는 이미지입니다."),
+
+    UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "인증이 필요합니다."),
+
+    FORBIDDEN(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
+    ORG_FORBIDDEN(HttpStatus.FORBIDDEN, "조직에 대한 권한이 없습니다."),
+    RECEIPT_FORBIDDEN(HttpStatus.FORBIDDEN, "이 항목에 대한 권한이 없습니다."),
+    STORAGE_QUOTA_EXCEEDED(HttpStatus.FORBIDDEN, "조직 저장 공간이 부족합니다."),
+    IMAGE_QUOTA_EXCEEDED(HttpStatus.FORBIDDEN, "이미지 저장 공간이 부족합니다."),
+
+    NOT_FOUND(HttpStatus.NOT_FOUND, "요청한 정보를 찾을 수 없습니다."),
+    USER_NOT_FOUND(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."),
+    ORG_NOT_FOUND(HttpStatus.NOT_FOUND, "조직을 찾을 수 없습니다."),
+    MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "조직 구성원을 찾을 수 없습니다."),
+    ANNOUNCEMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "공지사항을 찾을 수 없습니다."),
+    DOCUMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "문서를 찾을 수 없습니다."),
+    DOCUMENT_CONTENT_NOT_FOUND(HttpStatus.NOT_FOUND, "문서 파일이 없습니다."),
+    IMAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "이미지를 찾을 수 없습니다."),
+    IMAGES_DISABLED(HttpStatus.NOT_FOUND, "이미지 기능을 사용할 수 없는 서버입니다."),
+    JOIN_REQUEST_NOT_FOUND(HttpStatus.NOT_FOUND, "가입 요청을 찾을 수 없습니다."),
+    RECEIPT_NOT_FOUND(HttpStatus.NOT_FOUND, "가계부 항목을 찾을 수 없습니다."),
+    SCHEDULE_NOT_FOUND(HttpStatus.NOT_FOUND, "일정을 찾을 수 없습니다."),
+
+    CONFLICT(HttpStatus.CONFLICT, "이미 존재하거나 충돌하는 요청입니다."),
+    ALREADY_MEMBER(HttpStatus.CONFLICT, "이미 조직의 구성원입니다."),
+    JOIN_REQUEST_ALREADY_PENDING(HttpStatus.CONFLICT, "이미 처리 중인 가입 요청이 있습니다."),
+    JOIN_REQUEST_ALREADY_DECIDED(HttpStatus.CONFLICT, "이미 처리된 요청입니다.");
+
+    private final HttpStatus status;
+    private final String message;
+
+    ErrorCode(HttpStatus status, String message) {
+        this.status = status;
+        this.message = message;
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.grouple.common;
 
-public class ForbiddenException extends RuntimeException {
+public class ForbiddenException extends DomainException {
     public ForbiddenException(String msg) {
-        super(msg);
+        super(ErrorCode.FORBIDDEN, msg);
+    }
+
+    public ForbiddenException(ErrorCode errorCode) {
+        super(errorCode, null);
     }
 }
@@ -0,0 +1,42 @@
+package com.example.grouple.common;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드한 이미지 URL 규칙 (/images/{sha256}, 썸네일 /images/{sha256}/thumbnails/{px})
+ * 사용자/조직/가계부의 image 문자열에 원본 URL 을 저장하고, 목록 응답은 썸네일 URL 을 함께 내려준다.
+ * 외부 URL 등 이 형식이 아닌 값은 썸네일 없이 그대로 사용한다.
+ */
+public final class ImageUrls {
+
+    public static final int SMALL = 96;   // 목록
+    public static final int MEDIUM = 320; // 상세/프로필
+    public static final List<Integer> SIZES = List.of(SMALL, MEDIUM);
+
+    private static final String PREFIX = "/images/";
+    private static final Pattern ORIGINAL = Pattern.compile("^/images/([0-9a-f]{64})$");
+
+    private ImageUrls() {
+    }
+
+    public static String original(String sha256) {
+        return PREFIX + sha256;
+    }
+
+    public static String thumbnail(String sha256, int size) {
+        return PREFIX + sha256 + "/thumbnails/" + size;
+    }
+
+    /**
+     * 저장된 image 값의 썸네일 URL (업로드 이미지가 아니면 원래 값)
+     */
+    public static String thumbnailOf(String image, int size) {
+        if (image == null) {
+            return null;
+        }
+        Matcher matcher = ORIGINAL.matcher(image);
+        return matcher.matches() ? thumbnail(matcher.group(1), size) : image;
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.grouple.common;
 
-public class NotFoundException extends RuntimeException {
+public class NotFoundException extends DomainException {
     public NotFoundException(String msg) {
-        super(msg);
+        super(ErrorCode.NOT_FOUND, msg);
+    }
+
+    public NotFoundException(ErrorCode errorCode) {
+        super(errorCode, null);
     }
 }
@@ -1,5 +1,11 @@
 package com.example.grouple.common;
 
-public class UnauthorizedException extends RuntimeException {
-    public UnauthorizedException(String msg) { super(msg); }
-}
\ No newline at end of file
+public class UnauthorizedException extends DomainException {
+    public UnauthorizedException(String msg) {
+        super(ErrorCode.UNAUTHORIZED, msg);
+    }
+
+    public UnauthorizedException(ErrorCode errorCode) {
+        super(errorCode, null);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.grouple.config;
+
+import com.example.grouple.monitoring.ConnectionHoldTimeFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * 요청별 DB 커넥션 점유 시간 계측
+ * (app.datasource.hold-time.enabled=false 로 끌 수 있음)
+ * 커넥션 반납 시점 기록은 StatementTimingDataSource 가 맡는다 (MetricsConfig).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.hold-time", name = "enabled", matchIfMissing = true)
+public class ConnectionHoldTimeConfig {
+
+    // 보안 필터보다 먼저 실행되어 요청 전체 구간을 측정
+    @Bean
+    public FilterRegistrationBean<ConnectionHoldTimeFilter> connectionHoldTimeFilter(
+            @Value("${app.datasource.hold-time.warn-threshold:PT1S}") Duration warnThreshold) {
+        FilterRegistrationBean<ConnectionHoldTimeFilter> registration =
+                new FilterRegistrationBean<>(new ConnectionHoldTimeFilter(warnThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.grouple.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * 빠른 기동 모드 (fast-start 프로필, Dockerfile 의 fast 타깃)
+ * 첫 요청 처리에 필요 없는 빈(OpenAPI 문서 등)을 지연 초기화한다.
+ * 대상은 빈을 선언한 클래스 이름 접두사 (app.startup.lazy-prefixes).
+ * 컨트롤러 빈도 핸들러 매핑 등록은 타입만 보므로 실제 생성은 첫 호출 때 일어난다.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@Profile("fast-start")
+public class FastStartConfig {
+
+    // 다른 빈보다 먼저 등록돼야 하므로 static
+    @Bean
+    public static BeanFactoryPostProcessor lazyNonCriticalBeans(Environment environment) {
+        List<String> prefixes = List.of(environment.getProperty("app.startup.lazy-prefixes", String[].class,
+                new String[0]));
+        return beanFactory -> {
+            int count = 0;
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                String origin = declaringClass(definition);
+                if (origin != null && !definition.isLazyInit() && prefixes.stream().anyMatch(origin::startsWith)) {
+                    definition.setLazyInit(true);
+                    count++;
+                }
+            }
+            log.info("Lazy initialization enabled for {} beans matching {}", count, prefixes);
+        };
+    }
+
+    // @Bean 메서드로 만든 빈은 메서드를 선언한 설정 클래스 기준
+    private static String declaringClass(BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition annotated && annotated.getFactoryMethodMetadata() != null) {
+            return annotated.getFactoryMethodMetadata().getDeclaringClassName();
+        }
+        return definition.getBeanClassName();
+    }
+}
@@ -3,48 +3,63 @@ package com.example.grouple.config;
 import com.example.grouple.api.ApiResponse;
 import com.example.grouple.common.BadRequestException;
 import com.example.grouple.common.ConflictException;
+import com.example.grouple.common.DomainException;
+import com.example.grouple.common.ErrorCode;
 import com.example.grouple.common.ForbiddenException;
 import com.example.grouple.common.NotFoundException;
 import com.example.grouple.common.UnauthorizedException;
+import jakarta.persistence.EntityNotFoundException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // 기본 메시지 도메인 오류 / 권한 거부는 미리 만든 응답을 그대로 반환
+    private static final Map<ErrorCode, ResponseEntity<ApiResponse<Void>>> RESPONSES = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode code : ErrorCode.values()) {
+            RESPONSES.put(code, ResponseEntity.status(code.getStatus()).body(ApiResponse.error(code)));
+        }
+    }
+
     @ExceptionHandler({BadRequestException.class, IllegalArgumentException.class})
     public ResponseEntity<ApiResponse<Void>> handleBadRequest(RuntimeException e) {
-        return ResponseEntity.badRequest().body(ApiResponse.error(400, e.getMessage()));
+        return respond(HttpStatus.BAD_REQUEST, e);
     }
 
     @ExceptionHandler({UnauthorizedException.class, org.springframework.security.authentication.BadCredentialsException.class})
     public ResponseEntity<ApiResponse<Void>> handleUnauthorized(RuntimeException e) {
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                .body(ApiResponse.error(HttpStatus.UNAUTHORIZED.value(), e.getMessage()));
+        return respond(HttpStatus.UNAUTHORIZED, e);
     }
 
     @ExceptionHandler({ForbiddenException.class, AuthorizationDeniedException.class, org.springframework.security.access.AccessDeniedException.class})
     public ResponseEntity<ApiResponse<Void>> handleForbidden(RuntimeException e) {
-        return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                .body(ApiResponse.error(HttpStatus.FORBIDDEN.value(), e.getMessage()));
+        if (e instanceof AuthorizationDeniedException) {
+            return RESPONSES.get(ErrorCode.FORBIDDEN); // @PreAuthorize 거부 (메시지는 항상 "Access Denied")
+        }
+        return respond(HttpStatus.FORBIDDEN, e);
     }
 
-    @ExceptionHandler({NotFoundException.class, NoSuchElementException.class})
+    @ExceptionHandler({NotFoundException.class, NoSuchElementException.class, EntityNotFoundException.class})
     public ResponseEntity<ApiResponse<Void>> handleNotFound(RuntimeException e) {
-        String message = e.getMessage() != null ? e.getMessage() : "요청한 정보를 찾을 수 없습니다.";
-        return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                .body(ApiResponse.error(HttpStatus.NOT_FOUND.value(), message));
+        if (!(e instanceof DomainException) && e.getMessage() == null) {
+            return RESPONSES.get(ErrorCode.NOT_FOUND);
+        }
+        return respond(HttpStatus.NOT_FOUND, e);
     }
 
     @ExceptionHandler(ConflictException.class)
     public ResponseEntity<ApiResponse<Void>> handleConflict(ConflictException e) {
-        return ResponseEntity.status(HttpStatus.CONFLICT)
-                .body(ApiResponse.error(HttpStatus.CONFLICT.value(), e.getMessage()));
+        return respond(HttpStatus.CONFLICT, e);
     }
 
     @ExceptionHandler(Exception.class)
@@ -52,4 +67,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.error(HttpStatus.INTERNAL_SERVER_ERROR.value(), e.getMessage()));
     }
-}
\ No newline at end of file
+
+    private static ResponseEntity<ApiResponse<Void>> respond(HttpStatus status, RuntimeException e) {
+        if (e instanceof DomainException domain) {
+            ErrorCode code = domain.getErrorCode();
+            if (domain.hasDefaultMessage()) {
+                return RESPONSES.get(code);
+            }
+            return ResponseEntity.status(code.getStatus()).body(ApiResponse.error(code, e.getMessage()));
+        }
+        return ResponseEntity.status(status).body(ApiResponse.error(status.value(), e.getMessage()));
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.grouple.config;
+
+import com.example.grouple.monitoring.jfr.JfrRecordingService;
+import com.example.grouple.monitoring.jfr.RepositoryEventInterceptor;
+import com.example.grouple.monitoring.jfr.ServiceEventPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 커스텀 JFR 이벤트(grouple.*)와 요청 시 기록
+ * - 권한 검사 / JWT 검증은 해당 클래스에서 직접 이벤트를 남긴다.
+ * - 서비스 메서드, 리포지토리 호출은 프록시 인터셉터로 남긴다.
+ * 이벤트는 JFR 기록이 켜져 있을 때만 값을 채우고 커밋하므로 항상 켜 두어도 된다.
+ */
+@Configuration
+public class JfrConfig {
+
+    @Bean
+    public static ServiceEventPostProcessor serviceEventPostProcessor() {
+        return new ServiceEventPostProcessor();
+    }
+
+    // Spring Data 리포지토리 프록시 생성 시 인터셉터 추가 (FactoryBean 초기화 전에 등록해야 함)
+    @Bean
+    public static BeanPostProcessor repositoryEventPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) -> proxyFactory.addAdvice(
+                                    new RepositoryEventInterceptor(information.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean(destroyMethod = "close")
+    public JfrRecordingService jfrRecordingService(
+            @Value("${app.jfr.settings:default}") String settings,
+            @Value("${app.jfr.max-duration:PT10M}") Duration maxDuration,
+            @Value("${app.jfr.max-size:100MB}") DataSize maxSize,
+            @Value("${app.jfr.threshold:PT0S}") Duration threshold) {
+        return new JfrRecordingService(settings, maxDuration, maxSize.toBytes(), threshold);
+    }
+}
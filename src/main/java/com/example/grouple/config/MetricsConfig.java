@@ -0,0 +1,63 @@
+package com.example.grouple.config;
+
+import com.example.grouple.monitoring.ServiceMetricsPostProcessor;
+import com.example.grouple.monitoring.SloMonitor;
+import com.example.grouple.monitoring.StatementTimingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 서비스 메서드 타이머(DB / 나머지 분리)와 엔드포인트 p99 SLO 점검
+ * - 엔드포인트 타이머(http.server.requests)는 Spring Boot 기본 계측을 사용 (uri 템플릿, outcome 태그)
+ * - 히스토그램/백분위/SLO 구간은 application.yml 의 management.metrics.distribution 에서 설정
+ */
+@Configuration
+public class MetricsConfig {
+
+    // 문장 시간(service-timers)과 커넥션 점유 시간(hold-time)을 커넥션 프록시 한 겹으로 계측
+    @Bean
+    public static BeanPostProcessor statementTimingDataSourcePostProcessor(Environment environment) {
+        boolean timeStatements = environment.getProperty("app.metrics.service-timers.enabled", Boolean.class, true);
+        boolean trackHoldTime = environment.getProperty("app.datasource.hold-time.enabled", Boolean.class, true);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ((timeStatements || trackHoldTime)
+                        && bean instanceof DataSource dataSource && !(bean instanceof StatementTimingDataSource)) {
+                    return new StatementTimingDataSource(dataSource, timeStatements, trackHoldTime);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.metrics.service-timers", name = "enabled", matchIfMissing = true)
+    public static ServiceMetricsPostProcessor serviceMetricsPostProcessor(ObjectProvider<MeterRegistry> registry) {
+        return new ServiceMetricsPostProcessor(registry);
+    }
+
+    @Bean
+    public SloMonitor sloMonitor(MeterRegistry registry,
+                                 Environment environment,
+                                 @Value("${app.slo.p99.default:PT0.5S}") Duration defaultTarget,
+                                 @Value("${app.slo.min-requests:100}") long minRequests) {
+        // 키 형식: "[GET /organizations/{orgId}/receipts]"
+        Map<String, Duration> routes = Binder.get(environment)
+                .bind("app.slo.p99.routes", Bindable.mapOf(String.class, Duration.class))
+                .orElse(Map.of());
+        return new SloMonitor(registry, defaultTarget, routes, minRequests);
+    }
+}
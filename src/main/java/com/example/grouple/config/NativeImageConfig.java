@@ -0,0 +1,103 @@
+package com.example.grouple.config;
+
+import com.example.grouple.repository.JoinRequestRepository;
+import com.example.grouple.repository.OrganizationRepository;
+import com.example.grouple.security.AdminAuthz;
+import com.example.grouple.security.AuthPrincipal;
+import com.example.grouple.security.OrganizationAuthz;
+import com.example.grouple.security.UserAuthz;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.data.projection.TargetAware;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GraalVM 네이티브 이미지 도달성 메타데이터 (./gradlew nativeCompile -Pnative)
+ * AOT 처리가 빈/컨트롤러/리포지토리에서 찾지 못하는 리플렉션만 등록한다.
+ * - DTO / API 응답: 컨트롤러가 ResponseEntity<?> 를 반환해 타입을 알 수 없으므로 패키지를 스캔해 Jackson 바인딩용으로 등록
+ * - 엔티티: Hibernate 필드 접근, JPQL 생성자 표현식
+ * - @PreAuthorize SpEL 빈 (@organizationAuthz 등) 과 OrganizationAuthz.authId 의 getId 리플렉션
+ * - 인터페이스 기반 프로젝션 (Spring Data 가 JDK 프록시로 구현)
+ * - JJWT: Jwts 가 구현 클래스를 이름으로 생성 (jjwt-impl/jjwt-jackson 은 runtimeOnly)
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeImageConfig.Hints.class)
+public class NativeImageConfig {
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        private static final String[] BINDING_PACKAGES = {"com.example.grouple.dto", "com.example.grouple.api"};
+        private static final String ENTITY_PACKAGE = "com.example.grouple.entity";
+        private static final String[] JJWT_TYPES = {
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParser",
+                "io.jsonwebtoken.impl.DefaultClaims",
+                "io.jsonwebtoken.impl.DefaultHeader",
+                "io.jsonwebtoken.impl.DefaultJwsHeader",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+        };
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            BindingReflectionHintsRegistrar binding = new BindingReflectionHintsRegistrar();
+            for (String pkg : BINDING_PACKAGES) {
+                binding.registerReflectionHints(hints.reflection(), scan(pkg, classLoader).toArray(Class[]::new));
+            }
+            for (Class<?> entity : scan(ENTITY_PACKAGE, classLoader)) {
+                hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+
+            for (Class<?> authz : List.of(OrganizationAuthz.class, UserAuthz.class, AdminAuthz.class)) {
+                hints.reflection().registerType(authz, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.reflection().registerType(AuthPrincipal.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+            for (Class<?> projection : List.of(JoinRequestRepository.JoinEligibility.class,
+                    JoinRequestRepository.DecisionTarget.class, OrganizationRepository.ContentVersion.class)) {
+                hints.reflection().registerType(projection, MemberCategory.INVOKE_PUBLIC_METHODS);
+                hints.proxies().registerJdkProxy(projection, TargetAware.class, SpringProxy.class,
+                        DecoratingProxy.class);
+            }
+
+            for (String type : JJWT_TYPES) {
+                hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+        }
+
+        // 패키지 아래 모든 최상위/정적 중첩 클래스 (record, enum 포함)
+        private static List<Class<?>> scan(String basePackage, ClassLoader classLoader) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(AnnotatedBeanDefinition definition) {
+                    return definition.getMetadata().isIndependent();
+                }
+            };
+            scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+            scanner.addIncludeFilter((reader, factory) -> true);
+            List<Class<?>> types = new ArrayList<>();
+            for (BeanDefinition definition : scanner.findCandidateComponents(basePackage)) {
+                types.add(ClassUtils.resolveClassName(definition.getBeanClassName(), classLoader));
+            }
+            return types;
+        }
+    }
+}
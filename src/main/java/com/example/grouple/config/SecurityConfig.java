@@ -3,17 +3,23 @@ package com.example.grouple.config;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
+import com.example.grouple.monitoring.jfr.JwtVerificationEvent;
+import com.example.grouple.security.AdminAuthz;
 import com.example.grouple.security.AuthPrincipal;
+import com.example.grouple.security.ImageAuthz;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -33,6 +39,7 @@ import org.springframework.web.servlet.handler.HandlerMappingIntrospector;
 
 import javax.crypto.SecretKey;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 
@@ -42,8 +49,15 @@ import java.util.List;
 @AllArgsConstructor
 public class SecurityConfig {
 
+    // 스캐너/잘못된 클라이언트로 대량 발생하는 401/403 본문은 미리 인코딩해 둔다
+    private static final byte[] UNAUTHORIZED_BODY = json("{\"status\":\"error\",\"message\":\"Unauthorized\"}");
+    private static final byte[] FORBIDDEN_BODY = json("{\"status\":\"error\",\"message\":\"Forbidden\"}");
+    private static final byte[] INVALID_TOKEN_BODY = json("{\"status\":\"error\",\"message\":\"Invalid or expired token\"}");
+
     private final SecretKey jwtKey;
     private final UserDetailsService uds;
+    private final AdminAuthz adminAuthz;
+    private final ImageAuthz imageAuthz;
 
 
     @Bean
@@ -62,31 +76,49 @@ public class SecurityConfig {
     @Bean
     public SecurityFilterChain filterChain(org.springframework.security.config.annotation.web.builders.HttpSecurity http, HandlerMappingIntrospector introspector) throws Exception {
         RequestMatcher[] PUBLIC = getRequestMatchers(introspector);
+        RequestMatcher actuator = new MvcRequestMatcher.Builder(introspector).pattern("/actuator/**");
+        RequestMatcher images = new MvcRequestMatcher.Builder(introspector)
+                .pattern(HttpMethod.GET, "/images/{sha256}/**");
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .formLogin(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 등 비동기 응답의 재디스패치 (최초 요청에서 이미 인증/인가됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(PUBLIC).permitAll()   // swagger, /auth/login, /auth/register 만
+                        // 메트릭(prometheus, metrics)에는 경로/사용량이 드러나므로 운영 관리자 토큰으로만 조회
+                        // (/actuator/health 는 위 PUBLIC 에서 먼저 허용)
+                        .requestMatchers(actuator).access((authentication, context) ->
+                                new AuthorizationDecision(adminAuthz.isAdmin()))
+                        // 업로드 이미지/썸네일 - 조직 로고만 토큰 없이 <img> 로 불러올 수 있음
+                        .requestMatchers(images).access((authentication, context) ->
+                                new AuthorizationDecision(imageAuthz.canRead(authentication.get(),
+                                        context.getVariables().get("sha256"))))
                         .anyRequest().authenticated()
                 )
                 .exceptionHandling(ex -> ex
-                        .authenticationEntryPoint((req, res, e) -> {
-                            res.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                            res.setContentType("application/json");
-                            res.getWriter().write("{\"status\":\"error\",\"message\":\"Unauthorized\"}");
-                        })
-                        .accessDeniedHandler((req, res, e) -> {
-                            res.setStatus(HttpServletResponse.SC_FORBIDDEN);
-                            res.setContentType("application/json");
-                            res.getWriter().write("{\"status\":\"error\",\"message\":\"Forbidden\"}");
-                        })
+                        .authenticationEntryPoint((req, res, e) ->
+                                writeJson(res, HttpServletResponse.SC_UNAUTHORIZED, UNAUTHORIZED_BODY))
+                        .accessDeniedHandler((req, res, e) ->
+                                writeJson(res, HttpServletResponse.SC_FORBIDDEN, FORBIDDEN_BODY))
                 )
                 .addFilterBefore(new JwtAuthFilter(jwtKey, PUBLIC), UsernamePasswordAuthenticationFilter.class)
                 .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
         return http.build();
     }
 
+    private static byte[] json(String body) {
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void writeJson(HttpServletResponse res, int status, byte[] body) throws IOException {
+        res.setStatus(status);
+        res.setContentType("application/json");
+        res.setContentLength(body.length);
+        res.getOutputStream().write(body);
+    }
+
     private static RequestMatcher[] getRequestMatchers(HandlerMappingIntrospector introspector) {
         var mvc = new MvcRequestMatcher.Builder(introspector);
         return new RequestMatcher[] {
@@ -96,7 +128,8 @@ public class SecurityConfig {
                 mvc.pattern("/auth/login"),
                 mvc.pattern("/auth/register"),
                 mvc.pattern("/auth/refresh"),
-                mvc.pattern("/auth/check_id")
+                mvc.pattern("/auth/check_id"),
+                mvc.pattern("/actuator/health")
         };
     }
 
@@ -132,12 +165,15 @@ public class SecurityConfig {
             String h = req.getHeader("Authorization");
             if (h != null && h.startsWith("Bearer ")) {
                 String token = h.substring(7);
+                JwtVerificationEvent event = new JwtVerificationEvent();
+                event.begin();
                 try {
                     var jws = parser.parseClaimsJws(token);
                     var claims = jws.getBody();
 
                     String subject = claims.getSubject();              // username
                     Integer uid = claims.get("id", Integer.class);     // 선택: 사용자 ID 클레임
+                    event.succeeded("filter", uid);
                     // 권한이 필요하면 List<String> roles = claims.get("roles", List.class);
                     var auth = new UsernamePasswordAuthenticationToken(
                             new AuthPrincipal(uid, subject),
@@ -147,10 +183,9 @@ public class SecurityConfig {
                     auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(req));
                     SecurityContextHolder.getContext().setAuthentication(auth);
                 } catch (JwtException e) {
-                    res.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                    event.failed("filter", e);
                     res.setHeader("WWW-Authenticate", "Bearer error=\"invalid_token\"");
-                    res.setContentType("application/json");
-                    res.getWriter().write("{\"status\":\"error\",\"message\":\"Invalid or expired token\"}");
+                    writeJson(res, HttpServletResponse.SC_UNAUTHORIZED, INVALID_TOKEN_BODY);
                     return;
                 }
             }
@@ -0,0 +1,63 @@
+package com.example.grouple.controller;
+
+import com.example.grouple.api.ApiResponse;
+import com.example.grouple.dto.monitoring.response.JfrRecordingResponse;
+import com.example.grouple.monitoring.jfr.JfrRecordingService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Tag(name = "99. 운영 - JFR")
+@RestController
+@RequestMapping("/admin/jfr")
+@PreAuthorize("@adminAuthz.isAdmin()")
+public class AdminJfrController extends BaseController {
+
+    private final JfrRecordingService recordingService;
+
+    public AdminJfrController(JfrRecordingService recordingService) {
+        this.recordingService = recordingService;
+    }
+
+    /**
+     * 기록 시작 (duration 예: PT2M, 생략하면 최대 길이)
+     */
+    @PostMapping("/start")
+    public ResponseEntity<?> start(@RequestParam(required = false) Duration duration) {
+        JfrRecordingResponse response = recordingService.start(duration);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(response));
+    }
+
+    @PostMapping("/stop")
+    public ResponseEntity<?> stop() {
+        return ResponseEntity.ok(ApiResponse.success(recordingService.stop()));
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<?> status() {
+        return ResponseEntity.ok(ApiResponse.success(recordingService.status()));
+    }
+
+    /**
+     * 멈춘 기록을 .jfr 파일로 내려받기 (JDK Mission Control / jfr print 로 확인)
+     */
+    @GetMapping("/recording")
+    public ResponseEntity<Resource> download() {
+        Path file = recordingService.recordingFile();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("grouple.jfr").build().toString())
+                .body(new FileSystemResource(file));
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.grouple.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 파일 다운로드 응답 (단일 HTTP Range, ETag 조건부 요청)
+ * - Tomcat sendfile 을 쓸 수 있으면 본문을 쓰지 않고 파일 경로만 넘김 (커넥터가 소켓으로 바로 전송)
+ * - 아니면 FileChannel.transferTo 로 응답 스트림에 복사
+ * 여러 구간 Range 는 지원하지 않고 전체를 200 으로 보낸다 (RFC 9110 허용).
+ * 사용자가 올린 내용이므로 항상 첨부(attachment) + nosniff 로 보내 브라우저가 페이지로 해석하지 않게 한다.
+ */
+final class FileDownloadWriter {
+
+    record ByteRange(long start, long end) { // end 미포함
+        long length() {
+            return end - start;
+        }
+    }
+
+    static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // 작은 파일은 버퍼 복사가 더 싸다 (Tomcat DefaultServlet 의 sendfileSize 기본값)
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    private FileDownloadWriter() {
+    }
+
+    /**
+     * @param sha256   내용 해시 (강한 ETag, 파생 파일이면 해시에 구분자를 붙인 값)
+     * @param fileName 저장 파일 이름 (없으면 해시를 이름으로 사용)
+     */
+    static void write(HttpServletRequest request, HttpServletResponse response, Path path, long size,
+                      String sha256, String contentType, String fileName) throws IOException {
+        String etag = "\"" + sha256 + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        if (etagMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        ByteRange range = null;
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null || ifRange.trim().equals(etag)) {
+            range = parseRange(request.getHeader(HttpHeaders.RANGE), size);
+        }
+        if (range == UNSATISFIABLE) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            return;
+        }
+        if (range == null) {
+            range = new ByteRange(0, size);
+            response.setStatus(HttpServletResponse.SC_OK);
+        } else {
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + range.start() + "-" + (range.end() - 1) + "/" + size);
+        }
+        response.setContentType(StringUtils.hasText(contentType) ? contentType : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(StringUtils.hasText(fileName) ? fileName : sha256, StandardCharsets.UTF_8)
+                .build().toString());
+        response.setContentLengthLong(range.length());
+        if (HttpMethod.HEAD.matches(request.getMethod()) || range.length() == 0) {
+            return;
+        }
+
+        if (range.length() >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, range.start());
+            request.setAttribute(SENDFILE_END, range.end());
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = range.start();
+            long remaining = range.length();
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break; // 파일이 예상보다 짧음
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * Range 헤더 해석
+     * @return null 이면 전체 전송 (헤더 없음, 형식 오류, 여러 구간), 만족할 수 없으면 UNSATISFIABLE
+     */
+    static ByteRange parseRange(String header, long size) {
+        if (header == null || !header.startsWith("bytes=")) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0 || spec.indexOf(',') >= 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // 끝에서 n 바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || size == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new ByteRange(Math.max(0, size - suffix), size);
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? size - 1 : Long.parseLong(last);
+            if (start < 0 || end < start) {
+                return null;
+            }
+            if (start >= size) {
+                return UNSATISFIABLE;
+            }
+            return new ByteRange(start, Math.min(end, size - 1) + 1);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.grouple.controller;
+
+import com.example.grouple.api.ApiResponse;
+import com.example.grouple.dto.image.response.ImageUploadResponse;
+import com.example.grouple.security.AuthPrincipal;
+import com.example.grouple.service.ImageService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * 이미지 업로드/조회 - 응답의 url 을 프로필/조직/가계부 image 에 저장
+ * 조회는 로그인 필요, 조직 로고만 토큰 없이 가능 (ImageAuthz)
+ */
+@Tag(name = "11. 이미지")
+@RestController
+@RequestMapping("/images")
+public class ImageController extends BaseController {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final ImageService imageService;
+
+    public ImageController(ImageService imageService) {
+        this.imageService = imageService;
+    }
+
+    /**
+     * 이미지 업로드 - 요청 본문 그대로
+     */
+    @PutMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> upload(@AuthenticationPrincipal AuthPrincipal principal,
+                                    HttpServletRequest request) throws IOException {
+        ImageUploadResponse response = imageService.upload(requireUserId(principal), request.getContentLengthLong(),
+                request.getInputStream());
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(response));
+    }
+
+    /**
+     * 이미지 업로드 - multipart/form-data 의 file 파트
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> uploadMultipart(@AuthenticationPrincipal AuthPrincipal principal,
+                                             @RequestPart("file") MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            ImageUploadResponse response = imageService.upload(requireUserId(principal), file.getSize(), in);
+            return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(response));
+        }
+    }
+
+    @GetMapping("/{sha256}")
+    public void original(
+            @PathVariable String sha256,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        write(request, response, imageService.getOriginal(sha256));
+    }
+
+    /**
+     * 썸네일 (긴 변 기준 px, 생성 중이면 202 + Retry-After 로 다시 요청하게 함)
+     */
+    @GetMapping("/{sha256}/thumbnails/{size}")
+    public void thumbnail(
+            @PathVariable String sha256,
+            @PathVariable int size,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        Optional<ImageService.ImageContent> content = imageService.getThumbnail(sha256, size);
+        if (content.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_ACCEPTED);
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            return;
+        }
+        write(request, response, content.get());
+    }
+
+    private static void write(HttpServletRequest request, HttpServletResponse response,
+                              ImageService.ImageContent content) throws IOException {
+        FileDownloadWriter.write(request, response, content.path(), content.size(), content.etag(),
+                content.contentType(), null);
+    }
+}
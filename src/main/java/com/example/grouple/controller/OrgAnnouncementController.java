@@ -1,6 +1,7 @@
 package com.example.grouple.controller;
 
 import com.example.grouple.api.ApiResponse;
+import com.example.grouple.api.PageResponse;
 import com.example.grouple.dto.announcement.request.AnnouncementCreateRequest;
 import com.example.grouple.dto.announcement.response.AnnouncementCreateResponse;
 import com.example.grouple.security.AuthPrincipal;
@@ -49,7 +50,7 @@ public class OrgAnnouncementController extends BaseController {
     ) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<AnnouncementCreateResponse> responsePage = announcementService.getAnnouncementsByOrgId(orgId, pageable);
-        return ResponseEntity.ok(ApiResponse.success(responsePage));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.of(responsePage)));
     }
 
     @GetMapping("/{announcementId}")
@@ -71,7 +72,7 @@ public class OrgAnnouncementController extends BaseController {
     ) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<AnnouncementCreateResponse> responsePage = announcementService.getStarredAnnouncements(orgId, pageable);
-        return ResponseEntity.ok(ApiResponse.success(responsePage));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.of(responsePage)));
     }
 
     @GetMapping("/search")
@@ -84,7 +85,7 @@ public class OrgAnnouncementController extends BaseController {
     ) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<AnnouncementCreateResponse> responsePage = announcementService.searchAnnouncementByTitles(orgId, keyword, pageable);
-        return ResponseEntity.ok(ApiResponse.success(responsePage));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.of(responsePage)));
     }
 
     @PatchMapping("/{announcementId}")
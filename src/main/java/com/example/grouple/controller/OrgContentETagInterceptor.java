@@ -0,0 +1,92 @@
+package com.example.grouple.controller;
+
+import com.example.grouple.security.AuthPrincipal;
+import com.example.grouple.service.OrgContentVersions;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 조직 단위 GET 요청의 조건부 응답 (ETag / If-None-Match)
+ * - 경로에 {orgId} 가 있는 이 패키지 컨트롤러의 GET 핸들러에 적용
+ *   (SSE 스트림, 응답을 직접 쓰며 자체 ETag 를 쓰는 파일 다운로드 제외)
+ * - ETag = 조직 ID + 내용 버전 + 사용자 ID (사용자별 응답 차이, 다른 사용자의 ETag 재사용 방지)
+ * - If-None-Match 가 일치하면 엔티티를 읽기 전에 304 로 종료
+ * - 컨트롤러의 @PreAuthorize 보다 먼저 실행되므로 읽기 권한(멤버/생성자)이 있을 때만 ETag 를 비교/설정
+ *   (권한이 없으면 ETag 없이 넘겨 컨트롤러에서 403 - 추측한 ETag 로 304 를 받거나 버전을 알아낼 수 없음)
+ * 버전을 먼저 읽으므로 그 사이 쓰기가 커밋되면 응답이 ETag 보다 새로울 수 있지만,
+ * 다음 요청에서 버전이 달라 200 이 되므로 오래된 내용이 304 로 남지는 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrgContentETagInterceptor implements HandlerInterceptor {
+
+    private static final String ORG_ID_VARIABLE = "orgId";
+
+    private final OrgContentVersions orgContentVersions;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) || !isOrgScopedController(handler)) {
+            return true;
+        }
+        Integer orgId = orgId(request);
+        Integer userId = currentUserId();
+        if (orgId == null || userId == null) {
+            return true; // 인증/검증 실패는 컨트롤러/보안 설정에서 처리
+        }
+        Optional<Long> version = orgContentVersions.currentForReader(orgId, userId);
+        if (version.isEmpty()) {
+            return true; // 없는 조직(404)이나 권한 없음(403)은 컨트롤러/서비스에서 처리
+        }
+        String etag = orgId + "-" + version.get() + "-" + userId;
+        // 일치하면 304 상태를 설정, 아니면 ETag 헤더만 추가
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+
+    private static boolean isOrgScopedController(Object handler) {
+        return handler instanceof HandlerMethod method
+                && method.getBeanType().getPackageName().equals(BaseController.class.getPackageName())
+                && !ResponseBodyEmitter.class.isAssignableFrom(method.getMethod().getReturnType())
+                && Arrays.stream(method.getMethodParameters())
+                .noneMatch(p -> HttpServletResponse.class.isAssignableFrom(p.getParameterType()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Integer orgId(HttpServletRequest request) {
+        Object attribute = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (!(attribute instanceof Map<?, ?> variables)) {
+            return null;
+        }
+        Object value = ((Map<String, String>) variables).get(ORG_ID_VARIABLE);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Integer currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+}
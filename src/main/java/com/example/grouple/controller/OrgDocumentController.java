@@ -1,22 +1,31 @@
 package com.example.grouple.controller;
 
 import com.example.grouple.api.ApiResponse;
+import com.example.grouple.api.PageResponse;
 import com.example.grouple.dto.document.request.DocumentCreateRequest;
 import com.example.grouple.dto.document.request.DocumentUpdateRequest;
 import com.example.grouple.dto.document.response.DocumentReadDetailResponse;
 import com.example.grouple.security.AuthPrincipal;
+import com.example.grouple.service.DocumentContentService;
 import com.example.grouple.service.DocumentService;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 @Tag(name = "07. 조직 문서")
 @RestController
@@ -24,9 +33,11 @@ import org.springframework.web.bind.annotation.*;
 public class OrgDocumentController extends BaseController {
 
     private final DocumentService documentService;
+    private final DocumentContentService documentContentService;
 
-    public OrgDocumentController(DocumentService documentService) {
+    public OrgDocumentController(DocumentService documentService, DocumentContentService documentContentService) {
         this.documentService = documentService;
+        this.documentContentService = documentContentService;
     }
 
     @PostMapping
@@ -60,7 +71,7 @@ public class OrgDocumentController extends BaseController {
     ) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<DocumentReadDetailResponse> responsePage = documentService.listDocuments(orgId, pageable);
-        return ResponseEntity.ok(ApiResponse.success(responsePage));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.of(responsePage)));
     }
 
     @PutMapping("/{docId}")
@@ -74,6 +85,56 @@ public class OrgDocumentController extends BaseController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 문서 파일 업로드 - 요청 본문 그대로 (컨테이너 임시 파일 없이 디스크로 바로 스트리밍)
+     * Content-Type 은 문서 type, name 파라미터는 문서 name 으로 저장
+     */
+    @PutMapping("/{docId}/content")
+    @PreAuthorize("@organizationAuthz.canReadOrg(#orgId) || @organizationAuthz.canManageOrg(#orgId)")
+    public ResponseEntity<?> uploadContent(
+            @PathVariable Integer orgId,
+            @PathVariable Integer docId,
+            @RequestParam(required = false) String name,
+            HttpServletRequest request
+    ) throws IOException {
+        DocumentReadDetailResponse response = documentContentService.upload(orgId, docId,
+                request.getContentType(), name, request.getContentLengthLong(), request.getInputStream());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 문서 파일 업로드 - multipart/form-data 의 file 파트 (브라우저 폼)
+     */
+    @PostMapping(value = "/{docId}/content", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("@organizationAuthz.canReadOrg(#orgId) || @organizationAuthz.canManageOrg(#orgId)")
+    public ResponseEntity<?> uploadContentMultipart(
+            @PathVariable Integer orgId,
+            @PathVariable Integer docId,
+            @RequestPart("file") MultipartFile file
+    ) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            DocumentReadDetailResponse response = documentContentService.upload(orgId, docId,
+                    file.getContentType(), file.getOriginalFilename(), file.getSize(), in);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        }
+    }
+
+    /**
+     * 문서 파일 다운로드 (Range / If-Range / If-None-Match 지원, ETag 는 내용 SHA-256)
+     */
+    @GetMapping("/{docId}/content")
+    @PreAuthorize("@organizationAuthz.canReadOrg(#orgId) || @organizationAuthz.canManageOrg(#orgId)")
+    public void downloadContent(
+            @PathVariable Integer orgId,
+            @PathVariable Integer docId,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        DocumentContentService.DocumentContent content = documentContentService.getContent(orgId, docId);
+        FileDownloadWriter.write(request, response, content.path(), content.size(), content.sha256(),
+                content.contentType(), content.fileName());
+    }
+
     @DeleteMapping("/{docId}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<?> deleteDocument(
@@ -0,0 +1,42 @@
+package com.example.grouple.controller;
+
+import com.example.grouple.security.AuthPrincipal;
+import com.example.grouple.service.OrgEventBroadcaster;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "10. 조직 이벤트 (SSE)")
+@RestController
+@RequestMapping("/organizations/{orgId}/events")
+public class OrgEventController extends BaseController {
+
+    private final OrgEventBroadcaster orgEventBroadcaster;
+
+    public OrgEventController(OrgEventBroadcaster orgEventBroadcaster) {
+        this.orgEventBroadcaster = orgEventBroadcaster;
+    }
+
+    /**
+     * 공지사항/일정 변경 이벤트 스트림 (text/event-stream)
+     * - 이벤트: announcement.created|updated|deleted|starred, schedule.created|updated|deleted
+     * - sync: 놓친 이벤트를 이어받을 수 없으니 목록을 다시 조회
+     * 재연결 시 Last-Event-ID 헤더로 이어받는다. 구성원에서 빠지거나 조직이 삭제되면 연결이 닫힌다.
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("@organizationAuthz.canReadOrg(#orgId) || @organizationAuthz.canManageOrg(#orgId)")
+    public SseEmitter subscribe(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @PathVariable Integer orgId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return orgEventBroadcaster.subscribe(orgId, requireUserId(principal), lastEventId);
+    }
+}
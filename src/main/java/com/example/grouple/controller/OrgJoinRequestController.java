@@ -1,6 +1,7 @@
 package com.example.grouple.controller;
 
 import com.example.grouple.api.ApiResponse;
+import com.example.grouple.dto.joinrequest.request.JoinRequestBulkDecisionRequest;
 import com.example.grouple.dto.joinrequest.request.JoinRequestCreateRequest;
 import com.example.grouple.dto.joinrequest.request.JoinRequestDecisionRequest;
 import com.example.grouple.security.AuthPrincipal;
@@ -68,4 +69,13 @@ public class OrgJoinRequestController extends BaseController {
         var res = joinRequestService.rejectJoinRequest(requireUserId(principal), orgId, reqId, request);
         return ResponseEntity.ok(ApiResponse.success(res));
     }
+
+    @PostMapping("/bulk-decision")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> decideJoinRequests(@AuthenticationPrincipal AuthPrincipal principal,
+                                                @PathVariable Integer orgId,
+                                                @Valid @RequestBody JoinRequestBulkDecisionRequest request) {
+        var res = joinRequestService.decideJoinRequests(requireUserId(principal), orgId, request);
+        return ResponseEntity.ok(ApiResponse.success(res));
+    }
 }
@@ -1,6 +1,7 @@
 package com.example.grouple.controller;
 
 import com.example.grouple.api.ApiResponse;
+import com.example.grouple.api.PageResponse;
 import com.example.grouple.dto.receipt.request.ReceiptCreateRequest;
 import com.example.grouple.dto.receipt.request.ReceiptUpdateRequest;
 import com.example.grouple.dto.receipt.response.*;
@@ -37,7 +38,7 @@ public class OrgReceiptController extends BaseController {
                     example = "{\"page\": 0, \"size\": 10, \"sort\": \"date,DESC\"}")
             @PageableDefault(sort = "date", direction = Sort.Direction.DESC)
             Pageable pageable) {
-        ReceiptListResponse response = receiptService.getReceiptList(orgId, pageable);
+        PageResponse<ReceiptSummaryResponse> response = receiptService.getReceiptList(orgId, pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -3,16 +3,20 @@ package com.example.grouple.controller;
 import com.example.grouple.api.ApiResponse;
 import com.example.grouple.dto.schedule.request.ScheduleCreateRequest;
 import com.example.grouple.dto.schedule.request.ScheduleModifyRequest;
+import com.example.grouple.dto.schedule.request.ScheduleOverrideRequest;
 import com.example.grouple.security.AuthPrincipal;
 import com.example.grouple.service.ScheduleService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 @Tag(name = "09. 조직 일정")
 @RestController
 @RequestMapping("/organizations/{orgId}/schedules")
@@ -29,10 +33,11 @@ public class OrgScheduleController extends BaseController {
     public ResponseEntity<?> createSchedule(
             @AuthenticationPrincipal AuthPrincipal principal,
             @PathVariable Integer orgId,
-            @Valid @RequestBody ScheduleCreateRequest request
+            @Valid @RequestBody ScheduleCreateRequest request,
+            @RequestParam(name = "check_conflicts", defaultValue = "false") boolean checkConflicts
     ) {
         Integer userId = requireUserId(principal);
-        var res = scheduleService.createSchedule(userId, orgId, request);
+        var res = scheduleService.createSchedule(userId, orgId, request, checkConflicts);
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(res));
     }
 
@@ -47,6 +52,30 @@ public class OrgScheduleController extends BaseController {
         return ResponseEntity.ok(ApiResponse.success(res));
     }
 
+    // 구간 내 발생 목록 (반복 일정 전개)
+    @GetMapping("/occurrences")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> getOccurrences(
+            @PathVariable Integer orgId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        var res = scheduleService.getOccurrences(orgId, from, to);
+        return ResponseEntity.ok(ApiResponse.success(res));
+    }
+
+    // 구간 내 바쁜 시간대 (free/busy)
+    @GetMapping("/busy")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> getBusy(
+            @PathVariable Integer orgId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        var res = scheduleService.getBusy(orgId, from, to);
+        return ResponseEntity.ok(ApiResponse.success(res));
+    }
+
     @GetMapping("/{scheduleId}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<?> getSchedule(
@@ -62,9 +91,10 @@ public class OrgScheduleController extends BaseController {
     public ResponseEntity<?> modifySchedule(
             @PathVariable Integer orgId,
             @PathVariable Integer scheduleId,
-            @Valid @RequestBody ScheduleModifyRequest request
+            @Valid @RequestBody ScheduleModifyRequest request,
+            @RequestParam(name = "check_conflicts", defaultValue = "false") boolean checkConflicts
     ) {
-        var res = scheduleService.modifySchedule(orgId, scheduleId, request);
+        var res = scheduleService.modifySchedule(orgId, scheduleId, request, checkConflicts);
         return ResponseEntity.ok(ApiResponse.success(res));
     }
 
@@ -77,4 +107,31 @@ public class OrgScheduleController extends BaseController {
         scheduleService.deleteSchedule(orgId, scheduleId);
         return ResponseEntity.noContent().build();
     }
+
+    // 반복 일정의 특정 발생 변경/취소
+    @PutMapping("/{scheduleId}/occurrences")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> overrideOccurrence(
+            @PathVariable Integer orgId,
+            @PathVariable Integer scheduleId,
+            @Valid @RequestBody ScheduleOverrideRequest request
+    ) {
+        var res = scheduleService.overrideOccurrence(orgId, scheduleId, request);
+        if (res == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(ApiResponse.success(res));
+    }
+
+    // 발생 예외 제거 (규칙대로 복원)
+    @DeleteMapping("/{scheduleId}/occurrences")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> clearOverride(
+            @PathVariable Integer orgId,
+            @PathVariable Integer scheduleId,
+            @RequestParam("original_start_time") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime originalStartTime
+    ) {
+        scheduleService.clearOverride(orgId, scheduleId, originalStartTime);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,41 @@
+package com.example.grouple.controller;
+
+import com.example.grouple.security.AuthPrincipal;
+import com.example.grouple.service.UserEventBroadcaster;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "02. 유저")
+@RestController
+@RequestMapping("/users/me/events")
+public class UserEventController extends BaseController {
+
+    private final UserEventBroadcaster userEventBroadcaster;
+
+    public UserEventController(UserEventBroadcaster userEventBroadcaster) {
+        this.userEventBroadcaster = userEventBroadcaster;
+    }
+
+    /**
+     * 내 알림 이벤트 스트림 (text/event-stream)
+     * - joinrequest.created: 내가 소유한 조직에 가입 요청이 들어옴
+     * - joinrequest.approved|rejected: 내 가입 요청 또는 내 조직의 요청이 처리됨
+     * - sync: 놓친 이벤트를 이어받을 수 없으니 가입 요청 목록을 다시 조회
+     * 재연결 시 Last-Event-ID 헤더로 이어받는다.
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public SseEmitter subscribe(
+            @AuthenticationPrincipal AuthPrincipal principal,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return userEventBroadcaster.subscribe(requireUserId(principal), lastEventId);
+    }
+}
@@ -18,6 +18,7 @@ public class DocumentReadDetailResponse {
     private String name;
     private String type;
     private Integer size;
+    private String contentHash; // 파일이 없으면 null
     private String username;
     private Integer organizationId;
     private String organizationName;
@@ -33,6 +34,7 @@ public class DocumentReadDetailResponse {
                 .name(document.getName())
                 .type(document.getType())
                 .size(document.getSize())
+                .contentHash(document.getContentHash())
                 .username(document.getUser().getUsername())
                 .organizationId(document.getOrganization().getId())
                 .organizationName(document.getOrganization().getName())
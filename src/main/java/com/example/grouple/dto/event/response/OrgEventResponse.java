@@ -0,0 +1,22 @@
+package com.example.grouple.dto.event.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * SSE data 본문 (삭제 이벤트는 data 없음)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrgEventResponse {
+    private String type;
+    private Integer resourceId;
+    private Instant occurredAt;
+    private Object data;
+}
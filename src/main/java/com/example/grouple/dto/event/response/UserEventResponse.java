@@ -0,0 +1,23 @@
+package com.example.grouple.dto.event.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 사용자 SSE data 본문
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserEventResponse {
+    private String type;
+    private Integer organizationId;
+    private Integer resourceId;
+    private Instant occurredAt;
+    private Object data;
+}
@@ -0,0 +1,19 @@
+package com.example.grouple.dto.image.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+public class ImageUploadResponse {
+
+    private String sha256;
+    private String url; // 사용자/조직/가계부 image 에 저장할 원본 URL
+    private Map<Integer, String> thumbnails; // 크기(px) → 썸네일 URL (생성 중에는 202 응답)
+    private String contentType;
+    private Integer width;
+    private Integer height;
+    private Long size;
+}
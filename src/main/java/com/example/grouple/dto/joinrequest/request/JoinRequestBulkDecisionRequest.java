@@ -0,0 +1,26 @@
+package com.example.grouple.dto.joinrequest.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class JoinRequestBulkDecisionRequest {
+
+    public enum Decision { APPROVE, REJECT }
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<@NotNull Integer> requestIds;
+
+    @NotNull
+    private Decision decision;
+
+    @Size(max = 255)
+    private String reason;
+}
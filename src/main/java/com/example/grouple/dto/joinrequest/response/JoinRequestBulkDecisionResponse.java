@@ -0,0 +1,42 @@
+package com.example.grouple.dto.joinrequest.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class JoinRequestBulkDecisionResponse {
+
+    /**
+     * 요청별 처리 결과
+     * - APPROVED / REJECTED : 이번 요청으로 처리됨
+     * - ALREADY_DECIDED : 이미 처리된 요청 (변경 없음)
+     * - NOT_FOUND : 조직에 없는 요청 ID
+     */
+    public enum Outcome { APPROVED, REJECTED, ALREADY_DECIDED, NOT_FOUND }
+
+    public record Result(Integer requestId, Integer userId, Outcome outcome) {
+    }
+
+    private final Integer organizationId;
+    private final int processedCount;
+    private final Instant decidedAt;
+    private final List<Result> results;
+
+    public static JoinRequestBulkDecisionResponse of(Integer orgId, Instant decidedAt, List<Result> results) {
+        int processed = (int) results.stream()
+                .filter(r -> r.outcome() == Outcome.APPROVED || r.outcome() == Outcome.REJECTED)
+                .count();
+        return JoinRequestBulkDecisionResponse.builder()
+                .organizationId(orgId)
+                .processedCount(processed)
+                .decidedAt(decidedAt)
+                .results(results)
+                .build();
+    }
+}
@@ -22,11 +22,16 @@ public class JoinRequestResponse {
     private final Instant decidedAt;
 
     public static JoinRequestResponse from(JoinRequest joinRequest) {
+        return from(joinRequest, joinRequest.getUser() != null ? joinRequest.getUser().getUsername() : null);
+    }
+
+    // 신청자 이름을 이미 알고 있을 때 (유저 프록시 초기화 없이 응답 생성)
+    public static JoinRequestResponse from(JoinRequest joinRequest, String username) {
         return JoinRequestResponse.builder()
                 .id(joinRequest.getId())
                 .organizationId(joinRequest.getOrganization() != null ? joinRequest.getOrganization().getId() : null)
                 .userId(joinRequest.getUser() != null ? joinRequest.getUser().getId() : null)
-                .username(joinRequest.getUser() != null ? joinRequest.getUser().getUsername() : null)
+                .username(username)
                 .status(joinRequest.getStatus() != null ? joinRequest.getStatus().name() : null)
                 .message(joinRequest.getMessage())
                 .decisionReason(joinRequest.getDecisionReason())
@@ -0,0 +1,21 @@
+package com.example.grouple.dto.monitoring.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class JfrRecordingResponse {
+    private Long id;
+    private String state; // NEW, RUNNING, STOPPED, CLOSED (기록이 없으면 NONE)
+    private Instant startedAt;
+    private Instant stoppedAt;
+    private Duration maxDuration;
+    private Long maxSize;
+    private Long fileSize;
+}
@@ -1,5 +1,6 @@
 package com.example.grouple.dto.organization.response;
 
+import com.example.grouple.common.ImageUrls;
 import com.example.grouple.entity.Organization;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,6 +17,7 @@ public class OrgListResponse {
     private final String description;
     private final String category;
     private final String image_url;
+    private final String thumbnail_url; // 목록용 썸네일
     private final String code;
     private final Integer owner_id;
     private final Instant createdAt;
@@ -28,6 +30,7 @@ public class OrgListResponse {
                 .description(organization.getDescription())
                 .category(organization.getCategory())
                 .image_url(organization.getImage())
+                .thumbnail_url(ImageUrls.thumbnailOf(organization.getImage(), ImageUrls.SMALL))
                 .code(organization.getCode())
                 .owner_id(organization.getOwner() != null ? organization.getOwner().getId() : null)
                 .createdAt(organization.getCreatedAt())
@@ -1,5 +1,6 @@
 package com.example.grouple.dto.receipt.response;
 
+import com.example.grouple.common.ImageUrls;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -16,4 +17,9 @@ public class ReceiptSummaryResponse {
     private final String category; // 카테고리
     private final LocalDate date; // 날짜
     private final String image; // 이미지 URL
+
+    // 목록용 썸네일 URL (업로드 이미지가 아니면 image 그대로)
+    public String getThumbnailUrl() {
+        return ImageUrls.thumbnailOf(image, ImageUrls.SMALL);
+    }
 }
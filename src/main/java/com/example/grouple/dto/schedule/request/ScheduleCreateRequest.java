@@ -24,5 +24,8 @@ public class ScheduleCreateRequest {
     @NotNull
     @JsonProperty("end_time")     // JSON 필드명: end_time
     private LocalDateTime endTime;
-}
 
+    // 반복 규칙 (선택, 예: FREQ=WEEKLY;BYDAY=TU;UNTIL=20261231)
+    @JsonProperty("recurrence_rule")
+    private String recurrenceRule;
+}
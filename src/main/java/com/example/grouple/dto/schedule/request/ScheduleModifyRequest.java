@@ -24,5 +24,8 @@ public class ScheduleModifyRequest {
     @NotNull
     @JsonProperty("end_time")
     private LocalDateTime endTime;
-}
 
+    // 반복 규칙 (예: FREQ=WEEKLY;BYDAY=TU;UNTIL=20261231) - 생략하면 기존 규칙 유지, 빈 문자열이면 반복 해제
+    @JsonProperty("recurrence_rule")
+    private String recurrenceRule;
+}
@@ -0,0 +1,32 @@
+package com.example.grouple.dto.schedule.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class ScheduleOverrideRequest {
+
+    // 변경할 발생의 원래 시작 시각
+    @NotNull
+    @JsonProperty("original_start_time")
+    private LocalDateTime originalStartTime;
+
+    // true 이면 해당 발생 취소
+    private boolean cancelled;
+
+    // 아래 값은 null 이면 시리즈 값을 그대로 사용
+    private String title;
+
+    private String description;
+
+    @JsonProperty("start_time")
+    private LocalDateTime startTime;
+
+    @JsonProperty("end_time")
+    private LocalDateTime endTime;
+}
@@ -0,0 +1,29 @@
+package com.example.grouple.dto.schedule.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class ScheduleBusyResponse {
+
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    // 겹치는 일정을 합친 바쁜 구간 (시작 시각 순)
+    private List<Slot> busy;
+
+    @Getter
+    @Builder
+    public static class Slot {
+        @JsonProperty("start_time")
+        private LocalDateTime startTime;
+
+        @JsonProperty("end_time")
+        private LocalDateTime endTime;
+    }
+}
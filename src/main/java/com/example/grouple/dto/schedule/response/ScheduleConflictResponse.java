@@ -0,0 +1,23 @@
+package com.example.grouple.dto.schedule.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ScheduleConflictResponse {
+
+    @JsonProperty("schedule_id")
+    private Integer scheduleId;
+
+    private String title;
+
+    @JsonProperty("start_time")
+    private LocalDateTime startTime;
+
+    @JsonProperty("end_time")
+    private LocalDateTime endTime;
+}
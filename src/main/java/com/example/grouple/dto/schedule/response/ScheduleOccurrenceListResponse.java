@@ -0,0 +1,16 @@
+package com.example.grouple.dto.schedule.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class ScheduleOccurrenceListResponse {
+
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<ScheduleOccurrenceResponse> items;
+}
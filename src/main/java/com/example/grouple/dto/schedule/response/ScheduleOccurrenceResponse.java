@@ -0,0 +1,33 @@
+package com.example.grouple.dto.schedule.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ScheduleOccurrenceResponse {
+
+    @JsonProperty("schedule_id")
+    private Integer scheduleId;
+
+    private String title;
+    private String description;
+
+    @JsonProperty("start_time")
+    private LocalDateTime startTime;
+
+    @JsonProperty("end_time")
+    private LocalDateTime endTime;
+
+    // 반복 규칙으로 계산된 원래 시작 시각 (예외 지정 시 식별자로 사용)
+    @JsonProperty("original_start_time")
+    private LocalDateTime originalStartTime;
+
+    private boolean recurring;
+    private boolean overridden;
+
+    private ScheduleResponse.Author author;
+}
@@ -1,10 +1,12 @@
 package com.example.grouple.dto.schedule.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Builder
@@ -20,8 +22,15 @@ public class ScheduleResponse {
     @JsonProperty("end_time")
     private LocalDateTime endTime;
 
+    @JsonProperty("recurrence_rule")
+    private String recurrenceRule;
+
     private Author author;
 
+    // check_conflicts 요청 시에만 포함
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<ScheduleConflictResponse> conflicts;
+
     @Getter
     @Builder
     public static class Author {
@@ -16,7 +16,8 @@ import java.time.Instant;
 @NoArgsConstructor
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "documents")
+@Table(name = "documents",
+        indexes = @Index(name = "idx_documents_content_sha256", columnList = "content_sha256"))
 public class Document {
 
     @Id
@@ -39,6 +40,10 @@ public class Document {
     @Column(nullable = false)
     private Integer size;
 
+    // 파일 내용의 SHA-256 (BlobStore 키, 파일을 올리기 전에는 null)
+    @Column(name = "content_sha256", length = 64)
+    private String contentHash;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
@@ -47,11 +52,11 @@ public class Document {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "organization_id", nullable = false)
     private Organization organization;
 
@@ -11,7 +11,9 @@ import java.time.Instant;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "join_requests")
+@Table(name = "join_requests",
+        uniqueConstraints = @UniqueConstraint(name = "uk_join_requests_pending",
+                columnNames = {"organization_id", "user_id", "pending_key"}))
 public class JoinRequest {
 
     @Id
@@ -31,6 +33,12 @@ public class JoinRequest {
     @Column(length = 20, nullable = false)
     private JoinRequestStatus status = JoinRequestStatus.PENDING;
 
+    // PENDING 일 때만 1, 그 외에는 NULL (DB 생성 컬럼)
+    // (조직, 유저, pending_key) 유니크 제약으로 처리 중 요청을 하나로 제한 (NULL 은 중복 허용)
+    @Column(name = "pending_key", insertable = false, updatable = false,
+            columnDefinition = "TINYINT GENERATED ALWAYS AS (CASE WHEN status = 'PENDING' THEN 1 END)")
+    private Integer pendingKey;
+
     @Column()
     private String message;
 
@@ -0,0 +1,28 @@
+package com.example.grouple.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 조직 코드 발급용 카운터 (단일 행)
+ * OrgCodeAllocator 가 블록 단위로 next_value 를 증가시켜 구간을 예약한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "org_code_sequence")
+public class OrgCodeSequence {
+
+    public static final Integer ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+}
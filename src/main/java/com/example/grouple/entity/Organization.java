@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,14 +13,15 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.UUID;
 
 @Getter
 @Setter
 @Entity
 @NoArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
-@Table(name = "organizations") // users 테이블과 매핑
+@EntityListeners({AuditingEntityListener.class, OrganizationCodeListener.class})
+@Table(name = "organizations", // users 테이블과 매핑
+        indexes = @Index(name = "idx_organizations_image", columnList = "image")) // 로고 이미지 공개 여부 확인
+@SQLRestriction("deleted_at IS NULL") // 삭제 표시된 조직은 조회에서 제외
 public class Organization {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -38,17 +40,10 @@ public class Organization {
     @Column(nullable = false)
     private String category;
 
+    // 저장 시 OrganizationCodeListener 가 OrgCodeAllocator 로 발급 (중복 없음)
     @Column(nullable = false, unique = true)
     private String code;
 
-    // 간단한 랜점 코드 생성 구현 추후 서비스 레이어에서 중복 체크를 적용한 안전한 로직 구현 필요
-    @PrePersist
-    private void ensureCode() {
-        if (this.code == null || this.code.isBlank()) {
-            this.code = UUID.randomUUID().toString().replace("-", "").substring(0, 6).toUpperCase();
-        }
-    }
-
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false)
     private User owner;
@@ -64,6 +59,12 @@ public class Organization {
     @Column(nullable = false)
     private Instant updatedAt;
 
+    // 삭제 요청 시각 - 하위 데이터와 함께 DeletionPurger 가 나중에 실제로 삭제
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
 
+    // 조직 하위 데이터 변경 시마다 증가 (ETag 용, OrgContentVersions 가 UPDATE 로만 변경)
+    @Column(name = "content_version", nullable = false, updatable = false)
+    private long contentVersion;
 }
 
@@ -0,0 +1,28 @@
+package com.example.grouple.entity;
+
+import com.example.grouple.service.OrgCodeAllocator;
+import jakarta.persistence.PrePersist;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 저장 전 조직 코드가 비어 있으면 OrgCodeAllocator 로 발급
+ * 조직 생성 API 는 트랜잭션 시작 전에 코드를 미리 발급하므로, 여기서는 리포지토리로 직접 저장하는
+ * 경우(테스트, 데이터 적재)만 처리한다. 블록 예약이 필요하면 커넥션을 하나 더 쓰므로 요청 경로에서는 의존하지 말 것.
+ * Hibernate 가 스프링 빈 컨테이너로 생성하며, 발급기는 EntityManagerFactory 초기화 이후에
+ * 필요하므로 ObjectProvider 로 지연 조회한다.
+ */
+public class OrganizationCodeListener {
+
+    private final ObjectProvider<OrgCodeAllocator> allocator;
+
+    public OrganizationCodeListener(ObjectProvider<OrgCodeAllocator> allocator) {
+        this.allocator = allocator;
+    }
+
+    @PrePersist
+    public void assignCode(Organization organization) {
+        if (organization.getCode() == null || organization.getCode().isBlank()) {
+            organization.setCode(allocator.getObject().next());
+        }
+    }
+}
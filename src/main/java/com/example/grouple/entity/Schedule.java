@@ -31,6 +31,14 @@ public class Schedule {
     @Column(name = "end_time", nullable = false)
     private LocalDateTime endTime;
 
+    // 반복 규칙 (RRULE 부분 집합, 예: FREQ=WEEKLY;BYDAY=MO,WE;UNTIL=20261231)
+    @Column(name = "recurrence_rule")
+    private String recurrenceRule;
+
+    // 시리즈의 마지막 발생 종료 시각 (무기한 반복이면 null)
+    @Column(name = "series_end_time")
+    private LocalDateTime seriesEndTime;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -0,0 +1,50 @@
+package com.example.grouple.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반복 일정의 특정 발생(occurrence)에 대한 예외/변경 정보
+ * - cancelled = true 이면 해당 발생은 취소(EXDATE)
+ * - 그 외 필드가 null 이 아니면 시리즈 값을 덮어씀
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "schedule_overrides",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"schedule_id", "original_start_time"}))
+public class ScheduleOverride {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(nullable = false, unique = true)
+    private Integer id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "schedule_id", nullable = false)
+    private Schedule schedule;
+
+    // 규칙으로 계산된 원래 시작 시각 (발생 식별자)
+    @Column(name = "original_start_time", nullable = false)
+    private LocalDateTime originalStartTime;
+
+    @Column(nullable = false)
+    private boolean cancelled;
+
+    @Column()
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "start_time")
+    private LocalDateTime startTime;
+
+    @Column(name = "end_time")
+    private LocalDateTime endTime;
+}
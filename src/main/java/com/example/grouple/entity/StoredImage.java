@@ -0,0 +1,67 @@
+package com.example.grouple.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * 업로드된 이미지 원본 (파일은 BlobStore, 키는 내용 SHA-256)
+ * 썸네일 생성 대기열을 겸한다 - thumbnail_status 가 PENDING 인 행을 ImageService 작업자가 가져가 처리
+ * (노드가 재시작돼도 DB 에 남은 작업을 이어서 처리)
+ * 사용자/조직/가계부 image 어디에서도 참조하지 않는 행은 ImageService 정리 작업이 파일과 함께 삭제한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "images",
+        indexes = {
+                @Index(name = "idx_images_thumbnail_queue", columnList = "thumbnail_status, available_at"),
+                @Index(name = "idx_images_uploaded_by", columnList = "uploaded_by")
+        })
+public class StoredImage {
+
+    @Id
+    @Column(length = 64)
+    private String sha256;
+
+    @Column(name = "content_type", nullable = false, length = 64)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Integer width;
+
+    @Column(nullable = false)
+    private Integer height;
+
+    @Column(nullable = false)
+    private Long size;
+
+    // 처음 올린 사용자 (업로드 용량 계산, 같은 내용을 다시 올린 사용자는 포함하지 않음)
+    @Column(name = "uploaded_by")
+    private Integer uploadedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "thumbnail_status", nullable = false, length = 16)
+    private ThumbnailStatus thumbnailStatus;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // 이 시각 이후에 처리 (실패 시 재시도 지연)
+    @Column(name = "available_at", nullable = false)
+    private Instant availableAt;
+
+    // RUNNING 으로 가져간 시각 (오래되면 작업자가 죽은 것으로 보고 다시 PENDING)
+    @Column(name = "locked_at")
+    private Instant lockedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,8 @@
+package com.example.grouple.entity;
+
+public enum ThumbnailStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED
+}
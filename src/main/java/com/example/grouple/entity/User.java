@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -18,8 +19,12 @@ import java.util.List;
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "users") // users 테이블과 매핑
+@SQLRestriction("deleted_at IS NULL") // 탈퇴 처리된 사용자는 조회에서 제외
 public class User {
 
+    // 탈퇴 시 아이디를 "deleted_{id}" 로 바꿔 같은 아이디로 다시 가입할 수 있게 함 (가입 시 이 접두사는 사용 불가)
+    public static final String DELETED_USERNAME_PREFIX = "deleted_";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
 
@@ -52,5 +57,13 @@ public class User {
     @Column(nullable = false)
     private Instant updatedAt;
 
+    // 탈퇴 요청 시각 - DeletionPurger 가 나중에 실제로 삭제 (다른 사람 조직에 작성한 데이터가 있으면 개인정보만 비우고 남김)
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+
+    // 다른 사람 조직에 작성한 데이터가 남아 행을 지우지 못하고 개인정보만 비운 시각 (작성자 자리를 지키는 빈 계정)
+    @Column(name = "purged_at")
+    private Instant purgedAt;
+
 }
 
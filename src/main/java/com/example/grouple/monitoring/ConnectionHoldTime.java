@@ -0,0 +1,54 @@
+package com.example.grouple.monitoring;
+
+import java.time.Duration;
+
+/**
+ * 요청(스레드) 단위 DB 커넥션 점유 시간 집계
+ * - ConnectionHoldTimeFilter 가 요청 시작/종료 시 begin/end 호출
+ * - StatementTimingDataSource 가 커넥션 반납 시 record 호출
+ */
+public final class ConnectionHoldTime {
+
+    /**
+     * @param connections 요청 중 빌렸다 반납한 커넥션 수
+     * @param total 점유 시간 합계
+     * @param max 가장 오래 점유한 커넥션의 점유 시간
+     */
+    public record Usage(int connections, Duration total, Duration max) {
+        public static final Usage NONE = new Usage(0, Duration.ZERO, Duration.ZERO);
+    }
+
+    private static final class Accumulator {
+        int connections;
+        long totalNanos;
+        long maxNanos;
+    }
+
+    private static final ThreadLocal<Accumulator> CURRENT = new ThreadLocal<>();
+
+    private ConnectionHoldTime() {
+    }
+
+    static void begin() {
+        CURRENT.set(new Accumulator());
+    }
+
+    static Usage end() {
+        Accumulator acc = CURRENT.get();
+        CURRENT.remove();
+        if (acc == null || acc.connections == 0) {
+            return Usage.NONE;
+        }
+        return new Usage(acc.connections, Duration.ofNanos(acc.totalNanos), Duration.ofNanos(acc.maxNanos));
+    }
+
+    static void record(long holdNanos) {
+        Accumulator acc = CURRENT.get();
+        if (acc == null) {
+            return; // 요청 밖(스케줄러 등)에서 사용한 커넥션은 집계하지 않음
+        }
+        acc.connections++;
+        acc.totalNanos += holdNanos;
+        acc.maxNanos = Math.max(acc.maxNanos, holdNanos);
+    }
+}
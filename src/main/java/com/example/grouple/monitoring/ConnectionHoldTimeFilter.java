@@ -0,0 +1,51 @@
+package com.example.grouple.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 요청별 DB 커넥션 점유 시간 기록
+ * - 요청 속성 ATTRIBUTE 에 ConnectionHoldTime.Usage 저장
+ * - DEBUG 레벨로 요청마다 출력, warnThreshold 를 넘으면 WARN
+ */
+@Slf4j
+public class ConnectionHoldTimeFilter extends OncePerRequestFilter {
+
+    public static final String ATTRIBUTE = ConnectionHoldTimeFilter.class.getName() + ".usage";
+
+    private final Duration warnThreshold;
+
+    public ConnectionHoldTimeFilter(Duration warnThreshold) {
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ConnectionHoldTime.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ConnectionHoldTime.Usage usage = ConnectionHoldTime.end();
+            request.setAttribute(ATTRIBUTE, usage);
+            if (usage.connections() > 0) {
+                if (usage.total().compareTo(warnThreshold) > 0) {
+                    log.warn("db connection held {}ms ({} connections, max {}ms) {} {}",
+                            usage.total().toMillis(), usage.connections(), usage.max().toMillis(),
+                            request.getMethod(), request.getRequestURI());
+                } else if (log.isDebugEnabled()) {
+                    log.debug("db connection held {}ms ({} connections, max {}ms) {} {}",
+                            usage.total().toMillis(), usage.connections(), usage.max().toMillis(),
+                            request.getMethod(), request.getRequestURI());
+                }
+            }
+        }
+    }
+}
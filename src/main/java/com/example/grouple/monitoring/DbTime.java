@@ -0,0 +1,21 @@
+package com.example.grouple.monitoring;
+
+/**
+ * 스레드별 누적 DB 시간 (JDBC execute / commit / rollback 구간)
+ * 구간 측정 측은 시작/끝의 current() 차이를 사용한다.
+ */
+public final class DbTime {
+
+    private static final ThreadLocal<long[]> NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private DbTime() {
+    }
+
+    public static long current() {
+        return NANOS.get()[0];
+    }
+
+    static void add(long nanos) {
+        NANOS.get()[0] += nanos;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.grouple.monitoring;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hikari 풀 크기 자동 조정 (app.datasource.pool-autosize.enabled=true 일 때만)
+ * Micrometer 의 hikaricp.connections.acquire / usage 타이머 p95 와 대기 스레드 수를 보고
+ * PoolSizePolicy 에 따라 maximumPoolSize 를 조정하며, 판단 결과는 모두 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.datasource.pool-autosize", name = "enabled", havingValue = "true")
+public class HikariPoolSizeController {
+
+    private static final double PERCENTILE = 0.95;
+
+    private final HikariDataSource hikari;
+    private final MeterRegistry meterRegistry;
+    private final PoolSizePolicy policy;
+
+    public HikariPoolSizeController(DataSource dataSource,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.datasource.pool-autosize.min-size:5}") int minSize,
+                                    @Value("${app.datasource.pool-autosize.max-size:30}") int maxSize,
+                                    @Value("${app.datasource.pool-autosize.step:2}") int step,
+                                    @Value("${app.datasource.pool-autosize.wait-high:PT0.05S}") Duration waitHigh,
+                                    @Value("${app.datasource.pool-autosize.wait-low:PT0.005S}") Duration waitLow,
+                                    @Value("${app.datasource.pool-autosize.db-latency-ceiling:PT0.5S}") Duration dbLatencyCeiling)
+            throws SQLException {
+        this.hikari = dataSource.unwrap(HikariDataSource.class);
+        this.meterRegistry = meterRegistry;
+        this.policy = new PoolSizePolicy(minSize, maxSize, step, waitHigh, waitLow, dbLatencyCeiling);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.pool-autosize.interval:PT30S}",
+            initialDelayString = "${app.datasource.pool-autosize.interval:PT30S}")
+    public void adjust() {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null) {
+            return; // 아직 풀이 시작되지 않음
+        }
+        HikariConfigMXBean config = hikari.getHikariConfigMXBean();
+        PoolSizePolicy.Sample sample = new PoolSizePolicy.Sample(
+                config.getMaximumPoolSize(),
+                pool.getActiveConnections(),
+                pool.getThreadsAwaitingConnection(),
+                p95("hikaricp.connections.acquire", config.getPoolName()),
+                p95("hikaricp.connections.usage", config.getPoolName()));
+        PoolSizePolicy.Decision decision = policy.decide(sample);
+
+        if (decision.size() == sample.currentSize()) {
+            log.debug("pool {} size {} kept: {}", config.getPoolName(), sample.currentSize(), decision.reason());
+            return;
+        }
+        resize(config, sample.currentSize(), decision.size());
+        log.info("pool {} size {} -> {}: {}", config.getPoolName(), sample.currentSize(), decision.size(),
+                decision.reason());
+    }
+
+    // minimumIdle 이 최대 크기와 같았으면(고정 크기 풀) 함께 조정
+    private static void resize(HikariConfigMXBean config, int from, int to) {
+        int minIdle = config.getMinimumIdle();
+        if (to > from) {
+            config.setMaximumPoolSize(to);
+            if (minIdle >= from) config.setMinimumIdle(to);
+        } else {
+            config.setMinimumIdle(minIdle >= from ? to : Math.min(minIdle, to));
+            config.setMaximumPoolSize(to);
+        }
+    }
+
+    // 백분위가 설정되지 않았으면 감쇠 최대값으로 대신함
+    private Duration p95(String name, String poolName) {
+        Timer timer = meterRegistry.find(name).tag("pool", poolName).timer();
+        if (timer == null) {
+            return Duration.ZERO;
+        }
+        for (ValueAtPercentile v : timer.takeSnapshot().percentileValues()) {
+            if (v.percentile() == PERCENTILE) {
+                return Duration.ofNanos((long) v.value(TimeUnit.NANOSECONDS));
+            }
+        }
+        return Duration.ofNanos((long) timer.max(TimeUnit.NANOSECONDS));
+    }
+}
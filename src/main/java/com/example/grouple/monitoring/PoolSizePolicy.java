@@ -0,0 +1,55 @@
+package com.example.grouple.monitoring;
+
+import java.time.Duration;
+
+/**
+ * 커넥션 풀 크기 조정 규칙
+ * - 대기 시간 p95 가 waitHigh 를 넘거나 대기 스레드가 있으면 step 만큼 증가
+ *   (단, DB 사용 시간 p95 가 dbLatencyCeiling 을 넘으면 DB 가 병목이므로 늘리지 않음)
+ * - 대기 시간 p95 가 waitLow 미만이고 사용 중 커넥션이 절반 이하이면 step 만큼 감소
+ * - 결과는 항상 [minSize, maxSize] 범위
+ */
+public record PoolSizePolicy(int minSize, int maxSize, int step,
+                             Duration waitHigh, Duration waitLow, Duration dbLatencyCeiling) {
+
+    public PoolSizePolicy {
+        if (minSize < 1 || maxSize < minSize || step < 1) {
+            throw new IllegalArgumentException("invalid pool size bounds: min=%d, max=%d, step=%d"
+                    .formatted(minSize, maxSize, step));
+        }
+    }
+
+    /**
+     * @param waitP95 커넥션 획득 대기 시간 p95
+     * @param usageP95 커넥션 사용(대여~반납) 시간 p95 - DB 지연의 근사치
+     */
+    public record Sample(int currentSize, int active, int pending, Duration waitP95, Duration usageP95) {
+    }
+
+    public record Decision(int size, String reason) {
+    }
+
+    public Decision decide(Sample s) {
+        int current = s.currentSize();
+        if (current < minSize || current > maxSize) {
+            return new Decision(Math.clamp(current, minSize, maxSize), "outside bounds [%d, %d]".formatted(minSize, maxSize));
+        }
+        boolean starved = s.waitP95().compareTo(waitHigh) > 0 || s.pending() > 0;
+        if (starved) {
+            if (s.usageP95().compareTo(dbLatencyCeiling) > 0) {
+                return new Decision(current, "waiting (p95 %dms, pending %d) but db usage p95 %dms above ceiling"
+                        .formatted(s.waitP95().toMillis(), s.pending(), s.usageP95().toMillis()));
+            }
+            if (current < maxSize) {
+                return new Decision(Math.min(current + step, maxSize), "wait p95 %dms, pending %d"
+                        .formatted(s.waitP95().toMillis(), s.pending()));
+            }
+            return new Decision(current, "waiting but already at max");
+        }
+        if (s.waitP95().compareTo(waitLow) < 0 && s.active() * 2 <= current && current > minSize) {
+            return new Decision(Math.max(current - step, minSize), "wait p95 %dms, active %d/%d"
+                    .formatted(s.waitP95().toMillis(), s.active(), current));
+        }
+        return new Decision(current, "steady");
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.grouple.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 메서드별 타이머
+ * - grouple.service     : 메서드 전체 시간 (트랜잭션 커밋 포함)
+ * - grouple.service.db  : 그중 JDBC 실행/커밋 시간 (StatementTimingDataSource)
+ * - grouple.service.app : 나머지 (매핑, 검증, 락 대기 외 애플리케이션 코드)
+ * 태그: class, method, exception (정상 종료는 none)
+ * 중첩 호출은 바깥 메서드 시간에도 포함된다.
+ */
+public class ServiceMetricsInterceptor implements MethodInterceptor {
+
+    public static final String TIMER = "grouple.service";
+
+    private record Key(Class<?> type, Method method, String exception) {
+    }
+
+    private record Timers(Timer total, Timer db, Timer app) {
+    }
+
+    private final ObjectProvider<MeterRegistry> registry;
+    private final ConcurrentHashMap<Key, Timers> timers = new ConcurrentHashMap<>();
+
+    public ServiceMetricsInterceptor(ObjectProvider<MeterRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        long dbBefore = DbTime.current();
+        long start = System.nanoTime();
+        String exception = "none";
+        try {
+            return invocation.proceed();
+        } catch (Throwable t) {
+            exception = t.getClass().getSimpleName();
+            throw t;
+        } finally {
+            long total = System.nanoTime() - start;
+            long db = Math.min(total, DbTime.current() - dbBefore);
+            Class<?> type = invocation.getThis() != null
+                    ? ClassUtils.getUserClass(invocation.getThis())
+                    : method.getDeclaringClass();
+            Timers t = timers.computeIfAbsent(new Key(type, method, exception), this::register);
+            t.total().record(total, TimeUnit.NANOSECONDS);
+            t.db().record(db, TimeUnit.NANOSECONDS);
+            t.app().record(total - db, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timers register(Key key) {
+        MeterRegistry meters = registry.getObject();
+        String[] tags = {"class", key.type().getSimpleName(), "method", key.method().getName(),
+                "exception", key.exception()};
+        return new Timers(
+                Timer.builder(TIMER).description("Service method time").tags(tags).register(meters),
+                Timer.builder(TIMER + ".db").description("Service method time spent in JDBC").tags(tags).register(meters),
+                Timer.builder(TIMER + ".app").description("Service method time outside JDBC").tags(tags).register(meters));
+    }
+}
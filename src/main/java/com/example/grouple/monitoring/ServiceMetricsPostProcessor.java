@@ -0,0 +1,23 @@
+package com.example.grouple.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+/**
+ * @Service 빈에 ServiceMetricsInterceptor 적용
+ * 트랜잭션 어드바이스보다 바깥에서 측정하도록 기존 어드바이저 앞에 추가한다 (커밋 시간 포함).
+ */
+public class ServiceMetricsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    public ServiceMetricsPostProcessor(ObjectProvider<MeterRegistry> registry) {
+        this.advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forClassAnnotation(Service.class),
+                new ServiceMetricsInterceptor(registry));
+        setBeforeExistingAdvisors(true);
+        setProxyTargetClass(true);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.grouple.monitoring;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔드포인트별 p99 SLO 점검
+ * http.server.requests 타이머의 최근 p99(클라이언트 측 백분위, 약 2분 창)를 목표와 비교해
+ * - grouple.slo.p99.ratio{method,uri} : p99 / 목표
+ * - grouple.slo.breach{method,uri}    : 초과 시 1
+ * 을 갱신하고, 초과 진입/해제 시 로그를 남긴다.
+ * 직전 점검 이후 요청이 minRequests 보다 적으면 판단을 보류한다.
+ * 점검은 스케줄러 스레드 하나에서만 실행된다.
+ */
+@Slf4j
+public class SloMonitor {
+
+    static final String REQUEST_TIMER = "http.server.requests";
+    private static final double P99 = 0.99;
+
+    private static final class RouteState {
+        volatile double ratio;
+        volatile boolean breached;
+    }
+
+    private final MeterRegistry registry;
+    private final Duration defaultTarget;
+    private final Map<String, Duration> targets;
+    private final long minRequests;
+    private final ConcurrentHashMap<String, RouteState> routes = new ConcurrentHashMap<>();
+    private final Map<Meter.Id, Long> lastCounts = new HashMap<>();
+
+    /**
+     * @param targets "METHOD /uri/{template}" → p99 목표 (없으면 defaultTarget)
+     */
+    public SloMonitor(MeterRegistry registry, Duration defaultTarget, Map<String, Duration> targets, long minRequests) {
+        this.registry = registry;
+        this.defaultTarget = defaultTarget;
+        this.targets = Map.copyOf(targets);
+        this.minRequests = minRequests;
+    }
+
+    @Scheduled(fixedDelayString = "${app.slo.check-interval:PT30S}",
+            initialDelayString = "${app.slo.check-interval:PT30S}")
+    public void check() {
+        // 같은 경로라도 status/outcome 별로 타이머가 나뉘므로 경로 단위로 모아 가장 나쁜 p99 를 사용
+        Map<String, List<Timer>> byRoute = new HashMap<>();
+        for (Timer timer : registry.find(REQUEST_TIMER).timers()) {
+            String method = timer.getId().getTag("method");
+            String uri = timer.getId().getTag("uri");
+            // SSE 스트림은 연결 유지 시간이 곧 응답 시간이므로 제외
+            if (method == null || uri == null || uri.startsWith("/actuator") || uri.endsWith("/events")
+                    || "UNKNOWN".equals(uri)) {
+                continue;
+            }
+            byRoute.computeIfAbsent(method + " " + uri, r -> new ArrayList<>()).add(timer);
+        }
+        byRoute.forEach((route, timers) -> {
+            long recent = 0;
+            double p99 = Double.NaN;
+            for (Timer timer : timers) {
+                long count = timer.count();
+                Long previous = lastCounts.put(timer.getId(), count);
+                recent += count - (previous != null ? previous : 0);
+                double value = p99Millis(timer);
+                if (!Double.isNaN(value) && (Double.isNaN(p99) || value > p99)) {
+                    p99 = value;
+                }
+            }
+            Meter.Id id = timers.getFirst().getId();
+            RouteState state = routes.computeIfAbsent(route, r -> register(id.getTag("method"), id.getTag("uri")));
+            evaluate(route, state, recent, p99);
+        });
+    }
+
+    boolean isBreached(String route) {
+        RouteState state = routes.get(route);
+        return state != null && state.breached;
+    }
+
+    private void evaluate(String route, RouteState state, long recent, double p99) {
+        if (recent < minRequests || Double.isNaN(p99)) {
+            return;
+        }
+        double target = targets.getOrDefault(route, defaultTarget).toNanos() / 1e6;
+        state.ratio = p99 / target;
+        boolean breached = p99 > target;
+        if (breached && !state.breached) {
+            log.warn("SLO breach: {} p99={}ms target={}ms ({} requests)", route, Math.round(p99), Math.round(target), recent);
+        } else if (!breached && state.breached) {
+            log.info("SLO recovered: {} p99={}ms target={}ms", route, Math.round(p99), Math.round(target));
+        }
+        state.breached = breached;
+    }
+
+    private RouteState register(String method, String uri) {
+        RouteState state = new RouteState();
+        Gauge.builder("grouple.slo.p99.ratio", state, s -> s.ratio)
+                .description("Recent p99 latency divided by the SLO target")
+                .tags("method", method, "uri", uri)
+                .register(registry);
+        Gauge.builder("grouple.slo.breach", state, s -> s.breached ? 1 : 0)
+                .description("1 when the recent p99 latency exceeds the SLO target")
+                .tags("method", method, "uri", uri)
+                .register(registry);
+        return state;
+    }
+
+    private static double p99Millis(Timer timer) {
+        for (ValueAtPercentile v : timer.takeSnapshot().percentileValues()) {
+            if (v.percentile() == P99) {
+                return v.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return Double.NaN;
+    }
+}
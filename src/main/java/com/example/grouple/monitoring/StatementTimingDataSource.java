@@ -0,0 +1,96 @@
+package com.example.grouple.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * JDBC 계측 DataSource (커넥션 프록시 한 겹으로 두 가지를 기록)
+ * - timeStatements : 문장 실행(execute*)과 commit/rollback 시간을 DbTime 에 더함
+ *   서비스 메서드 시간을 DB / 나머지로 나누는 데 사용 (ServiceMetricsInterceptor)
+ * - trackHoldTime  : 커넥션을 빌린 시점부터 close(풀 반납)까지의 시간을 ConnectionHoldTime 에 기록
+ */
+public class StatementTimingDataSource extends DelegatingDataSource {
+
+    private final boolean timeStatements;
+    private final boolean trackHoldTime;
+
+    public StatementTimingDataSource(DataSource targetDataSource) {
+        this(targetDataSource, true, true);
+    }
+
+    public StatementTimingDataSource(DataSource targetDataSource, boolean timeStatements, boolean trackHoldTime) {
+        super(targetDataSource);
+        this.timeStatements = timeStatements;
+        this.trackHoldTime = trackHoldTime;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection target) {
+        long acquiredAt = System.nanoTime();
+        boolean[] closed = {false};
+        return (Connection) Proxy.newProxyInstance(
+                StatementTimingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (trackHoldTime && name.equals("close") && method.getParameterCount() == 0 && !closed[0]) {
+                        closed[0] = true;
+                        ConnectionHoldTime.record(System.nanoTime() - acquiredAt);
+                    }
+                    if (!timeStatements) {
+                        return invoke(target, method, args);
+                    }
+                    if (name.equals("commit") || name.equals("rollback")) {
+                        return timed(target, method, args);
+                    }
+                    Object result = invoke(target, method, args);
+                    if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                        return wrapStatement(statement, method.getReturnType());
+                    }
+                    return result;
+                });
+    }
+
+    // Statement / PreparedStatement / CallableStatement 중 반환 타입 그대로 감쌈
+    private static Object wrapStatement(Statement target, Class<?> type) {
+        return Proxy.newProxyInstance(
+                StatementTimingDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> method.getName().startsWith("execute")
+                        ? timed(target, method, args)
+                        : invoke(target, method, args));
+    }
+
+    private static Object timed(Object target, Method method, Object[] args) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return invoke(target, method, args);
+        } finally {
+            DbTime.add(System.nanoTime() - start);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
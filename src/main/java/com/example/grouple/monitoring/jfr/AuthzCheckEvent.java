@@ -0,0 +1,48 @@
+package com.example.grouple.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 권한 검사 (OrganizationAuthz / UserAuthz) 한 건
+ * 기록 중이 아니면 begin/end 외 비용이 없고, 필드는 커밋할 때만 채운다.
+ */
+@Name("grouple.AuthzCheck")
+@Label("Authorization Check")
+@Category({"Grouple", "Security"})
+@Description("OrganizationAuthz / UserAuthz check")
+@StackTrace(false)
+public final class AuthzCheckEvent extends Event {
+
+    @Label("Check")
+    String check;
+
+    @Label("Organization ID")
+    int orgId;
+
+    @Label("User ID")
+    int userId;
+
+    @Label("Allowed")
+    boolean allowed;
+
+    /**
+     * 종료 시각을 찍고 기록 대상이면 커밋
+     * @return allowed (호출 측에서 그대로 반환)
+     */
+    public boolean finish(String check, Integer orgId, Integer userId, boolean allowed) {
+        end();
+        if (shouldCommit()) {
+            this.check = check;
+            this.orgId = JfrContext.id(orgId);
+            this.userId = JfrContext.id(userId);
+            this.allowed = allowed;
+            commit();
+        }
+        return allowed;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.grouple.monitoring.jfr;
+
+import com.example.grouple.security.AuthPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 이벤트에 붙일 조직/사용자 ID (알 수 없으면 0)
+ * - 사용자: SecurityContext 의 AuthPrincipal
+ * - 조직: 요청 경로의 {orgId} 템플릿 변수 (핸들러 매핑 이후에만 존재)
+ * 이벤트를 실제로 커밋할 때만 호출한다.
+ */
+final class JfrContext {
+
+    private JfrContext() {
+    }
+
+    static int id(Integer id) {
+        return id != null ? id : 0;
+    }
+
+    static int userId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof AuthPrincipal principal) {
+            return id(principal.getId());
+        }
+        return 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    static int orgId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return 0;
+        }
+        Object variables = attributes.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        if (variables instanceof Map<?, ?> map && map.get("orgId") instanceof String orgId) {
+            try {
+                return Integer.parseInt(orgId);
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+}
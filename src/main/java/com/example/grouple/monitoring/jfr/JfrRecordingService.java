@@ -0,0 +1,166 @@
+package com.example.grouple.monitoring.jfr;
+
+import com.example.grouple.common.ConflictException;
+import com.example.grouple.common.NotFoundException;
+import com.example.grouple.dto.monitoring.response.JfrRecordingResponse;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 요청 시 JFR 기록 (한 번에 하나)
+ * - 길이(max-duration)와 크기(max-size)가 제한되며, 길이가 지나면 자동으로 멈추고 파일로 남는다.
+ * - 다음 기록을 시작하거나 종료 시 이전 파일을 지운다.
+ * 기본 설정(default.jfc, 오버헤드 1% 내외)에 grouple.* 이벤트를 임계값과 함께 켠다.
+ */
+@Slf4j
+public class JfrRecordingService {
+
+    static final List<Class<? extends Event>> EVENTS = List.of(
+            AuthzCheckEvent.class, JwtVerificationEvent.class, RepositoryCallEvent.class, ServiceCallEvent.class);
+
+    private final String settings;
+    private final Duration maxDuration;
+    private final long maxSize;
+    private final Duration threshold;
+
+    private Recording recording;
+    private Path file;
+
+    public JfrRecordingService(String settings, Duration maxDuration, long maxSize, Duration threshold) {
+        this.settings = settings;
+        this.maxDuration = maxDuration;
+        this.maxSize = maxSize;
+        this.threshold = threshold;
+    }
+
+    /**
+     * @param duration 기록 길이 (null 이면 max-duration, 그보다 길면 max-duration 으로 자름)
+     * @throws ConflictException 이미 기록 중인 경우
+     */
+    public synchronized JfrRecordingResponse start(Duration duration) {
+        if (isRunning()) {
+            throw new ConflictException("이미 진행 중인 JFR 기록이 있습니다.");
+        }
+        if (duration != null && (duration.isNegative() || duration.isZero())) {
+            throw new IllegalArgumentException("duration must be positive");
+        }
+        Duration length = duration == null || duration.compareTo(maxDuration) > 0 ? maxDuration : duration;
+        discard();
+
+        Recording r = new Recording(configuration());
+        for (Class<? extends Event> type : EVENTS) {
+            r.enable(type).withThreshold(threshold);
+        }
+        r.setName("grouple-on-demand");
+        r.setToDisk(true);
+        r.setMaxSize(maxSize);
+        r.setDuration(length);
+        try {
+            file = Files.createTempFile("grouple-", ".jfr");
+            r.setDestination(file);
+        } catch (IOException e) {
+            r.close();
+            throw new UncheckedIOException(e);
+        }
+        r.start();
+        recording = r;
+        log.info("JFR recording started (id={}, duration={}, maxSize={})", r.getId(), length, maxSize);
+        return status();
+    }
+
+    /**
+     * 기록 중이면 멈추고 파일로 남긴다 (이미 멈춘 기록이면 그대로)
+     * @throws NotFoundException 시작한 기록이 없는 경우
+     */
+    public synchronized JfrRecordingResponse stop() {
+        if (recording == null) {
+            throw new NotFoundException("시작한 JFR 기록이 없습니다.");
+        }
+        if (isRunning()) {
+            recording.stop();
+            log.info("JFR recording stopped (id={})", recording.getId());
+        }
+        return status();
+    }
+
+    public synchronized JfrRecordingResponse status() {
+        if (recording == null) {
+            return JfrRecordingResponse.builder().state("NONE").build();
+        }
+        return JfrRecordingResponse.builder()
+                .id(recording.getId())
+                .state(recording.getState().name())
+                .startedAt(recording.getStartTime())
+                .stoppedAt(recording.getStopTime())
+                .maxDuration(recording.getDuration())
+                .maxSize(recording.getMaxSize())
+                .fileSize(isRunning() ? null : fileSize())
+                .build();
+    }
+
+    /**
+     * 멈춘 기록의 .jfr 파일
+     * @throws ConflictException 아직 기록 중인 경우
+     * @throws NotFoundException 내려받을 기록이 없는 경우
+     */
+    public synchronized Path recordingFile() {
+        if (isRunning()) {
+            throw new ConflictException("JFR 기록이 아직 진행 중입니다. 먼저 중지하세요.");
+        }
+        if (recording == null || file == null || !Files.exists(file)) {
+            throw new NotFoundException("내려받을 JFR 기록이 없습니다.");
+        }
+        return file;
+    }
+
+    public synchronized void close() {
+        discard();
+    }
+
+    private boolean isRunning() {
+        return recording != null
+                && (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED);
+    }
+
+    private void discard() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete JFR file {}", file, e);
+            }
+            file = null;
+        }
+    }
+
+    private Long fileSize() {
+        try {
+            return file != null && Files.exists(file) ? Files.size(file) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private Configuration configuration() {
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot load JFR settings: " + settings, e);
+        }
+    }
+}
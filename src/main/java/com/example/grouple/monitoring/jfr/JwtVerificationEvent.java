@@ -0,0 +1,50 @@
+package com.example.grouple.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JWT 서명 검증/파싱 한 건 (JwtAuthFilter, JwtProvider)
+ */
+@Name("grouple.JwtVerification")
+@Label("JWT Verification")
+@Category({"Grouple", "Security"})
+@Description("JWT signature verification and claims parsing")
+@StackTrace(false)
+public final class JwtVerificationEvent extends Event {
+
+    @Label("Source")
+    String source;
+
+    @Label("User ID")
+    int userId;
+
+    @Label("Valid")
+    boolean valid;
+
+    @Label("Failure")
+    String failure;
+
+    public void succeeded(String source, Integer userId) {
+        finish(source, userId, null);
+    }
+
+    public void failed(String source, Throwable failure) {
+        finish(source, null, failure);
+    }
+
+    private void finish(String source, Integer userId, Throwable failure) {
+        end();
+        if (shouldCommit()) {
+            this.source = source;
+            this.userId = JfrContext.id(userId);
+            this.valid = failure == null;
+            this.failure = failure != null ? failure.getClass().getSimpleName() : null;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.grouple.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Spring Data 리포지토리 메서드 호출 한 건 (쿼리 실행 + 엔티티 매핑)
+ */
+@Name("grouple.RepositoryCall")
+@Label("Repository Call")
+@Category({"Grouple", "Data"})
+@Description("Spring Data repository method call")
+@StackTrace(false)
+public final class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Organization ID")
+    int orgId;
+
+    @Label("User ID")
+    int userId;
+
+    @Label("Exception")
+    String exception;
+
+    void finish(String repository, String method, Throwable failure) {
+        end();
+        if (shouldCommit()) {
+            this.repository = repository;
+            this.method = method;
+            this.orgId = JfrContext.orgId();
+            this.userId = JfrContext.userId();
+            this.exception = failure != null ? failure.getClass().getSimpleName() : null;
+            commit();
+        }
+    }
+}
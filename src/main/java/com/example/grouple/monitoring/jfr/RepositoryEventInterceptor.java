@@ -0,0 +1,35 @@
+package com.example.grouple.monitoring.jfr;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * 리포지토리 프록시에 붙는 RepositoryCallEvent 기록기
+ * 이벤트가 꺼져 있으면 바로 위임한다.
+ */
+public class RepositoryEventInterceptor implements MethodInterceptor {
+
+    private final String repository;
+
+    public RepositoryEventInterceptor(Class<?> repositoryInterface) {
+        this.repository = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+        event.begin();
+        Throwable failure = null;
+        try {
+            return invocation.proceed();
+        } catch (Throwable t) {
+            failure = t;
+            throw t;
+        } finally {
+            event.finish(repository, invocation.getMethod().getName(), failure);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.grouple.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 서비스 메서드 호출 한 건
+ * dbTime 은 StatementTimingDataSource 가 켜져 있을 때만 채워진다.
+ */
+@Name("grouple.ServiceCall")
+@Label("Service Call")
+@Category({"Grouple", "Service"})
+@Description("Service method call with time spent in JDBC")
+@StackTrace(false)
+public final class ServiceCallEvent extends Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("Method")
+    String method;
+
+    @Label("Organization ID")
+    int orgId;
+
+    @Label("User ID")
+    int userId;
+
+    @Label("DB Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long dbTime;
+
+    @Label("Exception")
+    String exception;
+
+    void finish(String service, String method, long dbTime, Throwable failure) {
+        end();
+        if (shouldCommit()) {
+            this.service = service;
+            this.method = method;
+            this.orgId = JfrContext.orgId();
+            this.userId = JfrContext.userId();
+            this.dbTime = dbTime;
+            this.exception = failure != null ? failure.getClass().getSimpleName() : null;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.grouple.monitoring.jfr;
+
+import com.example.grouple.monitoring.DbTime;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * 서비스 메서드 ServiceCallEvent 기록기
+ * 이벤트가 꺼져 있으면 바로 위임한다.
+ */
+public class ServiceEventInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        ServiceCallEvent event = new ServiceCallEvent();
+        if (!event.isEnabled() || method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        long dbBefore = DbTime.current();
+        event.begin();
+        Throwable failure = null;
+        try {
+            return invocation.proceed();
+        } catch (Throwable t) {
+            failure = t;
+            throw t;
+        } finally {
+            Class<?> type = invocation.getThis() != null
+                    ? ClassUtils.getUserClass(invocation.getThis())
+                    : method.getDeclaringClass();
+            event.finish(type.getSimpleName(), method.getName(), DbTime.current() - dbBefore, failure);
+        }
+    }
+}
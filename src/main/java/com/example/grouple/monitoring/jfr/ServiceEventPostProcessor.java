@@ -0,0 +1,20 @@
+package com.example.grouple.monitoring.jfr;
+
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.stereotype.Service;
+
+/**
+ * @Service 빈에 ServiceEventInterceptor 적용 (ServiceMetricsPostProcessor 와 같은 방식)
+ */
+public class ServiceEventPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    public ServiceEventPostProcessor() {
+        this.advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forClassAnnotation(Service.class),
+                new ServiceEventInterceptor());
+        setBeforeExistingAdvisors(true);
+        setProxyTargetClass(true);
+    }
+}
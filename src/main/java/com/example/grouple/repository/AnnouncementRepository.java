@@ -4,6 +4,9 @@ import com.example.grouple.entity.Announcement;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -16,4 +19,10 @@ public interface AnnouncementRepository extends JpaRepository<Announcement, Inte
 
     Page<Announcement> findByOrganizationIdAndTitleContaining(Integer organizationId, String keyword, Pageable pageable);
 
+    // 읽고-뒤집고-저장 대신 DB 에서 원자적으로 반전 (동시 토글 시 갱신 손실 방지)
+    // 이후 조회가 영속성 컨텍스트의 이전 값을 돌려주지 않도록 clear
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Announcement a SET a.star = CASE WHEN a.star = true THEN false ELSE true END " +
+            "WHERE a.id = :id AND a.organization.id = :organizationId")
+    int toggleStar(@Param("id") Integer id, @Param("organizationId") Integer organizationId);
 }
\ No newline at end of file
@@ -3,18 +3,33 @@ package com.example.grouple.repository;
 import com.example.grouple.entity.Document;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 public interface DocumentRepository extends JpaRepository<Document, Integer> {
 
-    // 조직 내 모든 문서 조회 (페이징, 생성일 내림차순)
+    // 조직 내 모든 문서 조회 (페이징, 생성일 내림차순) - 작성자/조직까지 한 번에 조회
+    @EntityGraph(attributePaths = {"user", "organization"})
     Page<Document> findByOrganizationIdOrderByCreatedAtDesc(Integer organizationId, Pageable pageable);
 
-    // 단일 문서 조회
+    // 단일 문서 조회 - 작성자/조직까지 한 번에 조회
+    @EntityGraph(attributePaths = {"user", "organization"})
     Optional<Document> findByIdAndOrganizationId(Integer documentId, Integer organizationId);
 
+    boolean existsByIdAndOrganizationId(Integer documentId, Integer organizationId);
 
+    // 조직 저장 공간 사용량 (파일이 있는 문서 크기 합, 같은 내용도 문서마다 계산)
+    @Query("SELECT COALESCE(SUM(d.size), 0) FROM Document d " +
+            "WHERE d.organization.id = :orgId AND d.contentHash IS NOT NULL")
+    long sumContentSizeByOrganizationId(@Param("orgId") Integer orgId);
 
+    // 주어진 해시 중 아직 문서가 참조하는 것 (BlobStore 정리용)
+    @Query("SELECT DISTINCT d.contentHash FROM Document d WHERE d.contentHash IN :hashes")
+    Set<String> findReferencedContentHashes(@Param("hashes") Collection<String> hashes);
 }
@@ -2,16 +2,85 @@ package com.example.grouple.repository;
 
 import com.example.grouple.entity.JoinRequest;
 import com.example.grouple.entity.JoinRequestStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface JoinRequestRepository extends JpaRepository<JoinRequest, Integer> {
+public interface JoinRequestRepository extends JpaRepository<JoinRequest, Integer>, JoinRequestRepositoryCustom {
 
+    // 응답에 신청자 이름이 필요하므로 사용자까지 한 번에 조회
+    @EntityGraph(attributePaths = "user")
     List<JoinRequest> findAllByOrganization_Id(Integer orgId);
 
+    @EntityGraph(attributePaths = "user")
     Optional<JoinRequest> findByIdAndOrganization_Id(Integer reqId, Integer orgId);
 
     boolean existsByOrganization_IdAndUser_IdAndStatus(Integer orgId, Integer userId, JoinRequestStatus status);
+
+    /**
+     * 가입 요청 가능 여부 (조직/유저가 없으면 빈 결과)
+     * relation : MEMBER(이미 구성원) / PENDING(처리 중인 요청 있음) / NONE
+     * ownerId  : 조직 소유자 (가입 요청 알림 대상)
+     */
+    interface JoinEligibility {
+        String getUsername();
+
+        Integer getOwnerId();
+
+        String getRelation();
+    }
+
+    @Query("SELECT u.username AS username, o.owner.id AS ownerId, " +
+            "CASE WHEN EXISTS (SELECT 1 FROM Member m WHERE m.organization.id = o.id AND m.user.id = u.id) THEN 'MEMBER' " +
+            "     WHEN EXISTS (SELECT 1 FROM JoinRequest j WHERE j.organization.id = o.id AND j.user.id = u.id " +
+            "                  AND j.status = com.example.grouple.entity.JoinRequestStatus.PENDING) THEN 'PENDING' " +
+            "     ELSE 'NONE' END AS relation " +
+            "FROM User u, Organization o " +
+            "WHERE u.id = :userId AND o.id = :orgId")
+    Optional<JoinEligibility> findJoinEligibility(@Param("orgId") Integer orgId, @Param("userId") Integer userId);
+
+    /**
+     * PENDING 인 요청만 조건부로 처리 상태로 변경 (동시 승인/거절 중 하나만 성공)
+     * @return 변경된 행 수 (0 이면 없거나 이미 처리된 요청)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JoinRequest j SET j.status = :status, j.decisionReason = :reason, j.decidedAt = :decidedAt " +
+            "WHERE j.id = :id AND j.organization.id = :orgId " +
+            "AND j.status = com.example.grouple.entity.JoinRequestStatus.PENDING")
+    int decide(@Param("id") Integer id,
+               @Param("orgId") Integer orgId,
+               @Param("status") JoinRequestStatus status,
+               @Param("reason") String reason,
+               @Param("decidedAt") Instant decidedAt);
+
+    /**
+     * 일괄 처리 대상 (id, 신청자, 현재 상태)
+     */
+    interface DecisionTarget {
+        Integer getId();
+
+        Integer getUserId();
+
+        String getStatus();
+    }
+
+    // 처리 중 다른 요청이 같은 행을 바꾸지 못하도록 행 잠금
+    @Query(value = "SELECT id, user_id AS userId, status FROM join_requests " +
+            "WHERE organization_id = :orgId AND id IN (:ids) FOR UPDATE", nativeQuery = true)
+    List<DecisionTarget> lockDecisionTargets(@Param("orgId") Integer orgId, @Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @Query("UPDATE JoinRequest j SET j.status = :status, j.decisionReason = :reason, j.decidedAt = :decidedAt " +
+            "WHERE j.id IN :ids AND j.status = com.example.grouple.entity.JoinRequestStatus.PENDING")
+    int decideAll(@Param("ids") Collection<Integer> ids,
+                  @Param("status") JoinRequestStatus status,
+                  @Param("reason") String reason,
+                  @Param("decidedAt") Instant decidedAt);
 }
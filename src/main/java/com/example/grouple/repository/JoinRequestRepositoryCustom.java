@@ -0,0 +1,14 @@
+package com.example.grouple.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface JoinRequestRepositoryCustom {
+
+    /**
+     * 처리 중(PENDING) 가입 요청 추가 (단일 INSERT ... ON DUPLICATE KEY UPDATE)
+     * 같은 조직/유저의 PENDING 요청이 이미 있으면 유니크 제약에 걸려 아무것도 추가하지 않는다.
+     * @return 추가된 요청 ID (이미 있으면 빈 값)
+     */
+    Optional<Integer> insertPendingIfAbsent(Integer orgId, Integer userId, String message, Instant createdAt);
+}
@@ -0,0 +1,42 @@
+package com.example.grouple.repository;
+
+import com.example.grouple.entity.JoinRequestStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+class JoinRequestRepositoryImpl implements JoinRequestRepositoryCustom {
+
+    // 중복 키(uk_join_requests_pending)만 흡수 - INSERT IGNORE 와 달리 NOT NULL/FK/길이 오류는 그대로 예외
+    private static final String INSERT_PENDING =
+            "INSERT INTO join_requests (organization_id, user_id, status, message, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE id = id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<Integer> insertPendingIfAbsent(Integer orgId, Integer userId, String message, Instant createdAt) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_PENDING, new String[]{"id"});
+            ps.setInt(1, orgId);
+            ps.setInt(2, userId);
+            ps.setString(3, JoinRequestStatus.PENDING.name());
+            ps.setString(4, message);
+            ps.setTimestamp(5, Timestamp.from(createdAt));
+            return ps;
+        }, keyHolder);
+        // 중복이면 생성된 키가 없음 (영향 받은 행 수는 드라이버의 found-rows 설정에 따라 0 또는 1 이라 쓰지 않음)
+        if (keyHolder.getKey() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(keyHolder.getKey().intValue());
+    }
+}
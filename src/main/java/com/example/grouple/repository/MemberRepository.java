@@ -2,11 +2,14 @@ package com.example.grouple.repository;
 
 import com.example.grouple.entity.Member;
 import com.example.grouple.entity.id.MemberId;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 
-public interface MemberRepository extends JpaRepository<Member, MemberId> {
+public interface MemberRepository extends JpaRepository<Member, MemberId>, MemberRepositoryCustom {
+    // 구성원 목록 - 사용자까지 한 번에 조회
+    @EntityGraph(attributePaths = "user")
     List<Member> findAllByOrganization_Id(Integer orgId);
     boolean existsById_OrgIdAndId_UserId(Integer organizationId, Integer userId);
 }
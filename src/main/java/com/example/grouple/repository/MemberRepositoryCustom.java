@@ -0,0 +1,14 @@
+package com.example.grouple.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+
+public interface MemberRepositoryCustom {
+
+    /**
+     * 구성원 일괄 추가 (한 번의 multi-row INSERT)
+     * 이미 구성원인 사용자는 건너뛰고 기존 역할/가입 시각을 유지한다.
+     * 중복 행도 영향 받은 행으로 세는 드라이버 설정(found-rows)이 있어 추가된 수는 반환하지 않는다.
+     */
+    void insertIgnoringExisting(Integer orgId, Collection<Integer> userIds, String role, Instant joinedAt);
+}
@@ -0,0 +1,37 @@
+package com.example.grouple.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+class MemberRepositoryImpl implements MemberRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertIgnoringExisting(Integer orgId, Collection<Integer> userIds, String role, Instant joinedAt) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        // (user_id, organization_id) PK 중복만 무시 - ON DUPLICATE KEY UPDATE (MySQL, H2 MySQL 모드)
+        // INSERT IGNORE 는 NOT NULL/FK/길이 오류까지 경고로 바꿔 버리므로 쓰지 않음
+        String values = String.join(",", Collections.nCopies(userIds.size(), "(?, ?, ?, ?)"));
+        List<Object> args = new ArrayList<>(userIds.size() * 4);
+        Timestamp joined = Timestamp.from(joinedAt);
+        for (Integer userId : userIds) {
+            args.add(userId);
+            args.add(orgId);
+            args.add(role);
+            args.add(joined);
+        }
+        jdbcTemplate.update("INSERT INTO members (user_id, organization_id, role, joined_at) VALUES " + values
+                + " ON DUPLICATE KEY UPDATE user_id = user_id", args.toArray());
+    }
+}
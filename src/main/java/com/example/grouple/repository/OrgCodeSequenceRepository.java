@@ -0,0 +1,15 @@
+package com.example.grouple.repository;
+
+import com.example.grouple.entity.OrgCodeSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.util.Optional;
+
+public interface OrgCodeSequenceRepository extends JpaRepository<OrgCodeSequence, Integer> {
+
+    // 블록 예약 시 다른 노드와 겹치지 않도록 행 잠금 (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<OrgCodeSequence> findWithLockById(Integer id);
+}
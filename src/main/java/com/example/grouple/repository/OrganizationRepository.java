@@ -3,7 +3,12 @@ package com.example.grouple.repository;
 import com.example.grouple.entity.Organization;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,11 +20,62 @@ public interface OrganizationRepository extends JpaRepository<Organization, Inte
 
     boolean existsByIdAndOwner_Id(Integer orgId, Integer ownerId);
 
+    // 조직 로고로 쓰이는 이미지인지 (토큰 없는 이미지 조회 허용)
+    boolean existsByImage(String image);
+
     @NotNull Optional<Organization> findById(@NotNull Integer id);
 
     Optional<Organization> findByCode(String code);
 
+    // 코드로 ID 만 조회 (가입 요청 코드 캐시용)
+    @Query("SELECT o.id FROM Organization o WHERE o.code = :code")
+    Optional<Integer> findIdByCode(@Param("code") String code);
+
     List<Organization> findAllByOwner_Id(Integer userId);
 
     Organization getOrganizationById(Integer id);
+
+    // 소유한 조직 ID (탈퇴 시 SSE 채널 정리)
+    @Query("SELECT o.id FROM Organization o WHERE o.owner.id = :ownerId")
+    List<Integer> findIdsByOwnerId(@Param("ownerId") Integer ownerId);
+
+    // 탈퇴한 사용자가 소유한 조직 삭제 표시
+    @Modifying
+    @Query("UPDATE Organization o SET o.deletedAt = :deletedAt WHERE o.owner.id = :ownerId AND o.deletedAt IS NULL")
+    int markDeletedByOwnerId(@Param("ownerId") Integer ownerId, @Param("deletedAt") Instant deletedAt);
+
+    // 엔티티를 읽지 않고 내용 버전만 조회 (조건부 GET)
+    @Query("SELECT o.contentVersion FROM Organization o WHERE o.id = :id")
+    Optional<Long> findContentVersionById(@Param("id") Integer id);
+
+    // 읽기 권한(조직 멤버 또는 생성자)이 있을 때만 내용 버전 조회 - 권한 확인과 버전 조회를 한 번에
+    @Query("SELECT o.contentVersion FROM Organization o WHERE o.id = :id AND (o.owner.id = :userId " +
+            "OR EXISTS (SELECT 1 FROM Member m WHERE m.organization = o AND m.user.id = :userId))")
+    Optional<Long> findContentVersionByIdForReader(@Param("id") Integer id, @Param("userId") Integer userId);
+
+    interface ContentVersion {
+        Integer getId();
+
+        Long getContentVersion();
+    }
+
+    // 여러 조직의 내용 버전을 한 번에 조회 (SSE heartbeat)
+    @Query("SELECT o.id AS id, o.contentVersion AS contentVersion FROM Organization o WHERE o.id IN :ids")
+    List<ContentVersion> findContentVersionsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @Query(value = "UPDATE organizations SET content_version = content_version + 1 WHERE id = :id", nativeQuery = true)
+    int incrementContentVersion(@Param("id") Integer id);
+
+    // 사용자 이름 등이 노출되는 모든 조직 (소유/구성원/가입 요청/작성 글)
+    @Modifying
+    @Query(value = "UPDATE organizations SET content_version = content_version + 1 " +
+            "WHERE owner_id = :userId " +
+            "OR id IN (SELECT organization_id FROM members WHERE user_id = :userId) " +
+            "OR id IN (SELECT organization_id FROM join_requests WHERE user_id = :userId) " +
+            "OR id IN (SELECT organization_id FROM announcements WHERE user_id = :userId) " +
+            "OR id IN (SELECT organization_id FROM documents WHERE user_id = :userId) " +
+            "OR id IN (SELECT organization_id FROM receipts WHERE user_id = :userId) " +
+            "OR id IN (SELECT organization_id FROM schedules WHERE user_id = :userId)", nativeQuery = true)
+    int incrementContentVersionForUser(@Param("userId") Integer userId);
 }
@@ -0,0 +1,33 @@
+package com.example.grouple.repository;
+
+import com.example.grouple.entity.ScheduleOverride;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ScheduleOverrideRepository extends JpaRepository<ScheduleOverride, Integer> {
+
+    Optional<ScheduleOverride> findBySchedule_IdAndOriginalStartTime(Integer scheduleId, LocalDateTime originalStartTime);
+
+    List<ScheduleOverride> findAllBySchedule_Organization_Id(Integer organizationId);
+
+    // 원래 발생 시각 또는 변경된 시각이 조회 구간에 걸치는 예외만 조회
+    @Query("SELECT o FROM ScheduleOverride o " +
+            "WHERE o.schedule.id IN :scheduleIds " +
+            "AND ((o.originalStartTime >= :earliest AND o.originalStartTime < :to) " +
+            "     OR (o.startTime < :to AND o.endTime >= :from))")
+    List<ScheduleOverride> findInRange(@Param("scheduleIds") Collection<Integer> scheduleIds,
+                                       @Param("earliest") LocalDateTime earliest,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("DELETE FROM ScheduleOverride o WHERE o.schedule.id = :scheduleId")
+    void deleteAllByScheduleId(@Param("scheduleId") Integer scheduleId);
+}
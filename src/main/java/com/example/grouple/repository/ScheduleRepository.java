@@ -3,15 +3,36 @@ package com.example.grouple.repository;
 import com.example.grouple.entity.Schedule;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, Integer> {
 
-    // 조직별 일정 목록
+    // 조직별 일정 목록 - 작성자까지 한 번에 조회
+    @EntityGraph(attributePaths = "user")
     Page<Schedule> findByOrganization_Id(Integer organizationId, Pageable pageable);
 
-    // 조직별 일정 단건
+    // 조직별 일정 전체 (충돌 인덱스 적재용)
+    List<Schedule> findAllByOrganization_Id(Integer organizationId);
+
+    // 조직별 일정 단건 - 작성자까지 한 번에 조회
+    @EntityGraph(attributePaths = "user")
     Optional<Schedule> findByIdAndOrganization_Id(Integer id, Integer organizationId);
+
+    // 구간 [from, to) 에 발생이 있을 수 있는 일정(시리즈) 목록 - 작성자까지 한 번에 조회
+    @Query("SELECT s FROM Schedule s JOIN FETCH s.user " +
+            "WHERE s.organization.id = :orgId " +
+            "AND s.startTime < :to " +
+            "AND (s.seriesEndTime >= :from " +
+            "     OR (s.seriesEndTime IS NULL AND (s.recurrenceRule IS NOT NULL OR s.endTime >= :from))) " +
+            "ORDER BY s.startTime")
+    List<Schedule> findSeriesInRange(@Param("orgId") Integer organizationId,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,105 @@
+package com.example.grouple.repository;
+
+import com.example.grouple.entity.StoredImage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 이미지 메타데이터 겸 썸네일 작업 대기열
+ * 상태 변경은 조건부 UPDATE 한 건으로 처리해 여러 노드의 작업자가 같은 이미지를 중복 처리하지 않는다.
+ */
+public interface StoredImageRepository extends JpaRepository<StoredImage, String> {
+
+    // 사용자/조직/가계부 image 에 원본 URL(/images/{sha256}) 로 저장된 적이 없음 (탈퇴 후 아직 정리 전인 행도 참조로 봄)
+    String UNREFERENCED = "NOT EXISTS (SELECT 1 FROM users u WHERE u.image = CONCAT('/images/', images.sha256)) " +
+            "AND NOT EXISTS (SELECT 1 FROM organizations o WHERE o.image = CONCAT('/images/', images.sha256)) " +
+            "AND NOT EXISTS (SELECT 1 FROM receipts r WHERE r.image = CONCAT('/images/', images.sha256))";
+
+    // 같은 내용이 이미 있으면 무시 (동시 업로드에도 한 행)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO images (sha256, content_type, width, height, size, uploaded_by, " +
+            "thumbnail_status, attempts, available_at, created_at) " +
+            "VALUES (:sha256, :contentType, :width, :height, :size, :uploadedBy, 'PENDING', 0, :now, :now)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("sha256") String sha256, @Param("contentType") String contentType,
+                       @Param("width") int width, @Param("height") int height,
+                       @Param("size") long size, @Param("uploadedBy") Integer uploadedBy,
+                       @Param("now") Instant now);
+
+    @Query("SELECT COALESCE(SUM(i.size), 0) FROM StoredImage i WHERE i.uploadedBy = :userId")
+    long sumSizeByUploadedBy(@Param("userId") Integer userId);
+
+    @Query("SELECT i.sha256 FROM StoredImage i WHERE i.sha256 IN :sha256s")
+    Set<String> findExistingSha256s(@Param("sha256s") Collection<String> sha256s);
+
+    // 정리 대상 후보 (after 보다 큰 해시부터, 작업 중인 행 제외)
+    @Query(value = "SELECT sha256 FROM images WHERE sha256 > :after AND created_at < :cutoff " +
+            "AND thumbnail_status <> 'RUNNING' AND " + UNREFERENCED + " ORDER BY sha256 LIMIT :limit",
+            nativeQuery = true)
+    List<String> findUnreferenced(@Param("after") String after, @Param("cutoff") Instant cutoff,
+                                  @Param("limit") int limit);
+
+    // 후보를 고른 뒤 참조가 생겼으면 지우지 않음
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM images WHERE sha256 = :sha256 AND created_at < :cutoff " +
+            "AND thumbnail_status <> 'RUNNING' AND " + UNREFERENCED, nativeQuery = true)
+    int deleteIfUnreferenced(@Param("sha256") String sha256, @Param("cutoff") Instant cutoff);
+
+    // 썸네일이 캐시에서 밀려났을 때 다시 생성하도록 대기열에 넣음
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredImage i SET i.thumbnailStatus = com.example.grouple.entity.ThumbnailStatus.PENDING, " +
+            "i.attempts = 0, i.availableAt = :now, i.lastError = NULL " +
+            "WHERE i.sha256 = :sha256 AND i.thumbnailStatus IN " +
+            "(com.example.grouple.entity.ThumbnailStatus.DONE, com.example.grouple.entity.ThumbnailStatus.FAILED)")
+    int requeue(@Param("sha256") String sha256, @Param("now") Instant now);
+
+    @Query("SELECT i.sha256 FROM StoredImage i " +
+            "WHERE i.thumbnailStatus = com.example.grouple.entity.ThumbnailStatus.PENDING AND i.availableAt <= :now " +
+            "ORDER BY i.availableAt")
+    List<String> findReady(@Param("now") Instant now, Pageable pageable);
+
+    // 가져가기에 성공하면 1 (다른 작업자가 먼저 가져갔으면 0)
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredImage i SET i.thumbnailStatus = com.example.grouple.entity.ThumbnailStatus.RUNNING, " +
+            "i.attempts = i.attempts + 1, i.lockedAt = :now " +
+            "WHERE i.sha256 = :sha256 AND i.thumbnailStatus = com.example.grouple.entity.ThumbnailStatus.PENDING " +
+            "AND i.availableAt <= :now")
+    int claim(@Param("sha256") String sha256, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredImage i SET i.thumbnailStatus = com.example.grouple.entity.ThumbnailStatus.DONE, " +
+            "i.lockedAt = NULL, i.lastError = NULL WHERE i.sha256 = :sha256")
+    int complete(@Param("sha256") String sha256);
+
+    // 최대 시도 횟수에 도달하면 FAILED, 아니면 retryAt 이후 다시 처리
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredImage i SET i.thumbnailStatus = CASE WHEN i.attempts >= :maxAttempts " +
+            "THEN com.example.grouple.entity.ThumbnailStatus.FAILED " +
+            "ELSE com.example.grouple.entity.ThumbnailStatus.PENDING END, " +
+            "i.availableAt = :retryAt, i.lockedAt = NULL, i.lastError = :error WHERE i.sha256 = :sha256")
+    int fail(@Param("sha256") String sha256, @Param("maxAttempts") int maxAttempts,
+             @Param("retryAt") Instant retryAt, @Param("error") String error);
+
+    // 작업 중 노드가 죽어 RUNNING 으로 남은 작업을 되돌림
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredImage i SET i.thumbnailStatus = com.example.grouple.entity.ThumbnailStatus.PENDING, " +
+            "i.lockedAt = NULL, i.availableAt = :now " +
+            "WHERE i.thumbnailStatus = com.example.grouple.entity.ThumbnailStatus.RUNNING AND i.lockedAt < :cutoff")
+    int releaseStale(@Param("cutoff") Instant cutoff, @Param("now") Instant now);
+}
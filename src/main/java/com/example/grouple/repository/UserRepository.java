@@ -1,7 +1,9 @@
 package com.example.grouple.repository;
 
 import com.example.grouple.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
 import java.util.Optional;
 
@@ -10,4 +12,8 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     Optional<User> findByUsername(String username);
 
     Optional<Integer> findIdByUsername(String username);
+
+    // 이미지 업로드 용량 확인을 사용자 단위로 직렬화 (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<User> findWithLockById(Integer id);
 }
\ No newline at end of file
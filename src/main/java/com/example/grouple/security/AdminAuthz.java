@@ -0,0 +1,30 @@
+package com.example.grouple.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 운영 관리자 여부 체크 (app.admin.user-ids 에 등록된 사용자)
+ * JWT 에 권한 클레임이 없으므로 설정의 사용자 ID 목록으로 판단한다.
+ * 사용자명은 탈퇴 후 다른 사람이 재가입해 가져갈 수 있으므로 바뀌지 않는 ID 를 기준으로 한다.
+ */
+@Component
+public class AdminAuthz {
+    private final Set<Integer> userIds;
+
+    public AdminAuthz(@Value("${app.admin.user-ids:}") Set<Integer> userIds) {
+        this.userIds = userIds;
+    }
+
+    public boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthPrincipal principal)) {
+            return false;
+        }
+        return principal.getId() != null && userIds.contains(principal.getId());
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.grouple.security;
+
+import com.example.grouple.common.ImageUrls;
+import com.example.grouple.repository.OrganizationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드 이미지 조회 권한 체크
+ * 로그인 사용자는 모두 조회 가능하고, 토큰 없이는 조직 로고(원본/썸네일)만 조회 가능
+ * (프로필/가계부 이미지는 URL 을 알아도 토큰이 필요)
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageAuthz {
+    private final OrganizationRepository orgRepo;
+
+    public boolean canRead(Authentication authentication, String sha256) {
+        if (authentication != null && authentication.getPrincipal() instanceof AuthPrincipal) {
+            return true;
+        }
+        return sha256 != null && orgRepo.existsByImage(ImageUrls.original(sha256));
+    }
+}
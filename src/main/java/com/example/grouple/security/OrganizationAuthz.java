@@ -1,5 +1,6 @@
 package com.example.grouple.security;
 
+import com.example.grouple.monitoring.jfr.AuthzCheckEvent;
 import com.example.grouple.repository.OrganizationRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
@@ -15,21 +16,30 @@ public class OrganizationAuthz {
      * 조직 멤버 여부 체크 - 조회/생성 권한
      */
     public boolean canWriteOrg(Integer orgId) {
-        return orgRepo.existsByIdAndMembers_User_Id(orgId, authId());
+        AuthzCheckEvent event = new AuthzCheckEvent();
+        event.begin();
+        Integer userId = authId();
+        return event.finish("canWriteOrg", orgId, userId, orgRepo.existsByIdAndMembers_User_Id(orgId, userId));
     }
 
     /**
      * 조직 멤버 여부 체크 - 조회 권한
      */
     public boolean canReadOrg(Integer orgId) {
-        return orgRepo.existsByIdAndMembers_User_Id(orgId, authId());
+        AuthzCheckEvent event = new AuthzCheckEvent();
+        event.begin();
+        Integer userId = authId();
+        return event.finish("canReadOrg", orgId, userId, orgRepo.existsByIdAndMembers_User_Id(orgId, userId));
     }
 
     /**
      * 조직 생성자 여부 체크 - 조직 관리 권한
      */
     public boolean canManageOrg(Integer orgId) {
-        return orgRepo.existsByIdAndOwner_Id(orgId, authId());
+        AuthzCheckEvent event = new AuthzCheckEvent();
+        event.begin();
+        Integer userId = authId();
+        return event.finish("canManageOrg", orgId, userId, orgRepo.existsByIdAndOwner_Id(orgId, userId));
     }
 
     /**
@@ -37,10 +47,12 @@ public class OrganizationAuthz {
      * 조직 생성자 또는 문서 작성자만 가능
      */
     public boolean canModifyDocument(Integer orgId, Integer docOwnerId) {
+        AuthzCheckEvent event = new AuthzCheckEvent();
+        event.begin();
         Integer currentUserId = authId();
         boolean isOrgOwner = orgRepo.existsByIdAndOwner_Id(orgId, currentUserId);
         boolean isDocOwner = currentUserId.equals(docOwnerId);
-        return isOrgOwner || isDocOwner;
+        return event.finish("canModifyDocument", orgId, currentUserId, isOrgOwner || isDocOwner);
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.example.grouple.security;
 
+import com.example.grouple.monitoring.jfr.AuthzCheckEvent;
 import com.example.grouple.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,18 +13,23 @@ public class UserAuthz {
     private final UserRepository userRepository;
 
     public boolean canEditUser(Integer userId) {
-        return userId.equals((authId())); // 자기 자신만 수정 가능
+        AuthzCheckEvent event = new AuthzCheckEvent();
+        event.begin();
+        Integer currentUserId = authId();
+        return event.finish("canEditUser", null, currentUserId, userId.equals(currentUserId)); // 자기 자신만 수정 가능
     }
 
     public boolean canViewUser(String userId) {
+        AuthzCheckEvent event = new AuthzCheckEvent();
+        event.begin();
         var auth = SecurityContextHolder.getContext().getAuthentication();
         var principal = auth.getPrincipal();
         if (principal instanceof CustomUserDetails user) {
-            user.getId();
-            return auth.getAuthorities().stream()
+            boolean admin = auth.getAuthorities().stream()
                     .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+            return event.finish("canViewUser", null, user.getId(), admin);
         }
-        return false;
+        return event.finish("canViewUser", null, null, false);
     }
 
     private Integer authId() {
@@ -1,5 +1,7 @@
 package com.example.grouple.service;
 
+import com.example.grouple.common.ErrorCode;
+import com.example.grouple.common.NotFoundException;
 import com.example.grouple.dto.announcement.request.AnnouncementCreateRequest;
 import com.example.grouple.dto.announcement.response.AnnouncementCreateResponse;
 import com.example.grouple.entity.Announcement;
@@ -8,7 +10,6 @@ import com.example.grouple.entity.User;
 import com.example.grouple.repository.AnnouncementRepository;
 import com.example.grouple.repository.OrganizationRepository;
 import com.example.grouple.repository.UserRepository;
-import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,14 +22,17 @@ public class AnnouncementService {
     private final AnnouncementRepository announcementRepository;
     private final OrganizationRepository organizationRepository;
     private final UserRepository userRepository;
+    private final OrgContentVersions orgContentVersions;
+    private final OrgEventBroadcaster orgEventBroadcaster;
 
     // 공지사항 생성
     @Transactional
     public AnnouncementCreateResponse createAnnouncement(Integer organizationId, Integer userId, AnnouncementCreateRequest request) {
         Organization organization = organizationRepository.findById(organizationId)
-                .orElseThrow(() -> new EntityNotFoundException("Organization not found"));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.ORG_NOT_FOUND));
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found"));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
+        orgContentVersions.bump(organizationId);
 
         Announcement announcement = new Announcement();
         announcement.setTitle(request.getTitle());
@@ -38,7 +42,9 @@ public class AnnouncementService {
 
         Announcement savedAnnouncement = announcementRepository.save(announcement);
 
-        return toResponse(savedAnnouncement);
+        AnnouncementCreateResponse response = toResponse(savedAnnouncement);
+        orgEventBroadcaster.publishAfterCommit(organizationId, OrgEventType.ANNOUNCEMENT_CREATED, response.getId(), response);
+        return response;
     }
 
     // 공지사항 목록 가져오기
@@ -53,7 +59,7 @@ public class AnnouncementService {
     @Transactional(readOnly = true)
     public AnnouncementCreateResponse getAnnouncementByIdAndOrgId(Integer id, Integer organizationId) {
         Announcement announcement = announcementRepository.findByIdAndOrganizationId(id, organizationId)
-                .orElseThrow(() -> new EntityNotFoundException("공지사항을 찾을 수 없습니다. ID: " + id));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.ANNOUNCEMENT_NOT_FOUND));
 
         // 엔티티를 DTO로 변환하여 반환
         return toResponse(announcement);
@@ -80,7 +86,8 @@ public class AnnouncementService {
     @Transactional
     public AnnouncementCreateResponse updateAnnouncement(Integer id, Integer organizationId, AnnouncementCreateRequest req) {
         Announcement oldAnnouncement = announcementRepository.findByIdAndOrganizationId(id, organizationId)
-                .orElseThrow(() -> new EntityNotFoundException("공지사항을 찾을 수 없습니다. ID: " + id));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.ANNOUNCEMENT_NOT_FOUND));
+        orgContentVersions.bump(organizationId);
 
         if (req.getTitle() != null)
             oldAnnouncement.setTitle(req.getTitle());
@@ -90,31 +97,36 @@ public class AnnouncementService {
         Announcement saved = announcementRepository.save(oldAnnouncement);
 
         // 엔티티를 DTO로 변환하여 반환
-        return toResponse(saved);
+        AnnouncementCreateResponse response = toResponse(saved);
+        orgEventBroadcaster.publishAfterCommit(organizationId, OrgEventType.ANNOUNCEMENT_UPDATED, id, response);
+        return response;
     }
 
-    // 공지사항 star 토글
+    // 공지사항 star 토글 (UPDATE 후 같은 트랜잭션에서 변경된 행을 읽어 새 상태 반환)
     @Transactional
     public AnnouncementCreateResponse toggleStar(Integer id, Integer organizationId){
+        orgContentVersions.bump(organizationId);
+        if (announcementRepository.toggleStar(id, organizationId) == 0) {
+            throw new NotFoundException(ErrorCode.ANNOUNCEMENT_NOT_FOUND);
+        }
         Announcement announcement = announcementRepository.findByIdAndOrganizationId(id, organizationId)
-                .orElseThrow(() -> new EntityNotFoundException("공지사항을 찾을 수 없습니다. ID: " + id));
-
-        Boolean currentStar = announcement.getStar();
-        announcement.setStar(!currentStar);
-
-        Announcement saved = announcementRepository.save(announcement);
+                .orElseThrow(() -> new NotFoundException(ErrorCode.ANNOUNCEMENT_NOT_FOUND));
 
         // 엔티티를 DTO로 변환하여 반환
-        return toResponse(saved);
+        AnnouncementCreateResponse response = toResponse(announcement);
+        orgEventBroadcaster.publishAfterCommit(organizationId, OrgEventType.ANNOUNCEMENT_STARRED, id, response);
+        return response;
     }
 
     //공지사항 삭제
     @Transactional
     public void deleteAnnouncement(Integer id, Integer organizationId) {
         Announcement announcement = announcementRepository.findByIdAndOrganizationId(id, organizationId)
-                .orElseThrow(() -> new EntityNotFoundException("공지사항을 찾을 수 없습니다. ID: " + id));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.ANNOUNCEMENT_NOT_FOUND));
 
+        orgContentVersions.bump(organizationId);
         announcementRepository.delete(announcement);
+        orgEventBroadcaster.publishAfterCommit(organizationId, OrgEventType.ANNOUNCEMENT_DELETED, id, null);
     }
 
     private AnnouncementCreateResponse toResponse(Announcement announcement) {
@@ -0,0 +1,203 @@
+package com.example.grouple.service;
+
+import com.example.grouple.common.BadRequestException;
+import com.example.grouple.common.ErrorCode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * 내용 주소(SHA-256) 기반 로컬 파일 저장소
+ * - root/ab/abcdef... 형태로 저장하므로 같은 내용은 한 번만 저장
+ * - 업로드는 root/tmp 에 채널로 쓰면서 해시를 계산한 뒤 원자적 이동 (읽는 쪽은 완성된 파일만 봄)
+ * - 파일은 지우지 않고 참조가 사라진 뒤 sweep 이 grace 기간이 지난 것만 삭제
+ *   (같은 내용을 다시 올리면 수정 시각을 갱신해 정리 대상에서 빠짐)
+ * tmp 와 저장 위치가 같은 파일 시스템이어야 한다.
+ */
+final class BlobStore {
+
+    record StoredBlob(String sha256, long size) {
+    }
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int SWEEP_BATCH = 500;
+
+    private final Path root;
+    private final Path tmp;
+
+    BlobStore(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        this.tmp = this.root.resolve("tmp");
+        try {
+            Files.createDirectories(tmp);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create blob store at " + this.root, e);
+        }
+    }
+
+    /**
+     * 스트림을 끝까지 저장하고 해시/크기를 반환
+     * @throws BadRequestException maxBytes 를 넘으면 (FILE_TOO_LARGE, 쓰던 파일은 삭제)
+     */
+    StoredBlob write(InputStream in, long maxBytes) throws IOException {
+        MessageDigest digest = sha256();
+        Path temp = tmp.resolve(UUID.randomUUID().toString());
+        long size = 0;
+        try {
+            ReadableByteChannel source = Channels.newChannel(in);
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+                while (source.read(buffer) >= 0) {
+                    buffer.flip();
+                    size += buffer.remaining();
+                    if (size > maxBytes) {
+                        throw new BadRequestException(ErrorCode.FILE_TOO_LARGE);
+                    }
+                    digest.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                out.force(false);
+            }
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            moveIntoPlace(temp, path(sha256));
+            return new StoredBlob(sha256, size);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 해시에 해당하는 파일 경로 (존재 여부는 확인하지 않음)
+     */
+    Path path(String sha256) {
+        if (sha256 == null || !SHA256_HEX.matcher(sha256).matches()) {
+            throw new IllegalArgumentException("invalid sha256: " + sha256);
+        }
+        return root.resolve(sha256.substring(0, 2)).resolve(sha256);
+    }
+
+    /**
+     * olderThan 이전에 쓰인 파일 중 referenced 가 돌려주지 않은 해시를 삭제 (끝나지 않은 업로드 임시 파일 포함)
+     * @param referenced 해시 묶음 중 아직 참조되는 것
+     * @return 삭제한 파일 수
+     */
+    int sweep(Instant olderThan, Function<Collection<String>, Set<String>> referenced) throws IOException {
+        FileTime cutoff = FileTime.from(olderThan);
+        int deleted = 0;
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(root, Files::isDirectory)) {
+            for (Path dir : dirs) {
+                if (dir.equals(tmp)) {
+                    deleted += deleteOlder(dir, cutoff);
+                    continue;
+                }
+                List<String> candidates = new ArrayList<>();
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+                    for (Path file : files) {
+                        String name = file.getFileName().toString();
+                        if (SHA256_HEX.matcher(name).matches() && isOlder(file, cutoff)) {
+                            candidates.add(name);
+                        }
+                        if (candidates.size() == SWEEP_BATCH) {
+                            deleted += deleteUnreferenced(candidates, cutoff, referenced);
+                            candidates.clear();
+                        }
+                    }
+                }
+                deleted += deleteUnreferenced(candidates, cutoff, referenced);
+            }
+        }
+        return deleted;
+    }
+
+    private int deleteUnreferenced(List<String> candidates, FileTime cutoff,
+                                   Function<Collection<String>, Set<String>> referenced) throws IOException {
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        Set<String> inUse = referenced.apply(candidates);
+        int deleted = 0;
+        for (String sha256 : candidates) {
+            Path file = path(sha256);
+            // 확인하는 사이 같은 내용이 다시 올라왔으면 (수정 시각 갱신) 남김
+            if (!inUse.contains(sha256) && isOlder(file, cutoff) && Files.deleteIfExists(file)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private static int deleteOlder(Path dir, FileTime cutoff) throws IOException {
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path file : files) {
+                if (isOlder(file, cutoff) && Files.deleteIfExists(file)) {
+                    deleted++;
+                }
+            }
+        }
+        return deleted;
+    }
+
+    private static boolean isOlder(Path file, FileTime cutoff) throws IOException {
+        try {
+            return Files.getLastModifiedTime(file).compareTo(cutoff) < 0;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    // 같은 내용이 이미 있으면 새로 쓴 파일은 버리고 기존 파일의 수정 시각만 갱신
+    private static void moveIntoPlace(Path temp, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        if (Files.exists(target)) {
+            try {
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                return;
+            } catch (NoSuchFileException e) {
+                // 정리와 겹쳐 방금 삭제됨 - 새로 쓴 파일로 대체
+            }
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // 같은 내용이 동시에 올라온 경우 (POSIX 에서는 보통 덮어써서 여기 오지 않음)
+            Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
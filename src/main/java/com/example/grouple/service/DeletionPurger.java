@@ -0,0 +1,180 @@
+package com.example.grouple.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 삭제 표시(deleted_at)된 조직/사용자의 실제 삭제
+ * - 하위 테이블을 FK 의존 순서대로 batchSize 행씩, 배치마다 짧은 트랜잭션으로 삭제
+ * - 배치 사이에 pause 만큼 쉬어 DB 부하를 제한하고, 한 번 실행은 maxRunTime 안에서 끝냄
+ * - 진행 상태는 남은 행 자체이므로 중단/재시작 후에도 다음 실행에서 이어서 처리
+ * - 조직을 먼저 정리한 뒤, 소유 조직이 모두 사라진 사용자를 정리
+ *   (멤버십/가입 요청만 삭제하고, 다른 사람 조직에 작성한 데이터가 남아 있으면
+ *   사용자 행은 개인정보만 비운 "deleted_{id}" 계정으로 남겨 작성자 자리를 지킴)
+ */
+@Slf4j
+@Component
+public class DeletionPurger {
+
+    private record Step(String table, String sql) {
+    }
+
+    // 조직 하위 데이터 (파라미터: 조직 ID, 배치 크기)
+    private static final List<Step> ORGANIZATION_STEPS = List.of(
+            new Step("schedule_overrides", "DELETE FROM schedule_overrides WHERE schedule_id IN " +
+                    "(SELECT id FROM schedules WHERE organization_id = ?) LIMIT ?"),
+            new Step("schedules", "DELETE FROM schedules WHERE organization_id = ? LIMIT ?"),
+            new Step("receipts", "DELETE FROM receipts WHERE organization_id = ? LIMIT ?"),
+            new Step("documents", "DELETE FROM documents WHERE organization_id = ? LIMIT ?"),
+            new Step("announcements", "DELETE FROM announcements WHERE organization_id = ? LIMIT ?"),
+            new Step("join_requests", "DELETE FROM join_requests WHERE organization_id = ? LIMIT ?"),
+            new Step("members", "DELETE FROM members WHERE organization_id = ? LIMIT ?")
+    );
+
+    // 사용자 데이터 (파라미터: 사용자 ID, 배치 크기)
+    // 소유 조직은 탈퇴 시 함께 삭제 표시되어 위에서 통째로 지워지므로, 여기서는 다른 사람 조직에 남긴 것만 처리한다.
+    // 작성한 일정/영수증/문서/공지는 조직 데이터이므로 작성자 그대로 두고, 본인의 멤버십과 가입 요청만 삭제
+    private static final List<Step> USER_STEPS = List.of(
+            new Step("join_requests", "DELETE FROM join_requests WHERE user_id = ? LIMIT ?"),
+            new Step("members", "DELETE FROM members WHERE user_id = ? LIMIT ?")
+    );
+
+    private static final String DELETE_ORGANIZATION =
+            "DELETE FROM organizations WHERE id = ? AND deleted_at IS NOT NULL";
+    // 소유 조직이 남아 있으면 다음 실행으로 미룸, 작성한 데이터가 남아 있으면 지우지 않음
+    private static final String DELETE_USER =
+            "DELETE FROM users WHERE id = ? AND deleted_at IS NOT NULL " +
+                    "AND NOT EXISTS (SELECT 1 FROM organizations o WHERE o.owner_id = ?) " +
+                    "AND NOT EXISTS (SELECT 1 FROM schedules WHERE user_id = ?) " +
+                    "AND NOT EXISTS (SELECT 1 FROM receipts WHERE user_id = ?) " +
+                    "AND NOT EXISTS (SELECT 1 FROM documents WHERE user_id = ?) " +
+                    "AND NOT EXISTS (SELECT 1 FROM announcements WHERE user_id = ?)";
+    // 지우지 못한 사용자는 작성자 표시("deleted_{id}")만 남기고 개인정보를 비운 뒤 더 이상 스캔하지 않음
+    private static final String TOMBSTONE_USER =
+            "UPDATE users SET password = '', email = '', phone = '', image = NULL, purged_at = CURRENT_TIMESTAMP " +
+                    "WHERE id = ? AND deleted_at IS NOT NULL AND purged_at IS NULL " +
+                    "AND NOT EXISTS (SELECT 1 FROM organizations o WHERE o.owner_id = ?)";
+    private static final String PENDING_ORGANIZATION = "deleted_at IS NOT NULL";
+    private static final String PENDING_USER = "deleted_at IS NOT NULL AND purged_at IS NULL";
+
+    private static final int SCAN_LIMIT = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final Duration pause;
+    private final Duration maxRunTime;
+    private final Timer batchTimer;
+    private final AtomicLong pendingOrganizations = new AtomicLong();
+    private final AtomicLong pendingUsers = new AtomicLong();
+
+    public DeletionPurger(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.purge.batch-size:500}") int batchSize,
+                          @Value("${app.purge.pause:PT0.05S}") Duration pause,
+                          @Value("${app.purge.max-run-time:PT5S}") Duration maxRunTime) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.maxRunTime = maxRunTime;
+        this.batchTimer = Timer.builder("grouple.purge.batch")
+                .description("Time spent deleting one batch of rows")
+                .register(meterRegistry);
+        Gauge.builder("grouple.purge.pending", pendingOrganizations, AtomicLong::get)
+                .tag("type", "organization")
+                .register(meterRegistry);
+        Gauge.builder("grouple.purge.pending", pendingUsers, AtomicLong::get)
+                .tag("type", "user")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.purge.interval:PT10S}")
+    public void purge() {
+        long deadline = System.nanoTime() + maxRunTime.toNanos();
+        pendingOrganizations.set(count("organizations", PENDING_ORGANIZATION));
+        pendingUsers.set(count("users", PENDING_USER));
+
+        for (Integer orgId : pendingIds("organizations", PENDING_ORGANIZATION)) {
+            if (!purgeRows(ORGANIZATION_STEPS, orgId, deadline)) return;
+            if (update(DELETE_ORGANIZATION, orgId) > 0) {
+                completed("organization", orgId);
+            }
+        }
+        for (Integer userId : pendingIds("users", PENDING_USER)) {
+            if (!purgeRows(USER_STEPS, userId, deadline)) return;
+            if (update(DELETE_USER, userId, userId, userId, userId, userId, userId) > 0
+                    || update(TOMBSTONE_USER, userId, userId) > 0) {
+                completed("user", userId);
+            }
+        }
+    }
+
+    // 시간 안에 모든 단계를 끝내면 true
+    private boolean purgeRows(List<Step> steps, Integer id, long deadline) {
+        for (Step step : steps) {
+            Counter rows = meterRegistry.counter("grouple.purge.rows", "table", step.table());
+            while (true) {
+                if (System.nanoTime() > deadline) {
+                    return false;
+                }
+                int deleted = batchTimer.record(() -> update(step.sql(), id, batchSize));
+                rows.increment(deleted);
+                if (deleted < batchSize) {
+                    break;
+                }
+                sleep();
+            }
+        }
+        return true;
+    }
+
+    private int update(String sql, Object... args) {
+        Integer updated = transactionTemplate.execute(status -> jdbcTemplate.update(sql, args));
+        return updated != null ? updated : 0;
+    }
+
+    private long count(String table, String pending) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE " + pending, Long.class);
+        return count != null ? count : 0;
+    }
+
+    private List<Integer> pendingIds(String table, String pending) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM " + table + " WHERE " + pending + " ORDER BY deleted_at LIMIT " + SCAN_LIMIT,
+                Integer.class);
+    }
+
+    private void completed(String type, Integer id) {
+        meterRegistry.counter("grouple.purge.completed", "type", type).increment();
+        log.info("purged {} {}", type, id);
+    }
+
+    private void sleep() {
+        if (pause.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.grouple.service;
+
+import com.example.grouple.common.BadRequestException;
+import com.example.grouple.common.ErrorCode;
+import com.example.grouple.common.ForbiddenException;
+import com.example.grouple.common.NotFoundException;
+import com.example.grouple.dto.document.response.DocumentReadDetailResponse;
+import com.example.grouple.entity.Document;
+import com.example.grouple.repository.DocumentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 문서 파일 내용 (BlobStore 에 저장, 문서에는 해시만 기록)
+ * - 업로드는 트랜잭션 밖에서 디스크에 먼저 쓰고, 짧은 트랜잭션에서 용량 확인 후 문서에 연결
+ *   (느린 업로드가 DB 커넥션을 잡지 않음)
+ * - 조직 용량은 파일이 있는 문서 크기 합으로 계산하며, 조직 행 잠금(내용 버전 증가) 후 확인해 동시 업로드에도 넘지 않음
+ * - 연결되지 못한 파일(용량 초과, 롤백)과 문서 삭제로 참조가 없어진 파일은 주기적인 정리에서 삭제
+ */
+@Slf4j
+@Service
+public class DocumentContentService {
+
+    /**
+     * 다운로드 대상 (path 는 완성된 파일, 내용이 바뀌지 않으므로 sha256 을 ETag 로 사용)
+     */
+    public record DocumentContent(Path path, long size, String sha256, String contentType, String fileName) {
+    }
+
+    private final DocumentRepository documentRepository;
+    private final DocumentService documentService;
+    private final OrgContentVersions orgContentVersions;
+    private final TransactionTemplate transactionTemplate;
+    private final BlobStore blobStore;
+    private final long maxFileSize;
+    private final long orgQuota;
+    private final Duration sweepGrace;
+
+    public DocumentContentService(DocumentRepository documentRepository,
+                                  DocumentService documentService,
+                                  OrgContentVersions orgContentVersions,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.storage.documents.root:./data/documents}") String root,
+                                  @Value("${app.storage.documents.max-file-size:100MB}") DataSize maxFileSize,
+                                  @Value("${app.storage.documents.org-quota:1GB}") DataSize orgQuota,
+                                  @Value("${app.storage.documents.sweep-grace:PT1H}") Duration sweepGrace) {
+        this.documentRepository = documentRepository;
+        this.documentService = documentService;
+        this.orgContentVersions = orgContentVersions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.blobStore = new BlobStore(Path.of(root));
+        this.maxFileSize = Math.min(maxFileSize.toBytes(), Integer.MAX_VALUE); // Document.size 가 Integer
+        this.orgQuota = orgQuota.toBytes();
+        this.sweepGrace = sweepGrace;
+    }
+
+    /**
+     * 문서 파일 업로드 (기존 파일이 있으면 교체)
+     * @param declaredLength Content-Length (모르면 -1), 제한을 넘으면 읽기 전에 거절
+     */
+    public DocumentReadDetailResponse upload(Integer orgId, Integer documentId, String contentType,
+                                             String fileName, long declaredLength, InputStream in) throws IOException {
+        if (!documentRepository.existsByIdAndOrganizationId(documentId, orgId)) {
+            throw new NotFoundException(ErrorCode.DOCUMENT_NOT_FOUND);
+        }
+        if (declaredLength > maxFileSize) {
+            throw new BadRequestException(ErrorCode.FILE_TOO_LARGE);
+        }
+        BlobStore.StoredBlob blob = blobStore.write(in, maxFileSize);
+        return transactionTemplate.execute(status -> attach(orgId, documentId, contentType, fileName, blob));
+    }
+
+    @Transactional(readOnly = true)
+    public DocumentContent getContent(Integer orgId, Integer documentId) {
+        Document document = documentRepository.findByIdAndOrganizationId(documentId, orgId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.DOCUMENT_NOT_FOUND));
+        if (document.getContentHash() == null) {
+            throw new NotFoundException(ErrorCode.DOCUMENT_CONTENT_NOT_FOUND);
+        }
+        Path path = blobStore.path(document.getContentHash());
+        if (!Files.isRegularFile(path)) {
+            log.warn("Blob {} of document {} is missing", document.getContentHash(), documentId);
+            throw new NotFoundException(ErrorCode.DOCUMENT_CONTENT_NOT_FOUND);
+        }
+        return new DocumentContent(path, document.getSize(), document.getContentHash(),
+                document.getType(), document.getName());
+    }
+
+    @Scheduled(fixedDelayString = "${app.storage.documents.sweep-interval:PT1H}")
+    public void sweepUnreferenced() {
+        try {
+            int deleted = blobStore.sweep(Instant.now().minus(sweepGrace),
+                    documentRepository::findReferencedContentHashes);
+            if (deleted > 0) {
+                log.info("Deleted {} unreferenced document blobs", deleted);
+            }
+        } catch (IOException e) {
+            log.warn("Document blob sweep failed", e);
+        }
+    }
+
+    private DocumentReadDetailResponse attach(Integer orgId, Integer documentId, String contentType,
+                                              String fileName, BlobStore.StoredBlob blob) {
+        orgContentVersions.bump(orgId); // 조직 행 잠금 - 같은 조직 업로드의 용량 확인을 직렬화
+        Document document = documentRepository.findByIdAndOrganizationId(documentId, orgId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.DOCUMENT_NOT_FOUND));
+        long used = documentRepository.sumContentSizeByOrganizationId(orgId);
+        long current = document.getContentHash() != null ? document.getSize() : 0;
+        if (used - current + blob.size() > orgQuota) {
+            throw new ForbiddenException(ErrorCode.STORAGE_QUOTA_EXCEEDED);
+        }
+        document.setContentHash(blob.sha256());
+        document.setSize((int) blob.size());
+        if (StringUtils.hasText(contentType)) {
+            document.setType(contentType);
+        }
+        if (StringUtils.hasText(fileName)) {
+            document.setName(fileName);
+        }
+        return documentService.toResponse(documentRepository.save(document));
+    }
+}
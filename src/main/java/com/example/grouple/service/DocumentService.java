@@ -1,5 +1,7 @@
 package com.example.grouple.service;
 
+import com.example.grouple.common.ErrorCode;
+import com.example.grouple.common.NotFoundException;
 import com.example.grouple.dto.document.request.DocumentCreateRequest;
 import com.example.grouple.dto.document.request.DocumentUpdateRequest;
 import com.example.grouple.dto.document.response.DocumentReadDetailResponse;
@@ -9,7 +11,6 @@ import com.example.grouple.entity.User;
 import com.example.grouple.repository.DocumentRepository;
 import com.example.grouple.repository.OrganizationRepository;
 import com.example.grouple.repository.UserRepository;
-import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -23,14 +24,16 @@ public class DocumentService {
     private final DocumentRepository documentRepository;
     private final OrganizationRepository organizationRepository;
     private final UserRepository userRepository;
+    private final OrgContentVersions orgContentVersions;
 
     // 1. 문서 생성
     @Transactional
     public DocumentReadDetailResponse createDocument(Integer organizationId, Integer userId, DocumentCreateRequest request) {
         Organization organization = organizationRepository.findById(organizationId)
-                .orElseThrow(() -> new EntityNotFoundException("Organization not found"));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.ORG_NOT_FOUND));
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found"));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
+        orgContentVersions.bump(organizationId);
 
         Document document = new Document();
         document.setTitle(request.getTitle());
@@ -50,7 +53,7 @@ public class DocumentService {
     @Transactional(readOnly = true)
     public DocumentReadDetailResponse getDocument(Integer organizationId, Integer documentId) {
         Document document = documentRepository.findByIdAndOrganizationId(documentId, organizationId)
-                .orElseThrow(() -> new EntityNotFoundException("Document not found"));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.DOCUMENT_NOT_FOUND));
         return toResponse(document);
     }
 
@@ -65,13 +68,15 @@ public class DocumentService {
     @Transactional
     public DocumentReadDetailResponse updateDocument(Integer organizationId, Integer documentId, DocumentUpdateRequest request) {
         Document document = documentRepository.findByIdAndOrganizationId(documentId, organizationId)
-                .orElseThrow(() -> new EntityNotFoundException("Document not found"));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.DOCUMENT_NOT_FOUND));
+        orgContentVersions.bump(organizationId);
 
         if (request.getTitle() != null) document.setTitle(request.getTitle());
         if (request.getDescription() != null) document.setDescription(request.getDescription());
         if (request.getName() != null) document.setName(request.getName());
         if (request.getType() != null) document.setType(request.getType());
-        if (request.getSize() != null) document.setSize(request.getSize());
+        // 파일이 올라간 문서의 크기는 실제 파일 크기로만 바뀜 (저장 공간 사용량 기준)
+        if (request.getSize() != null && document.getContentHash() == null) document.setSize(request.getSize());
 
         Document saved = documentRepository.save(document);
         return toResponse(saved);
@@ -81,12 +86,13 @@ public class DocumentService {
     @Transactional
     public void deleteDocument(Integer organizationId, Integer documentId) {
         Document document = documentRepository.findByIdAndOrganizationId(documentId, organizationId)
-                .orElseThrow(() -> new EntityNotFoundException("Document not found"));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.DOCUMENT_NOT_FOUND));
+        orgContentVersions.bump(organizationId);
         documentRepository.delete(document);
     }
 
-    // Entity -> DTO 변환
-    private DocumentReadDetailResponse toResponse(Document document) {
+    // Entity -> DTO 변환 (벤치마크에서 직접 호출하므로 package-private)
+    DocumentReadDetailResponse toResponse(Document document) {
         return DocumentReadDetailResponse.builder()
                 .documentId(document.getId())
                 .title(document.getTitle())
@@ -94,6 +100,7 @@ public class DocumentService {
                 .name(document.getName())
                 .type(document.getType())
                 .size(document.getSize())
+                .contentHash(document.getContentHash())
                 .createdAt(document.getCreatedAt())
                 .updatedAt(document.getUpdatedAt())
                 .username(document.getUser() != null ? document.getUser().getUsername() : null)
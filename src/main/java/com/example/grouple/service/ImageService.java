@@ -0,0 +1,405 @@
+package com.example.grouple.service;
+
+import com.example.grouple.common.BadRequestException;
+import com.example.grouple.common.ErrorCode;
+import com.example.grouple.common.ForbiddenException;
+import com.example.grouple.common.ImageUrls;
+import com.example.grouple.common.NotFoundException;
+import com.example.grouple.dto.image.response.ImageUploadResponse;
+import com.example.grouple.entity.StoredImage;
+import com.example.grouple.entity.ThumbnailStatus;
+import com.example.grouple.repository.StoredImageRepository;
+import com.example.grouple.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NativeDetector;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 업로드 이미지와 썸네일
+ * - 업로드는 원본 저장(BlobStore) + 헤더 확인 + 대기열 등록까지만 하고 바로 응답 (크기 변환 없음)
+ * - 썸네일은 images 테이블을 대기열로 삼아 고정 크기 작업자 풀이 생성 (재시작/다른 노드에서도 이어서 처리)
+ * - 생성된 썸네일은 크기 제한이 있는 디스크 LRU 캐시에 두고, 밀려났으면 요청 시 별도 풀에서 다시 생성
+ *   (요청 스레드는 render-wait 까지만 기다리고, 넘거나 풀이 가득 차면 생성 중으로 응답)
+ *   대기열 작업자는 요청 시 생성이 끝나기를 기다릴 수 있으므로 두 풀을 나눈다
+ *   (같은 풀이면 큐에 있는 작업을 모든 작업자가 기다리며 멈출 수 있음)
+ * - 사용자별 업로드 용량은 처음 올린 이미지 크기 합으로 계산하며, 사용자 행 잠금 후 확인해 동시 업로드에도 넘지 않음
+ * - 어디에서도 참조하지 않는 이미지는 sweep-grace 가 지나면 행/원본/썸네일을 주기적으로 삭제
+ * 네이티브 이미지에서는 AWT/ImageIO 를 쓸 수 없으므로 app.storage.images.enabled=false 로 실행해야 한다
+ * (켜진 채로 시작하면 기동 실패, 꺼져 있으면 이미지 API 는 IMAGES_DISABLED, 작업자/정리는 다른 노드가 처리).
+ */
+@Slf4j
+@Service
+public class ImageService {
+
+    /**
+     * 응답 대상 (etag 는 원본이면 sha256, 썸네일이면 sha256-{px})
+     */
+    public record ImageContent(Path path, long size, String etag, String contentType) {
+    }
+
+    private static final String THUMBNAIL_TYPE = "image/jpeg";
+    private static final int ERROR_LENGTH = 500;
+    private static final int SWEEP_BATCH = 500;
+
+    private final boolean enabled;
+    private final StoredImageRepository storedImageRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlobStore originals;
+    private final ThumbnailCache cache;
+    private final long maxFileSize;
+    private final long maxPixels;
+    private final long userQuota;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final Duration staleAfter;
+    private final Duration renderWait;
+    private final Duration sweepGrace;
+    private final ThreadPoolExecutor workers;
+    private final ThreadPoolExecutor onDemand;
+    // 같은 썸네일을 작업자와 요청이 동시에 만들지 않도록 ({px}/{sha256} → 진행 중 작업)
+    private final ConcurrentHashMap<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    public ImageService(StoredImageRepository storedImageRepository,
+                        UserRepository userRepository,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${app.storage.images.enabled:true}") boolean enabled,
+                        @Value("${app.storage.images.root:./data/images}") String root,
+                        @Value("${app.storage.images.max-file-size:10MB}") DataSize maxFileSize,
+                        @Value("${app.storage.images.max-pixels:40000000}") long maxPixels,
+                        @Value("${app.storage.images.user-quota:200MB}") DataSize userQuota,
+                        @Value("${app.storage.images.cache.max-size:512MB}") DataSize cacheMaxSize,
+                        @Value("${app.storage.images.workers:2}") int workerCount,
+                        @Value("${app.storage.images.max-attempts:3}") int maxAttempts,
+                        @Value("${app.storage.images.retry-delay:PT1M}") Duration retryDelay,
+                        @Value("${app.storage.images.stale-after:PT5M}") Duration staleAfter,
+                        @Value("${app.storage.images.render-wait:PT2S}") Duration renderWait,
+                        @Value("${app.storage.images.sweep-grace:PT24H}") Duration sweepGrace) {
+        if (enabled && NativeDetector.inNativeImage()) {
+            // ImageIO/AWT 리플렉션·JNI 메타데이터가 없고 런타임 이미지에 freetype/fontconfig 도 없어 첫 업로드에서 실패함
+            throw new IllegalStateException(
+                    "Image support is not available in the native image; start with --app.storage.images.enabled=false");
+        }
+        this.enabled = enabled;
+        this.storedImageRepository = storedImageRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        Path base = Path.of(root);
+        this.originals = new BlobStore(base.resolve("originals"));
+        this.cache = new ThumbnailCache(base.resolve("thumbnails"), cacheMaxSize.toBytes());
+        this.maxFileSize = maxFileSize.toBytes();
+        this.maxPixels = maxPixels;
+        this.userQuota = userQuota.toBytes();
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.staleAfter = staleAfter;
+        this.renderWait = renderWait;
+        this.sweepGrace = sweepGrace;
+        // 대기 큐도 작업자 수만큼만 - 나머지는 DB 대기열에 남겨 다른 노드가 가져갈 수 있게 함
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workerCount), Thread.ofPlatform().name("thumbnail-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        // 요청 시 생성 - 넘치면 202 로 응답하고 대기열에서 처리
+        this.onDemand = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workerCount),
+                Thread.ofPlatform().name("thumbnail-on-demand-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 이미지 업로드 - 썸네일은 작업자가 나중에 생성
+     * 용량 초과로 등록하지 못한 원본 파일은 정리 작업이 삭제
+     * @param declaredLength Content-Length (모르면 -1), 제한을 넘으면 읽기 전에 거절
+     */
+    public ImageUploadResponse upload(Integer userId, long declaredLength, InputStream in) throws IOException {
+        requireEnabled();
+        if (declaredLength > maxFileSize) {
+            throw new BadRequestException(ErrorCode.FILE_TOO_LARGE);
+        }
+        BlobStore.StoredBlob blob = originals.write(in, maxFileSize);
+        ThumbnailGenerator.ImageInfo info;
+        try {
+            info = ThumbnailGenerator.probe(originals.path(blob.sha256()), maxPixels);
+        } catch (BadRequestException e) {
+            // 같은 내용은 항상 같은 결과이므로 등록된 적 없는 파일이면 바로 삭제
+            if (!storedImageRepository.existsById(blob.sha256())) {
+                Files.deleteIfExists(originals.path(blob.sha256()));
+            }
+            throw e;
+        }
+        if (Boolean.TRUE.equals(transactionTemplate.execute(status -> register(userId, blob, info)))) {
+            dispatch(blob.sha256());
+        }
+        return toResponse(blob.sha256(), info, blob.size());
+    }
+
+    public ImageContent getOriginal(String sha256) {
+        requireEnabled();
+        StoredImage image = find(sha256);
+        return original(image);
+    }
+
+    /**
+     * 썸네일 (캐시에 없으면 작업자 풀에서 생성, 생성할 수 없는 이미지면 원본)
+     * @return 생성 중이라 아직 응답할 수 없으면 empty
+     */
+    public Optional<ImageContent> getThumbnail(String sha256, int size) {
+        requireEnabled();
+        if (!ImageUrls.SIZES.contains(size)) {
+            throw new NotFoundException(ErrorCode.IMAGE_NOT_FOUND);
+        }
+        StoredImage image = find(sha256);
+        Path path = cache.get(sha256, size);
+        if (path == null && image.getThumbnailStatus() == ThumbnailStatus.FAILED) {
+            return Optional.of(original(image));
+        }
+        if (path == null) {
+            path = renderOnDemand(image, size);
+        }
+        if (path == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new ImageContent(path, Files.size(path), sha256 + "-" + size, THUMBNAIL_TYPE));
+        } catch (IOException e) {
+            return Optional.empty(); // 응답 직전에 캐시에서 밀려남
+        }
+    }
+
+    /**
+     * 대기열에서 처리할 이미지를 가져와 작업자에 넘김 (작업자가 비어 있는 만큼만)
+     */
+    @Scheduled(fixedDelayString = "${app.storage.images.poll-interval:PT5S}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        Instant now = Instant.now();
+        int released = storedImageRepository.releaseStale(now.minus(staleAfter), now);
+        if (released > 0) {
+            log.warn("Released {} stale thumbnail jobs", released);
+        }
+        int free = workers.getQueue().remainingCapacity();
+        if (free == 0) {
+            return;
+        }
+        for (String sha256 : storedImageRepository.findReady(now, PageRequest.of(0, free))) {
+            if (!dispatch(sha256)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 참조가 없는 이미지 정리 - 행을 먼저 지우고, 행이 없는 원본 파일은 BlobStore 정리에서 삭제
+     * 유예 기간 안에 같은 내용이 다시 올라왔으면 (원본 수정 시각 갱신) 남긴다.
+     */
+    @Scheduled(fixedDelayString = "${app.storage.images.sweep-interval:PT1H}")
+    public void sweepUnreferenced() {
+        if (!enabled) {
+            return; // 저장소가 없는 노드에서 원본이 없다고 보고 행을 지우지 않도록
+        }
+        Instant cutoff = Instant.now().minus(sweepGrace);
+        try {
+            int rows = 0;
+            String after = "";
+            List<String> batch;
+            do {
+                batch = storedImageRepository.findUnreferenced(after, cutoff, SWEEP_BATCH);
+                for (String sha256 : batch) {
+                    if (modifiedBefore(originals.path(sha256), cutoff)
+                            && storedImageRepository.deleteIfUnreferenced(sha256, cutoff) > 0) {
+                        for (int size : ImageUrls.SIZES) {
+                            cache.remove(sha256, size);
+                        }
+                        rows++;
+                    }
+                    after = sha256;
+                }
+            } while (batch.size() == SWEEP_BATCH);
+            int files = originals.sweep(cutoff, storedImageRepository::findExistingSha256s);
+            if (rows > 0 || files > 0) {
+                log.info("Deleted {} unreferenced images, {} original files", rows, files);
+            }
+        } catch (IOException e) {
+            log.warn("Image sweep failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 진행 중이던 작업은 stale-after 이후 다른 노드/재시작 후 다시 처리
+        workers.shutdownNow();
+        onDemand.shutdownNow();
+    }
+
+    private void requireEnabled() {
+        if (!enabled) {
+            throw new NotFoundException(ErrorCode.IMAGES_DISABLED);
+        }
+    }
+
+    private boolean dispatch(String sha256) {
+        try {
+            workers.execute(() -> process(sha256));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false; // 다음 poll 에서 처리
+        }
+    }
+
+    private void process(String sha256) {
+        if (storedImageRepository.claim(sha256, Instant.now()) == 0) {
+            return; // 다른 작업자가 가져감
+        }
+        try {
+            for (int size : ImageUrls.SIZES) {
+                // 이미 작업자 스레드이므로 직접 생성 (요청 시 생성이 진행 중이면 onDemand 풀의 결과를 기다림)
+                render(sha256, size, Runnable::run).get();
+            }
+            storedImageRepository.complete(sha256);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RuntimeException e) {
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            log.warn("Thumbnail generation failed for {}", sha256, cause);
+            String error = String.valueOf(cause);
+            storedImageRepository.fail(sha256, maxAttempts, Instant.now().plus(retryDelay),
+                    error.length() > ERROR_LENGTH ? error.substring(0, ERROR_LENGTH) : error);
+        }
+    }
+
+    // 제한 시간이 지나도 생성은 계속되므로 다음 요청은 캐시에서 응답
+    private Path renderOnDemand(StoredImage image, int size) {
+        try {
+            return render(image.getSha256(), size, onDemand).get(renderWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (TimeoutException e) {
+            return null;
+        } catch (ExecutionException e) {
+            requeue(image); // 풀이 가득 참 또는 생성 실패 - 대기열에서 다시 처리
+            return null;
+        }
+    }
+
+    // 진행 중인 같은 작업이 있으면 그 결과를 기다리고, 없으면 executor 에서 생성
+    private CompletableFuture<Path> render(String sha256, int size, Executor executor) {
+        String key = size + "/" + sha256;
+        CompletableFuture<Path> created = new CompletableFuture<>();
+        CompletableFuture<Path> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    Path path = cache.get(sha256, size);
+                    if (path == null) {
+                        Path source = originals.path(sha256);
+                        path = cache.put(sha256, size, out -> ThumbnailGenerator.writeThumbnail(source, size, out));
+                    }
+                    created.complete(path);
+                } catch (IOException | RuntimeException e) {
+                    created.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, created);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    // 새 내용이면 용량 확인 후 등록 (이미 있는 내용은 다시 올려도 용량에 포함하지 않음)
+    private boolean register(Integer userId, BlobStore.StoredBlob blob, ThumbnailGenerator.ImageInfo info) {
+        if (storedImageRepository.existsById(blob.sha256())) {
+            return false;
+        }
+        userRepository.findWithLockById(userId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
+        if (storedImageRepository.sumSizeByUploadedBy(userId) + blob.size() > userQuota) {
+            throw new ForbiddenException(ErrorCode.IMAGE_QUOTA_EXCEEDED);
+        }
+        return storedImageRepository.insertIfAbsent(blob.sha256(), info.contentType(), info.width(), info.height(),
+                blob.size(), userId, Instant.now()) > 0;
+    }
+
+    private static boolean modifiedBefore(Path path, Instant cutoff) throws IOException {
+        try {
+            return Files.getLastModifiedTime(path).toInstant().isBefore(cutoff);
+        } catch (NoSuchFileException e) {
+            return true; // 원본이 없는 행은 응답할 수 없으므로 정리
+        }
+    }
+
+    private void requeue(StoredImage image) {
+        if (image.getThumbnailStatus() == ThumbnailStatus.DONE) {
+            storedImageRepository.requeue(image.getSha256(), Instant.now());
+        }
+    }
+
+    private StoredImage find(String sha256) {
+        if (sha256 == null || !sha256.matches("[0-9a-f]{64}")) {
+            throw new NotFoundException(ErrorCode.IMAGE_NOT_FOUND);
+        }
+        return storedImageRepository.findById(sha256)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.IMAGE_NOT_FOUND));
+    }
+
+    private ImageContent original(StoredImage image) {
+        Path path = originals.path(image.getSha256());
+        if (!Files.isRegularFile(path)) {
+            log.warn("Original of image {} is missing", image.getSha256());
+            throw new NotFoundException(ErrorCode.IMAGE_NOT_FOUND);
+        }
+        return new ImageContent(path, image.getSize(), image.getSha256(), image.getContentType());
+    }
+
+    private static ImageUploadResponse toResponse(String sha256, ThumbnailGenerator.ImageInfo info, long size) {
+        Map<Integer, String> thumbnails = new LinkedHashMap<>();
+        for (int px : ImageUrls.SIZES) {
+            thumbnails.put(px, ImageUrls.thumbnail(sha256, px));
+        }
+        return ImageUploadResponse.builder()
+                .sha256(sha256)
+                .url(ImageUrls.original(sha256))
+                .thumbnails(thumbnails)
+                .contentType(info.contentType())
+                .width(info.width())
+                .height(info.height())
+                .size(size)
+                .build();
+    }
+}
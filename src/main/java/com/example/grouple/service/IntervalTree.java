@@ -0,0 +1,165 @@
+package com.example.grouple.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 구간 트리 (시작 시각 기준 treap + 서브트리 최대 종료 시각)
+ * - put / remove : 기대 O(log n)
+ * - overlapping  : 기대 O(log n + k)
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 한다.
+ */
+final class IntervalTree<V> {
+
+    private static final class Node<V> {
+        final int key;
+        final long start;
+        final long end;
+        final V value;
+        final int priority = ThreadLocalRandom.current().nextInt();
+        Node<V> left;
+        Node<V> right;
+        long maxEnd;
+
+        Node(int key, long start, long end, V value) {
+            this.key = key;
+            this.start = start;
+            this.end = end;
+            this.value = value;
+            this.maxEnd = end;
+        }
+    }
+
+    private final Map<Integer, Node<V>> byKey = new HashMap<>();
+    private Node<V> root;
+
+    int size() {
+        return byKey.size();
+    }
+
+    /**
+     * 구간 [start, end) 추가 (같은 key 가 있으면 교체)
+     */
+    void put(int key, long start, long end, V value) {
+        remove(key);
+        Node<V> node = new Node<>(key, start, end, value);
+        root = insert(root, node);
+        byKey.put(key, node);
+    }
+
+    boolean remove(int key) {
+        Node<V> node = byKey.remove(key);
+        if (node == null) {
+            return false;
+        }
+        root = delete(root, node);
+        return true;
+    }
+
+    /**
+     * [from, to) 와 겹치는 구간의 값 (길이 0 구간은 from <= start < to 이면 포함)
+     */
+    List<V> overlapping(long from, long to) {
+        List<V> out = new ArrayList<>();
+        collect(root, from, to, out);
+        return out;
+    }
+
+    private void collect(Node<V> t, long from, long to, List<V> out) {
+        if (t == null || t.maxEnd < from) {
+            return;
+        }
+        collect(t.left, from, to, out);
+        if (t.start >= to) {
+            return; // 오른쪽 서브트리는 모두 to 이후에 시작
+        }
+        if (t.end > from || t.start >= from) {
+            out.add(t.value);
+        }
+        collect(t.right, from, to, out);
+    }
+
+    private Node<V> insert(Node<V> t, Node<V> node) {
+        if (t == null) {
+            return node;
+        }
+        if (compare(node, t) < 0) {
+            t.left = insert(t.left, node);
+            update(t);
+            if (t.left.priority > t.priority) {
+                t = rotateRight(t);
+            }
+        } else {
+            t.right = insert(t.right, node);
+            update(t);
+            if (t.right.priority > t.priority) {
+                t = rotateLeft(t);
+            }
+        }
+        return t;
+    }
+
+    private Node<V> delete(Node<V> t, Node<V> node) {
+        if (t == null) {
+            return null;
+        }
+        int cmp = compare(node, t);
+        if (cmp < 0) {
+            t.left = delete(t.left, node);
+        } else if (cmp > 0) {
+            t.right = delete(t.right, node);
+        } else {
+            t = merge(t.left, t.right);
+        }
+        if (t != null) {
+            update(t);
+        }
+        return t;
+    }
+
+    private Node<V> merge(Node<V> a, Node<V> b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            update(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        update(b);
+        return b;
+    }
+
+    private Node<V> rotateRight(Node<V> t) {
+        Node<V> l = t.left;
+        t.left = l.right;
+        update(t);
+        l.right = t;
+        update(l);
+        return l;
+    }
+
+    private Node<V> rotateLeft(Node<V> t) {
+        Node<V> r = t.right;
+        t.right = r.left;
+        update(t);
+        r.left = t;
+        update(r);
+        return r;
+    }
+
+    private static <V> void update(Node<V> t) {
+        long max = t.end;
+        if (t.left != null && t.left.maxEnd > max) max = t.left.maxEnd;
+        if (t.right != null && t.right.maxEnd > max) max = t.right.maxEnd;
+        t.maxEnd = max;
+    }
+
+    private static <V> int compare(Node<V> a, Node<V> b) {
+        int cmp = Long.compare(a.start, b.start);
+        return cmp != 0 ? cmp : Integer.compare(a.key, b.key);
+    }
+}
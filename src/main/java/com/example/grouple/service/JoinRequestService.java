@@ -1,28 +1,36 @@
 package com.example.grouple.service;
 
+import com.example.grouple.common.ConflictException;
+import com.example.grouple.common.ErrorCode;
+import com.example.grouple.common.ForbiddenException;
+import com.example.grouple.common.NotFoundException;
+import com.example.grouple.dto.joinrequest.request.JoinRequestBulkDecisionRequest;
 import com.example.grouple.dto.joinrequest.request.JoinRequestCreateRequest;
 import com.example.grouple.dto.joinrequest.request.JoinRequestDecisionRequest;
+import com.example.grouple.dto.joinrequest.response.JoinRequestBulkDecisionResponse;
+import com.example.grouple.dto.joinrequest.response.JoinRequestBulkDecisionResponse.Outcome;
 import com.example.grouple.dto.joinrequest.response.JoinRequestListResponse;
 import com.example.grouple.dto.joinrequest.response.JoinRequestResponse;
 import com.example.grouple.entity.JoinRequest;
 import com.example.grouple.entity.JoinRequestStatus;
-import com.example.grouple.entity.Member;
 import com.example.grouple.entity.Organization;
 import com.example.grouple.entity.User;
-import com.example.grouple.entity.id.MemberId;
 import com.example.grouple.repository.JoinRequestRepository;
 import com.example.grouple.repository.MemberRepository;
 import com.example.grouple.repository.OrganizationRepository;
-import com.example.grouple.repository.UserRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -32,8 +40,10 @@ public class JoinRequestService {
 
     private final JoinRequestRepository joinRequestRepository;
     private final OrganizationRepository organizationRepository;
-    private final UserRepository userRepository;
     private final MemberRepository memberRepository;
+    private final OrgCodeCache orgCodeCache;
+    private final OrgContentVersions orgContentVersions;
+    private final UserEventBroadcaster userEventBroadcaster;
 
     @Transactional
     public JoinRequestResponse createJoinRequest(Integer userId,
@@ -42,34 +52,26 @@ public class JoinRequestService {
         if (!StringUtils.hasText(orgCode)) {
             throw new IllegalArgumentException("조직 코드를 입력해주세요.");
         }
-        Organization organization = organizationRepository.findByCode(orgCode)
-                .orElseThrow(() -> new NoSuchElementException("조직을 찾을 수 없습니다."));
-
-        ensureNotMember(userId, organization.getId());
-        ensureNoPendingRequest(userId, organization.getId());
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NoSuchElementException("유저를 찾을 수 없습니다."));
-
-        JoinRequest joinRequest = new JoinRequest();
-        joinRequest.setOrganization(organization);
-        joinRequest.setUser(user);
-        joinRequest.setMessage(request != null ? request.getMessage() : null);
-        joinRequest.setStatus(JoinRequestStatus.PENDING);
-        joinRequest.setCreatedAt(Instant.now());
-
-        return JoinRequestResponse.from(joinRequestRepository.save(joinRequest));
+        Integer orgId = orgCodeCache.resolve(orgCode)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.ORG_NOT_FOUND));
+        try {
+            return insertJoinRequest(userId, orgId, request);
+        } catch (NotFoundException e) {
+            if (e.getErrorCode() == ErrorCode.ORG_NOT_FOUND) {
+                orgCodeCache.evict(orgCode); // 캐시 이후 조직이 삭제된 경우
+            }
+            throw e;
+        }
     }
 
     @Transactional
     public JoinRequestResponse createJoinRequestByOrgId(Integer userId,
                                                         Integer orgId,
                                                         JoinRequestCreateRequest request) {
-        Organization organization = organizationRepository.findById(orgId)
-                .orElseThrow(() -> new NoSuchElementException("조직을 찾을 수 없습니다."));
-        return createJoinRequest(userId, organization.getCode(), request);
+        return insertJoinRequest(userId, orgId, request);
     }
 
+    @Transactional(readOnly = true)
     public JoinRequestListResponse getOrganizationJoinRequests(Integer actorId, Integer orgId) {
         Organization organization = loadOrgAndValidateOwner(actorId, orgId);
         List<JoinRequestResponse> requests = joinRequestRepository.findAllByOrganization_Id(orgId)
@@ -79,10 +81,11 @@ public class JoinRequestService {
         return JoinRequestListResponse.of(organization.getId(), requests);
     }
 
+    @Transactional(readOnly = true)
     public JoinRequestResponse getOrganizationJoinRequest(Integer actorId, Integer orgId, Integer reqId) {
         loadOrgAndValidateOwner(actorId, orgId);
         JoinRequest joinRequest = joinRequestRepository.findByIdAndOrganization_Id(reqId, orgId)
-                .orElseThrow(() -> new NoSuchElementException("가입 요청을 찾을 수 없습니다."));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.JOIN_REQUEST_NOT_FOUND));
         return JoinRequestResponse.from(joinRequest);
     }
 
@@ -91,16 +94,14 @@ public class JoinRequestService {
                                                   Integer orgId,
                                                   Integer reqId,
                                                   JoinRequestDecisionRequest request) {
-        Organization organization = loadOrgAndValidateOwner(actorId, orgId);
-        JoinRequest joinRequest = loadPendingJoinRequest(orgId, reqId);
-
-        joinRequest.setStatus(JoinRequestStatus.APPROVED);
-        joinRequest.setDecisionReason(request != null ? request.getReason() : null);
-        joinRequest.setDecidedAt(Instant.now());
+        loadOrgAndValidateOwner(actorId, orgId);
+        JoinRequest joinRequest = decide(orgId, reqId, JoinRequestStatus.APPROVED, request);
 
-        ensureMemberExists(joinRequest.getUser(), organization);
+        ensureMemberExists(joinRequest.getUser(), joinRequest.getOrganization());
 
-        return JoinRequestResponse.from(joinRequest);
+        JoinRequestResponse response = JoinRequestResponse.from(joinRequest);
+        notifyDecision(actorId, UserEventType.JOIN_REQUEST_APPROVED, response);
+        return response;
     }
 
     @Transactional
@@ -109,60 +110,145 @@ public class JoinRequestService {
                                                  Integer reqId,
                                                  JoinRequestDecisionRequest request) {
         loadOrgAndValidateOwner(actorId, orgId);
-        JoinRequest joinRequest = loadPendingJoinRequest(orgId, reqId);
-
-        joinRequest.setStatus(JoinRequestStatus.REJECTED);
-        joinRequest.setDecisionReason(request != null ? request.getReason() : null);
-        joinRequest.setDecidedAt(Instant.now());
+        JoinRequest joinRequest = decide(orgId, reqId, JoinRequestStatus.REJECTED, request);
 
-        return JoinRequestResponse.from(joinRequest);
+        JoinRequestResponse response = JoinRequestResponse.from(joinRequest);
+        notifyDecision(actorId, UserEventType.JOIN_REQUEST_REJECTED, response);
+        return response;
     }
 
-    private void ensureNotMember(Integer userId, Integer orgId) {
-        if (memberRepository.existsById(new MemberId(userId, orgId))) {
-            throw new IllegalStateException("이미 조직의 구성원입니다.");
+    /**
+     * 가입 요청 일괄 승인/거절
+     * - 소유자 확인 1회, 대상 행 잠금 조회 1회, 상태 변경 UPDATE 1회, 구성원 INSERT 1회
+     * - 없는 요청/이미 처리된 요청은 실패시키지 않고 결과에만 표시
+     */
+    @Transactional
+    public JoinRequestBulkDecisionResponse decideJoinRequests(Integer actorId,
+                                                              Integer orgId,
+                                                              JoinRequestBulkDecisionRequest request) {
+        loadOrgAndValidateOwner(actorId, orgId);
+        // 요청 행보다 조직 행을 먼저 잠금 (단건 처리와 같은 순서, 모두 처리된 요청이어도 버전은 오름)
+        orgContentVersions.bump(orgId);
+        Set<Integer> requestIds = new LinkedHashSet<>(request.getRequestIds());
+        boolean approve = request.getDecision() == JoinRequestBulkDecisionRequest.Decision.APPROVE;
+        Instant now = Instant.now();
+
+        Map<Integer, JoinRequestRepository.DecisionTarget> targets = new HashMap<>();
+        for (JoinRequestRepository.DecisionTarget target : joinRequestRepository.lockDecisionTargets(orgId, requestIds)) {
+            targets.put(target.getId(), target);
+        }
+
+        List<Integer> pendingIds = new ArrayList<>();
+        Set<Integer> approvedUserIds = new LinkedHashSet<>();
+        List<JoinRequestBulkDecisionResponse.Result> results = new ArrayList<>(requestIds.size());
+        for (Integer reqId : requestIds) {
+            JoinRequestRepository.DecisionTarget target = targets.get(reqId);
+            Outcome outcome;
+            if (target == null) {
+                outcome = Outcome.NOT_FOUND;
+            } else if (!JoinRequestStatus.PENDING.name().equals(target.getStatus())) {
+                outcome = Outcome.ALREADY_DECIDED;
+            } else {
+                outcome = approve ? Outcome.APPROVED : Outcome.REJECTED;
+                pendingIds.add(reqId);
+                if (approve) {
+                    approvedUserIds.add(target.getUserId());
+                }
+            }
+            results.add(new JoinRequestBulkDecisionResponse.Result(
+                    reqId, target != null ? target.getUserId() : null, outcome));
+        }
+
+        if (!pendingIds.isEmpty()) {
+            joinRequestRepository.decideAll(pendingIds,
+                    approve ? JoinRequestStatus.APPROVED : JoinRequestStatus.REJECTED,
+                    request.getReason(), now);
+            memberRepository.insertIgnoringExisting(orgId, approvedUserIds, DEFAULT_MEMBER_ROLE, now);
+            UserEventType type = approve ? UserEventType.JOIN_REQUEST_APPROVED : UserEventType.JOIN_REQUEST_REJECTED;
+            for (Integer reqId : pendingIds) {
+                notifyDecision(actorId, type, JoinRequestResponse.builder()
+                        .id(reqId)
+                        .organizationId(orgId)
+                        .userId(targets.get(reqId).getUserId())
+                        .status(approve ? JoinRequestStatus.APPROVED.name() : JoinRequestStatus.REJECTED.name())
+                        .decisionReason(request.getReason())
+                        .decidedAt(now)
+                        .build());
+            }
         }
+        return JoinRequestBulkDecisionResponse.of(orgId, now, results);
     }
 
-    private void ensureNoPendingRequest(Integer userId, Integer orgId) {
-        boolean exists = joinRequestRepository.existsByOrganization_IdAndUser_IdAndStatus(
-                orgId, userId, JoinRequestStatus.PENDING);
-        if (exists) {
-            throw new IllegalStateException("이미 처리 중인 가입 요청이 있습니다.");
+    // 조직/유저 존재, 구성원 여부, 처리 중 요청 여부를 한 번에 확인한 뒤 중복 키를 무시하는 INSERT 로 추가
+    // 확인 이후 동시에 들어온 중복 요청은 유니크 제약(uk_join_requests_pending)에 걸려 무시됨
+    private JoinRequestResponse insertJoinRequest(Integer userId, Integer orgId, JoinRequestCreateRequest request) {
+        JoinRequestRepository.JoinEligibility eligibility = joinRequestRepository.findJoinEligibility(orgId, userId)
+                .orElseThrow(() -> organizationRepository.existsById(orgId)
+                        ? new NotFoundException(ErrorCode.USER_NOT_FOUND)
+                        : new NotFoundException(ErrorCode.ORG_NOT_FOUND));
+        switch (eligibility.getRelation()) {
+            case "MEMBER" -> throw new ConflictException(ErrorCode.ALREADY_MEMBER);
+            case "PENDING" -> throw new ConflictException(ErrorCode.JOIN_REQUEST_ALREADY_PENDING);
+            default -> {
+            }
         }
+
+        String message = request != null ? request.getMessage() : null;
+        Instant now = Instant.now();
+        orgContentVersions.bump(orgId);
+        Integer id = joinRequestRepository.insertPendingIfAbsent(orgId, userId, message, now)
+                .orElseThrow(() -> new ConflictException(ErrorCode.JOIN_REQUEST_ALREADY_PENDING));
+
+        JoinRequestResponse response = JoinRequestResponse.builder()
+                .id(id)
+                .organizationId(orgId)
+                .userId(userId)
+                .username(eligibility.getUsername())
+                .status(JoinRequestStatus.PENDING.name())
+                .message(message)
+                .createdAt(now)
+                .build();
+        // 소유자에게 새 요청 알림 (신청자의 다른 탭에도 전달)
+        userEventBroadcaster.publishAfterCommit(Arrays.asList(eligibility.getOwnerId(), userId),
+                UserEventType.JOIN_REQUEST_CREATED, orgId, id, response);
+        return response;
+    }
+
+    // 신청자와 처리한 소유자에게 결과 알림 (커밋 후)
+    private void notifyDecision(Integer actorId, UserEventType type, JoinRequestResponse response) {
+        userEventBroadcaster.publishAfterCommit(Arrays.asList(response.getUserId(), actorId),
+                type, response.getOrganizationId(), response.getId(), response);
     }
 
     private Organization loadOrgAndValidateOwner(Integer actorId, Integer orgId) {
         Organization organization = organizationRepository.findById(orgId)
-                .orElseThrow(() -> new NoSuchElementException("조직을 찾을 수 없습니다."));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.ORG_NOT_FOUND));
         if (organization.getOwner() == null || !organization.getOwner().getId().equals(actorId)) {
-            throw new AccessDeniedException("조직에 대한 권한이 없습니다.");
+            throw new ForbiddenException(ErrorCode.ORG_FORBIDDEN);
         }
         return organization;
     }
 
-    private JoinRequest loadPendingJoinRequest(Integer orgId, Integer reqId) {
+    // 조건부 UPDATE 로 상태 전이 후 변경된 요청을 다시 읽음 (동시 처리 시 한 요청만 성공)
+    private JoinRequest decide(Integer orgId, Integer reqId, JoinRequestStatus status,
+                               JoinRequestDecisionRequest request) {
+        orgContentVersions.bump(orgId);
+        int updated = joinRequestRepository.decide(reqId, orgId, status,
+                request != null ? request.getReason() : null, Instant.now());
         JoinRequest joinRequest = joinRequestRepository.findByIdAndOrganization_Id(reqId, orgId)
-                .orElseThrow(() -> new NoSuchElementException("가입 요청을 찾을 수 없습니다."));
-        if (joinRequest.getStatus() != JoinRequestStatus.PENDING) {
-            throw new IllegalStateException("이미 처리된 요청입니다.");
+                .orElseThrow(() -> new NotFoundException(ErrorCode.JOIN_REQUEST_NOT_FOUND));
+        if (updated == 0) {
+            throw new ConflictException(ErrorCode.JOIN_REQUEST_ALREADY_DECIDED);
         }
         return joinRequest;
     }
 
+    // 이미 구성원이면 무시 (INSERT 한 번, 동시 승인에도 중복 키 오류 없음)
     private void ensureMemberExists(User user, Organization organization) {
         if (user == null || organization == null) {
             return;
         }
-        MemberId memberId = new MemberId(user.getId(), organization.getId());
-        if (memberRepository.existsById(memberId)) {
-            return;
-        }
-        Member member = new Member();
-        member.setId(memberId);
-        member.setUser(user);
-        member.setOrganization(organization);
-        member.setRole(DEFAULT_MEMBER_ROLE);
-        memberRepository.save(member);
+        memberRepository.insertIgnoringExisting(organization.getId(), List.of(user.getId()),
+                DEFAULT_MEMBER_ROLE, Instant.now());
     }
 }
@@ -1,7 +1,9 @@
 package com.example.grouple.service;
 
 import com.example.grouple.entity.User;
+import com.example.grouple.monitoring.jfr.JwtVerificationEvent;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -35,6 +37,15 @@ public class JwtProvider {
     }
 
     Claims parseClaims(String token) {
-        return parser.parseClaimsJws(token).getBody();
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            event.succeeded("provider", claims.get("id", Integer.class));
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            event.failed("provider", e);
+            throw e;
+        }
     }
 }
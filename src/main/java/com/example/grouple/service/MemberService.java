@@ -1,5 +1,8 @@
 package com.example.grouple.service;
 
+import com.example.grouple.common.ErrorCode;
+import com.example.grouple.common.ForbiddenException;
+import com.example.grouple.common.NotFoundException;
 import com.example.grouple.dto.organization.request.OrgMembersDeleteRequest;
 import com.example.grouple.dto.organization.request.OrgMembersRequest;
 import com.example.grouple.dto.organization.response.OrgMembersDeleteResponse;
@@ -7,21 +10,22 @@ import com.example.grouple.dto.organization.response.OrgMembersResponse;
 import com.example.grouple.entity.Member;
 import com.example.grouple.entity.id.MemberId;
 import com.example.grouple.repository.MemberRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.List;
-import java.util.NoSuchElementException;
 
 @Service
 @RequiredArgsConstructor
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final OrgContentVersions orgContentVersions;
+    private final OrgEventBroadcaster orgEventBroadcaster;
 
+    @Transactional(readOnly = true)
     public OrgMembersResponse getOrgMembers(Integer orgId, OrgMembersRequest request) {
         String roleFilter = request != null ? request.getRole() : null;
 
@@ -50,11 +54,13 @@ public class MemberService {
                                                  Integer memberId,
                                                  OrgMembersDeleteRequest request) {
         Member member = memberRepository.findById(new MemberId(memberId, orgId))
-                .orElseThrow(() -> new NoSuchElementException("조직 구성원을 찾을 수 없습니다."));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.MEMBER_NOT_FOUND));
 
         validateDeletionPermission(actorId, member);
 
+        orgContentVersions.bump(orgId);
         memberRepository.delete(member);
+        orgEventBroadcaster.disconnectAfterCommit(orgId, memberId);
 
         return OrgMembersDeleteResponse.builder()
                 .organizationId(orgId)
@@ -71,7 +77,7 @@ public class MemberService {
                 && target.getOrganization().getOwner().getId().equals(actorId);
 
         if (!isSelf && !isOwner) {
-            throw new AccessDeniedException("조직 구성원을 삭제할 권한이 없습니다.");
+            throw new ForbiddenException("조직 구성원을 삭제할 권한이 없습니다.");
         }
     }
 }
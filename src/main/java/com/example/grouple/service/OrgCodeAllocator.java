@@ -0,0 +1,153 @@
+package com.example.grouple.service;
+
+import com.example.grouple.entity.OrgCodeSequence;
+import com.example.grouple.repository.OrgCodeSequenceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 충돌 없는 조직 코드 발급기
+ * - DB 카운터(org_code_sequence)에서 blockSize 개씩 구간을 예약하고 메모리에서 하나씩 발급
+ * - 카운터 값(0 ~ 2^30-1)을 Feistel 순열로 섞은 뒤 6자리 Crockford base-32 로 인코딩
+ *   순열은 전단사이므로 카운터가 겹치지 않는 한 코드도 겹치지 않는다.
+ * - 기존 UUID 방식 코드(0-9A-F 만 사용)와 겹치지 않도록 16진 문자로만 된 코드는 건너뜀
+ */
+@Component
+public class OrgCodeAllocator {
+
+    /**
+     * 카운터 구간 예약 - 예약된 구간의 첫 값을 반환
+     */
+    interface BlockSource {
+        long reserve(int size);
+    }
+
+    static final int CODE_LENGTH = 6;
+    static final long CODE_SPACE = 1L << (5 * CODE_LENGTH); // 32^6
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int HALF_BITS = 15;
+    private static final int HALF_MASK = (1 << HALF_BITS) - 1;
+    private static final int[] ROUND_KEYS = {0x5A3C, 0x1F2B, 0x6E91, 0x2D47};
+
+    private final BlockSource blockSource;
+    private final int blockSize;
+    private long nextValue;
+    private long blockEnd;
+
+    @Autowired
+    public OrgCodeAllocator(OrgCodeSequenceRepository sequenceRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.organization.code.block-size:64}") int blockSize) {
+        this(databaseBlockSource(sequenceRepository, transactionManager), blockSize);
+    }
+
+    OrgCodeAllocator(BlockSource blockSource, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("block size must be positive");
+        }
+        this.blockSource = blockSource;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * 다음 코드 발급
+     * 블록 예약(DB 왕복)은 잠금 밖에서 하므로 예약을 기다리는 동안 다른 스레드를 막지 않는다.
+     * 호출자가 트랜잭션(커넥션)을 잡고 있지 않을 때 호출해야 한다 - 예약은 별도 트랜잭션이라 커넥션이 하나 더 필요함.
+     */
+    public String next() {
+        while (true) {
+            long value = take();
+            if (value < 0) {
+                long start = blockSource.reserve(blockSize);
+                synchronized (this) {
+                    // 동시에 예약한 다른 스레드가 이미 새 블록을 채웠으면 이 블록은 버림 (코드 공간에 빈 구간만 생김)
+                    if (nextValue >= blockEnd) {
+                        nextValue = start;
+                        blockEnd = start + blockSize;
+                    }
+                }
+                continue;
+            }
+            if (value >= CODE_SPACE) {
+                throw new IllegalStateException("organization code space exhausted");
+            }
+            String code = encode(value);
+            if (!isHexOnly(code)) {
+                return code;
+            }
+        }
+    }
+
+    // 현재 블록의 다음 값 (블록을 다 썼으면 -1)
+    private synchronized long take() {
+        return nextValue < blockEnd ? nextValue++ : -1;
+    }
+
+    static String encode(long value) {
+        long scrambled = scramble(value);
+        char[] out = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            out[i] = ALPHABET[(int) (scrambled & 31)];
+            scrambled >>>= 5;
+        }
+        return new String(out);
+    }
+
+    // 30비트 값에 대한 4라운드 Feistel 순열
+    static long scramble(long value) {
+        int left = (int) (value >>> HALF_BITS) & HALF_MASK;
+        int right = (int) value & HALF_MASK;
+        for (int key : ROUND_KEYS) {
+            int next = left ^ round(right, key);
+            left = right;
+            right = next;
+        }
+        return ((long) left << HALF_BITS) | right;
+    }
+
+    private static int round(int half, int key) {
+        int x = (half * 0x2C1B + key) & HALF_MASK;
+        x ^= x >>> 7;
+        return (x * 0x3A5D) & HALF_MASK;
+    }
+
+    static boolean isHexOnly(String code) {
+        for (int i = 0; i < code.length(); i++) {
+            if (Character.digit(code.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 별도 트랜잭션에서 행 잠금 후 next_value 증가 (첫 예약 시 행 생성, 동시 생성 충돌 시 재시도)
+    private static BlockSource databaseBlockSource(OrgCodeSequenceRepository repository,
+                                                   PlatformTransactionManager transactionManager) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return size -> {
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    Long start = tx.execute(status -> {
+                        OrgCodeSequence sequence = repository.findWithLockById(OrgCodeSequence.ID)
+                                .orElseGet(() -> repository.saveAndFlush(new OrgCodeSequence(OrgCodeSequence.ID, 0L)));
+                        long first = sequence.getNextValue();
+                        sequence.setNextValue(first + size);
+                        return first;
+                    });
+                    return start;
+                } catch (DataIntegrityViolationException e) {
+                    if (attempt > 0) {
+                        throw e;
+                    }
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.grouple.service;
+
+import com.example.grouple.repository.OrganizationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조직 코드 → 조직 ID 캐시 (가입 요청용)
+ * - 조직 코드는 바뀌지 않으므로 조회 결과를 ttl 동안 재사용
+ * - 없는 코드도 negative-ttl 동안 기억해 잘못된 초대 링크가 DB 를 반복 조회하지 않게 함
+ * - 조직 생성/삭제 시 해당 코드를 비움
+ */
+@Component
+public class OrgCodeCache {
+
+    private record Entry(Integer orgId, long expiresAt) {
+    }
+
+    private final OrganizationRepository organizationRepository;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+    private final int maxSize;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public OrgCodeCache(OrganizationRepository organizationRepository,
+                        @Value("${app.organization.code-cache.ttl:PT10M}") Duration ttl,
+                        @Value("${app.organization.code-cache.negative-ttl:PT30S}") Duration negativeTtl,
+                        @Value("${app.organization.code-cache.max-size:10000}") int maxSize) {
+        this.organizationRepository = organizationRepository;
+        this.ttlMillis = ttl.toMillis();
+        this.negativeTtlMillis = negativeTtl.toMillis();
+        this.maxSize = maxSize;
+    }
+
+    public Optional<Integer> resolve(String code) {
+        String key = normalize(code);
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry == null || entry.expiresAt() <= now) {
+            Integer orgId = organizationRepository.findIdByCode(key).orElse(null);
+            entry = new Entry(orgId, now + (orgId != null ? ttlMillis : negativeTtlMillis));
+            put(key, entry, now);
+        }
+        return Optional.ofNullable(entry.orgId());
+    }
+
+    public void evict(String code) {
+        if (code != null) {
+            entries.remove(normalize(code));
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // 상한을 넘으면 만료 항목부터 정리하고, 그래도 넘으면 전부 비움
+    private void put(String key, Entry entry, long now) {
+        entries.put(key, entry);
+        if (entries.size() > maxSize) {
+            entries.values().removeIf(e -> e.expiresAt() <= now);
+            if (entries.size() > maxSize) {
+                entries.clear();
+            }
+        }
+    }
+
+    private static String normalize(String code) {
+        return code.trim().toUpperCase(Locale.ROOT);
+    }
+}
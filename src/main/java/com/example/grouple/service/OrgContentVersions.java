@@ -0,0 +1,97 @@
+package com.example.grouple.service;
+
+import com.example.grouple.repository.OrganizationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 조직 단위 내용 버전 (조건부 GET 의 ETag 기준)
+ * - 조직에 속한 데이터를 바꾸는 서비스 메서드는 같은 트랜잭션 안에서 bump 를 호출
+ * - DB 컬럼이므로 여러 인스턴스에서도 같은 값을 봄
+ * bump 는 조직 행에 잠금을 잡으므로 같은 조직의 쓰기는 커밋까지 직렬화된다.
+ * 하위 행 INSERT/UPDATE 보다 먼저 호출해야 한다 - FK 검사가 조직 행에 공유 잠금을 먼저 잡으면
+ * 동시 트랜잭션끼리 배타 잠금으로 올리지 못해 교착 상태가 된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrgContentVersions {
+
+    // IN 목록 길이 제한
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * 이 노드에서 커밋된 버전을 받는 쪽 (SSE 채널)
+     * 관심 있는 조직만 bump 직후 버전을 한 번 더 읽는다.
+     */
+    interface CommitListener {
+        boolean isWatching(Integer orgId);
+
+        void committed(Integer orgId, long version);
+    }
+
+    private final OrganizationRepository organizationRepository;
+    private final List<CommitListener> listeners = new CopyOnWriteArrayList<>();
+
+    public Optional<Long> current(Integer orgId) {
+        return organizationRepository.findContentVersionById(orgId);
+    }
+
+    /**
+     * 읽기 권한이 있는 사용자에게만 버전 반환 (OrganizationAuthz canReadOrg || canManageOrg 와 같은 조건)
+     * 없는 조직이거나 권한이 없으면 empty
+     */
+    public Optional<Long> currentForReader(Integer orgId, Integer userId) {
+        return organizationRepository.findContentVersionByIdForReader(orgId, userId);
+    }
+
+    // 없는 조직은 결과에서 빠짐
+    public Map<Integer, Long> current(Collection<Integer> orgIds) {
+        Map<Integer, Long> versions = new HashMap<>();
+        List<Integer> ids = new ArrayList<>(orgIds);
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            for (OrganizationRepository.ContentVersion row : organizationRepository
+                    .findContentVersionsByIdIn(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())))) {
+                versions.put(row.getId(), row.getContentVersion());
+            }
+        }
+        return versions;
+    }
+
+    public void bump(Integer orgId) {
+        organizationRepository.incrementContentVersion(orgId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        for (CommitListener listener : listeners) {
+            if (listener.isWatching(orgId)) {
+                // 조직 행 잠금을 잡고 있으므로 읽은 값이 이 트랜잭션이 만든 버전
+                organizationRepository.findContentVersionById(orgId).ifPresent(version ->
+                        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                            @Override
+                            public void afterCommit() {
+                                listener.committed(orgId, version);
+                            }
+                        }));
+            }
+        }
+    }
+
+    // 사용자 정보(이름/이메일 등)가 응답에 포함되는 모든 조직
+    public void bumpForUser(Integer userId) {
+        organizationRepository.incrementContentVersionForUser(userId);
+    }
+
+    void addCommitListener(CommitListener listener) {
+        listeners.add(listener);
+    }
+}
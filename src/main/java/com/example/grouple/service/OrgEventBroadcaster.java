@@ -0,0 +1,142 @@
+package com.example.grouple.service;
+
+import com.example.grouple.dto.event.response.OrgEventResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 조직별 SSE 브로드캐스터 (노드당 조직마다 채널 하나, 채널/구독자 관리는 SseHub)
+ * - 서비스가 커밋 후 이벤트를 발행하면 JSON 으로 한 번만 직렬화해 모든 구독자에게 전달
+ * - heartbeat 주기마다 주석 한 줄을 보내 프록시 유휴 종료를 막고,
+ *   조직 내용 버전(DB)에 이 노드에서 커밋되지 않은 버전이 있으면 sync 이벤트를 보낸다 (다른 노드의 변경)
+ * - 구성원에서 빠지거나 조직이 삭제되면 커밋 후 해당 연결을 닫는다 (재연결은 권한 확인에서 거부됨)
+ */
+@Slf4j
+@Component
+public class OrgEventBroadcaster {
+
+    private final ObjectMapper objectMapper;
+    private final OrgContentVersions orgContentVersions;
+    private final boolean versionCheck;
+    private final SseHub hub;
+
+    public OrgEventBroadcaster(ObjectMapper objectMapper,
+                               OrgContentVersions orgContentVersions,
+                               @Value("${app.sse.timeout:PT30M}") Duration timeout,
+                               @Value("${app.sse.reconnect-delay:PT3S}") Duration reconnectDelay,
+                               @Value("${app.sse.replay-size:200}") int replaySize,
+                               @Value("${app.sse.subscriber-queue:64}") int queueCapacity,
+                               @Value("${app.sse.idle-ttl:PT5M}") Duration idleTtl,
+                               @Value("${app.sse.version-check:true}") boolean versionCheck) {
+        this.objectMapper = objectMapper;
+        this.orgContentVersions = orgContentVersions;
+        this.versionCheck = versionCheck;
+        this.hub = new SseHub("org", timeout, reconnectDelay, replaySize, queueCapacity, idleTtl);
+        if (versionCheck) {
+            orgContentVersions.addCommitListener(new OrgContentVersions.CommitListener() {
+                @Override
+                public boolean isWatching(Integer orgId) {
+                    return hub.hasChannel(orgId);
+                }
+
+                @Override
+                public void committed(Integer orgId, long version) {
+                    hub.versionCommitted(orgId, version);
+                }
+            });
+        }
+    }
+
+    /**
+     * 구독 시작
+     * @param userId 구독한 사용자 (구성원에서 빠지면 이 사용자의 연결만 닫음)
+     * @param lastEventId 재연결 시 클라이언트가 보낸 Last-Event-ID (없으면 null)
+     */
+    public SseEmitter subscribe(Integer orgId, Integer userId, String lastEventId) {
+        return hub.subscribe(orgId, userId, lastEventId);
+    }
+
+    SseHub.Subscriber subscribe(Integer orgId, Integer userId, String lastEventId, SseHub.Sink sink) {
+        return hub.subscribe(orgId, userId, lastEventId, sink);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 이벤트 발행 (롤백되면 버림, 트랜잭션 밖이면 바로 발행)
+     * 구독자가 없는 조직은 직렬화도 하지 않는다.
+     */
+    public void publishAfterCommit(Integer orgId, OrgEventType type, Integer resourceId, Object data) {
+        afterCommit(() -> publish(orgId, type, resourceId, data));
+    }
+
+    // 조직 삭제 - 커밋되면 조직 채널의 모든 연결을 닫음
+    public void closeAfterCommit(Integer orgId) {
+        afterCommit(() -> hub.close(orgId));
+    }
+
+    // 구성원 제외 - 커밋되면 그 사용자의 조직 채널 연결만 닫음
+    public void disconnectAfterCommit(Integer orgId, Integer userId) {
+        afterCommit(() -> hub.disconnect(orgId, userId));
+    }
+
+    // 회원 탈퇴 - 커밋되면 모든 조직 채널에서 그 사용자의 연결을 닫음
+    public void disconnectAfterCommit(Integer userId) {
+        afterCommit(() -> hub.disconnect(userId));
+    }
+
+    void publish(Integer orgId, OrgEventType type, Integer resourceId, Object data) {
+        if (!hub.hasChannel(orgId)) {
+            return;
+        }
+        OrgEventResponse event = OrgEventResponse.builder()
+                .type(type.getEventName())
+                .resourceId(resourceId)
+                .occurredAt(Instant.now())
+                .data(data)
+                .build();
+        try {
+            hub.publish(orgId, type.getEventName(), objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize {} event for org {}", type, orgId, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.sse.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        // 구독자가 있는 조직의 버전을 IN 쿼리로 한 번에 조회
+        hub.heartbeat(versionCheck ? orgContentVersions::current : null);
+    }
+
+    int subscriberCount(Integer orgId) {
+        return hub.subscriberCount(orgId);
+    }
+
+    // 트랜잭션 밖이면 바로 실행
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hub.shutdown();
+    }
+}
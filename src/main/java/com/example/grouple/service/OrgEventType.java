@@ -0,0 +1,23 @@
+package com.example.grouple.service;
+
+import lombok.Getter;
+
+/**
+ * 조직 SSE 이벤트 종류 (SSE event 이름, 클라이언트 분기용이므로 이름을 바꾸지 않는다)
+ */
+@Getter
+public enum OrgEventType {
+    ANNOUNCEMENT_CREATED("announcement.created"),
+    ANNOUNCEMENT_UPDATED("announcement.updated"),
+    ANNOUNCEMENT_DELETED("announcement.deleted"),
+    ANNOUNCEMENT_STARRED("announcement.starred"),
+    SCHEDULE_CREATED("schedule.created"),
+    SCHEDULE_UPDATED("schedule.updated"),
+    SCHEDULE_DELETED("schedule.deleted");
+
+    private final String eventName;
+
+    OrgEventType(String eventName) {
+        this.eventName = eventName;
+    }
+}
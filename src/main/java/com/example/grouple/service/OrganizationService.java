@@ -1,5 +1,8 @@
 package com.example.grouple.service;
 
+import com.example.grouple.common.ErrorCode;
+import com.example.grouple.common.ForbiddenException;
+import com.example.grouple.common.NotFoundException;
 import com.example.grouple.dto.organization.request.OrgCreateRequest;
 import com.example.grouple.dto.organization.request.OrgUpdateRequest;
 import com.example.grouple.dto.organization.response.OrgCreateResponse;
@@ -10,15 +13,14 @@ import com.example.grouple.entity.Organization;
 import com.example.grouple.entity.User;
 import com.example.grouple.repository.OrganizationRepository;
 import com.example.grouple.repository.UserRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.parameters.P;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
 import java.util.List;
-import java.util.NoSuchElementException;
 
 @Service
 @RequiredArgsConstructor
@@ -26,15 +28,26 @@ public class OrganizationService {
 
     private final OrganizationRepository orgRepo;
     private final UserRepository userRepo;
+    private final OrgCodeCache orgCodeCache;
+    private final OrgContentVersions orgContentVersions;
+    private final OrgCodeAllocator orgCodeAllocator;
+    private final OrgEventBroadcaster orgEventBroadcaster;
+    private final TransactionTemplate transactionTemplate;
     /**
      * 아이디 중복 체크
      * 조직 생성 시 동일 ID 존재 여부 확인
      */
 
-    @Transactional
     public OrgCreateResponse createOrg(@P("id") Integer id, OrgCreateRequest req) {
-        User user = userRepo.findById(id).orElseThrow(NoSuchElementException::new);
+        // 코드는 트랜잭션(커넥션)을 잡기 전에 발급 - 블록 예약이 별도 트랜잭션으로 커넥션을 하나 더 쓰기 때문
+        String code = orgCodeAllocator.next();
+        return transactionTemplate.execute(status -> insertOrg(id, req, code));
+    }
+
+    private OrgCreateResponse insertOrg(Integer id, OrgCreateRequest req, String code) {
+        User user = userRepo.findById(id).orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
         Organization org = new Organization();
+        org.setCode(code);
         org.setOwner(user);
         if (req.getName() != null)
             org.setName(req.getName());
@@ -46,6 +59,7 @@ public class OrganizationService {
             org.setImage(req.getImage_url());
         Organization saved = orgRepo.save(org);
         orgRepo.flush();
+        orgCodeCache.evict(saved.getCode()); // 없는 코드로 캐시되어 있었을 수 있음
         return new OrgCreateResponse(
                 saved.getId(),
                 saved.getName(),
@@ -55,18 +69,21 @@ public class OrganizationService {
         );
     }
 
+    @Transactional(readOnly = true)
     public List<OrgListResponse> getAllOrgs() {
         return orgRepo.findAll().stream()
                 .map(OrgListResponse::from)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<OrgListResponse> getOrgsByOwner_Id(Integer userId) {
         return orgRepo.findAllByOwner_Id(userId).stream()
                 .map(OrgListResponse::from)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public OrgDetailResponse getOrgById(Integer ordId) {
         Organization org = orgRepo.getOrganizationById(ordId);
         return OrgDetailResponse.from(org);
@@ -74,7 +91,7 @@ public class OrganizationService {
 
     @Transactional
     public OrgDetailResponse updateOrg(Integer userId, Integer orgId, OrgUpdateRequest request) {
-        Organization org = orgRepo.findById(orgId).orElseThrow(NoSuchElementException::new);
+        Organization org = orgRepo.findById(orgId).orElseThrow(() -> new NotFoundException(ErrorCode.ORG_NOT_FOUND));
         validateOwner(userId, org);
 
         if (request.getName() != null) {
@@ -89,16 +106,21 @@ public class OrganizationService {
         if (request.getImage_url() != null) {
             org.setImage(request.getImage_url());
         }
+        orgContentVersions.bump(orgId);
 
         return OrgDetailResponse.from(org);
     }
 
     @Transactional
     public OrgDeleteResponse deleteOrg(Integer userId, Integer orgId) {
-        Organization org = orgRepo.findById(orgId).orElseThrow(NoSuchElementException::new);
+        Organization org = orgRepo.findById(orgId).orElseThrow(() -> new NotFoundException(ErrorCode.ORG_NOT_FOUND));
         validateOwner(userId, org);
 
-        orgRepo.delete(org);
+        // 삭제 표시만 하고 즉시 반환, 하위 데이터는 DeletionPurger 가 배치로 정리
+        org.setDeletedAt(Instant.now());
+        orgCodeCache.evict(org.getCode());
+        orgContentVersions.bump(orgId);
+        orgEventBroadcaster.closeAfterCommit(orgId);
         return OrgDeleteResponse.builder()
                 .id(org.getId())
                 .code(org.getCode())
@@ -108,7 +130,7 @@ public class OrganizationService {
 
     private void validateOwner(Integer userId, Organization org) {
         if (org.getOwner() == null || !org.getOwner().getId().equals(userId)) {
-            throw new AccessDeniedException("조직에 대한 권한이 없습니다.");
+            throw new ForbiddenException(ErrorCode.ORG_FORBIDDEN);
         }
     }
 }
@@ -1,5 +1,7 @@
 package com.example.grouple.service;
 
+import com.example.grouple.api.PageResponse;
+import com.example.grouple.common.ErrorCode;
 import com.example.grouple.common.ForbiddenException;
 import com.example.grouple.common.NotFoundException;
 import com.example.grouple.dto.receipt.request.ReceiptCreateRequest;
@@ -25,15 +27,16 @@ public class ReceiptService {
     private final ReceiptRepository receiptRepository;
     private final OrganizationRepository organizationRepository; // 가정
     private final UserRepository userRepository;
+    private final OrgContentVersions orgContentVersions;
 
-    public ReceiptListResponse getReceiptList(Integer organizationId, Pageable pageable) {
+    public PageResponse<ReceiptSummaryResponse> getReceiptList(Integer organizationId, Pageable pageable) {
 
         // 1. Repository에서 부분 조회된 Page<DTO>를 받음
         Page<ReceiptSummaryResponse> receiptPage = receiptRepository.findSummariesByOrganizationId(
                organizationId, pageable);
 
-        // 2. 최종 응답 DTO의 생성자를 호출해 Page 객체 변환
-        return new ReceiptListResponse(receiptPage);
+        // 2. 공통 페이징 형식으로 변환
+        return PageResponse.of(receiptPage);
     }
 
     @Transactional
@@ -44,11 +47,13 @@ public class ReceiptService {
 
         // 조직 및 사용자 엔티티 조회 (유효성 검증 및 연관 관계 설정을 위해 필수)
         Organization organization = organizationRepository.findById(organizationId)
-                .orElseThrow(() -> new NotFoundException("조직을 찾을 수 없습니다: " + organizationId));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.ORG_NOT_FOUND));
 
         // 사용자 엔티티 조회
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다: " + userId));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
+
+        orgContentVersions.bump(organizationId);
 
         // DTO -> Entity 변환
         //    (Receipt 엔티티에 Builder나 정적 팩토리 메서드가 있다고 가정)
@@ -78,7 +83,7 @@ public class ReceiptService {
     ) {
         // 1. Receipt 조회 (User와 Organization 관계까지 Fetch Join)
         Receipt receipt = receiptRepository.findByIdWithRelations(receiptId)
-                .orElseThrow(() -> new NotFoundException("가계부 항목을 찾을 수 없습니다: " + receiptId));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.RECEIPT_NOT_FOUND));
 
         // 2. 유효성 검증: URL의 orgId와 실제 Receipt의 조직 ID 일치 확인
         if (!receipt.getOrganization().getId().equals(orgId)) {
@@ -89,7 +94,7 @@ public class ReceiptService {
         boolean isOwner = receiptRepository.isOrganizationOwner(orgId, currentUserId);
         boolean isMember = memberRepository.existsById_OrgIdAndId_UserId(orgId, currentUserId);
         if (!isMember && !isOwner) {
-            throw new ForbiddenException("이 항목을 조회할 권한이 없습니다.");
+            throw new ForbiddenException(ErrorCode.RECEIPT_FORBIDDEN);
         }
 
         // 4. DTO 변환 및 반환
@@ -105,7 +110,7 @@ public class ReceiptService {
     ) {
         // 1. Receipt 조회 및 유효성 검증
         Receipt receipt = receiptRepository.findByIdWithRelations(receiptId)
-                .orElseThrow(() -> new NotFoundException("수정 대상 가계부 항목을 찾을 수 없습니다."));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.RECEIPT_NOT_FOUND));
 
         // 2. 조직 소속 유효성 검증 (URL의 orgId와 실제 Receipt의 조직 ID 일치 확인)
         if (!receipt.getOrganization().getId().equals(orgId)) {
@@ -116,7 +121,7 @@ public class ReceiptService {
         boolean isOwner = receiptRepository.isOrganizationOwner(orgId, currentUserId);
         boolean isMember = memberRepository.existsById_OrgIdAndId_UserId(orgId, currentUserId);
         if (!isMember && !isOwner) {
-            throw new ForbiddenException("이 항목을 수정할 권한이 없습니다.");
+            throw new ForbiddenException(ErrorCode.RECEIPT_FORBIDDEN);
         }
 
         // 4. 2차 인가: 수정 권한 확인 (항목 기록자만 수정 가능)
@@ -124,6 +129,8 @@ public class ReceiptService {
             throw new ForbiddenException("본인이 기록한 항목만 수정할 수 있습니다.");
         }
 
+        orgContentVersions.bump(orgId);
+
         // 5. 엔티티 수정 (Dirty Checking 활용)
         // Lombok의 @Setter 대신 엔티티 내부에 update() 메서드를 구현하는 것이 권장되지만, 여기서는 Setter 사용 가정
         receipt.setType(request.type());
@@ -146,7 +153,7 @@ public class ReceiptService {
     ) {
         // 1. Receipt 조회 및 유효성 검증
         Receipt receipt = receiptRepository.findByIdWithRelations(receiptId)
-                .orElseThrow(() -> new NotFoundException("삭제 대상 가계부 항목을 찾을 수 없습니다."));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.RECEIPT_NOT_FOUND));
 
         // 2. 조직 소속 유효성 검증 (URL의 orgId와 실제 Receipt의 조직 ID 일치 확인)
         if (!receipt.getOrganization().getId().equals(orgId)) {
@@ -157,7 +164,7 @@ public class ReceiptService {
         boolean isOwner = receiptRepository.isOrganizationOwner(orgId, currentUserId);
         boolean isMember = memberRepository.existsById_OrgIdAndId_UserId(orgId, currentUserId);
         if (!isMember && !isOwner) {
-            throw new ForbiddenException("이 항목을 삭제할 권한이 없습니다.");
+            throw new ForbiddenException(ErrorCode.RECEIPT_FORBIDDEN);
         }
 
         // 4. 2차 인가: 삭제 권한 확인 (항목 기록자만 삭제 가능)
@@ -166,6 +173,7 @@ public class ReceiptService {
         }
 
         // 5. 항목 삭제
+        orgContentVersions.bump(orgId);
         receiptRepository.delete(receipt);
     }
 }
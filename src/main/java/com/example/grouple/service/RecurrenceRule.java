@@ -0,0 +1,285 @@
+package com.example.grouple.service;
+
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 일정 반복 규칙 (RFC 5545 RRULE 부분 집합)
+ * - FREQ=DAILY|WEEKLY|MONTHLY (필수)
+ * - INTERVAL=n, COUNT=n, UNTIL=yyyyMMdd[THHmmss[Z]]
+ * - BYDAY=MO,TU,... (WEEKLY 에서만 허용, 주 시작은 월요일)
+ * 발생 시각은 저장하지 않고 조회 구간 안에서만 계산한다.
+ */
+@Getter
+public final class RecurrenceRule {
+
+    public enum Frequency { DAILY, WEEKLY, MONTHLY }
+
+    static final int MAX_COUNT = 3650;
+
+    private static final DateTimeFormatter UNTIL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final Map<String, DayOfWeek> DAY_CODES = Map.of(
+            "MO", DayOfWeek.MONDAY,
+            "TU", DayOfWeek.TUESDAY,
+            "WE", DayOfWeek.WEDNESDAY,
+            "TH", DayOfWeek.THURSDAY,
+            "FR", DayOfWeek.FRIDAY,
+            "SA", DayOfWeek.SATURDAY,
+            "SU", DayOfWeek.SUNDAY
+    );
+
+    private final Frequency frequency;
+    private final int interval;
+    private final Integer count;
+    private final LocalDateTime until;
+    private final Set<DayOfWeek> byDay;
+
+    private RecurrenceRule(Frequency frequency, int interval, Integer count, LocalDateTime until, Set<DayOfWeek> byDay) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.byDay = byDay;
+    }
+
+    /**
+     * RRULE 문자열 파싱 ("RRULE:" 접두사 허용)
+     * @throws IllegalArgumentException 지원하지 않거나 잘못된 규칙인 경우
+     */
+    public static RecurrenceRule parse(String rule) {
+        if (!StringUtils.hasText(rule)) {
+            throw new IllegalArgumentException("recurrence rule must not be blank");
+        }
+        String body = rule.trim().toUpperCase(Locale.ROOT);
+        if (body.startsWith("RRULE:")) {
+            body = body.substring("RRULE:".length());
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        Integer count = null;
+        LocalDateTime until = null;
+        Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+
+        for (String part : body.split(";")) {
+            if (part.isEmpty()) continue;
+            int eq = part.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("invalid recurrence rule part: " + part);
+            }
+            String key = part.substring(0, eq);
+            String value = part.substring(eq + 1);
+            switch (key) {
+                case "FREQ" -> frequency = parseFrequency(value);
+                case "INTERVAL" -> interval = parsePositive(key, value);
+                case "COUNT" -> count = parsePositive(key, value);
+                case "UNTIL" -> until = parseUntil(value);
+                case "BYDAY" -> byDay = parseByDay(value);
+                default -> throw new IllegalArgumentException("unsupported recurrence rule part: " + key);
+            }
+        }
+
+        if (frequency == null) {
+            throw new IllegalArgumentException("recurrence rule requires FREQ");
+        }
+        if (count != null && until != null) {
+            throw new IllegalArgumentException("COUNT and UNTIL must not be used together");
+        }
+        if (count != null && count > MAX_COUNT) {
+            throw new IllegalArgumentException("COUNT must be at most " + MAX_COUNT);
+        }
+        if (!byDay.isEmpty() && frequency != Frequency.WEEKLY) {
+            throw new IllegalArgumentException("BYDAY is only supported with FREQ=WEEKLY");
+        }
+        return new RecurrenceRule(frequency, interval, count, until, byDay);
+    }
+
+    /**
+     * 정규화된 RRULE 문자열 (저장용)
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder("FREQ=").append(frequency.name());
+        if (interval != 1) {
+            sb.append(";INTERVAL=").append(interval);
+        }
+        if (count != null) {
+            sb.append(";COUNT=").append(count);
+        }
+        if (until != null) {
+            sb.append(";UNTIL=").append(until.format(UNTIL_DATE_TIME));
+        }
+        if (!byDay.isEmpty()) {
+            sb.append(";BYDAY=").append(byDay.stream()
+                    .map(d -> d.name().substring(0, 2))
+                    .collect(Collectors.joining(",")));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * [from, to) 구간과 겹치는 발생의 시작 시각 목록
+     * @param seriesStart 시리즈 첫 발생 시작 시각 (DTSTART)
+     * @param duration 발생 한 건의 길이
+     */
+    public List<LocalDateTime> occurrences(LocalDateTime seriesStart, Duration duration,
+                                           LocalDateTime from, LocalDateTime to) {
+        List<LocalDateTime> result = new ArrayList<>();
+        LocalDateTime earliestStart = from.minus(duration);
+        iterate(seriesStart, firstPeriodNear(seriesStart, earliestStart), to, candidate -> {
+            if (!candidate.isBefore(from) || candidate.isAfter(earliestStart)) {
+                result.add(candidate);
+            }
+            return true;
+        });
+        return result;
+    }
+
+    /**
+     * candidate 가 이 규칙으로 생성되는 발생 시작 시각인지 여부
+     */
+    public boolean isOccurrence(LocalDateTime seriesStart, LocalDateTime candidate) {
+        return occurrences(seriesStart, Duration.ZERO, candidate, candidate.plusSeconds(1)).contains(candidate);
+    }
+
+    /**
+     * 시리즈 마지막 발생의 종료 시각 (무기한 반복이면 null)
+     * UNTIL 규칙은 실제 마지막 발생 대신 상한값을 돌려준다.
+     */
+    public LocalDateTime seriesEnd(LocalDateTime seriesStart, Duration duration) {
+        if (count == null) {
+            return until != null ? until.plus(duration) : null;
+        }
+        LocalDateTime[] last = {seriesStart};
+        iterate(seriesStart, 0, LocalDateTime.MAX, candidate -> {
+            last[0] = candidate;
+            return true;
+        });
+        return last[0].plus(duration);
+    }
+
+    // 발생을 시간순으로 sink 에 전달 (sink 가 false 를 돌려주면 중단)
+    private void iterate(LocalDateTime seriesStart, long firstPeriod, LocalDateTime to,
+                         Predicate<LocalDateTime> sink) {
+        int emitted = 0;
+        for (long period = firstPeriod; ; period++) {
+            if (!periodStart(seriesStart, period).isBefore(to)) {
+                return;
+            }
+            for (LocalDateTime candidate : candidatesInPeriod(seriesStart, period)) {
+                if (candidate.isBefore(seriesStart)) continue;
+                if (until != null && candidate.isAfter(until)) return;
+                if (count != null && emitted >= count) return;
+                if (!candidate.isBefore(to)) return;
+                emitted++;
+                if (!sink.test(candidate)) return;
+            }
+        }
+    }
+
+    // COUNT 가 없으면 구간 직전 주기로 바로 건너뛴다 (COUNT 는 처음부터 세야 함)
+    private long firstPeriodNear(LocalDateTime seriesStart, LocalDateTime earliestStart) {
+        if (count != null || !earliestStart.isAfter(seriesStart)) {
+            return 0;
+        }
+        LocalDateTime base = periodStart(seriesStart, 0);
+        long units = switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS.between(base, earliestStart);
+            case WEEKLY -> ChronoUnit.WEEKS.between(base, earliestStart);
+            case MONTHLY -> ChronoUnit.MONTHS.between(base, earliestStart);
+        };
+        return Math.max(0, units / interval - 1);
+    }
+
+    private LocalDateTime periodStart(LocalDateTime seriesStart, long period) {
+        long step = period * interval;
+        return switch (frequency) {
+            case DAILY -> seriesStart.plusDays(step);
+            case WEEKLY -> byDay.isEmpty()
+                    ? seriesStart.plusWeeks(step)
+                    : seriesStart.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).plusWeeks(step);
+            case MONTHLY -> seriesStart.plusMonths(step);
+        };
+    }
+
+    private List<LocalDateTime> candidatesInPeriod(LocalDateTime seriesStart, long period) {
+        LocalDateTime start = periodStart(seriesStart, period);
+        return switch (frequency) {
+            case DAILY -> List.of(start);
+            // 31일처럼 없는 날짜는 건너뜀 (RFC 5545 동작)
+            case MONTHLY -> start.getDayOfMonth() == seriesStart.getDayOfMonth() ? List.of(start) : List.of();
+            case WEEKLY -> {
+                if (byDay.isEmpty()) {
+                    yield List.of(start);
+                }
+                List<LocalDateTime> days = new ArrayList<>(byDay.size());
+                for (DayOfWeek day : byDay) {
+                    days.add(start.with(TemporalAdjusters.nextOrSame(day)));
+                }
+                yield days;
+            }
+        };
+    }
+
+    private static Frequency parseFrequency(String value) {
+        try {
+            return Frequency.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unsupported FREQ: " + value);
+        }
+    }
+
+    private static int parsePositive(String key, String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed < 1) {
+                throw new IllegalArgumentException(key + " must be positive");
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid " + key + ": " + value);
+        }
+    }
+
+    private static LocalDateTime parseUntil(String value) {
+        String v = value.endsWith("Z") ? value.substring(0, value.length() - 1) : value;
+        try {
+            if (v.length() == 8) {
+                // 날짜만 주어지면 해당 일의 끝까지 포함
+                return LocalDate.parse(v, DateTimeFormatter.BASIC_ISO_DATE).atTime(LocalTime.of(23, 59, 59));
+            }
+            return LocalDateTime.parse(v, UNTIL_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid UNTIL: " + value);
+        }
+    }
+
+    private static Set<DayOfWeek> parseByDay(String value) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (String code : value.split(",")) {
+            DayOfWeek day = DAY_CODES.get(code.trim());
+            if (day == null) {
+                throw new IllegalArgumentException("unsupported BYDAY: " + code);
+            }
+            days.add(day);
+        }
+        return days;
+    }
+}
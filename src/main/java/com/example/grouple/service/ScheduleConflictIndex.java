@@ -0,0 +1,285 @@
+package com.example.grouple.service;
+
+import com.example.grouple.entity.Schedule;
+import com.example.grouple.entity.ScheduleOverride;
+import com.example.grouple.repository.ScheduleOverrideRepository;
+import com.example.grouple.repository.ScheduleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조직별 일정 구간 인덱스 (인메모리)
+ * - 조직 단위로 처음 조회될 때 DB 에서 적재
+ * - 일정 생성/수정/삭제는 커밋 후 인덱스에 반영
+ * - 일정 예외(override)가 바뀌면 해당 조직 인덱스를 다시 적재
+ * - 일정 시간 조회가 없는 조직은 메모리에서 제거
+ * 노드별 인덱스이므로 다중 인스턴스 환경에서는 다른 노드의 변경이 idle-ttl 이내로 늦게 반영될 수 있다.
+ */
+@Component
+public class ScheduleConflictIndex {
+
+    public record Occurrence(Integer scheduleId, String title, LocalDateTime startTime, LocalDateTime endTime) {
+    }
+
+    // rule 이 null 이면 단일 구간, 아니면 시리즈 전체 범위 [startTime, seriesEnd)
+    private record Entry(Integer scheduleId, String title, LocalDateTime startTime, LocalDateTime endTime,
+                         RecurrenceRule rule, LocalDateTime seriesEnd, Set<LocalDateTime> excluded) {
+    }
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleOverrideRepository scheduleOverrideRepository;
+    private final Duration idleTtl;
+    private final ConcurrentHashMap<Integer, OrgIndex> indexes = new ConcurrentHashMap<>();
+
+    public ScheduleConflictIndex(ScheduleRepository scheduleRepository,
+                                 ScheduleOverrideRepository scheduleOverrideRepository,
+                                 @Value("${app.schedule.conflict-index.idle-ttl:PT10M}") Duration idleTtl) {
+        this.scheduleRepository = scheduleRepository;
+        this.scheduleOverrideRepository = scheduleOverrideRepository;
+        this.idleTtl = idleTtl;
+    }
+
+    /**
+     * [from, to) 와 겹치는 발생 목록 (반복 일정은 구간 안에서만 전개)
+     */
+    public List<Occurrence> overlapping(Integer orgId, LocalDateTime from, LocalDateTime to) {
+        return indexes.computeIfAbsent(orgId, OrgIndex::new).overlapping(from, to);
+    }
+
+    /**
+     * 일정 추가/변경 반영 (트랜잭션 커밋 후)
+     * @param overridesCleared 변경 과정에서 해당 일정의 예외가 모두 삭제되었는지 여부
+     */
+    public void put(Integer orgId, Schedule schedule, boolean overridesCleared) {
+        Entry entry = toEntry(schedule, new HashSet<>());
+        afterCommit(orgId, () -> {
+            OrgIndex index = indexes.get(orgId);
+            if (index != null) {
+                index.put(entry, overridesCleared);
+            }
+        });
+    }
+
+    public void remove(Integer orgId, Integer scheduleId) {
+        afterCommit(orgId, () -> {
+            OrgIndex index = indexes.get(orgId);
+            if (index != null) {
+                index.remove(scheduleId);
+            }
+        });
+    }
+
+    // 다음 조회 시 DB 에서 다시 적재
+    public void invalidate(Integer orgId) {
+        afterCommit(orgId, () -> invalidateNow(orgId));
+    }
+
+    @Scheduled(fixedDelayString = "${app.schedule.conflict-index.sweep-interval:PT1M}")
+    public void evictIdle() {
+        evictIdleBefore(System.currentTimeMillis() - idleTtl.toMillis());
+    }
+
+    int evictIdleBefore(long cutoffMillis) {
+        int before = indexes.size();
+        indexes.values().removeIf(index -> index.lastAccess < cutoffMillis);
+        return before - indexes.size();
+    }
+
+    int loadedOrgCount() {
+        return indexes.size();
+    }
+
+    private void invalidateNow(Integer orgId) {
+        OrgIndex index = indexes.get(orgId);
+        if (index != null) {
+            index.invalidate();
+        }
+    }
+
+    // 커밋되면 action 실행, 롤백되면 트랜잭션 중 적재된 내용을 믿을 수 없으므로 무효화
+    private void afterCommit(Integer orgId, Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    action.run();
+                } else {
+                    invalidateNow(orgId);
+                }
+            }
+        });
+    }
+
+    private static Entry toEntry(Schedule s, Set<LocalDateTime> excluded) {
+        RecurrenceRule rule = s.getRecurrenceRule() != null ? RecurrenceRule.parse(s.getRecurrenceRule()) : null;
+        return new Entry(s.getId(), s.getTitle(), s.getStartTime(), s.getEndTime(),
+                rule, s.getSeriesEndTime(), excluded);
+    }
+
+    private static long epoch(LocalDateTime t) {
+        return t.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    // DB 에서 읽은 조직 전체 일정 (적재 중에는 이 스레드만 사용)
+    private record Loaded(IntervalTree<Entry> tree, Map<Integer, List<Integer>> overrideKeys,
+                          Map<Integer, Entry> series) {
+    }
+
+    private final class OrgIndex {
+        private final Integer orgId;
+        // 일정은 scheduleId, 시간이 바뀐 예외 발생은 -overrideId 를 키로 사용
+        private IntervalTree<Entry> tree = new IntervalTree<>();
+        private Map<Integer, List<Integer>> overrideKeys = new HashMap<>();
+        private Map<Integer, Entry> series = new HashMap<>();
+        private boolean loaded;
+        // 변경 반영/무효화마다 증가 (적재 전이라도) - 적재 중 들어온 변경을 알아차리기 위함
+        private long generation;
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        OrgIndex(Integer orgId) {
+            this.orgId = orgId;
+        }
+
+        List<Occurrence> overlapping(LocalDateTime from, LocalDateTime to) {
+            lastAccess = System.currentTimeMillis();
+            long loadGeneration;
+            synchronized (this) {
+                if (loaded) {
+                    return collect(tree, from, to);
+                }
+                loadGeneration = generation;
+            }
+            // DB 조회는 잠금 밖에서 하고, 그동안 변경/무효화가 있었으면 이번 결과만 쓰고 캐시하지 않음
+            // (적재 전에 읽은 세대와 비교하므로 변경 전 내용이 인덱스에 남지 않는다)
+            Loaded fresh = load();
+            synchronized (this) {
+                if (!loaded && generation == loadGeneration) {
+                    tree = fresh.tree();
+                    overrideKeys = fresh.overrideKeys();
+                    series = fresh.series();
+                    loaded = true;
+                }
+                if (loaded) {
+                    return collect(tree, from, to);
+                }
+            }
+            return collect(fresh.tree(), from, to);
+        }
+
+        synchronized void put(Entry entry, boolean overridesCleared) {
+            generation++;
+            if (!loaded) {
+                return; // 아직 적재 전이면 적재 시 DB 에서 읽음
+            }
+            Entry existing = series.get(entry.scheduleId());
+            if (existing != null && !existing.excluded().isEmpty() && !overridesCleared) {
+                // 예외 발생의 제목 등이 시리즈 값을 따르므로 다시 적재
+                invalidate();
+                return;
+            }
+            if (overridesCleared) {
+                for (Integer key : overrideKeys.getOrDefault(entry.scheduleId(), List.of())) {
+                    tree.remove(key);
+                }
+                overrideKeys.remove(entry.scheduleId());
+            }
+            insert(tree, series, entry);
+        }
+
+        synchronized void remove(Integer scheduleId) {
+            generation++;
+            if (!loaded) {
+                return;
+            }
+            tree.remove(scheduleId);
+            series.remove(scheduleId);
+            for (Integer key : overrideKeys.getOrDefault(scheduleId, List.of())) {
+                tree.remove(key);
+            }
+            overrideKeys.remove(scheduleId);
+        }
+
+        synchronized void invalidate() {
+            generation++;
+            loaded = false;
+            tree = new IntervalTree<>();
+            overrideKeys = new HashMap<>();
+            series = new HashMap<>();
+        }
+
+        private Loaded load() {
+            IntervalTree<Entry> tree = new IntervalTree<>();
+            Map<Integer, List<Integer>> overrideKeys = new HashMap<>();
+            Map<Integer, Entry> series = new HashMap<>();
+            Map<Integer, List<ScheduleOverride>> overrides = new HashMap<>();
+            for (ScheduleOverride o : scheduleOverrideRepository.findAllBySchedule_Organization_Id(orgId)) {
+                overrides.computeIfAbsent(o.getSchedule().getId(), k -> new ArrayList<>()).add(o);
+            }
+            for (Schedule s : scheduleRepository.findAllByOrganization_Id(orgId)) {
+                Set<LocalDateTime> excluded = new HashSet<>();
+                Duration duration = Duration.between(s.getStartTime(), s.getEndTime());
+                for (ScheduleOverride o : overrides.getOrDefault(s.getId(), List.of())) {
+                    excluded.add(o.getOriginalStartTime());
+                    if (o.isCancelled()) continue;
+                    LocalDateTime start = o.getStartTime() != null ? o.getStartTime() : o.getOriginalStartTime();
+                    LocalDateTime end = o.getEndTime() != null ? o.getEndTime() : start.plus(duration);
+                    String title = o.getTitle() != null ? o.getTitle() : s.getTitle();
+                    int key = -o.getId();
+                    tree.put(key, epoch(start), epoch(end),
+                            new Entry(s.getId(), title, start, end, null, null, Set.of()));
+                    overrideKeys.computeIfAbsent(s.getId(), k -> new ArrayList<>()).add(key);
+                }
+                insert(tree, series, toEntry(s, excluded));
+            }
+            return new Loaded(tree, overrideKeys, series);
+        }
+
+        private static List<Occurrence> collect(IntervalTree<Entry> tree, LocalDateTime from, LocalDateTime to) {
+            List<Occurrence> result = new ArrayList<>();
+            for (Entry e : tree.overlapping(epoch(from), epoch(to))) {
+                if (e.rule() == null) {
+                    if (!e.excluded().contains(e.startTime())) {
+                        result.add(new Occurrence(e.scheduleId(), e.title(), e.startTime(), e.endTime()));
+                    }
+                    continue;
+                }
+                Duration duration = Duration.between(e.startTime(), e.endTime());
+                for (LocalDateTime start : e.rule().occurrences(e.startTime(), duration, from, to)) {
+                    if (!e.excluded().contains(start)) {
+                        result.add(new Occurrence(e.scheduleId(), e.title(), start, start.plus(duration)));
+                    }
+                }
+            }
+            return result;
+        }
+
+        private static void insert(IntervalTree<Entry> tree, Map<Integer, Entry> series, Entry entry) {
+            long end;
+            if (entry.rule() == null) {
+                end = epoch(entry.endTime());
+            } else {
+                end = entry.seriesEnd() != null ? epoch(entry.seriesEnd()) : Long.MAX_VALUE;
+            }
+            tree.put(entry.scheduleId(), epoch(entry.startTime()), end, entry);
+            series.put(entry.scheduleId(), entry);
+        }
+    }
+}
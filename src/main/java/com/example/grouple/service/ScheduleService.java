@@ -1,12 +1,21 @@
 package com.example.grouple.service;
 
+import com.example.grouple.api.PageResponse;
+import com.example.grouple.common.ErrorCode;
+import com.example.grouple.common.NotFoundException;
 import com.example.grouple.dto.schedule.request.ScheduleCreateRequest;
 import com.example.grouple.dto.schedule.request.ScheduleModifyRequest;
-import com.example.grouple.dto.schedule.response.ScheduleListResponse;
+import com.example.grouple.dto.schedule.request.ScheduleOverrideRequest;
+import com.example.grouple.dto.schedule.response.ScheduleBusyResponse;
+import com.example.grouple.dto.schedule.response.ScheduleConflictResponse;
+import com.example.grouple.dto.schedule.response.ScheduleOccurrenceListResponse;
+import com.example.grouple.dto.schedule.response.ScheduleOccurrenceResponse;
 import com.example.grouple.dto.schedule.response.ScheduleResponse;
 import com.example.grouple.entity.Organization;
 import com.example.grouple.entity.Schedule;
+import com.example.grouple.entity.ScheduleOverride;
 import com.example.grouple.entity.User;
+import com.example.grouple.repository.ScheduleOverrideRepository;
 import com.example.grouple.repository.ScheduleRepository;
 import com.example.grouple.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -16,25 +25,44 @@ import org.springframework.data.domain.Sort;
 import org.springframework.security.core.parameters.P;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
-import java.util.NoSuchElementException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ScheduleService {
 
+    // 발생 전개 조회 구간 최대 길이
+    static final Duration MAX_OCCURRENCE_WINDOW = Duration.ofDays(366);
+
     private final ScheduleRepository scheduleRepository;
+    private final ScheduleOverrideRepository scheduleOverrideRepository;
     private final UserRepository userRepository;
+    private final ScheduleConflictIndex conflictIndex;
+    private final OrgContentVersions orgContentVersions;
+    private final OrgEventBroadcaster orgEventBroadcaster;
 
     /**
      * 일정 생성
      * - userId : 요청 보낸 사용자 ID (조직 서비스랑 패턴 맞춤)
      * - orgId  : 일정이 속한 조직 ID
+     * - checkConflicts : true 이면 겹치는 기존 일정을 응답에 포함
      */
     public ScheduleResponse createSchedule(@P("userId") Integer userId,
                                            Integer orgId,
-                                           ScheduleCreateRequest request) {
+                                           ScheduleCreateRequest request,
+                                           boolean checkConflicts) {
 
         // 1) 유효성 검사
         if (request.getEndTime().isBefore(request.getStartTime())) {
@@ -43,7 +71,8 @@ public class ScheduleService {
 
         // 2) 사용자 조회 (조직 서비스랑 똑같이 userRepo에서 findById)
         User user = userRepository.findById(userId)
-                .orElseThrow(NoSuchElementException::new);
+                .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
+        orgContentVersions.bump(orgId);
 
         // 3) 엔티티 생성
         Schedule schedule = new Schedule();
@@ -51,6 +80,7 @@ public class ScheduleService {
         schedule.setDescription(request.getDescription());
         schedule.setStartTime(request.getStartTime());
         schedule.setEndTime(request.getEndTime());
+        applyRecurrence(schedule, request.getRecurrenceRule());
         schedule.setUser(user);
 
         // 조직은 id만 세팅해서 연관 관계만 맺어줌
@@ -60,74 +90,362 @@ public class ScheduleService {
 
         // 4) 저장
         Schedule saved = scheduleRepository.save(schedule);
+        conflictIndex.put(orgId, saved, false);
+        orgEventBroadcaster.publishAfterCommit(orgId, OrgEventType.SCHEDULE_CREATED, saved.getId(), toResponse(saved));
 
         // 5) 응답 DTO 변환
-        return toResponse(saved);
+        return toResponse(saved, checkConflicts ? findConflicts(orgId, saved) : null);
     }
 
     // 일정 목록 조회
     @Transactional(readOnly = true)
-    public ScheduleListResponse getSchedules(Integer orgId, int page, int size) {
+    public PageResponse<ScheduleResponse> getSchedules(Integer orgId, int page, int size) {
         Page<Schedule> result = scheduleRepository.findByOrganization_Id(
                 orgId,
                 PageRequest.of(page, size, Sort.by("startTime").descending())
         );
 
-        return ScheduleListResponse.builder()
-                .items(result.map(this::toResponse).getContent())
-                .page(result.getNumber())
-                .size(result.getSize())
-                .totalElements(result.getTotalElements())
-                .totalPages(result.getTotalPages())
-                .build();
+        return PageResponse.of(result.map(this::toResponse));
     }
 
     // 일정 단건 조회
     @Transactional(readOnly = true)
     public ScheduleResponse getSchedule(Integer orgId, Integer scheduleId) {
         Schedule schedule = scheduleRepository.findByIdAndOrganization_Id(scheduleId, orgId)
-                .orElseThrow(() -> new IllegalArgumentException("schedule not found"));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.SCHEDULE_NOT_FOUND));
         return toResponse(schedule);
     }
 
     // 일정 수정
-    public ScheduleResponse modifySchedule(Integer orgId, Integer scheduleId, ScheduleModifyRequest request) {
+    public ScheduleResponse modifySchedule(Integer orgId, Integer scheduleId, ScheduleModifyRequest request,
+                                           boolean checkConflicts) {
         Schedule schedule = scheduleRepository.findByIdAndOrganization_Id(scheduleId, orgId)
-                .orElseThrow(() -> new IllegalArgumentException("schedule not found"));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.SCHEDULE_NOT_FOUND));
 
         if (request.getEndTime().isBefore(request.getStartTime())) {
             throw new IllegalArgumentException("end_time must be after start_time");
         }
 
+        orgContentVersions.bump(orgId);
+
+        // 반복 규칙을 보내지 않으면 기존 규칙 유지 (빈 문자열이면 반복 해제)
+        String rule = request.getRecurrenceRule() != null ? request.getRecurrenceRule() : schedule.getRecurrenceRule();
+
+        // 시리즈의 발생 시각이 바뀌면 기존 예외는 더 이상 유효하지 않음
+        boolean seriesShifted = !Objects.equals(schedule.getStartTime(), request.getStartTime())
+                || !Objects.equals(schedule.getRecurrenceRule(), normalizeRule(rule));
+
         schedule.setTitle(request.getTitle());
         schedule.setDescription(request.getDescription());
         schedule.setStartTime(request.getStartTime());
         schedule.setEndTime(request.getEndTime());
+        applyRecurrence(schedule, rule);
 
-        return toResponse(schedule);
+        if (seriesShifted) {
+            scheduleOverrideRepository.deleteAllByScheduleId(schedule.getId());
+        }
+        conflictIndex.put(orgId, schedule, seriesShifted);
+        orgEventBroadcaster.publishAfterCommit(orgId, OrgEventType.SCHEDULE_UPDATED, scheduleId, toResponse(schedule));
+
+        return toResponse(schedule, checkConflicts ? findConflicts(orgId, schedule) : null);
     }
 
     // 일정 삭제
     public void deleteSchedule(Integer orgId, Integer scheduleId) {
         Schedule schedule = scheduleRepository.findByIdAndOrganization_Id(scheduleId, orgId)
-                .orElseThrow(() -> new IllegalArgumentException("schedule not found"));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.SCHEDULE_NOT_FOUND));
+        orgContentVersions.bump(orgId);
+        scheduleOverrideRepository.deleteAllByScheduleId(schedule.getId());
         scheduleRepository.delete(schedule);
+        conflictIndex.remove(orgId, scheduleId);
+        orgEventBroadcaster.publishAfterCommit(orgId, OrgEventType.SCHEDULE_DELETED, scheduleId, null);
+    }
+
+    /**
+     * 구간 [from, to) 의 일정 발생 목록
+     * - 반복 일정은 저장된 규칙을 구간 안에서만 전개
+     * - 취소/변경 예외를 반영
+     */
+    @Transactional(readOnly = true)
+    public ScheduleOccurrenceListResponse getOccurrences(Integer orgId, LocalDateTime from, LocalDateTime to) {
+        validateWindow(from, to);
+
+        List<Schedule> series = scheduleRepository.findSeriesInRange(orgId, from, to);
+        Map<Integer, Map<LocalDateTime, ScheduleOverride>> overrides = loadOverrides(series, from, to);
+
+        List<ScheduleOccurrenceResponse> items = new ArrayList<>();
+        for (Schedule s : series) {
+            if (s.getRecurrenceRule() == null) {
+                if (overlaps(s.getStartTime(), s.getEndTime(), from, to)) {
+                    items.add(toOccurrence(s, s.getStartTime(), null));
+                }
+                continue;
+            }
+
+            Duration duration = Duration.between(s.getStartTime(), s.getEndTime());
+            Map<LocalDateTime, ScheduleOverride> unused = new HashMap<>(overrides.getOrDefault(s.getId(), Map.of()));
+            for (LocalDateTime start : RecurrenceRule.parse(s.getRecurrenceRule())
+                    .occurrences(s.getStartTime(), duration, from, to)) {
+                addOccurrence(items, s, start, unused.remove(start), from, to);
+            }
+            // 구간 밖의 발생이 구간 안으로 옮겨진 경우
+            for (ScheduleOverride o : unused.values()) {
+                addOccurrence(items, s, o.getOriginalStartTime(), o, from, to);
+            }
+        }
+
+        items.sort(Comparator.comparing(ScheduleOccurrenceResponse::getStartTime));
+        return ScheduleOccurrenceListResponse.builder()
+                .from(from)
+                .to(to)
+                .items(items)
+                .build();
+    }
+
+    /**
+     * 반복 일정의 특정 발생을 변경하거나 취소
+     * @return 변경된 발생 (취소한 경우 null)
+     */
+    public ScheduleOccurrenceResponse overrideOccurrence(Integer orgId, Integer scheduleId, ScheduleOverrideRequest request) {
+        Schedule schedule = scheduleRepository.findByIdAndOrganization_Id(scheduleId, orgId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.SCHEDULE_NOT_FOUND));
+        LocalDateTime original = request.getOriginalStartTime();
+        requireOccurrence(schedule, original);
+
+        if (request.getStartTime() != null && request.getEndTime() != null
+                && request.getEndTime().isBefore(request.getStartTime())) {
+            throw new IllegalArgumentException("end_time must be after start_time");
+        }
+        orgContentVersions.bump(orgId);
+
+        ScheduleOverride override = scheduleOverrideRepository
+                .findBySchedule_IdAndOriginalStartTime(scheduleId, original)
+                .orElseGet(() -> {
+                    ScheduleOverride o = new ScheduleOverride();
+                    o.setSchedule(schedule);
+                    o.setOriginalStartTime(original);
+                    return o;
+                });
+        override.setCancelled(request.isCancelled());
+        override.setTitle(request.getTitle());
+        override.setDescription(request.getDescription());
+        override.setStartTime(request.getStartTime());
+        override.setEndTime(request.getEndTime());
+        scheduleOverrideRepository.save(override);
+        conflictIndex.invalidate(orgId);
+        // 발생 단위 변경은 시리즈 변경으로 알림 (클라이언트가 해당 구간 재조회)
+        orgEventBroadcaster.publishAfterCommit(orgId, OrgEventType.SCHEDULE_UPDATED, scheduleId, toResponse(schedule));
+
+        return override.isCancelled() ? null : toOccurrence(schedule, original, override);
+    }
+
+    // 발생 예외 제거 (원래 규칙대로 복원)
+    public void clearOverride(Integer orgId, Integer scheduleId, LocalDateTime originalStartTime) {
+        Schedule schedule = scheduleRepository.findByIdAndOrganization_Id(scheduleId, orgId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.SCHEDULE_NOT_FOUND));
+        orgContentVersions.bump(orgId);
+        scheduleOverrideRepository.findBySchedule_IdAndOriginalStartTime(schedule.getId(), originalStartTime)
+                .ifPresent(scheduleOverrideRepository::delete);
+        conflictIndex.invalidate(orgId);
+        orgEventBroadcaster.publishAfterCommit(orgId, OrgEventType.SCHEDULE_UPDATED, scheduleId, toResponse(schedule));
+    }
+
+    /**
+     * 구간 [from, to) 의 바쁜 시간대 (겹치는 발생은 하나로 합침)
+     * DB 대신 조직별 인메모리 구간 인덱스를 사용
+     */
+    @Transactional(readOnly = true)
+    public ScheduleBusyResponse getBusy(Integer orgId, LocalDateTime from, LocalDateTime to) {
+        validateWindow(from, to);
+
+        List<ScheduleConflictIndex.Occurrence> occurrences = new ArrayList<>(conflictIndex.overlapping(orgId, from, to));
+        occurrences.sort(Comparator.comparing(ScheduleConflictIndex.Occurrence::startTime));
+
+        List<ScheduleBusyResponse.Slot> busy = new ArrayList<>();
+        LocalDateTime slotStart = null;
+        LocalDateTime slotEnd = null;
+        for (ScheduleConflictIndex.Occurrence o : occurrences) {
+            if (slotEnd != null && !o.startTime().isAfter(slotEnd)) {
+                if (o.endTime().isAfter(slotEnd)) slotEnd = o.endTime();
+                continue;
+            }
+            if (slotStart != null) {
+                busy.add(toSlot(slotStart, slotEnd));
+            }
+            slotStart = o.startTime();
+            slotEnd = o.endTime();
+        }
+        if (slotStart != null) {
+            busy.add(toSlot(slotStart, slotEnd));
+        }
+
+        return ScheduleBusyResponse.builder()
+                .from(from)
+                .to(to)
+                .busy(busy)
+                .build();
+    }
+
+    // 일정의 발생(최대 MAX_OCCURRENCE_WINDOW 까지)과 겹치는 다른 일정의 발생
+    private List<ScheduleConflictResponse> findConflicts(Integer orgId, Schedule schedule) {
+        Duration duration = Duration.between(schedule.getStartTime(), schedule.getEndTime());
+        LocalDateTime horizon = schedule.getStartTime().plus(MAX_OCCURRENCE_WINDOW);
+        if (schedule.getSeriesEndTime() != null && schedule.getSeriesEndTime().isBefore(horizon)) {
+            horizon = schedule.getSeriesEndTime();
+        }
+        if (!horizon.isAfter(schedule.getStartTime())) {
+            horizon = schedule.getStartTime().plusSeconds(1);
+        }
+
+        List<LocalDateTime> own = schedule.getRecurrenceRule() == null
+                ? List.of(schedule.getStartTime())
+                : RecurrenceRule.parse(schedule.getRecurrenceRule())
+                        .occurrences(schedule.getStartTime(), duration, schedule.getStartTime(), horizon);
+        if (own.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, ScheduleConflictResponse> conflicts = new LinkedHashMap<>();
+        for (ScheduleConflictIndex.Occurrence o : conflictIndex.overlapping(orgId, own.getFirst(),
+                own.getLast().plus(duration).plusSeconds(1))) {
+            if (o.scheduleId().equals(schedule.getId())) continue;
+            // 자신의 발생 t 가 (o.start - duration, o.end) 안에 있으면 겹침
+            int idx = Collections.binarySearch(own, o.startTime().minus(duration));
+            int first = idx >= 0 ? idx + 1 : -idx - 1;
+            if (first < own.size() && own.get(first).isBefore(o.endTime())) {
+                conflicts.putIfAbsent(o.scheduleId() + "@" + o.startTime(), ScheduleConflictResponse.builder()
+                        .scheduleId(o.scheduleId())
+                        .title(o.title())
+                        .startTime(o.startTime())
+                        .endTime(o.endTime())
+                        .build());
+            }
+        }
+        return new ArrayList<>(conflicts.values());
+    }
+
+    private static ScheduleBusyResponse.Slot toSlot(LocalDateTime start, LocalDateTime end) {
+        return ScheduleBusyResponse.Slot.builder()
+                .startTime(start)
+                .endTime(end)
+                .build();
+    }
+
+    private static void validateWindow(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new IllegalArgumentException("to must be after from");
+        }
+        if (Duration.between(from, to).compareTo(MAX_OCCURRENCE_WINDOW) > 0) {
+            throw new IllegalArgumentException("range must not exceed " + MAX_OCCURRENCE_WINDOW.toDays() + " days");
+        }
+    }
+
+    private void applyRecurrence(Schedule schedule, String rule) {
+        String normalized = normalizeRule(rule);
+        schedule.setRecurrenceRule(normalized);
+        if (normalized == null) {
+            schedule.setSeriesEndTime(schedule.getEndTime());
+            return;
+        }
+        RecurrenceRule parsed = RecurrenceRule.parse(normalized);
+        if (!parsed.isOccurrence(schedule.getStartTime(), schedule.getStartTime())) {
+            throw new IllegalArgumentException("start_time must match recurrence_rule");
+        }
+        Duration duration = Duration.between(schedule.getStartTime(), schedule.getEndTime());
+        schedule.setSeriesEndTime(parsed.seriesEnd(schedule.getStartTime(), duration));
+    }
+
+    private String normalizeRule(String rule) {
+        return StringUtils.hasText(rule) ? RecurrenceRule.parse(rule).format() : null;
+    }
+
+    // 발생 예외는 반복 일정에만 둘 수 있음 (단일 일정은 일정 자체를 수정/삭제)
+    private void requireOccurrence(Schedule schedule, LocalDateTime original) {
+        if (schedule.getRecurrenceRule() == null) {
+            throw new IllegalArgumentException("schedule is not recurring");
+        }
+        if (!RecurrenceRule.parse(schedule.getRecurrenceRule()).isOccurrence(schedule.getStartTime(), original)) {
+            throw new IllegalArgumentException("original_start_time is not an occurrence of this schedule");
+        }
+    }
+
+    private Map<Integer, Map<LocalDateTime, ScheduleOverride>> loadOverrides(List<Schedule> series,
+                                                                            LocalDateTime from,
+                                                                            LocalDateTime to) {
+        List<Integer> recurringIds = new ArrayList<>();
+        Duration longest = Duration.ZERO;
+        for (Schedule s : series) {
+            if (s.getRecurrenceRule() == null) continue;
+            recurringIds.add(s.getId());
+            Duration d = Duration.between(s.getStartTime(), s.getEndTime());
+            if (d.compareTo(longest) > 0) longest = d;
+        }
+        if (recurringIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Integer, Map<LocalDateTime, ScheduleOverride>> result = new HashMap<>();
+        for (ScheduleOverride o : scheduleOverrideRepository.findInRange(recurringIds, from.minus(longest), from, to)) {
+            result.computeIfAbsent(o.getSchedule().getId(), k -> new HashMap<>())
+                    .put(o.getOriginalStartTime(), o);
+        }
+        return result;
+    }
+
+    private void addOccurrence(List<ScheduleOccurrenceResponse> items, Schedule s, LocalDateTime originalStart,
+                               ScheduleOverride override, LocalDateTime from, LocalDateTime to) {
+        if (override != null && override.isCancelled()) {
+            return;
+        }
+        ScheduleOccurrenceResponse occurrence = toOccurrence(s, originalStart, override);
+        if (overlaps(occurrence.getStartTime(), occurrence.getEndTime(), from, to)) {
+            items.add(occurrence);
+        }
+    }
+
+    private static boolean overlaps(LocalDateTime start, LocalDateTime end, LocalDateTime from, LocalDateTime to) {
+        return start.isBefore(to) && (end.isAfter(from) || !start.isBefore(from));
+    }
+
+    private ScheduleOccurrenceResponse toOccurrence(Schedule s, LocalDateTime originalStart, ScheduleOverride o) {
+        Duration duration = Duration.between(s.getStartTime(), s.getEndTime());
+        LocalDateTime start = o != null && o.getStartTime() != null ? o.getStartTime() : originalStart;
+        LocalDateTime end = o != null && o.getEndTime() != null ? o.getEndTime() : start.plus(duration);
+        return ScheduleOccurrenceResponse.builder()
+                .scheduleId(s.getId())
+                .title(o != null && o.getTitle() != null ? o.getTitle() : s.getTitle())
+                .description(o != null && o.getDescription() != null ? o.getDescription() : s.getDescription())
+                .startTime(start)
+                .endTime(end)
+                .originalStartTime(originalStart)
+                .recurring(s.getRecurrenceRule() != null)
+                .overridden(o != null)
+                .author(toAuthor(s))
+                .build();
     }
 
     // 엔티티 → DTO 변환
     private ScheduleResponse toResponse(Schedule s) {
+        return toResponse(s, null);
+    }
+
+    private ScheduleResponse toResponse(Schedule s, List<ScheduleConflictResponse> conflicts) {
         return ScheduleResponse.builder()
                 .id(s.getId())
                 .title(s.getTitle())
                 .description(s.getDescription())
                 .startTime(s.getStartTime())
                 .endTime(s.getEndTime())
-                .author(
-                        ScheduleResponse.Author.builder()
-                                .id(s.getUser().getId())
-                                .username(s.getUser().getUsername())
-                                .build()
-                )
+                .recurrenceRule(s.getRecurrenceRule())
+                .author(toAuthor(s))
+                .conflicts(conflicts)
+                .build();
+    }
+
+    private ScheduleResponse.Author toAuthor(Schedule s) {
+        return ScheduleResponse.Author.builder()
+                .id(s.getUser().getId())
+                .username(s.getUser().getUsername())
                 .build();
     }
 }
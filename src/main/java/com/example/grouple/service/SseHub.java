@@ -0,0 +1,398 @@
+package com.example.grouple.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 키(조직 ID, 사용자 ID)별 SSE 채널 모음 (노드 내 인메모리)
+ * - 채널마다 최근 이벤트 링 버퍼를 두고 Last-Event-ID 이후 이벤트를 재전송
+ *   (버퍼 밖이거나 채널/노드가 새로 만들어진 경우 sync 이벤트로 전체 재조회를 요청)
+ * - 구독자마다 제한된 큐를 두고 가상 스레드가 비우며, 큐가 넘치는 느린 구독자는 연결을 닫는다
+ *   (클라이언트는 Last-Event-ID 로 다시 연결해 이어받음)
+ * - 조직 채널은 이 노드에서 커밋된 내용 버전을 기록해 두고, heartbeat 때 DB 버전이 그보다 앞서 있으면
+ *   (다른 노드의 변경) sync 이벤트를 보낸다
+ * SseEmitter 는 비동기 요청이라 대기 중인 연결은 서블릿 스레드를 점유하지 않는다.
+ */
+@Slf4j
+final class SseHub {
+
+    static final String SYNC_EVENT = "sync";
+
+    // SSE 한 건 (seq 가 0 이면 재전송 대상이 아닌 heartbeat / sync)
+    record Message(long seq, String id, String name, String data) {
+        boolean isComment() {
+            return name == null && data == null;
+        }
+    }
+
+    // 구독자 한 명에게 보내는 통로 (SseEmitter, 테스트에서는 수집기)
+    interface Sink {
+        void send(Message message) throws IOException;
+
+        void close();
+    }
+
+    static final Message HEARTBEAT = new Message(0, null, null, null);
+    static final Message SYNC = new Message(0, null, SYNC_EVENT, "{\"type\":\"sync\"}");
+
+    private final String name;
+    private final Duration timeout;
+    private final Duration reconnectDelay;
+    private final int replaySize;
+    private final int queueCapacity;
+    private final Duration idleTtl;
+    // 노드 재시작/채널 재생성 후 이전 ID 로 이어받지 않도록 ID 에 포함
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong generations = new AtomicLong();
+    private final ConcurrentHashMap<Integer, Channel> channels = new ConcurrentHashMap<>();
+    // 구독자당 전송 작업은 최대 하나이므로 느린 연결이 막혀도 다른 구독자 전송에 영향 없음
+    private final ExecutorService sender;
+
+    SseHub(String name, Duration timeout, Duration reconnectDelay, int replaySize, int queueCapacity,
+           Duration idleTtl) {
+        this.name = name;
+        this.timeout = timeout;
+        this.reconnectDelay = reconnectDelay;
+        this.replaySize = replaySize;
+        this.queueCapacity = queueCapacity;
+        this.idleTtl = idleTtl;
+        this.sender = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-sse-", 0).factory());
+    }
+
+    /**
+     * 구독 시작
+     * @param owner 구독한 사용자 ID (disconnect 대상 구분용)
+     * @param lastEventId 재연결 시 클라이언트가 보낸 Last-Event-ID (없으면 null)
+     */
+    SseEmitter subscribe(Integer key, Integer owner, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        try {
+            // 응답 헤더를 바로 내보내고 재연결 간격을 알려줌 (핸들러 반환 전 전송은 SseEmitter 가 보관)
+            emitter.send(SseEmitter.event().reconnectTime(reconnectDelay.toMillis()).comment("connected"));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        Subscriber subscriber = subscribe(key, owner, lastEventId, new EmitterSink(emitter));
+        emitter.onCompletion(() -> subscriber.close(false));
+        emitter.onTimeout(() -> subscriber.close(true));
+        emitter.onError(e -> subscriber.close(false));
+        return emitter;
+    }
+
+    Subscriber subscribe(Integer key, Integer owner, String lastEventId, Sink sink) {
+        Subscriber[] created = new Subscriber[1];
+        // 유휴 채널 제거와 겹쳐 제거된 채널에 등록되지 않도록 맵 잠금 안에서 등록
+        channels.compute(key, (k, channel) -> {
+            Channel target = channel != null ? channel : new Channel(k);
+            created[0] = new Subscriber(target, owner, sink);
+            target.add(created[0], lastEventId);
+            return target;
+        });
+        return created[0];
+    }
+
+    // 구독자가 있었던 키인지 (없으면 발행 측에서 직렬화를 건너뜀)
+    boolean hasChannel(Integer key) {
+        return channels.containsKey(key);
+    }
+
+    void publish(Integer key, String eventName, String data) {
+        Channel channel = channels.get(key);
+        if (channel != null) {
+            channel.publish(eventName, data);
+        }
+    }
+
+    // 이 노드에서 커밋된 내용 버전 (커밋 후 호출)
+    void versionCommitted(Integer key, long version) {
+        Channel channel = channels.get(key);
+        if (channel != null) {
+            channel.seen(version);
+        }
+    }
+
+    /**
+     * 유휴 채널 정리 후 구독자에게 heartbeat 주석 전송
+     * @param versionsOf 구독자가 있는 키들의 내용 버전을 한 번에 조회 (null 이면 확인하지 않음).
+     *                   이 노드가 보지 못한 버전이 있으면 다른 노드에서 바뀐 것으로 보고 sync 이벤트를 보낸다.
+     */
+    void heartbeat(Function<Collection<Integer>, Map<Integer, Long>> versionsOf) {
+        long cutoff = System.currentTimeMillis() - idleTtl.toMillis();
+        for (Integer key : channels.keySet()) {
+            channels.computeIfPresent(key, (k, channel) -> channel.isIdleSince(cutoff) ? null : channel);
+        }
+        List<Channel> active = channels.values().stream().filter(Channel::hasSubscribers).toList();
+        Map<Integer, Long> versions = versionsOf != null && !active.isEmpty()
+                ? versionsOf.apply(active.stream().map(channel -> channel.key).toList())
+                : Map.of();
+        for (Channel channel : active) {
+            Long version = versions.get(channel.key);
+            if (version != null && channel.changedRemotely(version)) {
+                channel.broadcast(SYNC);
+            }
+            channel.broadcast(HEARTBEAT);
+        }
+    }
+
+    // 키의 채널을 없애고 모든 구독자 연결을 닫음 (조직 삭제)
+    void close(Integer key) {
+        Channel channel = channels.remove(key);
+        if (channel != null) {
+            channel.subscribers.forEach(s -> s.close(true));
+        }
+    }
+
+    // 키의 채널에서 owner 의 구독만 닫음 (구성원 제외)
+    void disconnect(Integer key, Integer owner) {
+        Channel channel = channels.get(key);
+        if (channel != null) {
+            channel.disconnect(owner);
+        }
+    }
+
+    // 모든 채널에서 owner 의 구독을 닫음 (회원 탈퇴)
+    void disconnect(Integer owner) {
+        channels.values().forEach(channel -> channel.disconnect(owner));
+    }
+
+    int subscriberCount(Integer key) {
+        Channel channel = channels.get(key);
+        return channel != null ? channel.subscribers.size() : 0;
+    }
+
+    void shutdown() {
+        channels.values().forEach(channel -> channel.subscribers.forEach(s -> s.close(true)));
+        channels.clear();
+        sender.shutdownNow();
+    }
+
+    private final class Channel {
+        private final Integer key;
+        private final String idPrefix;
+        private final ArrayDeque<Message> replay = new ArrayDeque<>();
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private long seq;
+        // 빠짐없이 확인된 마지막 내용 버전 (-1 이면 아직 모름)과 그보다 뒤에 이 노드에서 커밋된 버전들
+        private long lastVersion = -1;
+        private final TreeSet<Long> seenAhead = new TreeSet<>();
+        private volatile long lastActive = System.currentTimeMillis();
+
+        Channel(Integer key) {
+            this.key = key;
+            this.idPrefix = epoch + "." + generations.incrementAndGet() + "-";
+        }
+
+        // 재전송과 등록을 한 번에 해 그 사이 발행된 이벤트가 빠지거나 중복되지 않게 한다
+        synchronized void add(Subscriber subscriber, String lastEventId) {
+            lastActive = System.currentTimeMillis();
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                List<Message> missed = replayAfter(lastEventId.trim());
+                // 구독자 큐보다 많이 밀렸으면 재전송 대신 다시 조회하게 함 (바로 닫히지 않도록)
+                if (missed == null || missed.size() >= queueCapacity) {
+                    subscriber.offer(SYNC);
+                } else {
+                    missed.forEach(subscriber::offer);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+
+        synchronized void publish(String eventName, String data) {
+            long next = ++seq;
+            Message message = new Message(next, idPrefix + next, eventName, data);
+            replay.addLast(message);
+            if (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            lastActive = System.currentTimeMillis();
+            subscribers.forEach(s -> s.offer(message));
+        }
+
+        void broadcast(Message message) {
+            subscribers.forEach(s -> s.offer(message));
+        }
+
+        // 버퍼로 이어받을 수 없으면 null
+        private List<Message> replayAfter(String lastEventId) {
+            if (!lastEventId.startsWith(idPrefix)) {
+                return null;
+            }
+            long last;
+            try {
+                last = Long.parseLong(lastEventId.substring(idPrefix.length()));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (last > seq) {
+                return null;
+            }
+            if (last == seq) {
+                return List.of();
+            }
+            Message oldest = replay.peekFirst();
+            if (oldest == null || oldest.seq() > last + 1) {
+                return null;
+            }
+            List<Message> missed = new ArrayList<>();
+            for (Message message : replay) {
+                if (message.seq() > last) {
+                    missed.add(message);
+                }
+            }
+            return missed;
+        }
+
+        synchronized void seen(long version) {
+            if (lastVersion < 0 || version <= lastVersion) {
+                return;
+            }
+            seenAhead.add(version);
+            // 커밋 순서와 알림 순서가 다를 수 있으므로 연속된 버전까지만 확정
+            while (seenAhead.remove(lastVersion + 1)) {
+                lastVersion++;
+            }
+        }
+
+        // DB 버전까지 이 노드가 보지 못한 버전이 있으면 true (기준 버전을 DB 버전으로 옮김)
+        synchronized boolean changedRemotely(long version) {
+            boolean changed = lastVersion >= 0 && version > lastVersion;
+            if (version > lastVersion) {
+                lastVersion = version;
+            }
+            seenAhead.headSet(lastVersion, true).clear();
+            return changed;
+        }
+
+        void disconnect(Integer owner) {
+            subscribers.stream()
+                    .filter(subscriber -> Objects.equals(subscriber.owner, owner))
+                    .forEach(subscriber -> subscriber.close(true));
+        }
+
+        boolean hasSubscribers() {
+            return !subscribers.isEmpty();
+        }
+
+        boolean isIdleSince(long cutoff) {
+            return subscribers.isEmpty() && lastActive < cutoff;
+        }
+    }
+
+    final class Subscriber {
+        private final Channel channel;
+        private final Integer owner;
+        private final Sink sink;
+        private final ArrayBlockingQueue<Message> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(Channel channel, Integer owner, Sink sink) {
+            this.channel = channel;
+            this.owner = owner;
+            this.sink = sink;
+        }
+
+        void offer(Message message) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(message)) {
+                log.debug("Closing slow {} SSE subscriber for {}", name, channel.key);
+                close(true);
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    close(true);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Message message;
+                while (!closed && (message = queue.poll()) != null) {
+                    sink.send(message);
+                }
+            } catch (IOException | RuntimeException e) {
+                close(true); // 연결 끊김
+            } finally {
+                scheduled.set(false);
+            }
+            if (!closed && !queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        void close(boolean closeSink) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.clear();
+            channel.subscribers.remove(this);
+            channel.lastActive = System.currentTimeMillis();
+            if (closeSink) {
+                sink.close();
+            }
+        }
+    }
+
+    private static final class EmitterSink implements Sink {
+        private final SseEmitter emitter;
+
+        EmitterSink(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void send(Message message) throws IOException {
+            if (message.isComment()) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return;
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event()
+                    .name(message.name())
+                    .data(message.data());
+            if (message.id() != null) {
+                event.id(message.id());
+            }
+            emitter.send(event);
+        }
+
+        @Override
+        public void close() {
+            try {
+                emitter.complete();
+            } catch (RuntimeException ignored) {
+                // 이미 끝난 연결
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.grouple.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 썸네일 디스크 캐시 (전체 크기 제한, LRU 제거)
+ * - root/{px}/ab/{sha256}.jpg 에 저장, 쓰기는 root/tmp 에 쓴 뒤 원자적 이동
+ * - 접근 순서는 메모리에만 두고, 시작 시 파일 수정 시각 순으로 다시 채운다
+ * 제거된 썸네일은 원본에서 다시 만들 수 있으므로 캐시 내용은 언제든 버려도 된다.
+ */
+@Slf4j
+final class ThumbnailCache {
+
+    // 썸네일 쓰기 (원본 디코딩/인코딩)
+    interface Writer {
+        void write(OutputStream out) throws IOException;
+    }
+
+    private static final Pattern ENTRY = Pattern.compile("([0-9]+)/[0-9a-f]{2}/([0-9a-f]{64})\\.jpg");
+
+    private final Path root;
+    private final Path tmp;
+    private final long maxBytes;
+    // key: {px}/{sha256}, value: 파일 크기 (access-order)
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    ThumbnailCache(Path root, long maxBytes) {
+        this.root = root.toAbsolutePath().normalize();
+        this.tmp = this.root.resolve("tmp");
+        this.maxBytes = maxBytes;
+        try {
+            Files.createDirectories(tmp);
+            load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open thumbnail cache at " + this.root, e);
+        }
+    }
+
+    /**
+     * 캐시된 썸네일 경로 (없으면 null), 최근 사용으로 표시
+     */
+    Path get(String sha256, int size) {
+        String key = key(sha256, size);
+        synchronized (this) {
+            if (entries.get(key) == null) {
+                return null;
+            }
+        }
+        Path path = path(sha256, size);
+        if (!Files.isRegularFile(path)) {
+            // 밖에서 지워진 파일
+            remove(key);
+            return null;
+        }
+        return path;
+    }
+
+    /**
+     * 썸네일을 써서 캐시에 넣고 경로 반환 (제한을 넘으면 오래 쓰지 않은 것부터 삭제)
+     */
+    Path put(String sha256, int size, Writer writer) throws IOException {
+        Path temp = tmp.resolve(UUID.randomUUID() + ".jpg");
+        Path target = path(sha256, size);
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                writer.write(out);
+            }
+            long length = Files.size(temp);
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            List<Path> evicted = record(key(sha256, size), length);
+            // 제거 대상 파일 삭제는 잠금 밖에서 (응답 중인 파일은 열린 채널로 끝까지 읽힘)
+            for (Path path : evicted) {
+                Files.deleteIfExists(path);
+            }
+            return target;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 썸네일 삭제 (원본 이미지가 정리된 경우)
+     */
+    void remove(String sha256, int size) throws IOException {
+        remove(key(sha256, size));
+        Files.deleteIfExists(path(sha256, size));
+    }
+
+    synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized List<Path> record(String key, long length) {
+        Long previous = entries.put(key, length);
+        totalBytes += length - (previous != null ? previous : 0);
+        List<Path> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator();
+        // 방금 넣은 것은 남김 (제한보다 큰 썸네일 하나는 허용)
+        while (totalBytes > maxBytes && entries.size() > 1 && it.hasNext()) {
+            Map.Entry<String, Long> eldest = it.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            totalBytes -= eldest.getValue();
+            evicted.add(path(eldest.getKey()));
+            it.remove();
+        }
+        return evicted;
+    }
+
+    private synchronized void remove(String key) {
+        Long length = entries.remove(key);
+        if (length != null) {
+            totalBytes -= length;
+        }
+    }
+
+    private void load() throws IOException {
+        record Found(String key, long length, long modified) {
+        }
+        List<Found> found = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (file.startsWith(tmp)) {
+                    if (!file.equals(tmp)) {
+                        Files.deleteIfExists(file); // 끝나지 않은 쓰기
+                    }
+                    continue;
+                }
+                var matcher = ENTRY.matcher(root.relativize(file).toString().replace('\\', '/'));
+                if (matcher.matches()) {
+                    BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+                    found.add(new Found(matcher.group(1) + "/" + matcher.group(2), attrs.size(),
+                            attrs.lastModifiedTime().toMillis()));
+                }
+            }
+        }
+        found.sort(Comparator.comparingLong(Found::modified));
+        List<Path> evicted = new ArrayList<>();
+        for (Found entry : found) {
+            evicted.addAll(record(entry.key(), entry.length()));
+        }
+        for (Path path : evicted) {
+            Files.deleteIfExists(path);
+        }
+        log.info("Thumbnail cache loaded: {} files, {} bytes", entries.size(), totalBytes);
+    }
+
+    private Path path(String key) {
+        int slash = key.indexOf('/');
+        return path(key.substring(slash + 1), Integer.parseInt(key.substring(0, slash)));
+    }
+
+    private Path path(String sha256, int size) {
+        return root.resolve(Integer.toString(size)).resolve(sha256.substring(0, 2)).resolve(sha256 + ".jpg");
+    }
+
+    private static String key(String sha256, int size) {
+        return size + "/" + sha256;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.grouple.service;
+
+import com.example.grouple.common.BadRequestException;
+import com.example.grouple.common.ErrorCode;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * ImageIO 기반 이미지 확인/썸네일 생성 (JDK 외 의존성 없음)
+ * - probe 는 헤더만 읽어 형식과 크기를 확인 (픽셀 수 제한으로 압축 폭탄 거절)
+ * - 썸네일은 디코딩 단계에서 서브샘플링해 큰 원본도 메모리를 적게 쓰고, 남은 축소는 bilinear 로 처리
+ * - 결과는 흰 배경의 JPEG (투명 PNG/GIF 포함)
+ */
+final class ThumbnailGenerator {
+
+    record ImageInfo(String contentType, int width, int height) {
+    }
+
+    private static final Set<String> FORMATS = Set.of("jpeg", "png", "gif", "bmp");
+    private static final float JPEG_QUALITY = 0.85f;
+
+    static {
+        ImageIO.setUseCache(false); // 디코딩 중 임시 파일 대신 메모리 사용
+    }
+
+    private ThumbnailGenerator() {
+    }
+
+    /**
+     * @throws BadRequestException 지원하지 않는 형식이거나 픽셀 수가 maxPixels 를 넘으면 (INVALID_IMAGE)
+     */
+    static ImageInfo probe(Path source, long maxPixels) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            ImageReader reader = reader(in);
+            try {
+                reader.setInput(in, true, true);
+                String format = reader.getFormatName().toLowerCase(Locale.ROOT);
+                if (format.equals("jpg")) {
+                    format = "jpeg";
+                }
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (!FORMATS.contains(format) || width <= 0 || height <= 0 || (long) width * height > maxPixels) {
+                    throw new BadRequestException(ErrorCode.INVALID_IMAGE);
+                }
+                return new ImageInfo("image/" + format, width, height);
+            } catch (BadRequestException e) {
+                throw e;
+            } catch (IOException | RuntimeException e) {
+                // 헤더가 깨진 파일
+                throw new BadRequestException(ErrorCode.INVALID_IMAGE);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 size 이하가 되도록 줄인 JPEG 를 out 에 씀 (원본이 더 작으면 확대하지 않음)
+     */
+    static void writeThumbnail(Path source, int size, OutputStream out) throws IOException {
+        BufferedImage decoded;
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            ImageReader reader = reader(in);
+            try {
+                reader.setInput(in, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                // 목표의 2배 이상은 남겨 축소 품질 유지
+                int step = Math.max(1, longest / (size * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                decoded = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        double scale = Math.min(1.0, (double) size / Math.max(decoded.getWidth(), decoded.getHeight()));
+        int width = Math.max(1, (int) Math.round(decoded.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(decoded.getHeight() * scale));
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = thumbnail.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(decoded, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(thumbnail, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static ImageReader reader(ImageInputStream in) {
+        if (in == null) {
+            throw new BadRequestException(ErrorCode.INVALID_IMAGE);
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+        if (!readers.hasNext()) {
+            throw new BadRequestException(ErrorCode.INVALID_IMAGE);
+        }
+        return readers.next();
+    }
+}
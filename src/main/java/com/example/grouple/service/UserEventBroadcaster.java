@@ -0,0 +1,112 @@
+package com.example.grouple.service;
+
+import com.example.grouple.dto.event.response.UserEventResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자별 SSE 브로드캐스터 (가입 요청 생성/승인/거절 알림)
+ * - 사용자 ID 를 키로 노드 내 인메모리 팬아웃 (한 사용자의 여러 탭은 같은 채널을 구독)
+ * - 서비스가 커밋 후 발행하고, 받는 사람 중 구독 중인 사용자가 없으면 직렬화하지 않는다
+ * 다른 노드에 연결된 사용자에게는 전달되지 않으며, 재연결 시 이어받을 수 없으면 sync 이벤트로 다시 조회하게 한다.
+ */
+@Slf4j
+@Component
+public class UserEventBroadcaster {
+
+    private final ObjectMapper objectMapper;
+    private final SseHub hub;
+
+    public UserEventBroadcaster(ObjectMapper objectMapper,
+                                @Value("${app.sse.timeout:PT30M}") Duration timeout,
+                                @Value("${app.sse.reconnect-delay:PT3S}") Duration reconnectDelay,
+                                @Value("${app.sse.user.replay-size:20}") int replaySize,
+                                @Value("${app.sse.user.subscriber-queue:16}") int queueCapacity,
+                                @Value("${app.sse.user.idle-ttl:PT2M}") Duration idleTtl) {
+        this.objectMapper = objectMapper;
+        this.hub = new SseHub("user", timeout, reconnectDelay, replaySize, queueCapacity, idleTtl);
+    }
+
+    /**
+     * 구독 시작
+     * @param lastEventId 재연결 시 클라이언트가 보낸 Last-Event-ID (없으면 null)
+     */
+    public SseEmitter subscribe(Integer userId, String lastEventId) {
+        return hub.subscribe(userId, userId, lastEventId);
+    }
+
+    SseHub.Subscriber subscribe(Integer userId, String lastEventId, SseHub.Sink sink) {
+        return hub.subscribe(userId, userId, lastEventId, sink);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 userIds 에게 이벤트 발행 (롤백되면 버림, 트랜잭션 밖이면 바로 발행)
+     */
+    public void publishAfterCommit(Collection<Integer> userIds, UserEventType type,
+                                   Integer orgId, Integer resourceId, Object data) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(userIds, type, orgId, resourceId, data);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(userIds, type, orgId, resourceId, data);
+            }
+        });
+    }
+
+    void publish(Collection<Integer> userIds, UserEventType type, Integer orgId, Integer resourceId, Object data) {
+        List<Integer> listening = userIds.stream()
+                .filter(id -> id != null && hub.hasChannel(id))
+                .distinct()
+                .toList();
+        if (listening.isEmpty()) {
+            return;
+        }
+        UserEventResponse event = UserEventResponse.builder()
+                .type(type.getEventName())
+                .organizationId(orgId)
+                .resourceId(resourceId)
+                .occurredAt(Instant.now())
+                .data(data)
+                .build();
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize {} event for org {}", type, orgId, e);
+            return;
+        }
+        for (Integer userId : listening) {
+            hub.publish(userId, type.getEventName(), json);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.sse.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        hub.heartbeat(null);
+    }
+
+    int subscriberCount(Integer userId) {
+        return hub.subscriberCount(userId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hub.shutdown();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.grouple.service;
+
+import lombok.Getter;
+
+/**
+ * 사용자 SSE 이벤트 종류 (SSE event 이름, 클라이언트 분기용이므로 이름을 바꾸지 않는다)
+ */
+@Getter
+public enum UserEventType {
+    JOIN_REQUEST_CREATED("joinrequest.created"),
+    JOIN_REQUEST_APPROVED("joinrequest.approved"),
+    JOIN_REQUEST_REJECTED("joinrequest.rejected");
+
+    private final String eventName;
+
+    UserEventType(String eventName) {
+        this.eventName = eventName;
+    }
+}
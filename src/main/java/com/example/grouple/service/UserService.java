@@ -1,5 +1,7 @@
 package com.example.grouple.service;
 
+import com.example.grouple.common.ErrorCode;
+import com.example.grouple.common.NotFoundException;
 import com.example.grouple.dto.user.request.UserDeleteRequest;
 import com.example.grouple.dto.user.request.UserImageModifyForm;
 import com.example.grouple.dto.user.request.UserModifyRequest;
@@ -9,6 +11,7 @@ import com.example.grouple.dto.user.response.UserImageModifyResponse;
 import com.example.grouple.dto.user.response.UserModifyResponse;
 import com.example.grouple.dto.auth.response.RegisterResponse;
 import com.example.grouple.entity.User;
+import com.example.grouple.repository.OrganizationRepository;
 import com.example.grouple.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -27,6 +30,9 @@ public class UserService {
     private final UserRepository repo;
     private final PasswordEncoder encoder;
     private final SecretKey jwtKey;
+    private final OrganizationRepository organizationRepository;
+    private final OrgContentVersions orgContentVersions;
+    private final OrgEventBroadcaster orgEventBroadcaster;
 
     /**
      * 아이디 중복 체크
@@ -38,7 +44,7 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public UserInfoResponse getUserById(Integer id) {
-        User user = repo.findById(id).orElseThrow();
+        User user = repo.findById(id).orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
         return new UserInfoResponse(
                 user.getId(),
                 user.getUsername(),
@@ -77,6 +83,9 @@ public class UserService {
         if (existsByUsername(request.getUsername())) {
             throw new IllegalArgumentException("중복된 아이디 입니다.");
         }
+        if (request.getUsername().startsWith(User.DELETED_USERNAME_PREFIX)) {
+            throw new IllegalArgumentException("사용할 수 없는 아이디 입니다.");
+        }
 
         User user = new User();
         user.setUsername(request.getUsername());
@@ -112,6 +121,7 @@ public class UserService {
             user.setPassword(encoder.encode(req.getPassword()));
         User saved = repo.save(user);
         repo.flush();
+        orgContentVersions.bumpForUser(id);
         return new UserModifyResponse(
                 saved.getId(),
                 saved.getUsername(),
@@ -131,6 +141,7 @@ public class UserService {
         user.setImage(form.getImage());
         User saved = repo.save(user);
         repo.flush();
+        orgContentVersions.bumpForUser(id);
         return new UserImageModifyResponse(
                 saved.getImage(),
                 saved.getUpdatedAt()
@@ -141,8 +152,15 @@ public class UserService {
     public void deleteUser(@P("id") Integer id, UserDeleteRequest request) throws Exception {
         User user = repo.findById(id)
                 .orElseThrow(() -> new Exception("사용자를 찾을 수 없습니다."));
-        repo.delete(user);
-        repo.flush();
+        // 사용자와 소유 조직을 삭제 표시만 하고 즉시 반환, 실제 삭제는 DeletionPurger 가 배치로 처리
+        Instant now = Instant.now();
+        organizationRepository.findIdsByOwnerId(id).forEach(orgEventBroadcaster::closeAfterCommit);
+        organizationRepository.markDeletedByOwnerId(id, now);
+        // 탈퇴한 사용자는 조회에서 빠지므로 중복 체크에도 안 걸림 - 같은 아이디로 재가입할 수 있게 아이디를 비움
+        user.setUsername(User.DELETED_USERNAME_PREFIX + id);
+        user.setDeletedAt(now);
+        orgContentVersions.bumpForUser(id);
+        orgEventBroadcaster.disconnectAfterCommit(id);
     }
 }
 
@@ -0,0 +1,36 @@
+package com.example.grouple.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageResponseTests {
+
+    @Test
+    void of_shouldCopyPagingMetadata() {
+        PageResponse<String> response = PageResponse.of(new PageImpl<>(List.of("b"), PageRequest.of(1, 1), 3));
+
+        assertThat(response.version()).isEqualTo(PageResponse.CURRENT_VERSION);
+        assertThat(response.items()).containsExactly("b");
+        assertThat(response.page()).isEqualTo(1);
+        assertThat(response.size()).isEqualTo(1);
+        assertThat(response.totalElements()).isEqualTo(3);
+        assertThat(response.totalPages()).isEqualTo(3);
+    }
+
+    @Test
+    void json_shouldContainOnlyEnvelopeFields() throws Exception {
+        PageResponse<String> response = PageResponse.of(new PageImpl<>(List.of("a"), PageRequest.of(0, 10), 1));
+
+        JsonNode json = new ObjectMapper().valueToTree(ApiResponse.success(response)).get("data");
+
+        assertThat(json.fieldNames()).toIterable()
+                .containsExactly("version", "items", "page", "size", "totalElements", "totalPages");
+    }
+}
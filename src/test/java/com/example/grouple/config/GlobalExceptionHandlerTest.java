@@ -3,15 +3,21 @@ package com.example.grouple.config;
 import com.example.grouple.api.ApiResponse;
 import com.example.grouple.common.BadRequestException;
 import com.example.grouple.common.ConflictException;
+import com.example.grouple.common.ErrorCode;
 import com.example.grouple.common.ForbiddenException;
 import com.example.grouple.common.NotFoundException;
 import com.example.grouple.common.UnauthorizedException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationDeniedException;
 
 import java.util.NoSuchElementException;
 
@@ -124,4 +130,64 @@ class GlobalExceptionHandlerTest {
         
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
+
+    @Test
+    void shouldSerializeErrorCodeBody() throws Exception {
+        ResponseEntity<ApiResponse<Void>> response =
+            handler.handleNotFound(new NotFoundException(ErrorCode.ORG_NOT_FOUND));
+
+        JsonNode body = new ObjectMapper().valueToTree(response.getBody());
+        assertThat(body.get("status").asText()).isEqualTo("error");
+        assertThat(body.get("error").get("code").asInt()).isEqualTo(404);
+        assertThat(body.get("error").get("message").asText()).isEqualTo(ErrorCode.ORG_NOT_FOUND.getMessage());
+        assertThat(body.get("error").get("errorCode").asText()).isEqualTo("ORG_NOT_FOUND");
+        // 값이 없는 필드는 직렬화하지 않음
+        assertThat(body.has("data")).isFalse();
+        assertThat(body.has("message")).isFalse();
+    }
+
+    @Test
+    void shouldKeepErrorCodeWithCustomMessage() {
+        ResponseEntity<ApiResponse<Void>> response =
+            handler.handleForbidden(new ForbiddenException("본인이 기록한 항목만 수정할 수 있습니다."));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(response.getBody().getError().errorCode()).isEqualTo("FORBIDDEN");
+        assertThat(response.getBody().getError().message()).isEqualTo("본인이 기록한 항목만 수정할 수 있습니다.");
+    }
+
+    @Test
+    void shouldReuseCachedResponseForDefaultMessage() {
+        ResponseEntity<ApiResponse<Void>> first =
+            handler.handleNotFound(new NotFoundException(ErrorCode.SCHEDULE_NOT_FOUND));
+        ResponseEntity<ApiResponse<Void>> second =
+            handler.handleNotFound(new NotFoundException(ErrorCode.SCHEDULE_NOT_FOUND));
+
+        assertThat(second).isSameAs(first);
+        assertThat(handler.handleNotFound(new NotFoundException("다른 메시지"))).isNotSameAs(
+            handler.handleNotFound(new NotFoundException("다른 메시지")));
+    }
+
+    @Test
+    void shouldReuseCachedResponseForAuthorizationDenied() {
+        AuthorizationDeniedException exception =
+            new AuthorizationDeniedException("Access Denied", new AuthorizationDecision(false));
+
+        ResponseEntity<ApiResponse<Void>> response = handler.handleForbidden(exception);
+
+        assertThat(response).isSameAs(handler.handleForbidden(exception));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(response.getBody().getError().errorCode()).isEqualTo("FORBIDDEN");
+    }
+
+    @Test
+    void shouldHandleEntityNotFoundException() {
+        ResponseEntity<ApiResponse<Void>> response =
+            handler.handleNotFound(new EntityNotFoundException());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody().getError().errorCode()).isEqualTo("NOT_FOUND");
+        assertThat(handler.handleNotFound(new EntityNotFoundException("Unable to find Organization with id 1"))
+            .getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
 }
@@ -0,0 +1,63 @@
+package com.example.grouple.config;
+
+import com.example.grouple.dto.organization.response.OrgListResponse;
+import com.example.grouple.dto.receipt.response.ReceiptSummaryResponse;
+import com.example.grouple.entity.Receipt;
+import com.example.grouple.repository.JoinRequestRepository;
+import com.example.grouple.security.AuthPrincipal;
+import com.example.grouple.security.OrganizationAuthz;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.projection.TargetAware;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeImageConfigTests {
+
+    private static final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeAll
+    static void registerHints() {
+        new NativeImageConfig.Hints().registerHints(hints, NativeImageConfig.class.getClassLoader());
+    }
+
+    @Test
+    void dtos_shouldBeRegisteredForBinding() throws Exception {
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(OrgListResponse.class.getMethod("getThumbnail_url")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ReceiptSummaryResponse.class)).accepts(hints);
+    }
+
+    @Test
+    void entities_shouldAllowFieldAccess() throws Exception {
+        assertThat(RuntimeHintsPredicates.reflection().onField(Receipt.class.getDeclaredField("image")))
+                .accepts(hints);
+    }
+
+    @Test
+    void spelBeansAndPrincipal_shouldBeInvocable() throws Exception {
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onMethod(OrganizationAuthz.class.getMethod("canReadOrg", Integer.class))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(AuthPrincipal.class.getMethod("getId")))
+                .accepts(hints);
+    }
+
+    @Test
+    void projections_shouldHaveJdkProxies() {
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(JoinRequestRepository.JoinEligibility.class,
+                TargetAware.class, SpringProxy.class, DecoratingProxy.class)).accepts(hints);
+    }
+
+    @Test
+    void jjwtImplementations_shouldBeRegisteredByName() {
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtParserBuilder"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.jackson.io.JacksonSerializer"))).accepts(hints);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.grouple.controller;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileDownloadWriterTests {
+
+    private static final String SHA = "a".repeat(64);
+    private static final String CONTENT = "0123456789";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void parseRange_shouldHandleOpenSuffixAndInvalidForms() {
+        assertThat(FileDownloadWriter.parseRange("bytes=2-4", 10)).isEqualTo(new FileDownloadWriter.ByteRange(2, 5));
+        assertThat(FileDownloadWriter.parseRange("bytes=7-", 10)).isEqualTo(new FileDownloadWriter.ByteRange(7, 10));
+        assertThat(FileDownloadWriter.parseRange("bytes=-3", 10)).isEqualTo(new FileDownloadWriter.ByteRange(7, 10));
+        assertThat(FileDownloadWriter.parseRange("bytes=5-100", 10)).isEqualTo(new FileDownloadWriter.ByteRange(5, 10));
+        assertThat(FileDownloadWriter.parseRange("bytes=10-", 10)).isSameAs(FileDownloadWriter.UNSATISFIABLE);
+        assertThat(FileDownloadWriter.parseRange("bytes=-0", 10)).isSameAs(FileDownloadWriter.UNSATISFIABLE);
+        // 형식 오류 / 여러 구간은 전체 전송
+        assertThat(FileDownloadWriter.parseRange("bytes=4-2", 10)).isNull();
+        assertThat(FileDownloadWriter.parseRange("bytes=0-1,4-5", 10)).isNull();
+        assertThat(FileDownloadWriter.parseRange("items=0-1", 10)).isNull();
+    }
+
+    @Test
+    void write_withRange_shouldSendPartialContent() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/content");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-4");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        FileDownloadWriter.write(request, response, file(), CONTENT.length(), SHA, "text/plain", "메모.txt");
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-4/10");
+        assertThat(response.getContentAsString()).isEqualTo("234");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + SHA + "\"");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION))
+                .startsWith("attachment").contains("filename*=UTF-8''");
+        assertThat(response.getHeader("X-Content-Type-Options")).isEqualTo("nosniff");
+    }
+
+    @Test
+    void write_withStaleIfRange_shouldSendWholeFile() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/content");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-4");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"other\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        FileDownloadWriter.write(request, response, file(), CONTENT.length(), SHA, null, null);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(response.getContentType()).isEqualTo("application/octet-stream");
+        // 이름이 없어도 첨부로 내려보냄
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).startsWith("attachment").contains(SHA);
+        assertThat(response.getHeader("X-Content-Type-Options")).isEqualTo("nosniff");
+    }
+
+    @Test
+    void write_withMatchingETag_shouldReturnNotModified() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/content");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"" + SHA + "\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        FileDownloadWriter.write(request, response, file(), CONTENT.length(), SHA, null, null);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void write_whenSendfileSupported_shouldHandOffLargeFiles() throws Exception {
+        Path large = dir.resolve("large");
+        Files.write(large, new byte[100 * 1024]);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/content");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=1024-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        FileDownloadWriter.write(request, response, large, 100 * 1024, SHA, null, null);
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isEqualTo(large.toAbsolutePath().toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(1024L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(100L * 1024);
+        assertThat(response.getContentLengthLong()).isEqualTo(99L * 1024);
+    }
+
+    private Path file() throws Exception {
+        return Files.writeString(dir.resolve("blob"), CONTENT, StandardCharsets.UTF_8);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.grouple.controller;
 
 import com.example.grouple.api.ApiResponse;
+import com.example.grouple.api.PageResponse;
 import com.example.grouple.dto.announcement.request.AnnouncementCreateRequest;
 import com.example.grouple.dto.announcement.response.AnnouncementCreateResponse;
 import com.example.grouple.security.AuthPrincipal;
@@ -84,8 +85,8 @@ class OrgAnnouncementControllerTests {
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
         ApiResponse<?> body = (ApiResponse<?>) result.getBody();
         @SuppressWarnings("unchecked")
-        Page<AnnouncementCreateResponse> data = (Page<AnnouncementCreateResponse>) body.getData();
-        assertThat(data.getContent()).containsExactly(item);
+        PageResponse<AnnouncementCreateResponse> data = (PageResponse<AnnouncementCreateResponse>) body.getData();
+        assertThat(data.items()).containsExactly(item);
         verify(announcementService).getAnnouncementsByOrgId(eq(3), pageRequestCaptor.capture());
         PageRequest pageable = pageRequestCaptor.getValue();
         assertThat(pageable.getPageNumber()).isEqualTo(0);
@@ -123,8 +124,8 @@ class OrgAnnouncementControllerTests {
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
         ApiResponse<?> body = (ApiResponse<?>) result.getBody();
         @SuppressWarnings("unchecked")
-        Page<AnnouncementCreateResponse> data = (Page<AnnouncementCreateResponse>) body.getData();
-        assertThat(data.getContent()).containsExactly(item);
+        PageResponse<AnnouncementCreateResponse> data = (PageResponse<AnnouncementCreateResponse>) body.getData();
+        assertThat(data.items()).containsExactly(item);
         verify(announcementService).getStarredAnnouncements(eq(4), pageRequestCaptor.capture());
         PageRequest pageable = pageRequestCaptor.getValue();
         assertThat(pageable.getPageNumber()).isEqualTo(1);
@@ -146,8 +147,8 @@ class OrgAnnouncementControllerTests {
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
         ApiResponse<?> body = (ApiResponse<?>) result.getBody();
         @SuppressWarnings("unchecked")
-        Page<AnnouncementCreateResponse> data = (Page<AnnouncementCreateResponse>) body.getData();
-        assertThat(data.getContent()).containsExactly(item);
+        PageResponse<AnnouncementCreateResponse> data = (PageResponse<AnnouncementCreateResponse>) body.getData();
+        assertThat(data.items()).containsExactly(item);
         verify(announcementService).searchAnnouncementByTitles(eq(6), eq("key"), pageRequestCaptor.capture());
         assertThat(pageRequestCaptor.getValue().getPageSize()).isEqualTo(10);
     }
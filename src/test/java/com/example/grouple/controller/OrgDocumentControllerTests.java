@@ -1,10 +1,12 @@
 package com.example.grouple.controller;
 
 import com.example.grouple.api.ApiResponse;
+import com.example.grouple.api.PageResponse;
 import com.example.grouple.dto.document.request.DocumentCreateRequest;
 import com.example.grouple.dto.document.request.DocumentUpdateRequest;
 import com.example.grouple.dto.document.response.DocumentReadDetailResponse;
 import com.example.grouple.security.AuthPrincipal;
+import com.example.grouple.service.DocumentContentService;
 import com.example.grouple.service.DocumentService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,6 +32,8 @@ class OrgDocumentControllerTests {
 
     @Mock
     private DocumentService documentService;
+    @Mock
+    private DocumentContentService documentContentService;
 
     private OrgDocumentController controller;
 
@@ -38,7 +42,7 @@ class OrgDocumentControllerTests {
 
     @BeforeEach
     void setUp() {
-        controller = new OrgDocumentController(documentService);
+        controller = new OrgDocumentController(documentService, documentContentService);
     }
 
     @Test
@@ -101,8 +105,8 @@ class OrgDocumentControllerTests {
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
         ApiResponse<?> body = (ApiResponse<?>) result.getBody();
         @SuppressWarnings("unchecked")
-        Page<DocumentReadDetailResponse> data = (Page<DocumentReadDetailResponse>) body.getData();
-        assertThat(data.getContent()).containsExactly(item);
+        PageResponse<DocumentReadDetailResponse> data = (PageResponse<DocumentReadDetailResponse>) body.getData();
+        assertThat(data.items()).containsExactly(item);
         verify(documentService).listDocuments(eq(3), pageRequestCaptor.capture());
         PageRequest pageable = pageRequestCaptor.getValue();
         assertThat(pageable.getPageNumber()).isEqualTo(0);
@@ -1,6 +1,7 @@
 package com.example.grouple.controller;
 
 import com.example.grouple.api.ApiResponse;
+import com.example.grouple.api.PageResponse;
 import com.example.grouple.dto.receipt.request.ReceiptCreateRequest;
 import com.example.grouple.dto.receipt.request.ReceiptUpdateRequest;
 import com.example.grouple.dto.receipt.response.*;
@@ -52,14 +53,15 @@ class OrgReceiptControllerTests {
         ReceiptSummaryResponse summary = new ReceiptSummaryResponse(1, "CARD", 1000, "FOOD", LocalDate.now(), null);
         Page<ReceiptSummaryResponse> page = new PageImpl<>(List.of(summary));
         when(receiptService.getReceiptList(eq(5), any(PageRequest.class)))
-                .thenReturn(new ReceiptListResponse(page));
+                .thenReturn(PageResponse.of(page));
 
         ResponseEntity<?> result = controller.getReceiptList(5, PageRequest.of(0, 10, Sort.by("date").descending()));
 
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
         ApiResponse<?> body = (ApiResponse<?>) result.getBody();
-        ReceiptListResponse data = (ReceiptListResponse) body.getData();
-        assertThat(data.getData()).containsExactly(summary);
+        @SuppressWarnings("unchecked")
+        PageResponse<ReceiptSummaryResponse> data = (PageResponse<ReceiptSummaryResponse>) body.getData();
+        assertThat(data.items()).containsExactly(summary);
         verify(receiptService).getReceiptList(eq(5), pageRequestCaptor.capture());
         assertThat(pageRequestCaptor.getValue().getSort().getOrderFor("date")).isNotNull();
     }
@@ -2,9 +2,9 @@ package com.example.grouple.controller;
 
 
 import com.example.grouple.api.ApiResponse;
+import com.example.grouple.api.PageResponse;
 import com.example.grouple.dto.schedule.request.ScheduleCreateRequest;
 import com.example.grouple.dto.schedule.request.ScheduleModifyRequest;
-import com.example.grouple.dto.schedule.response.ScheduleListResponse;
 import com.example.grouple.dto.schedule.response.ScheduleResponse;
 import com.example.grouple.security.AuthPrincipal;
 import com.example.grouple.service.ScheduleService;
@@ -57,11 +57,11 @@ class OrgScheduleControllerTests {
                 .endTime(LocalDateTime.now().plusHours(1))
                 .build();
 
-        when(scheduleService.createSchedule(userId, orgId, request))
+        when(scheduleService.createSchedule(userId, orgId, request, false))
                 .thenReturn(mockRes);
 
         ResponseEntity<?> result =
-        controller.createSchedule(new AuthPrincipal(userId, "user"), orgId, request);
+        controller.createSchedule(new AuthPrincipal(userId, "user"), orgId, request, false);
 
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.CREATED);
 
@@ -69,7 +69,7 @@ class OrgScheduleControllerTests {
         Assertions.assertNotNull(body);
         assertThat(body.getData()).isEqualTo(mockRes);
 
-        verify(scheduleService).createSchedule(userId, orgId, request);
+        verify(scheduleService).createSchedule(userId, orgId, request, false);
     }
 
 
@@ -88,13 +88,8 @@ class OrgScheduleControllerTests {
                 .endTime(LocalDateTime.now().plusHours(1))
                 .build();
 
-        ScheduleListResponse listResponse = ScheduleListResponse.builder()
-                .items(List.of(item))
-                .page(page)
-                .size(size)
-                .totalElements(1L)
-                .totalPages(1)
-                .build();
+        PageResponse<ScheduleResponse> listResponse =
+                new PageResponse<>(PageResponse.CURRENT_VERSION, List.of(item), page, size, 1L, 1);
 
         when(scheduleService.getSchedules(orgId, page, size))
                 .thenReturn(listResponse);
@@ -151,11 +146,11 @@ class OrgScheduleControllerTests {
                 .endTime(LocalDateTime.now().plusHours(1))
                 .build();
 
-        when(scheduleService.modifySchedule(orgId, scheduleId, request))
+        when(scheduleService.modifySchedule(orgId, scheduleId, request, false))
                 .thenReturn(mockRes);
 
         ResponseEntity<?> result =
-                controller.modifySchedule(orgId, scheduleId, request);
+                controller.modifySchedule(orgId, scheduleId, request, false);
 
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
 
@@ -4,19 +4,13 @@ import com.example.grouple.dto.receipt.request.ReceiptCreateRequest;
 import com.example.grouple.dto.receipt.request.ReceiptUpdateRequest;
 import com.example.grouple.dto.receipt.response.ReceiptCreateResponse;
 import com.example.grouple.dto.receipt.response.ReceiptDetailResponse;
-import com.example.grouple.dto.receipt.response.ReceiptListResponse;
-import com.example.grouple.dto.receipt.response.ReceiptSummaryResponse;
 import com.example.grouple.dto.receipt.response.ReceiptUpdateResponse;
 import com.example.grouple.entity.Organization;
 import com.example.grouple.entity.Receipt;
 import com.example.grouple.entity.User;
 import org.junit.jupiter.api.Test;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
-import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -68,20 +62,6 @@ class ReceiptDtoTests {
         assertThat(dto.recordedByUsername()).isEqualTo("tester");
     }
 
-    @Test
-    void receiptListResponse_shouldExposePaging() {
-        ReceiptSummaryResponse summary = new ReceiptSummaryResponse(1, "CARD", 100, "FOOD", LocalDate.now(), null);
-        Page<ReceiptSummaryResponse> page = new PageImpl<>(List.of(summary), PageRequest.of(1, 1), 3);
-
-        ReceiptListResponse list = new ReceiptListResponse(page);
-
-        assertThat(list.getData()).containsExactly(summary);
-        assertThat(list.getTotalCount()).isEqualTo(3);
-        assertThat(list.getTotalPages()).isEqualTo(3);
-        assertThat(list.getCurrentPage()).isEqualTo(1);
-        assertThat(list.isFirst()).isFalse();
-    }
-
     @Test
     void receiptUpdateResponse_shouldExposeFields() {
         ReceiptUpdateResponse res = new ReceiptUpdateResponse(1, "updated");
@@ -1,31 +1,40 @@
 package com.example.grouple.entity;
 
+import com.example.grouple.service.OrgCodeAllocator;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
 
-import java.lang.reflect.Method;
 import java.time.Instant;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class OrganizationTests {
 
+    private final OrgCodeAllocator allocator = mock(OrgCodeAllocator.class);
+
     @Test
-    void shouldGenerateCodeWhenBlank() throws Exception {
+    void shouldGenerateCodeWhenBlank() {
+        when(allocator.next()).thenReturn("K7W2QZ");
         Organization organization = new Organization();
-        invokeEnsureCode(organization);
 
-        assertThat(organization.getCode()).isNotBlank();
-        assertThat(organization.getCode()).hasSize(6);
+        listener().assignCode(organization);
+
+        assertThat(organization.getCode()).isEqualTo("K7W2QZ");
     }
 
     @Test
-    void shouldRetainExistingCode() throws Exception {
+    void shouldRetainExistingCode() {
         Organization organization = new Organization();
         organization.setCode("ABC123");
 
-        invokeEnsureCode(organization);
+        listener().assignCode(organization);
 
         assertThat(organization.getCode()).isEqualTo("ABC123");
+        verify(allocator, never()).next();
     }
 
     @Test
@@ -44,9 +53,10 @@ class OrganizationTests {
         assertThat(organization.getUpdatedAt()).isEqualTo(now);
     }
 
-    private void invokeEnsureCode(Organization organization) throws Exception {
-        Method method = Organization.class.getDeclaredMethod("ensureCode");
-        method.setAccessible(true);
-        method.invoke(organization);
+    @SuppressWarnings("unchecked")
+    private OrganizationCodeListener listener() {
+        ObjectProvider<OrgCodeAllocator> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(allocator);
+        return new OrganizationCodeListener(provider);
     }
 }
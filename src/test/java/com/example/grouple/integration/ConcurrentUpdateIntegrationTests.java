@@ -0,0 +1,253 @@
+package com.example.grouple.integration;
+
+import com.example.grouple.common.ConflictException;
+import com.example.grouple.common.ErrorCode;
+import com.example.grouple.dto.announcement.request.AnnouncementCreateRequest;
+import com.example.grouple.dto.document.request.DocumentCreateRequest;
+import com.example.grouple.entity.Announcement;
+import com.example.grouple.entity.JoinRequest;
+import com.example.grouple.entity.JoinRequestStatus;
+import com.example.grouple.entity.Organization;
+import com.example.grouple.entity.User;
+import com.example.grouple.repository.AnnouncementRepository;
+import com.example.grouple.repository.DocumentRepository;
+import com.example.grouple.repository.JoinRequestRepository;
+import com.example.grouple.repository.MemberRepository;
+import com.example.grouple.repository.OrganizationRepository;
+import com.example.grouple.repository.UserRepository;
+import com.example.grouple.service.AnnouncementService;
+import com.example.grouple.service.DocumentService;
+import com.example.grouple.service.JoinRequestService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 갱신/생성 스트레스 테스트
+ * 여러 스레드가 각자 트랜잭션을 커밋해야 하므로 테스트 트랜잭션 없이 실행하고 데이터는 직접 정리한다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ConcurrentUpdateIntegrationTests extends IntegrationTestSupport {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    @Autowired
+    private AnnouncementRepository announcementRepository;
+    @Autowired
+    private JoinRequestRepository joinRequestRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private DocumentRepository documentRepository;
+    @Autowired
+    private AnnouncementService announcementService;
+    @Autowired
+    private JoinRequestService joinRequestService;
+    @Autowired
+    private DocumentService documentService;
+
+    private User owner;
+    private Organization org;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        owner = saveUser("owner");
+        org = new Organization();
+        org.setOwner(owner);
+        org.setName("Org");
+        org.setDescription("desc");
+        org.setCategory("CLUB");
+        org.setImage("img");
+        org = organizationRepository.save(org);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        memberRepository.deleteAllInBatch();
+        joinRequestRepository.deleteAllInBatch();
+        announcementRepository.deleteAllInBatch();
+        documentRepository.deleteAllInBatch();
+        organizationRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentStarToggles_shouldNotLoseUpdates() throws Exception {
+        Announcement ann = new Announcement();
+        ann.setTitle("title");
+        ann.setDescription("desc");
+        ann.setOrganization(org);
+        ann.setUser(owner);
+        ann.setStar(false);
+        Integer annId = announcementRepository.save(ann).getId();
+
+        int toggles = 200;
+        List<Boolean> states = runConcurrently(toggles,
+                () -> announcementService.toggleStar(annId, org.getId()).getStar());
+
+        // 토글이 직렬화되면 돌려받는 상태는 true/false 가 정확히 절반씩
+        assertThat(states).filteredOn(Boolean::booleanValue).hasSize(toggles / 2);
+        assertThat(announcementRepository.findById(annId).orElseThrow().getStar()).isFalse();
+    }
+
+    @Test
+    void concurrentDecisions_shouldLetExactlyOneWin() throws Exception {
+        User applicant = saveUser("applicant");
+        JoinRequest joinRequest = new JoinRequest();
+        joinRequest.setOrganization(org);
+        joinRequest.setUser(applicant);
+        joinRequest.setStatus(JoinRequestStatus.PENDING);
+        Integer reqId = joinRequestRepository.save(joinRequest).getId();
+
+        int attempts = 32;
+        int[] counter = {0};
+        List<String> outcomes = runConcurrently(attempts, () -> {
+            boolean approve;
+            synchronized (counter) {
+                approve = counter[0]++ % 2 == 0;
+            }
+            try {
+                return approve
+                        ? joinRequestService.approveJoinRequest(owner.getId(), org.getId(), reqId, null).getStatus()
+                        : joinRequestService.rejectJoinRequest(owner.getId(), org.getId(), reqId, null).getStatus();
+            } catch (ConflictException e) {
+                return e.getErrorCode().name();
+            }
+        });
+
+        // 진 요청은 모두 409 (이미 처리된 요청)
+        String conflict = ErrorCode.JOIN_REQUEST_ALREADY_DECIDED.name();
+        assertThat(ErrorCode.JOIN_REQUEST_ALREADY_DECIDED.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(outcomes).filteredOn(s -> !s.equals(conflict)).hasSize(1);
+        String winner = outcomes.stream().filter(s -> !s.equals(conflict)).findFirst().orElseThrow();
+        assertThat(joinRequestRepository.findById(reqId).orElseThrow().getStatus().name()).isEqualTo(winner);
+        assertThat(memberRepository.existsById_OrgIdAndId_UserId(org.getId(), applicant.getId()))
+                .isEqualTo(winner.equals("APPROVED"));
+    }
+
+    @Test
+    void concurrentJoinRequests_shouldCreateSinglePendingRequest() throws Exception {
+        User applicant = saveUser("applicant");
+
+        List<String> outcomes = runConcurrently(32, () -> {
+            try {
+                return joinRequestService.createJoinRequestByOrgId(applicant.getId(), org.getId(), null).getStatus();
+            } catch (ConflictException e) {
+                return e.getErrorCode().name();
+            }
+        });
+
+        // 중복 요청은 모두 409 (이미 처리 중인 요청)
+        assertThat(ErrorCode.JOIN_REQUEST_ALREADY_PENDING.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(outcomes).filteredOn("PENDING"::equals).hasSize(1);
+        assertThat(outcomes).filteredOn(s -> !s.equals("PENDING"))
+                .containsOnly(ErrorCode.JOIN_REQUEST_ALREADY_PENDING.name());
+        assertThat(joinRequestRepository.findAll())
+                .filteredOn(r -> r.getStatus() == JoinRequestStatus.PENDING)
+                .hasSize(1);
+    }
+
+    @Test
+    void concurrentMemberInserts_shouldAddMemberOnce() throws Exception {
+        User applicant = saveUser("applicant");
+
+        runConcurrently(32, () -> {
+            memberRepository.insertIgnoringExisting(org.getId(), List.of(applicant.getId()), "MEMBER", Instant.now());
+            return null;
+        });
+
+        assertThat(memberRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentChildWrites_shouldSerializeOnOrgRow() throws Exception {
+        int tasks = 48;
+        List<User> applicants = new ArrayList<>();
+        for (int i = 0; i < tasks / 3; i++) {
+            applicants.add(saveUser("applicant" + i));
+        }
+        int[] counter = {0};
+
+        // 공지/문서/가입 요청을 같은 조직에 동시에 추가 - 조직 행을 먼저 잠그므로 교착 없이 모두 성공
+        runConcurrently(tasks, () -> {
+            int n;
+            synchronized (counter) {
+                n = counter[0]++;
+            }
+            switch (n % 3) {
+                case 0 -> {
+                    AnnouncementCreateRequest request = new AnnouncementCreateRequest();
+                    request.setTitle("title" + n);
+                    request.setDescription("desc");
+                    announcementService.createAnnouncement(org.getId(), owner.getId(), request);
+                }
+                case 1 -> documentService.createDocument(org.getId(), owner.getId(),
+                        new DocumentCreateRequest("doc" + n, "desc", "doc.pdf", "application/pdf", 1, org.getId()));
+                default -> joinRequestService.createJoinRequestByOrgId(applicants.get(n / 3).getId(), org.getId(), null);
+            }
+            return null;
+        });
+
+        assertThat(announcementRepository.count() + documentRepository.count() + joinRequestRepository.count())
+                .isEqualTo(tasks);
+        assertThat(organizationRepository.findContentVersionById(org.getId())).contains((long) tasks);
+    }
+
+    // 모든 작업을 동시에 출발시켜 결과를 모음 (예외는 그대로 전파)
+    private <T> List<T> runConcurrently(int tasks, Callable<T> task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>(tasks);
+            for (int i = 0; i < tasks; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>(tasks);
+            for (Future<T> future : futures) {
+                try {
+                    results.add(future.get(30, TimeUnit.SECONDS));
+                } catch (ExecutionException e) {
+                    throw new AssertionError("concurrent task failed", e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private User saveUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("pw");
+        user.setEmail(username + "@example.com");
+        user.setPhone("010-0000-0000");
+        return userRepository.save(user);
+    }
+}
@@ -35,6 +35,8 @@ class HttpStatusCodeIntegrationTest extends IntegrationTestSupport {
     @Autowired
     private OrganizationRepository organizationRepository;
 
+    private static final String IMAGE_SHA = "a".repeat(64);
+
     private User testUser;
 
     @BeforeEach
@@ -138,6 +140,57 @@ class HttpStatusCodeIntegrationTest extends IntegrationTestSupport {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("GET /actuator/prometheus - 토큰 없으면 401 UNAUTHORIZED 반환")
+    void shouldReturn401OnPrometheusWithoutToken() throws Exception {
+        mockMvc.perform(withApiServletPath(get(apiPath("/actuator/prometheus"))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - 관리자가 아니면 403 FORBIDDEN 반환")
+    void shouldReturn403OnPrometheusForNonAdmin() throws Exception {
+        mockMvc.perform(withApiServletPath(get(apiPath("/actuator/prometheus")))
+                        .with(auth(testUser)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("GET /actuator/metrics - 관리자가 아니면 403 FORBIDDEN 반환")
+    void shouldReturn403OnMetricsForNonAdmin() throws Exception {
+        mockMvc.perform(withApiServletPath(get(apiPath("/actuator/metrics/http.server.requests")))
+                        .with(auth(testUser)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("GET /images/{sha256} - 토큰 없으면 401 UNAUTHORIZED 반환")
+    void shouldReturn401OnImageWithoutToken() throws Exception {
+        mockMvc.perform(withApiServletPath(get(apiPath("/images/{sha256}/thumbnails/96"), IMAGE_SHA)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("GET /images/{sha256} - 조직 로고는 토큰 없이 조회 (이미지가 없으면 404)")
+    void shouldAllowOrganizationLogoWithoutToken() throws Exception {
+        Organization org = saveOrganization("Test Org", testUser);
+        org.setImage("/images/" + IMAGE_SHA);
+        organizationRepository.saveAndFlush(org);
+
+        mockMvc.perform(withApiServletPath(get(apiPath("/images/{sha256}"), IMAGE_SHA)))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(withApiServletPath(get(apiPath("/images/{sha256}/thumbnails/96"), IMAGE_SHA)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /images/{sha256} - 로그인 사용자는 조회 (이미지가 없으면 404)")
+    void shouldAllowImageForAuthenticatedUser() throws Exception {
+        mockMvc.perform(withApiServletPath(get(apiPath("/images/{sha256}"), IMAGE_SHA))
+                        .with(auth(testUser)))
+                .andExpect(status().isNotFound());
+    }
+
     // ---------------------------------------------------------------------------------------------------
     // PUT/PATCH 엔드포인트들이 200 OK 반환 확인
     // ---------------------------------------------------------------------------------------------------
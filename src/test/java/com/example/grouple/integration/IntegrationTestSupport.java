@@ -1,13 +1,16 @@
 package com.example.grouple.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
@@ -15,6 +18,7 @@ import org.springframework.util.StringUtils;
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
 @Transactional
+@Import(QueryCountConfig.class)
 public abstract class IntegrationTestSupport {
 
     @Autowired
@@ -23,6 +27,9 @@ public abstract class IntegrationTestSupport {
     @Autowired
     protected ObjectMapper objectMapper;
 
+    @Autowired
+    protected EntityManager entityManager;
+
     @Value("${spring.mvc.servlet.path:}")
     private String servletPath;
 
@@ -42,4 +49,20 @@ public abstract class IntegrationTestSupport {
         String normalized = servletPath.startsWith("/") ? servletPath : "/" + servletPath;
         return builder.servletPath(normalized);
     }
+
+    /**
+     * 요청 한 건의 SQL 문 수 상한 (N+1 등 쿼리 수 회귀 방지)
+     */
+    protected static ResultMatcher expectQueries(int max) {
+        return QueryCount.atMost(max);
+    }
+
+    /**
+     * 준비 단계에서 영속성 컨텍스트에 올라간 엔티티를 비워
+     * 다음 요청이 실제 운영처럼 DB 에서 다시 읽도록 함 (지연 로딩 쿼리까지 집계)
+     */
+    protected void clearPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+    }
 }
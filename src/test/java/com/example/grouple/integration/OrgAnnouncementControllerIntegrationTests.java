@@ -22,6 +22,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -63,7 +64,7 @@ class OrgAnnouncementControllerIntegrationTests extends IntegrationTestSupport {
         mockMvc.perform(withApiServletPath(get(apiPath("/organizations/{orgId}/announcements"), org.getId()))
                         .with(auth(user)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data.content.length()").value(1));
+                .andExpect(jsonPath("$.data.items.length()").value(1));
 
         Announcement ann = announcementRepository.findAll().getFirst();
 
@@ -90,12 +91,26 @@ class OrgAnnouncementControllerIntegrationTests extends IntegrationTestSupport {
                         .with(auth(user))
                         .param("keyword", "keyword"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data.content[0].id").value(a2.getId()));
+                .andExpect(jsonPath("$.data.items[0].id").value(a2.getId()));
 
         mockMvc.perform(withApiServletPath(get(apiPath("/organizations/{orgId}/announcements/starred"), org.getId()))
                         .with(auth(user)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data.content.length()").value(1));
+                .andExpect(jsonPath("$.data.items.length()").value(1));
+    }
+
+    @Test
+    void list_byNonMemberWithGuessedETag_shouldBeForbiddenWithoutETag() throws Exception {
+        announcementRepository.save(buildAnnouncement("hello", false));
+        User outsider = saveUser("outsider");
+        long version = organizationRepository.findContentVersionById(org.getId()).orElseThrow();
+        String guessed = "\"" + org.getId() + "-" + version + "-" + outsider.getId() + "\"";
+
+        mockMvc.perform(withApiServletPath(get(apiPath("/organizations/{orgId}/announcements"), org.getId()))
+                        .with(auth(outsider))
+                        .header("If-None-Match", guessed))
+                .andExpect(status().isForbidden())
+                .andExpect(header().doesNotExist("ETag"));
     }
 
     private Announcement buildAnnouncement(String title, boolean star) {
@@ -87,7 +87,8 @@ class OrgDocumentControllerIntegrationTests extends IntegrationTestSupport {
                         .with(auth(user)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("success"))
-                .andExpect(jsonPath("$.data.content.length()").value(2));
+                .andExpect(jsonPath("$.data.items.length()").value(2))
+                .andExpect(expectQueries(3)); // 목록 + count + 내용 버전(ETag)
     }
 
     @Test
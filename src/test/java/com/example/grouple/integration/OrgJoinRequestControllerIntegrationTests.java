@@ -1,14 +1,23 @@
 package com.example.grouple.integration;
 
+import com.example.grouple.common.ConflictException;
+import com.example.grouple.common.ErrorCode;
+import com.example.grouple.common.NotFoundException;
+import com.example.grouple.dto.joinrequest.request.JoinRequestBulkDecisionRequest;
 import com.example.grouple.dto.joinrequest.request.JoinRequestCreateRequest;
 import com.example.grouple.dto.joinrequest.request.JoinRequestDecisionRequest;
 import com.example.grouple.entity.JoinRequest;
+import com.example.grouple.entity.JoinRequestStatus;
+import com.example.grouple.entity.Member;
 import com.example.grouple.entity.Organization;
 import com.example.grouple.entity.User;
+import com.example.grouple.entity.id.MemberId;
 import com.example.grouple.repository.JoinRequestRepository;
+import com.example.grouple.repository.MemberRepository;
 import com.example.grouple.repository.OrganizationRepository;
 import com.example.grouple.repository.UserRepository;
 import com.example.grouple.security.AuthPrincipal;
+import com.example.grouple.service.JoinRequestService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,8 +26,11 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
+import java.time.Instant;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -32,6 +44,10 @@ class OrgJoinRequestControllerIntegrationTests extends IntegrationTestSupport {
     private OrganizationRepository organizationRepository;
     @Autowired
     private JoinRequestRepository joinRequestRepository;
+    @Autowired
+    private JoinRequestService joinRequestService;
+    @Autowired
+    private MemberRepository memberRepository;
 
     private User owner;
     private User applicant;
@@ -58,7 +74,9 @@ class OrgJoinRequestControllerIntegrationTests extends IntegrationTestSupport {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(createReq)))
                 .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.data.status").value("PENDING"));
+                .andExpect(jsonPath("$.data.status").value("PENDING"))
+                .andExpect(jsonPath("$.data.username").value("applicant"))
+                .andExpect(expectQueries(2));
 
         JoinRequest saved = joinRequestRepository.findAll().getFirst();
 
@@ -104,6 +122,90 @@ class OrgJoinRequestControllerIntegrationTests extends IntegrationTestSupport {
                 .andExpect(jsonPath("$.data.requests.length()").value(1));
     }
 
+    @Test
+    void create_by_code_rejects_duplicate_and_existing_member() {
+        JoinRequestCreateRequest createReq = new JoinRequestCreateRequest();
+        memberRepository.save(new Member(new MemberId(owner.getId(), org.getId()), owner, org, "OWNER", Instant.now()));
+
+        var created = joinRequestService.createJoinRequest(applicant.getId(), org.getCode().toLowerCase(), createReq);
+
+        assertThat(created.getOrganizationId()).isEqualTo(org.getId());
+        assertThatThrownBy(() -> joinRequestService.createJoinRequest(applicant.getId(), org.getCode(), createReq))
+                .isInstanceOf(ConflictException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.JOIN_REQUEST_ALREADY_PENDING);
+        assertThatThrownBy(() -> joinRequestService.createJoinRequestByOrgId(owner.getId(), org.getId(), createReq))
+                .isInstanceOf(ConflictException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.ALREADY_MEMBER);
+        assertThatThrownBy(() -> joinRequestService.createJoinRequest(applicant.getId(), "ZZZZZZ", createReq))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void bulk_decision_approves_pending_and_reports_each_request() throws Exception {
+        User second = saveUser("second");
+        User existingMember = saveUser("existing");
+        memberRepository.save(new Member(new MemberId(existingMember.getId(), org.getId()),
+                existingMember, org, "ADMIN", Instant.now()));
+        JoinRequest first = saveJoinRequest(applicant, JoinRequestStatus.PENDING);
+        JoinRequest secondReq = saveJoinRequest(second, JoinRequestStatus.PENDING);
+        JoinRequest memberReq = saveJoinRequest(existingMember, JoinRequestStatus.PENDING);
+        JoinRequest decided = saveJoinRequest(saveUser("decided"), JoinRequestStatus.REJECTED);
+        clearPersistenceContext();
+
+        JoinRequestBulkDecisionRequest request = new JoinRequestBulkDecisionRequest();
+        request.setRequestIds(List.of(first.getId(), secondReq.getId(), memberReq.getId(),
+                decided.getId(), 999_999, first.getId()));
+        request.setDecision(JoinRequestBulkDecisionRequest.Decision.APPROVE);
+        request.setReason("welcome");
+
+        mockMvc.perform(withApiServletPath(post(apiPath("/organizations/{orgId}/join-requests/bulk-decision"), org.getId()))
+                        .with(auth(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.processedCount").value(3))
+                .andExpect(jsonPath("$.data.results.length()").value(5))
+                .andExpect(jsonPath("$.data.results[0].outcome").value("APPROVED"))
+                .andExpect(jsonPath("$.data.results[2].outcome").value("APPROVED"))
+                .andExpect(jsonPath("$.data.results[3].outcome").value("ALREADY_DECIDED"))
+                .andExpect(jsonPath("$.data.results[4].outcome").value("NOT_FOUND"))
+                .andExpect(expectQueries(4));
+
+        clearPersistenceContext();
+        assertThat(joinRequestRepository.findById(first.getId()).orElseThrow().getStatus())
+                .isEqualTo(JoinRequestStatus.APPROVED);
+        assertThat(joinRequestRepository.findById(decided.getId()).orElseThrow().getStatus())
+                .isEqualTo(JoinRequestStatus.REJECTED);
+        assertThat(memberRepository.existsById_OrgIdAndId_UserId(org.getId(), applicant.getId())).isTrue();
+        assertThat(memberRepository.existsById_OrgIdAndId_UserId(org.getId(), second.getId())).isTrue();
+        // 이미 구성원이면 기존 역할 유지
+        assertThat(memberRepository.findById(new MemberId(existingMember.getId(), org.getId())).orElseThrow().getRole())
+                .isEqualTo("ADMIN");
+    }
+
+    @Test
+    void bulk_decision_requires_owner() throws Exception {
+        JoinRequest pending = saveJoinRequest(applicant, JoinRequestStatus.PENDING);
+
+        JoinRequestBulkDecisionRequest request = new JoinRequestBulkDecisionRequest();
+        request.setRequestIds(List.of(pending.getId()));
+        request.setDecision(JoinRequestBulkDecisionRequest.Decision.REJECT);
+
+        mockMvc.perform(withApiServletPath(post(apiPath("/organizations/{orgId}/join-requests/bulk-decision"), org.getId()))
+                        .with(auth(applicant))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isForbidden());
+    }
+
+    private JoinRequest saveJoinRequest(User user, JoinRequestStatus status) {
+        JoinRequest joinRequest = new JoinRequest();
+        joinRequest.setOrganization(org);
+        joinRequest.setUser(user);
+        joinRequest.setStatus(status);
+        return joinRequestRepository.save(joinRequest);
+    }
+
     private User saveUser(String username) {
         User user = new User();
         user.setUsername(username);
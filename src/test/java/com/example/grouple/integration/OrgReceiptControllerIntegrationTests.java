@@ -88,7 +88,8 @@ class OrgReceiptControllerIntegrationTests extends IntegrationTestSupport {
                         .with(auth(owner)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("success"))
-                .andExpect(jsonPath("$.data.data.length()").value(2));
+                .andExpect(jsonPath("$.data.items.length()").value(2))
+                .andExpect(expectQueries(3)); // 목록 + count + 내용 버전(ETag)
     }
 
     @Test
@@ -2,10 +2,12 @@ package com.example.grouple.integration;
 
 import com.example.grouple.dto.schedule.request.ScheduleCreateRequest;
 import com.example.grouple.dto.schedule.request.ScheduleModifyRequest;
+import com.example.grouple.dto.schedule.request.ScheduleOverrideRequest;
 import com.example.grouple.entity.Organization;
 import com.example.grouple.entity.Schedule;
 import com.example.grouple.entity.User;
 import com.example.grouple.repository.OrganizationRepository;
+import com.example.grouple.repository.ScheduleOverrideRepository;
 import com.example.grouple.repository.ScheduleRepository;
 import com.example.grouple.repository.UserRepository;
 import com.example.grouple.security.AuthPrincipal;
@@ -34,12 +36,15 @@ class OrgScheduleControllerIntegrationTests extends IntegrationTestSupport {
     private OrganizationRepository organizationRepository;
     @Autowired
     private ScheduleRepository scheduleRepository;
+    @Autowired
+    private ScheduleOverrideRepository scheduleOverrideRepository;
 
     private User user;
     private Organization org;
 
     @BeforeEach
     void setup() {
+        scheduleOverrideRepository.deleteAll();
         scheduleRepository.deleteAll();
         organizationRepository.deleteAll();
         userRepository.deleteAll();
@@ -79,7 +84,8 @@ class OrgScheduleControllerIntegrationTests extends IntegrationTestSupport {
         mockMvc.perform(withApiServletPath(get(apiPath("/organizations/{orgId}/schedules"), org.getId()))
                         .with(auth(user)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data.items.length()").value(1));
+                .andExpect(jsonPath("$.data.items.length()").value(1))
+                .andExpect(expectQueries(3)); // 목록 + count + 내용 버전(ETag)
 
         // 수정
         ScheduleModifyRequest modify = new ScheduleModifyRequest();
@@ -101,6 +107,223 @@ class OrgScheduleControllerIntegrationTests extends IntegrationTestSupport {
                 .andExpect(status().isNoContent());
 
         assertThat(scheduleRepository.existsById(schedule.getId())).isFalse();
+
+        // 삭제된 일정은 조회/회차 예외 모두 404
+        mockMvc.perform(withApiServletPath(get(apiPath("/organizations/{orgId}/schedules/{scheduleId}"), org.getId(), schedule.getId()))
+                        .with(auth(user)))
+                .andExpect(status().isNotFound());
+        ScheduleOverrideRequest cancel = new ScheduleOverrideRequest();
+        cancel.setOriginalStartTime(schedule.getStartTime());
+        cancel.setCancelled(true);
+        mockMvc.perform(withApiServletPath(put(apiPath("/organizations/{orgId}/schedules/{scheduleId}/occurrences"), org.getId(), schedule.getId()))
+                        .with(auth(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(cancel)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void recurring_schedule_expands_occurrences_and_applies_overrides() throws Exception {
+        // 2026-01-06(화) 부터 매주 화요일
+        LocalDateTime start = LocalDateTime.of(2026, 1, 6, 19, 0);
+        ScheduleCreateRequest request = new ScheduleCreateRequest();
+        request.setTitle("주간 회의");
+        request.setStartTime(start);
+        request.setEndTime(start.plusHours(2));
+        request.setRecurrenceRule("FREQ=WEEKLY;BYDAY=TU;UNTIL=20261231");
+
+        mockMvc.perform(withApiServletPath(post(apiPath("/organizations/{orgId}/schedules"), org.getId()))
+                        .with(auth(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.recurrence_rule").value("FREQ=WEEKLY;UNTIL=20261231T235959;BYDAY=TU"));
+
+        // 시리즈는 한 행만 저장
+        assertThat(scheduleRepository.count()).isEqualTo(1);
+        Schedule saved = scheduleRepository.findAll().getFirst();
+
+        mockMvc.perform(withApiServletPath(get(apiPath("/organizations/{orgId}/schedules/occurrences"), org.getId()))
+                        .param("from", "2026-03-01T00:00:00")
+                        .param("to", "2026-03-31T00:00:00")
+                        .with(auth(user)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(4))
+                .andExpect(jsonPath("$.data.items[0].start_time").value("2026-03-03T19:00:00"));
+
+        // 한 회차 취소, 한 회차 시간 변경
+        ScheduleOverrideRequest cancel = new ScheduleOverrideRequest();
+        cancel.setOriginalStartTime(LocalDateTime.of(2026, 3, 10, 19, 0));
+        cancel.setCancelled(true);
+        mockMvc.perform(withApiServletPath(put(apiPath("/organizations/{orgId}/schedules/{scheduleId}/occurrences"), org.getId(), saved.getId()))
+                        .with(auth(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(cancel)))
+                .andExpect(status().isNoContent());
+
+        ScheduleOverrideRequest move = new ScheduleOverrideRequest();
+        move.setOriginalStartTime(LocalDateTime.of(2026, 3, 17, 19, 0));
+        move.setStartTime(LocalDateTime.of(2026, 3, 18, 20, 0));
+        move.setEndTime(LocalDateTime.of(2026, 3, 18, 21, 0));
+        mockMvc.perform(withApiServletPath(put(apiPath("/organizations/{orgId}/schedules/{scheduleId}/occurrences"), org.getId(), saved.getId()))
+                        .with(auth(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(move)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.overridden").value(true));
+
+        mockMvc.perform(withApiServletPath(get(apiPath("/organizations/{orgId}/schedules/occurrences"), org.getId()))
+                        .param("from", "2026-03-01T00:00:00")
+                        .param("to", "2026-03-31T00:00:00")
+                        .with(auth(user)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(3))
+                .andExpect(jsonPath("$.data.items[1].start_time").value("2026-03-18T20:00:00"));
+
+        // 규칙에 없는 시각은 예외로 지정할 수 없음
+        ScheduleOverrideRequest invalid = new ScheduleOverrideRequest();
+        invalid.setOriginalStartTime(LocalDateTime.of(2026, 3, 11, 19, 0));
+        invalid.setCancelled(true);
+        mockMvc.perform(withApiServletPath(put(apiPath("/organizations/{orgId}/schedules/{scheduleId}/occurrences"), org.getId(), saved.getId()))
+                        .with(auth(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(invalid)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void modify_without_recurrence_rule_keeps_series_and_overrides() throws Exception {
+        // 2026-01-06(화) 부터 매주 화요일
+        LocalDateTime start = LocalDateTime.of(2026, 1, 6, 19, 0);
+        ScheduleCreateRequest request = new ScheduleCreateRequest();
+        request.setTitle("주간 회의");
+        request.setStartTime(start);
+        request.setEndTime(start.plusHours(2));
+        request.setRecurrenceRule("FREQ=WEEKLY;BYDAY=TU;UNTIL=20261231");
+        mockMvc.perform(withApiServletPath(post(apiPath("/organizations/{orgId}/schedules"), org.getId()))
+                        .with(auth(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+        Schedule saved = scheduleRepository.findAll().getFirst();
+
+        ScheduleOverrideRequest cancel = new ScheduleOverrideRequest();
+        cancel.setOriginalStartTime(LocalDateTime.of(2026, 3, 10, 19, 0));
+        cancel.setCancelled(true);
+        mockMvc.perform(withApiServletPath(put(apiPath("/organizations/{orgId}/schedules/{scheduleId}/occurrences"), org.getId(), saved.getId()))
+                        .with(auth(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(cancel)))
+                .andExpect(status().isNoContent());
+
+        // 제목만 바꾸고 recurrence_rule 은 보내지 않음 → 규칙과 회차 예외 유지
+        ScheduleModifyRequest rename = new ScheduleModifyRequest();
+        rename.setTitle("주간 회의 (변경)");
+        rename.setStartTime(start);
+        rename.setEndTime(start.plusHours(2));
+        mockMvc.perform(withApiServletPath(patch(apiPath("/organizations/{orgId}/schedules/{scheduleId}"), org.getId(), saved.getId()))
+                        .with(auth(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(rename)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("주간 회의 (변경)"))
+                .andExpect(jsonPath("$.data.recurrence_rule").value("FREQ=WEEKLY;UNTIL=20261231T235959;BYDAY=TU"));
+        assertThat(scheduleOverrideRepository.count()).isEqualTo(1);
+
+        mockMvc.perform(withApiServletPath(get(apiPath("/organizations/{orgId}/schedules/occurrences"), org.getId()))
+                        .param("from", "2026-03-01T00:00:00")
+                        .param("to", "2026-03-31T00:00:00")
+                        .with(auth(user)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(3))
+                .andExpect(jsonPath("$.data.items[0].title").value("주간 회의 (변경)"));
+
+        // 빈 문자열은 반복 해제
+        rename.setRecurrenceRule("");
+        mockMvc.perform(withApiServletPath(patch(apiPath("/organizations/{orgId}/schedules/{scheduleId}"), org.getId(), saved.getId()))
+                        .with(auth(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(rename)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.recurrence_rule").doesNotExist());
+        assertThat(scheduleOverrideRepository.count()).isZero();
+    }
+
+    @Test
+    void override_on_single_schedule_is_rejected() throws Exception {
+        Schedule single = scheduleRepository.save(buildSchedule("단일 일정"));
+
+        // 단일 일정의 취소는 목록에 반영되지 않으므로 예외로 지정할 수 없음
+        ScheduleOverrideRequest cancel = new ScheduleOverrideRequest();
+        cancel.setOriginalStartTime(single.getStartTime());
+        cancel.setCancelled(true);
+        mockMvc.perform(withApiServletPath(put(apiPath("/organizations/{orgId}/schedules/{scheduleId}/occurrences"), org.getId(), single.getId()))
+                        .with(auth(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(cancel)))
+                .andExpect(status().isBadRequest());
+        assertThat(scheduleOverrideRepository.count()).isZero();
+    }
+
+    @Test
+    void busy_and_conflict_check_use_schedule_index() throws Exception {
+        LocalDateTime base = LocalDateTime.of(2026, 5, 4, 10, 0);
+        Schedule first = buildSchedule("first");
+        first.setStartTime(base);
+        first.setEndTime(base.plusHours(2));
+        scheduleRepository.save(first);
+        Schedule second = buildSchedule("second");
+        second.setStartTime(base.plusHours(1));
+        second.setEndTime(base.plusHours(3));
+        scheduleRepository.save(second);
+
+        mockMvc.perform(withApiServletPath(get(apiPath("/organizations/{orgId}/schedules/busy"), org.getId()))
+                        .param("from", "2026-05-04T00:00:00")
+                        .param("to", "2026-05-05T00:00:00")
+                        .with(auth(user)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.busy.length()").value(1))
+                .andExpect(jsonPath("$.data.busy[0].start_time").value("2026-05-04T10:00:00"))
+                .andExpect(jsonPath("$.data.busy[0].end_time").value("2026-05-04T13:00:00"));
+
+        ScheduleCreateRequest request = new ScheduleCreateRequest();
+        request.setTitle("overlapping");
+        request.setStartTime(base.plusMinutes(30));
+        request.setEndTime(base.plusMinutes(90));
+
+        mockMvc.perform(withApiServletPath(post(apiPath("/organizations/{orgId}/schedules"), org.getId()))
+                        .param("check_conflicts", "true")
+                        .with(auth(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.conflicts.length()").value(2));
+
+        // 요청하지 않으면 conflicts 필드 없음
+        request.setStartTime(base.plusDays(1));
+        request.setEndTime(base.plusDays(1).plusHours(1));
+        mockMvc.perform(withApiServletPath(post(apiPath("/organizations/{orgId}/schedules"), org.getId()))
+                        .with(auth(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.conflicts").doesNotExist());
+    }
+
+    @Test
+    void list_schedules_fetches_authors_without_extra_queries() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            Schedule s = buildSchedule("title" + i);
+            s.setUser(saveUser("author" + i));
+            scheduleRepository.save(s);
+        }
+        clearPersistenceContext();
+
+        mockMvc.perform(withApiServletPath(get(apiPath("/organizations/{orgId}/schedules"), org.getId()))
+                        .with(auth(user)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(3))
+                .andExpect(expectQueries(2)); // 목록 + 내용 버전(ETag)
     }
 
     private Schedule buildSchedule(String title) {
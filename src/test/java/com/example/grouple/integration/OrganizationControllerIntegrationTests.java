@@ -2,26 +2,37 @@ package com.example.grouple.integration;
 
 import com.example.grouple.dto.organization.request.OrgCreateRequest;
 import com.example.grouple.dto.organization.request.OrgUpdateRequest;
+import com.example.grouple.entity.Announcement;
+import com.example.grouple.entity.Member;
 import com.example.grouple.entity.Organization;
 import com.example.grouple.entity.User;
+import com.example.grouple.entity.id.MemberId;
+import com.example.grouple.repository.AnnouncementRepository;
+import com.example.grouple.repository.MemberRepository;
 import com.example.grouple.repository.OrganizationRepository;
 import com.example.grouple.repository.UserRepository;
 import com.example.grouple.security.AuthPrincipal;
+import com.example.grouple.service.DeletionPurger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -33,6 +44,18 @@ class OrganizationControllerIntegrationTests extends IntegrationTestSupport {
     @Autowired
     private OrganizationRepository organizationRepository;
 
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private AnnouncementRepository announcementRepository;
+
+    @Autowired
+    private DeletionPurger deletionPurger;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private User owner;
 
     @BeforeEach
@@ -62,6 +85,7 @@ class OrganizationControllerIntegrationTests extends IntegrationTestSupport {
         List<Organization> organizations = organizationRepository.findAll();
         assertThat(organizations).hasSize(1);
         assertThat(organizations.getFirst().getName()).isEqualTo("Integration Org");
+        assertThat(organizations.getFirst().getCode()).matches("[0-9A-HJKMNP-TV-Z]{6}");
     }
 
     @Test
@@ -89,6 +113,40 @@ class OrganizationControllerIntegrationTests extends IntegrationTestSupport {
         assertThat(updated.getImage()).isEqualTo("updated.png");
     }
 
+    @Test
+    void getOrganization_shouldAnswerNotModifiedUntilContentChanges() throws Exception {
+        Organization existing = saveOrganization("Cached Org");
+
+        String etag = mockMvc.perform(withApiServletPath(get(apiPath("/organizations/{orgId}"), existing.getId()))
+                        .with(auth(owner)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // 조직을 읽지 않고 내용 버전만 확인
+        mockMvc.perform(withApiServletPath(get(apiPath("/organizations/{orgId}"), existing.getId()))
+                        .with(auth(owner))
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(expectQueries(1));
+
+        OrgUpdateRequest request = new OrgUpdateRequest();
+        request.setName("Renamed Org");
+        mockMvc.perform(withApiServletPath(put(apiPath("/organizations/{orgId}"), existing.getId()))
+                        .with(auth(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        String renewed = mockMvc.perform(withApiServletPath(get(apiPath("/organizations/{orgId}"), existing.getId()))
+                        .with(auth(owner))
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.name").value("Renamed Org"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(renewed).isNotEqualTo(etag);
+    }
+
     @Test
     void shouldDeleteOrganizationThroughApi() throws Exception {
         Organization existing = saveOrganization("Disposable Org");
@@ -100,6 +158,85 @@ class OrganizationControllerIntegrationTests extends IntegrationTestSupport {
         assertThat(organizationRepository.existsById(existing.getId())).isFalse();
     }
 
+    @Test
+    void deletedOrganization_shouldBePurgedWithChildRows() throws Exception {
+        Organization existing = saveOrganization("Purged Org");
+        memberRepository.saveAndFlush(new Member(new MemberId(owner.getId(), existing.getId()),
+                owner, existing, "OWNER", Instant.now()));
+
+        mockMvc.perform(withApiServletPath(delete(apiPath("/organizations/{orgId}"), existing.getId()))
+                        .with(auth(owner)))
+                .andExpect(status().isNoContent());
+        entityManager.flush();
+        entityManager.clear();
+
+        // 삭제 표시만 된 상태: 조회되지 않지만 행은 남아 있음
+        assertThat(countRows("organizations", "id", existing.getId())).isEqualTo(1);
+        assertThat(countRows("members", "organization_id", existing.getId())).isEqualTo(1);
+
+        deletionPurger.purge();
+
+        assertThat(countRows("members", "organization_id", existing.getId())).isZero();
+        assertThat(countRows("organizations", "id", existing.getId())).isZero();
+        assertThat(countRows("users", "id", owner.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void deletedUser_shouldKeepAuthorshipOfContentInOthersOrgs() throws Exception {
+        Organization shared = saveOrganization("Shared Org");
+        User leaving = new User();
+        leaving.setUsername("leaving");
+        leaving.setPassword("password");
+        leaving.setEmail("leaving@example.com");
+        leaving.setPhone("010-0000-0001");
+        leaving = userRepository.saveAndFlush(leaving);
+        memberRepository.saveAndFlush(new Member(new MemberId(leaving.getId(), shared.getId()),
+                leaving, shared, "MEMBER", Instant.now()));
+        Integer sharedPost = saveAnnouncement(shared, leaving);
+
+        Organization own = new Organization();
+        own.setOwner(leaving);
+        own.setName("Own Org");
+        own.setDescription("description");
+        own.setCategory("CATEGORY");
+        own = organizationRepository.saveAndFlush(own);
+        Integer ownPost = saveAnnouncement(own, leaving);
+
+        mockMvc.perform(withApiServletPath(delete(apiPath("/users/me")))
+                        .with(auth(leaving))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"password\":\"password\"}"))
+                .andExpect(status().isNoContent());
+        entityManager.flush();
+        entityManager.clear();
+
+        deletionPurger.purge();
+
+        // 다른 사람 조직의 글은 남고 작성자도 그대로 (조직 소유자로 넘어가지 않음)
+        assertThat(jdbcTemplate.queryForObject("SELECT user_id FROM announcements WHERE id = ?",
+                Integer.class, sharedPost)).isEqualTo(leaving.getId());
+        assertThat(countRows("members", "user_id", leaving.getId())).isZero();
+        // 사용자 행은 "deleted_{id}" 작성자로 남고 개인정보는 비워짐
+        Map<String, Object> tombstone = jdbcTemplate.queryForMap(
+                "SELECT username, email, phone, purged_at FROM users WHERE id = ?", leaving.getId());
+        assertThat(tombstone.get("username")).isEqualTo(User.DELETED_USERNAME_PREFIX + leaving.getId());
+        assertThat(tombstone.get("email")).isEqualTo("");
+        assertThat(tombstone.get("phone")).isEqualTo("");
+        assertThat(tombstone.get("purged_at")).isNotNull();
+        // 본인 소유 조직은 통째로 삭제
+        assertThat(countRows("announcements", "id", ownPost)).isZero();
+        assertThat(countRows("organizations", "id", own.getId())).isZero();
+        assertThat(countRows("organizations", "id", shared.getId())).isEqualTo(1);
+    }
+
+    private Integer saveAnnouncement(Organization org, User author) {
+        Announcement announcement = new Announcement();
+        announcement.setTitle("notice");
+        announcement.setUser(author);
+        announcement.setOrganization(org);
+        return announcementRepository.saveAndFlush(announcement).getId();
+    }
+
     private User saveUser() {
         User user = new User();
         user.setUsername("owner1");
@@ -120,6 +257,11 @@ class OrganizationControllerIntegrationTests extends IntegrationTestSupport {
         return organizationRepository.saveAndFlush(org);
     }
 
+    private long countRows(String table, String column, Integer id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ?", Long.class, id);
+    }
+
     private RequestPostProcessor auth(User user) {
         var principal = new AuthPrincipal(user.getId(), user.getUsername());
         var authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
@@ -0,0 +1,46 @@
+package com.example.grouple.integration;
+
+import jakarta.servlet.ServletRequest;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * MockMvc 요청 한 건에서 실행된 쿼리 집계
+ * @param statements Hibernate 가 준비한 SQL (실행 순서)
+ * @param entityLoads 엔티티 로드 수 (Hibernate 통계)
+ * @param collectionFetches 지연 컬렉션 초기화 수 (Hibernate 통계)
+ */
+public record QueryCount(String endpoint, List<String> statements, long entityLoads, long collectionFetches) {
+
+    static final String ATTRIBUTE = QueryCount.class.getName();
+
+    public int count() {
+        return statements.size();
+    }
+
+    public static QueryCount of(ServletRequest request) {
+        Object count = request.getAttribute(ATTRIBUTE);
+        if (count == null) {
+            throw new AssertionError("query count was not recorded (QueryCountFilter not registered?)");
+        }
+        return (QueryCount) count;
+    }
+
+    /**
+     * 요청 한 건의 SQL 문 수가 max 이하인지 검사 (초과 시 실행된 SQL 을 함께 출력)
+     */
+    public static ResultMatcher atMost(int max) {
+        return result -> {
+            QueryCount count = of(result.getRequest());
+            if (count.count() > max) {
+                throw new AssertionError("%s executed %d statements (budget %d):%n%s".formatted(
+                        count.endpoint(), count.count(), max,
+                        count.statements().stream()
+                                .map(sql -> "  " + sql.replaceAll("\\s+", " "))
+                                .collect(Collectors.joining(System.lineSeparator()))));
+            }
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.grouple.integration;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcBuilderCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 통합 테스트 MockMvc 에 쿼리 집계 필터 등록
+ */
+@TestConfiguration
+class QueryCountConfig {
+
+    @Bean
+    MockMvcBuilderCustomizer queryCountCustomizer(EntityManager entityManager,
+                                                  EntityManagerFactory entityManagerFactory) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        return builder -> builder.addFilters(new QueryCountFilter(entityManager, sessionFactory.getStatistics()));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.grouple.integration;
+
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.hibernate.stat.Statistics;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * MockMvc 요청마다 실행된 SQL 을 집계해 요청 속성과 리포트에 기록
+ * 테스트 준비 단계에서 쌓인 쓰기 지연 SQL 이 요청 쿼리로 집계되지 않도록 요청 전에 flush 하고,
+ * 준비 단계에서 저장한 엔티티로 요청의 조회/지연 로딩이 대신 채워지지 않도록 영속성 컨텍스트를 비운다.
+ * (비우지 않으면 1차 캐시에 있는 연관 엔티티는 쿼리 없이 반환되어 N+1 이 예산에 잡히지 않음)
+ */
+class QueryCountFilter implements Filter {
+
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    QueryCountFilter(EntityManager entityManager, Statistics statistics) {
+        this.entityManager = entityManager;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if (request.getAttribute(QueryCount.ATTRIBUTE) != null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+        long entityLoads = statistics.getEntityLoadCount();
+        long collectionFetches = statistics.getCollectionFetchCount();
+        QueryCountInspector.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            List<String> statements = QueryCountInspector.stop();
+            QueryCount count = new QueryCount(endpoint((HttpServletRequest) request), statements,
+                    statistics.getEntityLoadCount() - entityLoads,
+                    statistics.getCollectionFetchCount() - collectionFetches);
+            request.setAttribute(QueryCount.ATTRIBUTE, count);
+            QueryCountReport.record(count);
+        }
+    }
+
+    // 컨트롤러 매핑 패턴 기준 (매핑 전에 거절된 요청은 URI 그대로)
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+}
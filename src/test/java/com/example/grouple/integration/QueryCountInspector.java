@@ -0,0 +1,35 @@
+package com.example.grouple.integration;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate 가 준비하는 SQL 을 요청 단위로 수집
+ * - application-test.yml 의 hibernate.session_factory.statement_inspector 로 등록
+ * - MockMvc 요청은 테스트 스레드에서 실행되므로 스레드 로컬로 구분
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    static void start() {
+        CAPTURED.set(new ArrayList<>());
+    }
+
+    static List<String> stop() {
+        List<String> statements = CAPTURED.get();
+        CAPTURED.remove();
+        return statements != null ? statements : List.of();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = CAPTURED.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+}
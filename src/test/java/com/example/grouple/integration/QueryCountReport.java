@@ -0,0 +1,84 @@
+package com.example.grouple.integration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 테스트 전체에서 엔드포인트별 쿼리 수를 모아 JVM 종료 시 파일로 기록
+ * - query-counts.csv : 엔드포인트별 호출 수, 최대/합계 SQL 수, 최대 엔티티 로드/컬렉션 초기화 수
+ * - query-counts.md  : 위 표 + 엔드포인트별 실행된 SQL 목록
+ * 출력 위치는 시스템 속성 querycount.report.dir (기본값 build/reports/query-counts)
+ */
+final class QueryCountReport {
+
+    private static final Map<String, EndpointStats> STATS = new TreeMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(QueryCountReport::write, "query-count-report"));
+    }
+
+    private QueryCountReport() {
+    }
+
+    static synchronized void record(QueryCount count) {
+        STATS.computeIfAbsent(count.endpoint(), k -> new EndpointStats()).add(count);
+    }
+
+    static synchronized void write() {
+        if (STATS.isEmpty()) {
+            return;
+        }
+        Path dir = Path.of(System.getProperty("querycount.report.dir", "build/reports/query-counts"));
+        List<String> csv = new ArrayList<>();
+        csv.add("endpoint,calls,max_statements,total_statements,max_entity_loads,max_collection_fetches");
+        StringBuilder md = new StringBuilder("# Query counts per endpoint\n\n")
+                .append("| endpoint | calls | max | total | max entity loads | max collection fetches |\n")
+                .append("|---|---:|---:|---:|---:|---:|\n");
+        STATS.forEach((endpoint, s) -> {
+            csv.add("\"%s\",%d,%d,%d,%d,%d".formatted(endpoint, s.calls, s.maxStatements, s.totalStatements,
+                    s.maxEntityLoads, s.maxCollectionFetches));
+            md.append("| `%s` | %d | %d | %d | %d | %d |\n".formatted(endpoint, s.calls, s.maxStatements,
+                    s.totalStatements, s.maxEntityLoads, s.maxCollectionFetches));
+        });
+        STATS.forEach((endpoint, s) -> {
+            md.append("\n## ").append(endpoint).append("\n\n```sql\n");
+            s.statements.forEach(sql -> md.append(sql.replaceAll("\\s+", " ").trim()).append(";\n"));
+            md.append("```\n");
+        });
+        try {
+            Files.createDirectories(dir);
+            Files.write(dir.resolve("query-counts.csv"), csv, StandardCharsets.UTF_8);
+            Files.writeString(dir.resolve("query-counts.md"), md, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class EndpointStats {
+        private int calls;
+        private int maxStatements;
+        private long totalStatements;
+        private long maxEntityLoads;
+        private long maxCollectionFetches;
+        // 서로 다른 SQL 만 (처음 실행된 순서)
+        private final Set<String> statements = new LinkedHashSet<>();
+
+        void add(QueryCount count) {
+            calls++;
+            maxStatements = Math.max(maxStatements, count.count());
+            totalStatements += count.count();
+            maxEntityLoads = Math.max(maxEntityLoads, count.entityLoads());
+            maxCollectionFetches = Math.max(maxCollectionFetches, count.collectionFetches());
+            statements.addAll(count.statements());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.grouple.integration;
 
+import com.example.grouple.dto.auth.request.RegisterRequest;
 import com.example.grouple.dto.user.request.UserDeleteRequest;
 import com.example.grouple.dto.user.request.UserImageModifyForm;
 import com.example.grouple.dto.user.request.UserModifyRequest;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
@@ -30,6 +32,8 @@ class UserControllerIntegrationTests extends IntegrationTestSupport {
     private UserRepository userRepository;
     @Autowired
     private OrganizationRepository organizationRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
     private User user;
 
@@ -90,6 +94,34 @@ class UserControllerIntegrationTests extends IntegrationTestSupport {
                 .andExpect(status().isNoContent());
 
         assertThat(userRepository.existsById(user.getId())).isFalse();
+        // 삭제 표시된 행은 아이디를 비워 둠
+        assertThat(jdbcTemplate.queryForObject("SELECT username FROM users WHERE id = ?", String.class, user.getId()))
+                .isEqualTo(User.DELETED_USERNAME_PREFIX + user.getId());
+    }
+
+    @Test
+    void deletedUsername_shouldBeAvailableForSignup() throws Exception {
+        UserDeleteRequest request = new UserDeleteRequest();
+        request.setPassword("pw");
+        mockMvc.perform(withApiServletPath(delete(apiPath("/users/me")))
+                        .with(auth(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNoContent());
+
+        RegisterRequest register = new RegisterRequest();
+        register.setUsername("meuser");
+        register.setPassword("Password1!");
+        register.setPasswordConfirm("Password1!");
+        register.setEmail("again@example.com");
+        register.setPhone("010-1111-2222");
+        mockMvc.perform(post(apiPath("/auth/register"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(register)))
+                .andExpect(status().isCreated());
+
+        User again = userRepository.findByUsername("meuser").orElseThrow();
+        assertThat(again.getId()).isNotEqualTo(user.getId());
     }
 
     @Test
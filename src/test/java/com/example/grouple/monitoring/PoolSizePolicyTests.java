@@ -0,0 +1,67 @@
+package com.example.grouple.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PoolSizePolicyTests {
+
+    private final PoolSizePolicy policy = new PoolSizePolicy(5, 20, 2,
+            Duration.ofMillis(50), Duration.ofMillis(5), Duration.ofMillis(500));
+
+    @Test
+    void highWait_shouldGrowByStep() {
+        var decision = policy.decide(sample(10, 10, 0, 80, 20));
+
+        assertThat(decision.size()).isEqualTo(12);
+    }
+
+    @Test
+    void pendingThreads_shouldGrowUpToMax() {
+        var decision = policy.decide(sample(19, 19, 3, 1, 20));
+
+        assertThat(decision.size()).isEqualTo(20);
+    }
+
+    @Test
+    void slowDatabase_shouldNotGrow() {
+        var decision = policy.decide(sample(10, 10, 4, 200, 900));
+
+        assertThat(decision.size()).isEqualTo(10);
+        assertThat(decision.reason()).contains("ceiling");
+    }
+
+    @Test
+    void idlePool_shouldShrinkDownToMin() {
+        assertThat(policy.decide(sample(10, 2, 0, 1, 20)).size()).isEqualTo(8);
+        assertThat(policy.decide(sample(6, 0, 0, 0, 0)).size()).isEqualTo(5);
+        assertThat(policy.decide(sample(5, 0, 0, 0, 0)).size()).isEqualTo(5);
+    }
+
+    @Test
+    void busyButNotWaiting_shouldHold() {
+        var decision = policy.decide(sample(10, 8, 0, 10, 20));
+
+        assertThat(decision.size()).isEqualTo(10);
+        assertThat(decision.reason()).isEqualTo("steady");
+    }
+
+    @Test
+    void sizeOutsideBounds_shouldBeClamped() {
+        assertThat(policy.decide(sample(40, 0, 0, 0, 0)).size()).isEqualTo(20);
+        assertThat(policy.decide(sample(2, 0, 0, 0, 0)).size()).isEqualTo(5);
+    }
+
+    @Test
+    void invalidBounds_shouldBeRejected() {
+        assertThatThrownBy(() -> new PoolSizePolicy(10, 5, 1, Duration.ZERO, Duration.ZERO, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PoolSizePolicy.Sample sample(int size, int active, int pending, long waitMs, long usageMs) {
+        return new PoolSizePolicy.Sample(size, active, pending, Duration.ofMillis(waitMs), Duration.ofMillis(usageMs));
+    }
+}
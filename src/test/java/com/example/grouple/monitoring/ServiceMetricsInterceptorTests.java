@@ -0,0 +1,100 @@
+package com.example.grouple.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ServiceMetricsInterceptorTests {
+
+    static class SampleService {
+        private final DataSource dataSource;
+
+        SampleService(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        public int query() throws Exception {
+            try (Connection c = dataSource.getConnection()) {
+                c.prepareStatement("select 1").executeQuery();
+            }
+            Thread.sleep(5);
+            return 1;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("boom");
+        }
+    }
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void serviceCall_shouldSplitTimeBetweenDbAndApp() throws Exception {
+        SampleService service = proxy(new SampleService(slowDataSource()));
+
+        assertThat(service.query()).isEqualTo(1);
+
+        Timer total = timer("grouple.service", "query", "none");
+        Timer db = timer("grouple.service.db", "query", "none");
+        Timer app = timer("grouple.service.app", "query", "none");
+        assertThat(total.count()).isEqualTo(1);
+        assertThat(db.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(10);
+        assertThat(app.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(5);
+        assertThat(db.totalTime(TimeUnit.NANOSECONDS) + app.totalTime(TimeUnit.NANOSECONDS))
+                .isEqualTo(total.totalTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    void exception_shouldBeTagged() {
+        SampleService service = proxy(new SampleService(mock(DataSource.class)));
+
+        assertThatThrownBy(service::fail).isInstanceOf(IllegalStateException.class);
+
+        assertThat(timer("grouple.service", "fail", "IllegalStateException").count()).isEqualTo(1);
+    }
+
+    private Timer timer(String name, String method, String exception) {
+        return registry.get(name)
+                .tags("class", "SampleService", "method", method, "exception", exception)
+                .timer();
+    }
+
+    private SampleService proxy(SampleService target) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("meterRegistry", registry);
+        ObjectProvider<MeterRegistry> provider = beans.getBeanProvider(MeterRegistry.class);
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(new ServiceMetricsInterceptor(provider));
+        return (SampleService) factory.getProxy();
+    }
+
+    // executeQuery 가 10ms 걸리는 DataSource (StatementTimingDataSource 로 감쌈)
+    private static DataSource slowDataSource() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenAnswer(invocation -> {
+            Thread.sleep(10);
+            return null;
+        });
+        return new StatementTimingDataSource(target);
+    }
+}
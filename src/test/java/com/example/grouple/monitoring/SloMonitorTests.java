@@ -0,0 +1,76 @@
+package com.example.grouple.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SloMonitorTests {
+
+    private static final String ROUTE = "GET /organizations/{orgId}/receipts";
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void p99AboveTarget_shouldFlagBreach() {
+        SloMonitor monitor = new SloMonitor(registry, Duration.ofMillis(500),
+                Map.of(ROUTE, Duration.ofMillis(100)), 10);
+        record(ROUTE, "200", Duration.ofMillis(300), 50);
+
+        monitor.check();
+
+        assertThat(monitor.isBreached(ROUTE)).isTrue();
+        assertThat(registry.get("grouple.slo.breach").tag("uri", "/organizations/{orgId}/receipts").gauge().value())
+                .isEqualTo(1.0);
+        assertThat(registry.get("grouple.slo.p99.ratio").gauge().value()).isGreaterThan(1.0);
+    }
+
+    @Test
+    void defaultTarget_shouldApplyToUnlistedRoutes() {
+        SloMonitor monitor = new SloMonitor(registry, Duration.ofMillis(500), Map.of(), 10);
+        record(ROUTE, "200", Duration.ofMillis(50), 50);
+
+        monitor.check();
+
+        assertThat(monitor.isBreached(ROUTE)).isFalse();
+    }
+
+    @Test
+    void worstStatusTimer_shouldDecideRoute() {
+        SloMonitor monitor = new SloMonitor(registry, Duration.ofMillis(200), Map.of(), 10);
+        record(ROUTE, "200", Duration.ofMillis(20), 40);
+        record(ROUTE, "500", Duration.ofMillis(900), 10);
+
+        monitor.check();
+
+        assertThat(monitor.isBreached(ROUTE)).isTrue();
+    }
+
+    @Test
+    void fewRequestsSinceLastCheck_shouldKeepPreviousState() {
+        SloMonitor monitor = new SloMonitor(registry, Duration.ofMillis(100), Map.of(), 10);
+        record(ROUTE, "200", Duration.ofMillis(300), 20);
+        monitor.check();
+
+        record(ROUTE, "200", Duration.ofMillis(1), 3);
+        monitor.check();
+
+        assertThat(monitor.isBreached(ROUTE)).isTrue();
+    }
+
+    private void record(String route, String status, Duration latency, int times) {
+        String[] parts = route.split(" ");
+        Timer timer = Timer.builder(SloMonitor.REQUEST_TIMER)
+                .tags("method", parts[0], "uri", parts[1], "status", status)
+                .publishPercentiles(0.99)
+                .register(registry);
+        for (int i = 0; i < times; i++) {
+            timer.record(latency);
+        }
+    }
+}
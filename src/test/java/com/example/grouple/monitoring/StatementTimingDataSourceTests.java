@@ -0,0 +1,82 @@
+package com.example.grouple.monitoring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatementTimingDataSourceTests {
+
+    @AfterEach
+    void tearDown() {
+        ConnectionHoldTime.end();
+    }
+
+    @Test
+    void close_shouldRecordHoldTimeOncePerConnection() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        StatementTimingDataSource dataSource = new StatementTimingDataSource(target);
+
+        ConnectionHoldTime.begin();
+        Connection first = dataSource.getConnection();
+        first.close();
+        first.close();
+        dataSource.getConnection().close();
+        ConnectionHoldTime.Usage usage = ConnectionHoldTime.end();
+
+        assertThat(usage.connections()).isEqualTo(2);
+        assertThat(usage.total()).isGreaterThanOrEqualTo(usage.max());
+        verify(connection, times(3)).close();
+    }
+
+    @Test
+    void connectionOutsideRequest_shouldNotBeRecorded() throws Exception {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+
+        new StatementTimingDataSource(target).getConnection().close();
+        ConnectionHoldTime.begin();
+
+        assertThat(ConnectionHoldTime.end()).isEqualTo(ConnectionHoldTime.Usage.NONE);
+    }
+
+    @Test
+    void holdTimeOnly_shouldNotWrapStatements() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement);
+        StatementTimingDataSource dataSource = new StatementTimingDataSource(target, false, true);
+
+        ConnectionHoldTime.begin();
+        Connection tracked = dataSource.getConnection();
+        assertThat(tracked.prepareStatement("SELECT 1")).isSameAs(statement);
+        tracked.close();
+
+        assertThat(ConnectionHoldTime.end().connections()).isEqualTo(1);
+    }
+
+    @Test
+    void otherMethods_shouldDelegateToTarget() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        Connection tracked = new StatementTimingDataSource(target).getConnection();
+
+        assertThat(tracked.getAutoCommit()).isTrue();
+        verify(connection).getAutoCommit();
+    }
+}
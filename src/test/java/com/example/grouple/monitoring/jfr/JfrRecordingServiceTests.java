@@ -0,0 +1,81 @@
+package com.example.grouple.monitoring.jfr;
+
+import com.example.grouple.common.ConflictException;
+import com.example.grouple.common.NotFoundException;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JfrRecordingServiceTests {
+
+    private final JfrRecordingService service =
+            new JfrRecordingService("default", Duration.ofMinutes(1), 10 * 1024 * 1024, Duration.ZERO);
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    void recording_shouldContainCustomEvents() throws Exception {
+        service.start(null);
+        AuthzCheckEvent event = new AuthzCheckEvent();
+        event.begin();
+        event.finish("canReadOrg", 7, 3, true);
+        service.stop();
+
+        Path file = service.recordingFile();
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("grouple.AuthzCheck"))
+                .toList();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getInt("orgId")).isEqualTo(7);
+        assertThat(events.get(0).getInt("userId")).isEqualTo(3);
+        assertThat(events.get(0).getBoolean("allowed")).isTrue();
+    }
+
+    @Test
+    void eventOutsideRecording_shouldNotBeEnabled() {
+        assertThat(new RepositoryCallEvent().isEnabled()).isFalse();
+    }
+
+    @Test
+    void secondStart_whileRunning_shouldConflict() {
+        service.start(Duration.ofSeconds(30));
+
+        assertThat(service.status().getState()).isEqualTo("RUNNING");
+        assertThatThrownBy(() -> service.start(null)).isInstanceOf(ConflictException.class);
+        assertThatThrownBy(service::recordingFile).isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void duration_shouldBeCappedAtMaximum() {
+        assertThat(service.start(Duration.ofHours(1)).getMaxDuration()).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void nextStart_shouldDeletePreviousFile() {
+        service.start(null);
+        service.stop();
+        Path previous = service.recordingFile();
+
+        service.start(null);
+
+        assertThat(Files.exists(previous)).isFalse();
+    }
+
+    @Test
+    void stopWithoutRecording_shouldBeNotFound() {
+        assertThat(service.status().getState()).isEqualTo("NONE");
+        assertThatThrownBy(service::stop).isInstanceOf(NotFoundException.class);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.grouple.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdminAuthzTests {
+
+    private final AdminAuthz adminAuthz = new AdminAuthz(Set.of(7));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void registeredUserId_shouldBeAdmin() {
+        login(7, "alice");
+
+        assertThat(adminAuthz.isAdmin()).isTrue();
+    }
+
+    @Test
+    void reRegisteredUsername_shouldNotInheritAdmin() {
+        // 관리자 alice(7) 탈퇴 후 다른 사람이 같은 아이디로 재가입 (새 ID)
+        login(8, "alice");
+
+        assertThat(adminAuthz.isAdmin()).isFalse();
+    }
+
+    @Test
+    void anonymous_shouldNotBeAdmin() {
+        assertThat(adminAuthz.isAdmin()).isFalse();
+    }
+
+    private static void login(Integer id, String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new AuthPrincipal(id, username), null, List.of()));
+    }
+}
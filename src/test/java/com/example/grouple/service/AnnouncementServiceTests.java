@@ -1,5 +1,7 @@
 package com.example.grouple.service;
 
+import com.example.grouple.common.ErrorCode;
+import com.example.grouple.common.NotFoundException;
 import com.example.grouple.dto.announcement.request.AnnouncementCreateRequest;
 import com.example.grouple.dto.announcement.response.AnnouncementCreateResponse;
 import com.example.grouple.entity.Announcement;
@@ -8,7 +10,6 @@ import com.example.grouple.entity.User;
 import com.example.grouple.repository.AnnouncementRepository;
 import com.example.grouple.repository.OrganizationRepository;
 import com.example.grouple.repository.UserRepository;
-import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,6 +30,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -41,6 +43,10 @@ class AnnouncementServiceTests {
     private OrganizationRepository organizationRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private OrgContentVersions orgContentVersions;
+    @Mock
+    private OrgEventBroadcaster orgEventBroadcaster;
 
     private AnnouncementService announcementService;
 
@@ -52,7 +58,8 @@ class AnnouncementServiceTests {
 
     @BeforeEach
     void setUp() {
-        announcementService = new AnnouncementService(announcementRepository, organizationRepository, userRepository);
+        announcementService = new AnnouncementService(announcementRepository, organizationRepository, userRepository, orgContentVersions,
+                orgEventBroadcaster);
         org = new Organization();
         org.setId(1);
         user = new User();
@@ -82,6 +89,7 @@ class AnnouncementServiceTests {
         assertThat(response.getOrganizationId()).isEqualTo(1);
         verify(announcementRepository).save(announcementCaptor.capture());
         assertThat(announcementCaptor.getValue().getOrganization()).isSameAs(org);
+        verify(orgEventBroadcaster).publishAfterCommit(1, OrgEventType.ANNOUNCEMENT_CREATED, 10, response);
     }
 
     @Test
@@ -105,24 +113,35 @@ class AnnouncementServiceTests {
         when(announcementRepository.findByIdAndOrganizationId(5, 1)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> announcementService.getAnnouncementByIdAndOrgId(5, 1))
-                .isInstanceOf(EntityNotFoundException.class);
+                .isInstanceOf(NotFoundException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.ANNOUNCEMENT_NOT_FOUND);
     }
 
     @Test
-    void toggleStar_shouldFlipBoolean() {
+    void toggleStar_shouldUpdateInDatabaseAndReturnNewState() {
         Announcement ann = new Announcement();
         ann.setId(7);
         ann.setTitle("toggle");
-        ann.setStar(false);
+        ann.setStar(true);
         ann.setOrganization(org);
         ann.setUser(user);
+        when(announcementRepository.toggleStar(7, 1)).thenReturn(1);
         when(announcementRepository.findByIdAndOrganizationId(7, 1)).thenReturn(Optional.of(ann));
-        when(announcementRepository.save(any(Announcement.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         AnnouncementCreateResponse response = announcementService.toggleStar(7, 1);
 
         assertThat(response.getStar()).isTrue();
-        verify(announcementRepository).save(ann);
+        verify(announcementRepository, never()).save(any(Announcement.class));
+        verify(orgContentVersions).bump(1);
+        verify(orgEventBroadcaster).publishAfterCommit(1, OrgEventType.ANNOUNCEMENT_STARRED, 7, response);
+    }
+
+    @Test
+    void toggleStar_shouldThrowWhenNothingUpdated() {
+        when(announcementRepository.toggleStar(7, 1)).thenReturn(0);
+
+        assertThatThrownBy(() -> announcementService.toggleStar(7, 1))
+                .isInstanceOf(NotFoundException.class);
     }
 
     @Test
@@ -157,5 +176,6 @@ class AnnouncementServiceTests {
         announcementService.deleteAnnouncement(9, 1);
 
         verify(announcementRepository).delete(ann);
+        verify(orgEventBroadcaster).publishAfterCommit(1, OrgEventType.ANNOUNCEMENT_DELETED, 9, null);
     }
 }
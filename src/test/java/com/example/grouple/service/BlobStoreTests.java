@@ -0,0 +1,96 @@
+package com.example.grouple.service;
+
+import com.example.grouple.common.BadRequestException;
+import com.example.grouple.common.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BlobStoreTests {
+
+    // "hello" 의 SHA-256
+    private static final String HELLO_SHA = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    @TempDir
+    Path root;
+
+    private BlobStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new BlobStore(root);
+    }
+
+    @Test
+    void write_shouldStoreUnderContentHash() throws Exception {
+        BlobStore.StoredBlob blob = store.write(stream("hello"), 100);
+
+        assertThat(blob.sha256()).isEqualTo(HELLO_SHA);
+        assertThat(blob.size()).isEqualTo(5);
+        assertThat(store.path(HELLO_SHA)).hasContent("hello");
+        assertThat(store.path(HELLO_SHA).getParent().getFileName().toString()).isEqualTo("2c");
+    }
+
+    @Test
+    void sameContent_shouldBeStoredOnce() throws Exception {
+        store.write(stream("hello"), 100);
+        store.write(stream("hello"), 100);
+
+        try (var files = Files.list(store.path(HELLO_SHA).getParent())) {
+            assertThat(files).hasSize(1);
+        }
+        try (var temps = Files.list(root.resolve("tmp"))) {
+            assertThat(temps).isEmpty();
+        }
+    }
+
+    @Test
+    void write_overLimit_shouldFailAndLeaveNothing() throws Exception {
+        assertThatThrownBy(() -> store.write(stream("hello"), 4))
+                .isInstanceOf(BadRequestException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.FILE_TOO_LARGE);
+
+        assertThat(store.path(HELLO_SHA)).doesNotExist();
+        try (var temps = Files.list(root.resolve("tmp"))) {
+            assertThat(temps).isEmpty();
+        }
+    }
+
+    @Test
+    void sweep_shouldDeleteOnlyOldUnreferencedBlobs() throws Exception {
+        BlobStore.StoredBlob kept = store.write(stream("kept"), 100);
+        BlobStore.StoredBlob orphan = store.write(stream("orphan"), 100);
+        BlobStore.StoredBlob recent = store.write(stream("recent"), 100);
+        Instant old = Instant.now().minusSeconds(7200);
+        Files.setLastModifiedTime(store.path(kept.sha256()), FileTime.from(old));
+        Files.setLastModifiedTime(store.path(orphan.sha256()), FileTime.from(old));
+
+        int deleted = store.sweep(Instant.now().minusSeconds(3600),
+                hashes -> hashes.contains(kept.sha256()) ? Set.of(kept.sha256()) : Set.of());
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(store.path(kept.sha256())).exists();
+        assertThat(store.path(orphan.sha256())).doesNotExist();
+        assertThat(store.path(recent.sha256())).exists();
+    }
+
+    @Test
+    void path_shouldRejectNonHashNames() {
+        assertThatThrownBy(() -> store.path("../etc/passwd")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ByteArrayInputStream stream(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
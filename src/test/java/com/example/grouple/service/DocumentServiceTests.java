@@ -1,5 +1,7 @@
 package com.example.grouple.service;
 
+import com.example.grouple.common.ErrorCode;
+import com.example.grouple.common.NotFoundException;
 import com.example.grouple.dto.document.request.DocumentCreateRequest;
 import com.example.grouple.dto.document.request.DocumentUpdateRequest;
 import com.example.grouple.dto.document.response.DocumentReadDetailResponse;
@@ -9,7 +11,6 @@ import com.example.grouple.entity.User;
 import com.example.grouple.repository.DocumentRepository;
 import com.example.grouple.repository.OrganizationRepository;
 import com.example.grouple.repository.UserRepository;
-import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,6 +39,8 @@ class DocumentServiceTests {
     private OrganizationRepository organizationRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private OrgContentVersions orgContentVersions;
 
     private DocumentService documentService;
 
@@ -49,7 +52,7 @@ class DocumentServiceTests {
 
     @BeforeEach
     void setUp() {
-        documentService = new DocumentService(documentRepository, organizationRepository, userRepository);
+        documentService = new DocumentService(documentRepository, organizationRepository, userRepository, orgContentVersions);
         org = new Organization();
         org.setId(1);
         org.setName("Org");
@@ -104,7 +107,8 @@ class DocumentServiceTests {
         when(documentRepository.findByIdAndOrganizationId(9, 1)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> documentService.getDocument(1, 9))
-                .isInstanceOf(EntityNotFoundException.class);
+                .isInstanceOf(NotFoundException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.DOCUMENT_NOT_FOUND);
     }
 
     @Test
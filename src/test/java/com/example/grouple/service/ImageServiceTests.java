@@ -0,0 +1,212 @@
+package com.example.grouple.service;
+
+import com.example.grouple.common.ErrorCode;
+import com.example.grouple.common.ForbiddenException;
+import com.example.grouple.common.ImageUrls;
+import com.example.grouple.dto.image.response.ImageUploadResponse;
+import com.example.grouple.entity.StoredImage;
+import com.example.grouple.entity.ThumbnailStatus;
+import com.example.grouple.entity.User;
+import com.example.grouple.repository.StoredImageRepository;
+import com.example.grouple.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImageServiceTests {
+
+    private static final Integer USER_ID = 1;
+    private static final int QUOTA_KB = 64;
+
+    @TempDir
+    Path root;
+
+    private StoredImageRepository storedImageRepository;
+    private UserRepository userRepository;
+    private ImageService imageService;
+
+    @BeforeEach
+    void setUp() {
+        storedImageRepository = mock(StoredImageRepository.class);
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findWithLockById(USER_ID)).thenReturn(Optional.of(new User()));
+        imageService = new ImageService(storedImageRepository, userRepository,
+                mock(PlatformTransactionManager.class), true, root.toString(), DataSize.ofMegabytes(1), 40_000_000,
+                DataSize.ofKilobytes(QUOTA_KB), DataSize.ofMegabytes(10), 1, 3, Duration.ofMinutes(1),
+                Duration.ofMinutes(5), Duration.ofSeconds(10), Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageService.shutdown();
+    }
+
+    @Test
+    void getThumbnail_onCacheMiss_shouldRenderOnWorker() throws Exception {
+        String sha256 = uploadDone();
+
+        Optional<ImageService.ImageContent> thumbnail = imageService.getThumbnail(sha256, ImageUrls.SMALL);
+
+        assertThat(thumbnail).isPresent();
+        assertThat(thumbnail.get().etag()).isEqualTo(sha256 + "-" + ImageUrls.SMALL);
+        assertThat(thumbnail.get().contentType()).isEqualTo("image/jpeg");
+    }
+
+    @Test
+    void getThumbnail_whenWorkersUnavailable_shouldReportPendingAndRequeue() throws Exception {
+        String sha256 = uploadDone();
+        imageService.shutdown();
+
+        assertThat(imageService.getThumbnail(sha256, ImageUrls.SMALL)).isEmpty();
+        verify(storedImageRepository).requeue(eq(sha256), any());
+    }
+
+    @Test
+    void onDemandRender_racingBackgroundJob_shouldNotStallWorkers() throws Exception {
+        // 작업자(1개)가 대기열 작업을 가져간 직후 멈춰 있는 동안 같은 썸네일을 요청
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(storedImageRepository.claim(anyString(), any())).thenAnswer(invocation -> {
+            claimed.countDown();
+            release.await();
+            return 1;
+        });
+        when(storedImageRepository.insertIfAbsent(anyString(), anyString(), anyInt(), anyInt(), anyLong(), any(),
+                any())).thenReturn(1);
+        ImageUploadResponse response = imageService.upload(USER_ID, -1, new ByteArrayInputStream(png(400, 300)));
+        String sha256 = response.getSha256();
+        StoredImage image = new StoredImage();
+        image.setSha256(sha256);
+        image.setContentType(response.getContentType());
+        image.setSize(response.getSize());
+        image.setThumbnailStatus(ThumbnailStatus.RUNNING);
+        when(storedImageRepository.findById(sha256)).thenReturn(Optional.of(image));
+        assertThat(claimed.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 작업자가 바빠도 요청 시 생성은 별도 풀에서 끝남
+        assertThat(imageService.getThumbnail(sha256, ImageUrls.SMALL)).isPresent();
+
+        // 작업자는 요청 시 생성 결과를 이어받아 작업을 마침
+        release.countDown();
+        verify(storedImageRepository, timeout(5000)).complete(sha256);
+    }
+
+    @Test
+    void upload_overUserQuota_shouldBeRejected() throws Exception {
+        when(storedImageRepository.sumSizeByUploadedBy(USER_ID)).thenReturn(QUOTA_KB * 1024L);
+
+        assertThatThrownBy(() -> imageService.upload(USER_ID, -1, new ByteArrayInputStream(png(40, 30))))
+                .isInstanceOf(ForbiddenException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.IMAGE_QUOTA_EXCEEDED);
+        verify(storedImageRepository, never())
+                .insertIfAbsent(anyString(), anyString(), anyInt(), anyInt(), anyLong(), any(), any());
+    }
+
+    @Test
+    void upload_ofExistingContent_shouldNotCountAgainstQuota() throws Exception {
+        when(storedImageRepository.existsById(anyString())).thenReturn(true);
+        when(storedImageRepository.sumSizeByUploadedBy(USER_ID)).thenReturn(QUOTA_KB * 1024L);
+
+        ImageUploadResponse response = imageService.upload(USER_ID, -1, new ByteArrayInputStream(png(40, 30)));
+
+        assertThat(response.getSha256()).hasSize(64);
+        verify(userRepository, never()).findWithLockById(any());
+    }
+
+    @Test
+    void sweepUnreferenced_shouldDeleteRowOriginalAndThumbnails() throws Exception {
+        String sha256 = uploadDone();
+        Path thumbnail = imageService.getThumbnail(sha256, ImageUrls.SMALL).orElseThrow().path();
+        Path original = imageService.getOriginal(sha256).path();
+        Files.setLastModifiedTime(original, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+        when(storedImageRepository.findUnreferenced(eq(""), any(), anyInt())).thenReturn(List.of(sha256));
+        when(storedImageRepository.deleteIfUnreferenced(eq(sha256), any())).thenReturn(1);
+        when(storedImageRepository.findExistingSha256s(any())).thenReturn(Set.of());
+
+        imageService.sweepUnreferenced();
+
+        assertThat(thumbnail).doesNotExist();
+        assertThat(original).doesNotExist();
+    }
+
+    @Test
+    void sweepUnreferenced_shouldKeepRecentlyReuploadedImage() throws Exception {
+        String sha256 = uploadDone();
+        when(storedImageRepository.findUnreferenced(eq(""), any(), anyInt())).thenReturn(List.of(sha256));
+        when(storedImageRepository.findExistingSha256s(any())).thenReturn(Set.of(sha256));
+
+        imageService.sweepUnreferenced();
+
+        verify(storedImageRepository, never()).deleteIfUnreferenced(any(), any());
+        assertThat(imageService.getOriginal(sha256).path()).exists();
+    }
+
+    @Test
+    void disabled_shouldRejectRequestsAndSkipSweep() {
+        ImageService disabled = new ImageService(storedImageRepository, userRepository,
+                mock(PlatformTransactionManager.class), false, root.resolve("disabled").toString(),
+                DataSize.ofMegabytes(1), 40_000_000, DataSize.ofKilobytes(QUOTA_KB), DataSize.ofMegabytes(10), 1, 3,
+                Duration.ofMinutes(1), Duration.ofMinutes(5), Duration.ofSeconds(10), Duration.ofHours(1));
+        try {
+            assertThatThrownBy(() -> disabled.getOriginal("a".repeat(64)))
+                    .extracting("errorCode").isEqualTo(ErrorCode.IMAGES_DISABLED);
+
+            disabled.sweepUnreferenced();
+
+            verify(storedImageRepository, never()).findUnreferenced(any(), any(), anyInt());
+        } finally {
+            disabled.shutdown();
+        }
+    }
+
+    // 업로드 후 썸네일 작업이 끝난 상태 (캐시는 비어 있음)
+    private String uploadDone() throws Exception {
+        when(storedImageRepository.insertIfAbsent(anyString(), anyString(), anyInt(), anyInt(), anyLong(), any(),
+                any())).thenReturn(0);
+        ImageUploadResponse response = imageService.upload(USER_ID, -1, new ByteArrayInputStream(png(400, 300)));
+        StoredImage image = new StoredImage();
+        image.setSha256(response.getSha256());
+        image.setContentType(response.getContentType());
+        image.setSize(response.getSize());
+        image.setThumbnailStatus(ThumbnailStatus.DONE);
+        when(storedImageRepository.findById(response.getSha256())).thenReturn(Optional.of(image));
+        return response.getSha256();
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
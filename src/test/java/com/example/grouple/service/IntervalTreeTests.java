@@ -0,0 +1,79 @@
+package com.example.grouple.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalTreeTests {
+
+    @Test
+    void overlapping_shouldUseHalfOpenIntervals() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.put(1, 10, 20, "a");
+        tree.put(2, 20, 30, "b");
+        tree.put(3, 5, 8, "c");
+
+        assertThat(tree.overlapping(15, 20)).containsExactly("a");
+        assertThat(tree.overlapping(19, 21)).containsExactlyInAnyOrder("a", "b");
+        assertThat(tree.overlapping(30, 40)).isEmpty();
+    }
+
+    @Test
+    void put_withSameKey_shouldReplaceInterval() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.put(1, 10, 20, "old");
+        tree.put(1, 100, 200, "new");
+
+        assertThat(tree.size()).isEqualTo(1);
+        assertThat(tree.overlapping(10, 20)).isEmpty();
+        assertThat(tree.overlapping(150, 160)).containsExactly("new");
+    }
+
+    @Test
+    void remove_shouldDropInterval() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.put(1, 10, 20, "a");
+        tree.put(2, 0, Long.MAX_VALUE, "open");
+
+        assertThat(tree.remove(2)).isTrue();
+        assertThat(tree.remove(2)).isFalse();
+        assertThat(tree.overlapping(1000, 2000)).isEmpty();
+    }
+
+    @Test
+    void overlapping_shouldMatchBruteForce() {
+        Random random = new Random(42);
+        IntervalTree<Integer> tree = new IntervalTree<>();
+        Map<Integer, long[]> reference = new HashMap<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(1000);
+            if (random.nextInt(4) == 0) {
+                tree.remove(key);
+                reference.remove(key);
+                continue;
+            }
+            long start = random.nextInt(100_000);
+            long end = start + random.nextInt(500);
+            tree.put(key, start, end, key);
+            reference.put(key, new long[]{start, end});
+        }
+
+        for (int q = 0; q < 500; q++) {
+            long from = random.nextInt(100_000);
+            long to = from + 1 + random.nextInt(2000);
+            List<Integer> expected = new ArrayList<>();
+            reference.forEach((key, iv) -> {
+                if (iv[0] < to && (iv[1] > from || iv[0] >= from)) expected.add(key);
+            });
+            assertThat(tree.overlapping(from, to)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+        assertThat(tree.size()).isEqualTo(reference.size());
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.grouple.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrgCodeAllocatorTests {
+
+    @Test
+    void codes_shouldBeUniqueAndUseCrockfordAlphabet() {
+        OrgCodeAllocator allocator = new OrgCodeAllocator(counter(), 64);
+        Set<String> codes = new HashSet<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            codes.add(allocator.next());
+        }
+
+        assertThat(codes).hasSize(200_000);
+        assertThat(codes).allMatch(code -> code.matches("[0-9A-HJKMNP-TV-Z]{6}"));
+    }
+
+    @Test
+    void codes_shouldNeverLookLikeLegacyHexCodes() {
+        OrgCodeAllocator allocator = new OrgCodeAllocator(counter(), 64);
+
+        for (int i = 0; i < 50_000; i++) {
+            assertThat(OrgCodeAllocator.isHexOnly(allocator.next())).isFalse();
+        }
+    }
+
+    @Test
+    void consecutiveCodes_shouldNotBeSequential() {
+        assertThat(OrgCodeAllocator.encode(0)).isNotEqualTo("000000");
+        assertThat(OrgCodeAllocator.encode(1).substring(0, 5))
+                .isNotEqualTo(OrgCodeAllocator.encode(2).substring(0, 5));
+    }
+
+    @Test
+    void blocks_shouldBeReservedOncePerBlockSize() {
+        AtomicInteger reservations = new AtomicInteger();
+        AtomicLong next = new AtomicLong();
+        OrgCodeAllocator allocator = new OrgCodeAllocator(size -> {
+            reservations.incrementAndGet();
+            return next.getAndAdd(size);
+        }, 100);
+
+        for (int i = 0; i < 1_000; i++) {
+            allocator.next();
+        }
+
+        // 16진 문자로만 된 코드(약 1/64)를 건너뛰므로 블록이 조금 더 필요할 수 있음
+        assertThat(reservations.get()).isBetween(10, 12);
+    }
+
+    @Test
+    void exhaustedCodeSpace_shouldFail() {
+        OrgCodeAllocator allocator = new OrgCodeAllocator(size -> OrgCodeAllocator.CODE_SPACE, 10);
+
+        assertThatThrownBy(allocator::next).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void concurrentAllocation_shouldNotCollide() throws Exception {
+        OrgCodeAllocator allocator = new OrgCodeAllocator(counter(), 32);
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 20_000;
+
+        runConcurrently(threads, () -> {
+            for (int i = 0; i < perThread; i++) {
+                codes.add(allocator.next());
+            }
+        });
+
+        assertThat(codes).hasSize(threads * perThread);
+    }
+
+    @Test
+    void slowReservation_shouldNotBlockOtherThreads() throws Exception {
+        CountDownLatch firstReserving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicLong next = new AtomicLong();
+        AtomicInteger calls = new AtomicInteger();
+        OrgCodeAllocator allocator = new OrgCodeAllocator(size -> {
+            if (calls.getAndIncrement() == 0) {
+                // 첫 예약은 느린 DB 왕복처럼 대기
+                firstReserving.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return next.getAndAdd(size);
+        }, 4);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        Future<String> slow = pool.submit(allocator::next);
+        assertThat(firstReserving.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 다른 스레드는 첫 예약을 기다리지 않고 자기 블록으로 발급
+        String fast = allocator.next();
+        release.countDown();
+
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isNotEqualTo(fast);
+        pool.shutdown();
+    }
+
+    private static OrgCodeAllocator.BlockSource counter() {
+        AtomicLong next = new AtomicLong();
+        return next::getAndAdd;
+    }
+
+    private static void runConcurrently(int threads, Runnable task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                task.run();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+    }
+}
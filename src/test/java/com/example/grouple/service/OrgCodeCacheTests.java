@@ -0,0 +1,78 @@
+package com.example.grouple.service;
+
+import com.example.grouple.repository.OrganizationRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrgCodeCacheTests {
+
+    private final OrganizationRepository organizationRepository = mock(OrganizationRepository.class);
+
+    @Test
+    void knownCode_shouldBeLoadedOnce() {
+        when(organizationRepository.findIdByCode("K7W2QZ")).thenReturn(Optional.of(7));
+        OrgCodeCache cache = cache(Duration.ofMinutes(10), Duration.ofSeconds(30), 100);
+
+        assertThat(cache.resolve("K7W2QZ")).contains(7);
+        assertThat(cache.resolve(" k7w2qz ")).contains(7);
+        verify(organizationRepository, times(1)).findIdByCode("K7W2QZ");
+    }
+
+    @Test
+    void unknownCode_shouldBeNegativelyCached() {
+        when(organizationRepository.findIdByCode("NOPE00")).thenReturn(Optional.empty());
+        OrgCodeCache cache = cache(Duration.ofMinutes(10), Duration.ofSeconds(30), 100);
+
+        assertThat(cache.resolve("NOPE00")).isEmpty();
+        assertThat(cache.resolve("NOPE00")).isEmpty();
+        verify(organizationRepository, times(1)).findIdByCode("NOPE00");
+    }
+
+    @Test
+    void expiredNegativeEntry_shouldBeReloaded() {
+        when(organizationRepository.findIdByCode("NEW000"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(3));
+        OrgCodeCache cache = cache(Duration.ofMinutes(10), Duration.ZERO, 100);
+
+        assertThat(cache.resolve("NEW000")).isEmpty();
+        assertThat(cache.resolve("NEW000")).contains(3);
+    }
+
+    @Test
+    void evict_shouldForceReload() {
+        when(organizationRepository.findIdByCode("K7W2QZ")).thenReturn(Optional.of(7));
+        OrgCodeCache cache = cache(Duration.ofMinutes(10), Duration.ofSeconds(30), 100);
+
+        cache.resolve("K7W2QZ");
+        cache.evict("k7w2qz");
+        cache.resolve("K7W2QZ");
+
+        verify(organizationRepository, times(2)).findIdByCode("K7W2QZ");
+    }
+
+    @Test
+    void cache_shouldStayWithinMaxSize() {
+        when(organizationRepository.findIdByCode(anyString())).thenReturn(Optional.empty());
+        OrgCodeCache cache = cache(Duration.ofMinutes(10), Duration.ofSeconds(30), 10);
+
+        for (int i = 0; i < 25; i++) {
+            cache.resolve("CODE" + i);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+    }
+
+    private OrgCodeCache cache(Duration ttl, Duration negativeTtl, int maxSize) {
+        return new OrgCodeCache(organizationRepository, ttl, negativeTtl, maxSize);
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.grouple.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrgEventBroadcasterTests {
+
+    private static final Integer ORG_ID = 1;
+    private static final Integer USER_ID = 2;
+
+    @Mock
+    private OrgContentVersions orgContentVersions;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private OrgEventBroadcaster broadcaster;
+    private OrgContentVersions.CommitListener commits;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new OrgEventBroadcaster(objectMapper, orgContentVersions,
+                Duration.ofMinutes(1), Duration.ofSeconds(3), 3, 2, Duration.ofMinutes(5), true);
+        ArgumentCaptor<OrgContentVersions.CommitListener> listener =
+                ArgumentCaptor.forClass(OrgContentVersions.CommitListener.class);
+        verify(orgContentVersions).addCommitListener(listener.capture());
+        commits = listener.getValue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void publish_shouldDeliverSerializedEventWithId() throws Exception {
+        CollectingSink sink = new CollectingSink();
+        broadcaster.subscribe(ORG_ID, USER_ID, null, sink);
+
+        broadcaster.publish(ORG_ID, OrgEventType.ANNOUNCEMENT_CREATED, 10, Map.of("title", "공지"));
+
+        awaitUntil(() -> sink.messages.size() == 1);
+        SseHub.Message message = sink.messages.get(0);
+        assertThat(message.name()).isEqualTo("announcement.created");
+        assertThat(message.id()).endsWith("-1");
+        assertThat(objectMapper.readTree(message.data()).get("resourceId").asInt()).isEqualTo(10);
+        assertThat(objectMapper.readTree(message.data()).get("data").get("title").asText()).isEqualTo("공지");
+    }
+
+    @Test
+    void publish_withoutSubscribers_shouldBeDropped() {
+        broadcaster.publish(ORG_ID, OrgEventType.SCHEDULE_DELETED, 3, null);
+
+        assertThat(broadcaster.subscriberCount(ORG_ID)).isZero();
+    }
+
+    @Test
+    void lastEventId_shouldReplayMissedEvents() {
+        CollectingSink first = new CollectingSink();
+        SseHub.Subscriber subscriber = broadcaster.subscribe(ORG_ID, USER_ID, null, first);
+        broadcaster.publish(ORG_ID, OrgEventType.SCHEDULE_CREATED, 1, null);
+        awaitUntil(() -> first.messages.size() == 1);
+        String lastId = first.messages.get(0).id();
+        subscriber.close(false);
+
+        broadcaster.publish(ORG_ID, OrgEventType.SCHEDULE_UPDATED, 1, null);
+        broadcaster.publish(ORG_ID, OrgEventType.SCHEDULE_DELETED, 1, null);
+        CollectingSink resumed = new CollectingSink();
+        broadcaster.subscribe(ORG_ID, USER_ID, lastId, resumed);
+
+        awaitUntil(() -> resumed.messages.size() == 2);
+        assertThat(resumed.messages).extracting(SseHub.Message::name)
+                .containsExactly("schedule.updated", "schedule.deleted");
+    }
+
+    @Test
+    void unknownOrExpiredLastEventId_shouldRequestSync() {
+        broadcaster.subscribe(ORG_ID, USER_ID, null, new CollectingSink());
+        for (int i = 0; i < 5; i++) {
+            broadcaster.publish(ORG_ID, OrgEventType.ANNOUNCEMENT_UPDATED, i, null);
+        }
+
+        CollectingSink restarted = new CollectingSink();
+        broadcaster.subscribe(ORG_ID, USER_ID, "previous-3", restarted);
+        awaitUntil(() -> restarted.messages.size() == 1);
+        assertThat(restarted.messages.get(0).name()).isEqualTo(SseHub.SYNC_EVENT);
+    }
+
+    @Test
+    void slowSubscriber_shouldBeClosedWhenQueueOverflows() {
+        CountDownLatch release = new CountDownLatch(1);
+        CollectingSink slow = new CollectingSink() {
+            @Override
+            public void send(SseHub.Message message) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.send(message);
+            }
+        };
+        broadcaster.subscribe(ORG_ID, USER_ID, null, slow);
+
+        // 전송이 첫 건에서 막히고 큐(2)가 넘치면 닫힘
+        for (int i = 0; i < 5; i++) {
+            broadcaster.publish(ORG_ID, OrgEventType.ANNOUNCEMENT_UPDATED, i, null);
+        }
+
+        awaitUntil(() -> slow.closed);
+        assertThat(broadcaster.subscriberCount(ORG_ID)).isZero();
+        release.countDown();
+    }
+
+    @Test
+    void heartbeat_whenVersionWasNotCommittedHere_shouldSendSync() {
+        CollectingSink sink = new CollectingSink();
+        broadcaster.subscribe(ORG_ID, USER_ID, null, sink);
+        given(orgContentVersions.current(List.of(ORG_ID)))
+                .willReturn(Map.of(ORG_ID, 5L), Map.of(ORG_ID, 7L), Map.of(ORG_ID, 9L));
+
+        broadcaster.heartbeat(); // 기준 버전 기록
+        awaitUntil(() -> sink.messages.size() == 1);
+        // 이 노드의 커밋 (이벤트가 없는 변경 포함, 알림 순서는 커밋 순서와 다를 수 있음)
+        assertThat(commits.isWatching(ORG_ID)).isTrue();
+        commits.committed(ORG_ID, 7L);
+        commits.committed(ORG_ID, 6L);
+        broadcaster.heartbeat(); // 모두 이 노드에서 본 버전
+        awaitUntil(() -> sink.messages.size() == 2);
+        commits.committed(ORG_ID, 9L); // 8 은 다른 노드에서 변경
+        broadcaster.heartbeat();
+
+        awaitUntil(() -> sink.messages.size() == 4);
+        assertThat(sink.messages).extracting(SseHub.Message::name)
+                .containsExactly(null, null, SseHub.SYNC_EVENT, null);
+    }
+
+    @Test
+    void heartbeat_shouldQueryVersionsOfSubscribedOrgsOnce() {
+        broadcaster.subscribe(ORG_ID, USER_ID, null, new CollectingSink());
+        broadcaster.subscribe(3, USER_ID, null, new CollectingSink());
+        given(orgContentVersions.current(anyCollection())).willReturn(Map.of());
+
+        broadcaster.heartbeat();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Integer>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(orgContentVersions).current(ids.capture());
+        assertThat(ids.getValue()).containsExactlyInAnyOrder(ORG_ID, 3);
+    }
+
+    @Test
+    void disconnect_shouldCloseOnlyRemovedMembersSubscriptions() {
+        CollectingSink removed = new CollectingSink();
+        CollectingSink other = new CollectingSink();
+        broadcaster.subscribe(ORG_ID, USER_ID, null, removed);
+        broadcaster.subscribe(ORG_ID, 3, null, other);
+
+        broadcaster.disconnectAfterCommit(ORG_ID, USER_ID); // 트랜잭션 밖이면 바로 실행
+
+        assertThat(removed.closed).isTrue();
+        assertThat(other.closed).isFalse();
+        assertThat(broadcaster.subscriberCount(ORG_ID)).isEqualTo(1);
+    }
+
+    @Test
+    void closeAfterCommit_shouldCloseEveryConnectionOfDeletedOrg() {
+        CollectingSink first = new CollectingSink();
+        CollectingSink second = new CollectingSink();
+        broadcaster.subscribe(ORG_ID, USER_ID, null, first);
+        broadcaster.subscribe(ORG_ID, 3, null, second);
+
+        broadcaster.closeAfterCommit(ORG_ID);
+
+        assertThat(first.closed).isTrue();
+        assertThat(second.closed).isTrue();
+        assertThat(commits.isWatching(ORG_ID)).isFalse();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("condition not met in time");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private static class CollectingSink implements SseHub.Sink {
+        final List<SseHub.Message> messages = new CopyOnWriteArrayList<>();
+        volatile boolean closed;
+
+        @Override
+        public void send(SseHub.Message message) {
+            messages.add(message);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
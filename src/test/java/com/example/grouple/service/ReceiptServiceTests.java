@@ -1,12 +1,12 @@
 package com.example.grouple.service;
 
+import com.example.grouple.api.PageResponse;
 import com.example.grouple.common.ForbiddenException;
 import com.example.grouple.common.NotFoundException;
 import com.example.grouple.dto.receipt.request.ReceiptCreateRequest;
 import com.example.grouple.dto.receipt.request.ReceiptUpdateRequest;
 import com.example.grouple.dto.receipt.response.ReceiptCreateResponse;
 import com.example.grouple.dto.receipt.response.ReceiptDetailResponse;
-import com.example.grouple.dto.receipt.response.ReceiptListResponse;
 import com.example.grouple.dto.receipt.response.ReceiptSummaryResponse;
 import com.example.grouple.entity.Organization;
 import com.example.grouple.entity.Receipt;
@@ -45,6 +45,8 @@ class ReceiptServiceTests {
     private OrganizationRepository organizationRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private OrgContentVersions orgContentVersions;
 
     private ReceiptService receiptService;
 
@@ -53,7 +55,7 @@ class ReceiptServiceTests {
 
     @BeforeEach
     void setUp() {
-        receiptService = new ReceiptService(memberRepository, receiptRepository, organizationRepository, userRepository);
+        receiptService = new ReceiptService(memberRepository, receiptRepository, organizationRepository, userRepository, orgContentVersions);
         org = new Organization();
         org.setId(1);
         user = new User();
@@ -67,10 +69,10 @@ class ReceiptServiceTests {
         Page<ReceiptSummaryResponse> page = new PageImpl<>(List.of(summary));
         when(receiptRepository.findSummariesByOrganizationId(eq(1), any(PageRequest.class))).thenReturn(page);
 
-        ReceiptListResponse response = receiptService.getReceiptList(1, PageRequest.of(0, 10));
+        PageResponse<ReceiptSummaryResponse> response = receiptService.getReceiptList(1, PageRequest.of(0, 10));
 
-        assertThat(response.getData()).containsExactly(summary);
-        assertThat(response.getTotalCount()).isEqualTo(1);
+        assertThat(response.items()).containsExactly(summary);
+        assertThat(response.totalElements()).isEqualTo(1);
     }
 
     @Test
@@ -0,0 +1,114 @@
+package com.example.grouple.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurrenceRuleTests {
+
+    // 2026-01-06 은 화요일
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 6, 19, 0);
+    private static final Duration TWO_HOURS = Duration.ofHours(2);
+
+    @Test
+    void weeklyRule_shouldExpandOnlyInsideWindow() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY");
+
+        List<LocalDateTime> result = rule.occurrences(START, TWO_HOURS,
+                LocalDateTime.of(2026, 6, 1, 0, 0), LocalDateTime.of(2026, 6, 15, 0, 0));
+
+        assertThat(result).containsExactly(
+                LocalDateTime.of(2026, 6, 2, 19, 0),
+                LocalDateTime.of(2026, 6, 9, 19, 0));
+    }
+
+    @Test
+    void byDay_shouldEmitEachListedDay() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=TU,TH");
+
+        List<LocalDateTime> result = rule.occurrences(START, TWO_HOURS,
+                LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 1, 13, 0, 0));
+
+        assertThat(result).containsExactly(
+                LocalDateTime.of(2026, 1, 6, 19, 0),
+                LocalDateTime.of(2026, 1, 8, 19, 0));
+    }
+
+    @Test
+    void occurrenceOverlappingWindowStart_shouldBeIncluded() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY");
+
+        List<LocalDateTime> result = rule.occurrences(START, TWO_HOURS,
+                LocalDateTime.of(2026, 1, 7, 20, 0), LocalDateTime.of(2026, 1, 7, 21, 0));
+
+        assertThat(result).containsExactly(LocalDateTime.of(2026, 1, 7, 19, 0));
+    }
+
+    @Test
+    void count_shouldLimitOccurrencesAndSeriesEnd() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=2;COUNT=3");
+
+        List<LocalDateTime> result = rule.occurrences(START, TWO_HOURS,
+                START, START.plusDays(30));
+
+        assertThat(result).containsExactly(START, START.plusDays(2), START.plusDays(4));
+        assertThat(rule.seriesEnd(START, TWO_HOURS)).isEqualTo(START.plusDays(4).plus(TWO_HOURS));
+    }
+
+    @Test
+    void untilDate_shouldBeInclusive() {
+        RecurrenceRule rule = RecurrenceRule.parse("RRULE:FREQ=WEEKLY;UNTIL=20260120");
+
+        List<LocalDateTime> result = rule.occurrences(START, TWO_HOURS,
+                START, START.plusDays(60));
+
+        assertThat(result).hasSize(3).last().isEqualTo(LocalDateTime.of(2026, 1, 20, 19, 0));
+    }
+
+    @Test
+    void monthly_shouldSkipMissingDays() {
+        LocalDateTime start = LocalDateTime.of(2026, 1, 31, 10, 0);
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY");
+
+        List<LocalDateTime> result = rule.occurrences(start, TWO_HOURS,
+                start, LocalDateTime.of(2026, 5, 1, 0, 0));
+
+        assertThat(result).containsExactly(start, LocalDateTime.of(2026, 3, 31, 10, 0));
+    }
+
+    @Test
+    void infiniteRule_shouldHaveNoSeriesEnd() {
+        assertThat(RecurrenceRule.parse("FREQ=WEEKLY").seriesEnd(START, TWO_HOURS)).isNull();
+    }
+
+    @Test
+    void isOccurrence_shouldMatchGeneratedStarts() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=TU");
+
+        assertThat(rule.isOccurrence(START, START.plusWeeks(40))).isTrue();
+        assertThat(rule.isOccurrence(START, START.plusWeeks(40).plusDays(1))).isFalse();
+    }
+
+    @Test
+    void format_shouldNormalizeRule() {
+        assertThat(RecurrenceRule.parse("freq=weekly;byday=th,tu;interval=1").format())
+                .isEqualTo("FREQ=WEEKLY;BYDAY=TU,TH");
+    }
+
+    @Test
+    void parse_shouldRejectUnsupportedParts() {
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=YEARLY"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;BYDAY=MO"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;COUNT=2;UNTIL=20260101"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("INTERVAL=2"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.grouple.service;
+
+import com.example.grouple.entity.Schedule;
+import com.example.grouple.entity.ScheduleOverride;
+import com.example.grouple.repository.ScheduleOverrideRepository;
+import com.example.grouple.repository.ScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleConflictIndexTests {
+
+    private static final Integer ORG_ID = 1;
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 1, 5, 10, 0);
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+    @Mock
+    private ScheduleOverrideRepository scheduleOverrideRepository;
+
+    private ScheduleConflictIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ScheduleConflictIndex(scheduleRepository, scheduleOverrideRepository, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void overlapping_shouldLoadLazilyOnceAndExpandSeries() {
+        Schedule single = schedule(1, MONDAY, MONDAY.plusHours(1), null, MONDAY.plusHours(1));
+        Schedule weekly = schedule(2, MONDAY.plusHours(2), MONDAY.plusHours(3), "FREQ=WEEKLY", null);
+        when(scheduleRepository.findAllByOrganization_Id(ORG_ID)).thenReturn(List.of(single, weekly));
+        when(scheduleOverrideRepository.findAllBySchedule_Organization_Id(ORG_ID)).thenReturn(List.of());
+
+        var firstWeek = index.overlapping(ORG_ID, MONDAY, MONDAY.plusDays(1));
+        var tenthWeek = index.overlapping(ORG_ID, MONDAY.plusWeeks(10), MONDAY.plusWeeks(10).plusDays(1));
+
+        assertThat(firstWeek).extracting(ScheduleConflictIndex.Occurrence::scheduleId).containsExactlyInAnyOrder(1, 2);
+        assertThat(tenthWeek).extracting(ScheduleConflictIndex.Occurrence::startTime)
+                .containsExactly(MONDAY.plusWeeks(10).plusHours(2));
+        verify(scheduleRepository, times(1)).findAllByOrganization_Id(ORG_ID);
+    }
+
+    @Test
+    void overrides_shouldCancelAndMoveOccurrences() {
+        Schedule weekly = schedule(2, MONDAY, MONDAY.plusHours(1), "FREQ=WEEKLY", null);
+        ScheduleOverride cancelled = override(10, weekly, MONDAY.plusWeeks(1), true, null);
+        ScheduleOverride moved = override(11, weekly, MONDAY.plusWeeks(2), false, MONDAY.plusWeeks(2).plusDays(1));
+        when(scheduleRepository.findAllByOrganization_Id(ORG_ID)).thenReturn(List.of(weekly));
+        when(scheduleOverrideRepository.findAllBySchedule_Organization_Id(ORG_ID)).thenReturn(List.of(cancelled, moved));
+
+        var result = index.overlapping(ORG_ID, MONDAY, MONDAY.plusWeeks(3));
+
+        assertThat(result).extracting(ScheduleConflictIndex.Occurrence::startTime)
+                .containsExactlyInAnyOrder(MONDAY, MONDAY.plusWeeks(2).plusDays(1));
+    }
+
+    @Test
+    void put_and_remove_shouldUpdateLoadedIndex() {
+        when(scheduleRepository.findAllByOrganization_Id(ORG_ID)).thenReturn(List.of());
+        when(scheduleOverrideRepository.findAllBySchedule_Organization_Id(ORG_ID)).thenReturn(List.of());
+        assertThat(index.overlapping(ORG_ID, MONDAY, MONDAY.plusDays(1))).isEmpty();
+
+        Schedule created = schedule(3, MONDAY, MONDAY.plusHours(1), null, MONDAY.plusHours(1));
+        index.put(ORG_ID, created, false);
+        assertThat(index.overlapping(ORG_ID, MONDAY, MONDAY.plusDays(1))).hasSize(1);
+
+        index.remove(ORG_ID, 3);
+        assertThat(index.overlapping(ORG_ID, MONDAY, MONDAY.plusDays(1))).isEmpty();
+        verify(scheduleRepository, times(1)).findAllByOrganization_Id(ORG_ID);
+    }
+
+    @Test
+    void changeDuringLoad_shouldNotCacheStaleResult() {
+        Schedule stale = schedule(4, MONDAY, MONDAY.plusHours(1), null, MONDAY.plusHours(1));
+        when(scheduleOverrideRepository.findAllBySchedule_Organization_Id(ORG_ID)).thenReturn(List.of());
+        // 첫 적재가 DB 를 읽는 사이 다른 트랜잭션이 일정을 삭제하고 커밋
+        when(scheduleRepository.findAllByOrganization_Id(ORG_ID))
+                .thenAnswer(invocation -> {
+                    index.remove(ORG_ID, 4);
+                    return List.of(stale);
+                })
+                .thenReturn(List.of());
+
+        assertThat(index.overlapping(ORG_ID, MONDAY, MONDAY.plusDays(1))).hasSize(1);
+        assertThat(index.overlapping(ORG_ID, MONDAY, MONDAY.plusDays(1))).isEmpty();
+        assertThat(index.overlapping(ORG_ID, MONDAY, MONDAY.plusDays(1))).isEmpty();
+        verify(scheduleRepository, times(2)).findAllByOrganization_Id(ORG_ID);
+    }
+
+    @Test
+    void evictIdle_shouldDropUnusedOrgs() {
+        when(scheduleRepository.findAllByOrganization_Id(ORG_ID)).thenReturn(List.of());
+        when(scheduleOverrideRepository.findAllBySchedule_Organization_Id(ORG_ID)).thenReturn(List.of());
+        index.overlapping(ORG_ID, MONDAY, MONDAY.plusDays(1));
+
+        assertThat(index.evictIdleBefore(System.currentTimeMillis() - 60_000)).isZero();
+        assertThat(index.evictIdleBefore(System.currentTimeMillis() + 1)).isEqualTo(1);
+        assertThat(index.loadedOrgCount()).isZero();
+    }
+
+    private Schedule schedule(Integer id, LocalDateTime start, LocalDateTime end, String rule, LocalDateTime seriesEnd) {
+        Schedule s = new Schedule();
+        s.setId(id);
+        s.setTitle("s" + id);
+        s.setStartTime(start);
+        s.setEndTime(end);
+        s.setRecurrenceRule(rule);
+        s.setSeriesEndTime(seriesEnd);
+        return s;
+    }
+
+    private ScheduleOverride override(Integer id, Schedule schedule, LocalDateTime original, boolean cancelled,
+                                      LocalDateTime newStart) {
+        ScheduleOverride o = new ScheduleOverride();
+        o.setId(id);
+        o.setSchedule(schedule);
+        o.setOriginalStartTime(original);
+        o.setCancelled(cancelled);
+        o.setStartTime(newStart);
+        return o;
+    }
+}
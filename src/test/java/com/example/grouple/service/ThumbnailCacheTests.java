@@ -0,0 +1,70 @@
+package com.example.grouple.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThumbnailCacheTests {
+
+    private static final String A = "a".repeat(64);
+    private static final String B = "b".repeat(64);
+    private static final String C = "c".repeat(64);
+
+    @TempDir
+    Path root;
+
+    @Test
+    void put_shouldStoreUnderSizeAndHashPrefix() throws Exception {
+        ThumbnailCache cache = new ThumbnailCache(root, 1000);
+
+        Path path = cache.put(A, 96, out -> out.write(new byte[10]));
+
+        assertThat(path).isEqualTo(root.resolve("96").resolve("aa").resolve(A + ".jpg"));
+        assertThat(cache.get(A, 96)).isEqualTo(path);
+        assertThat(cache.get(A, 320)).isNull();
+        assertThat(cache.totalBytes()).isEqualTo(10);
+    }
+
+    @Test
+    void overLimit_shouldEvictLeastRecentlyUsed() throws Exception {
+        ThumbnailCache cache = new ThumbnailCache(root, 250);
+        Path a = cache.put(A, 96, out -> out.write(new byte[100]));
+        Path b = cache.put(B, 96, out -> out.write(new byte[100]));
+        cache.get(A, 96); // A 를 최근 사용으로
+
+        cache.put(C, 96, out -> out.write(new byte[100]));
+
+        assertThat(cache.get(B, 96)).isNull();
+        assertThat(b).doesNotExist();
+        assertThat(cache.get(A, 96)).isEqualTo(a);
+        assertThat(cache.totalBytes()).isEqualTo(200);
+    }
+
+    @Test
+    void reopen_shouldLoadExistingFilesAndDropUnfinishedWrites() throws Exception {
+        ThumbnailCache first = new ThumbnailCache(root, 1000);
+        first.put(A, 96, out -> out.write(new byte[10]));
+        first.put(A, 320, out -> out.write(new byte[20]));
+        Files.write(root.resolve("tmp").resolve("partial.jpg"), new byte[5]);
+
+        ThumbnailCache reopened = new ThumbnailCache(root, 1000);
+
+        assertThat(reopened.size()).isEqualTo(2);
+        assertThat(reopened.totalBytes()).isEqualTo(30);
+        assertThat(reopened.get(A, 320)).isNotNull();
+        assertThat(root.resolve("tmp").resolve("partial.jpg")).doesNotExist();
+    }
+
+    @Test
+    void deletedFile_shouldBeTreatedAsMiss() throws Exception {
+        ThumbnailCache cache = new ThumbnailCache(root, 1000);
+        Files.delete(cache.put(A, 96, out -> out.write(new byte[10])));
+
+        assertThat(cache.get(A, 96)).isNull();
+        assertThat(cache.totalBytes()).isZero();
+    }
+}
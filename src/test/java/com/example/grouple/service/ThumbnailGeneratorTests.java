@@ -0,0 +1,81 @@
+package com.example.grouple.service;
+
+import com.example.grouple.common.BadRequestException;
+import com.example.grouple.common.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ThumbnailGeneratorTests {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void probe_shouldReadFormatAndSize() throws Exception {
+        Path png = image("png", 800, 600, BufferedImage.TYPE_INT_ARGB);
+
+        ThumbnailGenerator.ImageInfo info = ThumbnailGenerator.probe(png, 1_000_000);
+
+        assertThat(info.contentType()).isEqualTo("image/png");
+        assertThat(info.width()).isEqualTo(800);
+        assertThat(info.height()).isEqualTo(600);
+    }
+
+    @Test
+    void probe_overPixelLimit_shouldReject() throws Exception {
+        Path jpeg = image("jpeg", 800, 600, BufferedImage.TYPE_INT_RGB);
+
+        assertThatThrownBy(() -> ThumbnailGenerator.probe(jpeg, 400_000))
+                .isInstanceOfSatisfying(BadRequestException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_IMAGE));
+    }
+
+    @Test
+    void probe_notAnImage_shouldReject() throws Exception {
+        Path text = Files.writeString(dir.resolve("note.txt"), "not an image");
+
+        assertThatThrownBy(() -> ThumbnailGenerator.probe(text, 1_000_000))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void writeThumbnail_shouldFitLongestSideAsJpeg() throws Exception {
+        Path png = image("png", 1000, 500, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ThumbnailGenerator.writeThumbnail(png, 96, out);
+
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+        assertThat(thumbnail.getWidth()).isEqualTo(96);
+        assertThat(thumbnail.getHeight()).isEqualTo(48);
+        assertThat(out.toByteArray()[0]).isEqualTo((byte) 0xFF); // JPEG SOI
+    }
+
+    @Test
+    void writeThumbnail_smallerThanTarget_shouldNotUpscale() throws Exception {
+        Path jpeg = image("jpeg", 50, 40, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ThumbnailGenerator.writeThumbnail(jpeg, 320, out);
+
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+        assertThat(thumbnail.getWidth()).isEqualTo(50);
+        assertThat(thumbnail.getHeight()).isEqualTo(40);
+    }
+
+    private Path image(String format, int width, int height, int type) throws Exception {
+        Path path = dir.resolve(width + "x" + height + "." + format);
+        ImageIO.write(new BufferedImage(width, height, type), format, path.toFile());
+        return path;
+    }
+}
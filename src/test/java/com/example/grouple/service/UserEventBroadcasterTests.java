@@ -0,0 +1,113 @@
+package com.example.grouple.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserEventBroadcasterTests {
+
+    private static final Integer OWNER_ID = 1;
+    private static final Integer APPLICANT_ID = 2;
+    private static final Integer OTHER_ID = 3;
+    private static final Integer ORG_ID = 10;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private UserEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new UserEventBroadcaster(objectMapper,
+                Duration.ofMinutes(1), Duration.ofSeconds(3), 5, 4, Duration.ofMinutes(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void publish_shouldReachEveryTabOfRecipientsOnly() throws Exception {
+        CollectingSink ownerTab1 = new CollectingSink();
+        CollectingSink ownerTab2 = new CollectingSink();
+        CollectingSink other = new CollectingSink();
+        broadcaster.subscribe(OWNER_ID, null, ownerTab1);
+        broadcaster.subscribe(OWNER_ID, null, ownerTab2);
+        broadcaster.subscribe(OTHER_ID, null, other);
+
+        // 구독하지 않은 신청자, 소유자 ID 없음(null) 은 건너뜀
+        broadcaster.publish(Arrays.asList(OWNER_ID, APPLICANT_ID, null), UserEventType.JOIN_REQUEST_CREATED,
+                ORG_ID, 7, Map.of("status", "PENDING"));
+
+        awaitUntil(() -> ownerTab1.messages.size() == 1 && ownerTab2.messages.size() == 1);
+        SseHub.Message message = ownerTab1.messages.get(0);
+        assertThat(message.name()).isEqualTo("joinrequest.created");
+        assertThat(objectMapper.readTree(message.data()).get("organizationId").asInt()).isEqualTo(ORG_ID);
+        assertThat(objectMapper.readTree(message.data()).get("resourceId").asInt()).isEqualTo(7);
+        assertThat(other.messages).isEmpty();
+        assertThat(broadcaster.subscriberCount(APPLICANT_ID)).isZero();
+    }
+
+    @Test
+    void duplicateRecipient_shouldReceiveOnce() {
+        CollectingSink owner = new CollectingSink();
+        broadcaster.subscribe(OWNER_ID, null, owner);
+
+        broadcaster.publish(List.of(OWNER_ID, OWNER_ID), UserEventType.JOIN_REQUEST_APPROVED, ORG_ID, 7, null);
+        broadcaster.publish(List.of(OWNER_ID), UserEventType.JOIN_REQUEST_REJECTED, ORG_ID, 8, null);
+
+        awaitUntil(() -> owner.messages.size() == 2);
+        assertThat(owner.messages).extracting(SseHub.Message::name)
+                .containsExactly("joinrequest.approved", "joinrequest.rejected");
+    }
+
+    @Test
+    void reconnect_shouldResumeFromLastEventId() {
+        CollectingSink first = new CollectingSink();
+        SseHub.Subscriber subscriber = broadcaster.subscribe(APPLICANT_ID, null, first);
+        broadcaster.publish(List.of(APPLICANT_ID), UserEventType.JOIN_REQUEST_CREATED, ORG_ID, 7, null);
+        awaitUntil(() -> first.messages.size() == 1);
+        subscriber.close(false);
+
+        broadcaster.publish(List.of(APPLICANT_ID), UserEventType.JOIN_REQUEST_APPROVED, ORG_ID, 7, null);
+        CollectingSink resumed = new CollectingSink();
+        broadcaster.subscribe(APPLICANT_ID, first.messages.get(0).id(), resumed);
+
+        awaitUntil(() -> resumed.messages.size() == 1);
+        assertThat(resumed.messages.get(0).name()).isEqualTo("joinrequest.approved");
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("condition not met in time");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private static class CollectingSink implements SseHub.Sink {
+        final List<SseHub.Message> messages = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseHub.Message message) {
+            messages.add(message);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
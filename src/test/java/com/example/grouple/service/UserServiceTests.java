@@ -2,6 +2,7 @@ package com.example.grouple.service;
 
 import com.example.grouple.dto.auth.request.RegisterRequest;
 import com.example.grouple.dto.auth.response.RegisterResponse;
+import com.example.grouple.repository.OrganizationRepository;
 import com.example.grouple.repository.UserRepository;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -26,13 +27,20 @@ class UserServiceTests {
     private UserRepository userRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private OrganizationRepository organizationRepository;
+    @Mock
+    private OrgContentVersions orgContentVersions;
+    @Mock
+    private OrgEventBroadcaster orgEventBroadcaster;
 
     private UserService userService;
 
     @BeforeEach
     void setUp() {
         SecretKey key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
-        userService = new UserService(userRepository, passwordEncoder, key);
+        userService = new UserService(userRepository, passwordEncoder, key, organizationRepository, orgContentVersions,
+                orgEventBroadcaster);
     }
 
     @Test